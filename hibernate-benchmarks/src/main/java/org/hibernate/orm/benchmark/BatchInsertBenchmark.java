@@ -0,0 +1,97 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.cfg.BatchSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.orm.benchmark.model.Book;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures inserts of many rows in a single transaction, executed as JDBC
+ * batches by {@link org.hibernate.engine.jdbc.batch.internal.BatchImpl}, or,
+ * with {@link #multiRowInserts}, as multi-row inserts by
+ * {@link org.hibernate.engine.jdbc.batch.internal.MultiRowInsertBatch}.
+ * Each operation inserts {@link #rows} new entities.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BatchInsertBenchmark {
+
+	@Param({ "1000" })
+	public int rows;
+
+	@Param({ "false", "true" })
+	public boolean multiRowInserts;
+
+	private SessionFactoryImplementor sessionFactory;
+	private long nextId;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		sessionFactory = BenchmarkSessionFactory.build(
+				Map.of( BatchSettings.MULTI_ROW_INSERTS, Boolean.toString( multiRowInserts ) )
+		);
+	}
+
+	@Setup(Level.Iteration)
+	public void truncate() {
+		sessionFactory.getSchemaManager().truncateMappedObjects();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	private List<Object> newBooks() {
+		final List<Object> books = new ArrayList<>( rows );
+		for ( int i = 0; i < rows; i++ ) {
+			final long id = ++nextId;
+			books.add( new Book( id, "Book " + id, null ) );
+		}
+		return books;
+	}
+
+	@Benchmark
+	public void persist() {
+		final List<Object> books = newBooks();
+		sessionFactory.inTransaction( session -> books.forEach( session::persist ) );
+	}
+
+	@Benchmark
+	public void statelessInsert() {
+		final List<Object> books = newBooks();
+		sessionFactory.inStatelessTransaction( session -> books.forEach( session::insert ) );
+	}
+
+	@Benchmark
+	public void statelessInsertMultiple() {
+		final List<Object> books = newBooks();
+		sessionFactory.inStatelessTransaction( session -> session.insertMultiple( books ) );
+	}
+}
@@ -0,0 +1,66 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.cfg.BatchSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.cfg.JdbcSettings;
+import org.hibernate.cfg.SchemaToolingSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.orm.benchmark.model.Author;
+import org.hibernate.orm.benchmark.model.Book;
+
+/**
+ * Builds the {@link org.hibernate.SessionFactory} used by the benchmarks, backed
+ * by a private in-memory H2 database, and populates the database with test data.
+ */
+public final class BenchmarkSessionFactory {
+	private static final AtomicInteger DATABASE_COUNTER = new AtomicInteger();
+
+	private BenchmarkSessionFactory() {
+	}
+
+	/**
+	 * Build a {@code SessionFactory} over a new, empty, in-memory database.
+	 *
+	 * @param settings additional configuration settings
+	 */
+	public static SessionFactoryImplementor build(Map<String, String> settings) {
+		final Configuration configuration = new Configuration()
+				.addAnnotatedClass( Author.class )
+				.addAnnotatedClass( Book.class )
+				.setProperty( JdbcSettings.JAKARTA_JDBC_URL,
+						"jdbc:h2:mem:benchmark" + DATABASE_COUNTER.incrementAndGet() + ";DB_CLOSE_DELAY=-1" )
+				.setProperty( JdbcSettings.JAKARTA_JDBC_USER, "sa" )
+				.setProperty( SchemaToolingSettings.JAKARTA_HBM2DDL_DATABASE_ACTION, "create-drop" )
+				.setProperty( BatchSettings.STATEMENT_BATCH_SIZE, 50 );
+		settings.forEach( configuration::setProperty );
+		return (SessionFactoryImplementor) configuration.buildSessionFactory();
+	}
+
+	public static SessionFactoryImplementor build() {
+		return build( Map.of() );
+	}
+
+	/**
+	 * Insert the given number of {@link Book}s, with ids starting from 1,
+	 * spread across one {@link Author} for every ten books.
+	 */
+	public static void populate(SessionFactoryImplementor sessionFactory, int numberOfBooks) {
+		sessionFactory.inStatelessTransaction( session -> {
+			Author author = null;
+			for ( long id = 1; id <= numberOfBooks; id++ ) {
+				if ( id % 10 == 1 ) {
+					author = new Author( id, "Author " + id, "country " + ( id % 50 ) );
+					session.insert( author );
+				}
+				session.insert( new Book( id, "Book " + id, author ) );
+			}
+		} );
+	}
+}
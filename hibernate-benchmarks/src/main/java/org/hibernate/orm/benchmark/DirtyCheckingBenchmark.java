@@ -0,0 +1,97 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.Transaction;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.orm.benchmark.model.Book;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of flushing a session holding many managed entities, which is
+ * dominated by the dirty checking performed by
+ * {@link org.hibernate.event.internal.DefaultFlushEntityEventListener}
+ * for entities which are not bytecode enhanced.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DirtyCheckingBenchmark {
+	private static final String TITLE = "Title";
+	private static final String OTHER_TITLE = "Other Title";
+
+	@Param({ "100", "10000" })
+	public int entities;
+
+	private SessionFactoryImplementor sessionFactory;
+	private Session session;
+	private Transaction transaction;
+	private List<Book> books;
+	private int next;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		sessionFactory = BenchmarkSessionFactory.build();
+		BenchmarkSessionFactory.populate( sessionFactory, entities );
+		session = sessionFactory.openSession();
+		transaction = session.beginTransaction();
+		books = session.createSelectionQuery( "from Book", Book.class ).getResultList();
+		for ( Book book : books ) {
+			book.setTitle( TITLE );
+		}
+		session.flush();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		transaction.rollback();
+		session.close();
+		sessionFactory.close();
+	}
+
+	/**
+	 * A flush in which no entity is dirty.
+	 */
+	@Benchmark
+	public Session flushClean() {
+		session.flush();
+		return session;
+	}
+
+	/**
+	 * A flush in which exactly one entity is dirty.
+	 */
+	@Benchmark
+	public Session flushOneDirty() {
+		final int index = next;
+		next = index + 1 == entities ? 0 : index + 1;
+		final Book book = books.get( index );
+		// alternate between two values, so that the size of the title,
+		// and thus the cost of comparing it, stays the same
+		book.setTitle( TITLE.equals( book.getTitle() ) ? OTHER_TITLE : TITLE );
+		session.flush();
+		return session;
+	}
+}
@@ -0,0 +1,79 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.hql.HqlTranslator;
+import org.hibernate.query.sqm.tree.SqmStatement;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the translation of HQL to SQM by the {@link HqlTranslator}, that is,
+ * parsing by the ANTLR generated parser followed by semantic analysis in
+ * {@link org.hibernate.query.hql.internal.SemanticQueryBuilder}, bypassing
+ * the {@link org.hibernate.query.spi.QueryInterpretationCache}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HqlParsingBenchmark {
+
+	public enum Shape {
+		SIMPLE( "from Book" ),
+		RESTRICTED( "from Book b where b.title like :title and b.price between :min and :max order by b.id" ),
+		JOINED( "select b.title, a.name from Book b join b.author a where a.country in (:countries)" ),
+		AGGREGATE( "select a.country, count(b), avg(b.price) from Book b join b.author a "
+				+ "group by a.country having count(b) > 1 order by 2 desc" ),
+		SUBQUERY( "from Book b where b.price > (select avg(x.price) from Book x where x.author = b.author) "
+				+ "and exists (from Author a where a.id = b.author.id and a.country = :country)" ),
+		UPDATE( "update Book b set b.price = b.price * 1.1 where b.publicationDate < :date" );
+
+		private final String hql;
+
+		Shape(String hql) {
+			this.hql = hql;
+		}
+	}
+
+	@Param
+	public Shape shape;
+
+	private SessionFactoryImplementor sessionFactory;
+	private HqlTranslator translator;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		sessionFactory = BenchmarkSessionFactory.build();
+		translator = sessionFactory.getQueryEngine().getHqlTranslator();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public SqmStatement<Object> translate() {
+		return translator.translate( shape.hql, null );
+	}
+}
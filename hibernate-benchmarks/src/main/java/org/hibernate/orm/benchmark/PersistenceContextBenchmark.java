@@ -0,0 +1,146 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.cfg.PersistenceSettings;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.orm.benchmark.model.Book;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures lookups of managed entities by {@link EntityKey} in the persistence context,
+ * and the cost of populating it, with and without
+ * {@value PersistenceSettings#PERSISTENCE_CONTEXT_COMPACT_ENTITY_STORAGE}.
+ * <p>
+ * Run with {@code -prof gc} to compare the memory footprint of both storage strategies:
+ * the normalized allocation rate of {@link #populate()} is the number of bytes needed
+ * to hold {@link #entities} entities.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PersistenceContextBenchmark {
+
+	@Param({ "false", "true" })
+	public boolean compactEntityStorage;
+
+	@Param({ "1000", "100000" })
+	public int entities;
+
+	private SessionFactoryImplementor sessionFactory;
+	private SessionImplementor session;
+	private PersistenceContext persistenceContext;
+	private EntityKey[] keys;
+	private Book[] books;
+	private EntityKey[] lookupKeys;
+	private EntityKey[] missingKeys;
+	private int next;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		sessionFactory = BenchmarkSessionFactory.build( Map.of(
+				PersistenceSettings.PERSISTENCE_CONTEXT_COMPACT_ENTITY_STORAGE,
+				Boolean.toString( compactEntityStorage )
+		) );
+		session = (SessionImplementor) sessionFactory.openSession();
+		persistenceContext = session.getPersistenceContextInternal();
+
+		final EntityPersister persister = sessionFactory.getMappingMetamodel().getEntityDescriptor( Book.class );
+		keys = new EntityKey[entities];
+		books = new Book[entities];
+		missingKeys = new EntityKey[entities];
+		for ( int i = 0; i < entities; i++ ) {
+			final long id = i + 1;
+			keys[i] = session.generateEntityKey( id, persister );
+			books[i] = new Book( id, "Book " + id, null );
+			missingKeys[i] = session.generateEntityKey( -id, persister );
+		}
+
+		// look the entities up in random order, and using keys which
+		// are equal, but not identical, to the keys used to add them
+		final Random random = new Random( 42 );
+		lookupKeys = new EntityKey[entities];
+		for ( int i = 0; i < entities; i++ ) {
+			final long id = random.nextInt( entities ) + 1;
+			lookupKeys[i] = session.generateEntityKey( id, persister );
+		}
+
+		populate();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		session.close();
+		sessionFactory.close();
+	}
+
+	private int nextIndex() {
+		final int index = next;
+		next = index + 1 == entities ? 0 : index + 1;
+		return index;
+	}
+
+	@Benchmark
+	public Object getEntity() {
+		return persistenceContext.getEntity( lookupKeys[nextIndex()] );
+	}
+
+	@Benchmark
+	public Object getEntityMissing() {
+		return persistenceContext.getEntity( missingKeys[nextIndex()] );
+	}
+
+	@Benchmark
+	public Object getEntityHolder() {
+		return persistenceContext.getEntityHolder( lookupKeys[nextIndex()] );
+	}
+
+	@Benchmark
+	public boolean containsEntity() {
+		return persistenceContext.containsEntity( lookupKeys[nextIndex()] );
+	}
+
+	@Benchmark
+	public Object removeAndAddEntity() {
+		final int index = nextIndex();
+		final Object removed = persistenceContext.removeEntity( keys[index] );
+		persistenceContext.addEntity( keys[index], books[index] );
+		return removed;
+	}
+
+	@Benchmark
+	@OutputTimeUnit(TimeUnit.MICROSECONDS)
+	public PersistenceContext populate() {
+		persistenceContext.clear();
+		for ( int i = 0; i < entities; i++ ) {
+			persistenceContext.addEntity( keys[i], books[i] );
+		}
+		return persistenceContext;
+	}
+}
@@ -0,0 +1,75 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.orm.benchmark.model.Book;
+import org.hibernate.query.hql.HqlTranslator;
+import org.hibernate.query.spi.HqlInterpretation;
+import org.hibernate.query.spi.QueryInterpretationCache;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures hits and misses in the {@link QueryInterpretationCache}.
+ * <p>
+ * A miss includes the cost of interpreting the query, so this benchmark should
+ * be read together with {@link HqlParsingBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class QueryInterpretationCacheBenchmark {
+	private static final String HQL = "from Book b where b.title like :title order by b.id";
+
+	private SessionFactoryImplementor sessionFactory;
+	private QueryInterpretationCache interpretationCache;
+	private HqlTranslator translator;
+	private long counter;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		sessionFactory = BenchmarkSessionFactory.build();
+		interpretationCache = sessionFactory.getQueryEngine().getInterpretationCache();
+		translator = sessionFactory.getQueryEngine().getHqlTranslator();
+		interpretationCache.resolveHqlInterpretation( HQL, Book.class, translator );
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public HqlInterpretation<Book> hit() {
+		return interpretationCache.resolveHqlInterpretation( HQL, Book.class, translator );
+	}
+
+	@Benchmark
+	public HqlInterpretation<Book> miss() {
+		// every query string is distinct, so that it is never found in the cache
+		return interpretationCache.resolveHqlInterpretation(
+				"from Book b where b.pages > " + counter++,
+				Book.class,
+				translator
+		);
+	}
+}
@@ -0,0 +1,83 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.orm.benchmark.model.Book;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the hydration of query results by
+ * {@link org.hibernate.sql.results.internal.StandardRowReader},
+ * for entity results, scalar results, and entity results with a
+ * join fetched association.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RowHydrationBenchmark {
+
+	@Param({ "100", "10000" })
+	public int rows;
+
+	private SessionFactoryImplementor sessionFactory;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		sessionFactory = BenchmarkSessionFactory.build();
+		BenchmarkSessionFactory.populate( sessionFactory, rows );
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public List<Book> entities() {
+		return sessionFactory.fromSession( session ->
+				session.createSelectionQuery( "from Book", Book.class ).getResultList() );
+	}
+
+	@Benchmark
+	public List<Book> readOnlyEntities() {
+		return sessionFactory.fromSession( session ->
+				session.createSelectionQuery( "from Book", Book.class )
+						.setReadOnly( true )
+						.getResultList() );
+	}
+
+	@Benchmark
+	public List<Book> entitiesWithJoinFetch() {
+		return sessionFactory.fromSession( session ->
+				session.createSelectionQuery( "from Book b join fetch b.author", Book.class ).getResultList() );
+	}
+
+	@Benchmark
+	public List<Object[]> scalars() {
+		return sessionFactory.fromSession( session ->
+				session.createSelectionQuery( "select b.id, b.title, b.price, b.pages from Book b", Object[].class )
+						.getResultList() );
+	}
+}
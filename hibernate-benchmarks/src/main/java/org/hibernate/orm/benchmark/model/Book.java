@@ -0,0 +1,79 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.benchmark.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+/**
+ * The entity used by most benchmarks: a handful of basic
+ * attributes of common types, and a lazy to-one association.
+ */
+@Entity(name = "Book")
+public class Book {
+	@Id
+	private Long id;
+	private String title;
+	private String isbn;
+	private BigDecimal price;
+	private LocalDate publicationDate;
+	private int pages;
+	@ManyToOne(fetch = FetchType.LAZY)
+	private Author author;
+
+	public Book() {
+	}
+
+	public Book(Long id, String title, Author author) {
+		this.id = id;
+		this.title = title;
+		this.isbn = "978-" + id;
+		this.price = BigDecimal.valueOf( id % 100, 1 );
+		this.publicationDate = LocalDate.of( 2000, 1, 1 ).plusDays( id % 9000 );
+		this.pages = (int) ( 100 + id % 900 );
+		this.author = author;
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public String getTitle() {
+		return title;
+	}
+
+	public void setTitle(String title) {
+		this.title = title;
+	}
+
+	public String getIsbn() {
+		return isbn;
+	}
+
+	public BigDecimal getPrice() {
+		return price;
+	}
+
+	public void setPrice(BigDecimal price) {
+		this.price = price;
+	}
+
+	public LocalDate getPublicationDate() {
+		return publicationDate;
+	}
+
+	public int getPages() {
+		return pages;
+	}
+
+	public Author getAuthor() {
+		return author;
+	}
+}
@@ -0,0 +1,27 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+
+/**
+ * JMH benchmarks covering the hot paths of Hibernate ORM, run against an in-memory H2 database.
+ * <p>
+ * The benchmarks are meant to be run through the {@code jmh} task of this module, which records
+ * the results in JSON form, so that baseline numbers may be compared from one release to the next:
+ * <ul>
+ *     <li>{@link org.hibernate.orm.benchmark.PersistenceContextBenchmark}: entity lookups in the
+ *         {@link org.hibernate.engine.internal.StatefulPersistenceContext}, and its footprint
+ *         (run with {@code -prof gc})
+ *     <li>{@link org.hibernate.orm.benchmark.DirtyCheckingBenchmark}: dirty checking of managed
+ *         entities by {@link org.hibernate.event.internal.DefaultFlushEntityEventListener}
+ *     <li>{@link org.hibernate.orm.benchmark.RowHydrationBenchmark}: row hydration by
+ *         {@link org.hibernate.sql.results.internal.StandardRowReader}
+ *     <li>{@link org.hibernate.orm.benchmark.QueryInterpretationCacheBenchmark}: hits and misses of
+ *         {@link org.hibernate.query.internal.QueryInterpretationCacheStandardImpl}
+ *     <li>{@link org.hibernate.orm.benchmark.BatchInsertBenchmark}: batched inserts through
+ *         {@link org.hibernate.engine.jdbc.batch.internal.BatchImpl}
+ *     <li>{@link org.hibernate.orm.benchmark.HqlParsingBenchmark}: HQL parsing and semantic analysis
+ *         by {@link org.hibernate.query.hql.internal.SemanticQueryBuilder}
+ * </ul>
+ */
+package org.hibernate.orm.benchmark;
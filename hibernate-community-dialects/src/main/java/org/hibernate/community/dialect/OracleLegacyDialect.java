@@ -1193,6 +1193,12 @@ public int getInExpressionCountLimit() {
 		return PARAM_LIST_SIZE_LIMIT;
 	}
 
+	@Override
+	public int getMultiRowInsertRowLimit(int parametersPerRow) {
+		// multi-row values lists are emulated using union all
+		return 1;
+	}
+
 	@Override
 	public boolean forceLobAsLastValue() {
 		return true;
@@ -225,6 +225,12 @@ public boolean supportsNullPrecedence() {
 		return false;
 	}
 
+	@Override
+	public int getMultiRowInsertRowLimit(int parametersPerRow) {
+		// multi-row values lists are emulated using union all
+		return 1;
+	}
+
 	@Override
 	public int getInExpressionCountLimit() {
 		return PARAM_LIST_SIZE_LIMIT;
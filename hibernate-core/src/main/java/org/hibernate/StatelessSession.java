@@ -8,6 +8,7 @@
 import org.hibernate.graph.GraphSemantic;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * A command-oriented API often used for performing bulk operations against
@@ -104,6 +105,29 @@ public interface StatelessSession extends SharedSessionContract {
 	@Incubating
 	void insertMultiple(List<Object> entities);
 
+	/**
+	 * Insert multiple records, consuming the given stream of entities.
+	 * <p>
+	 * The entities are buffered and grouped by entity type, so that
+	 * rows of the same table are written using a single JDBC batch,
+	 * even if the stream interleaves entities of different types.
+	 * The number of buffered entities is limited by the
+	 * {@linkplain #getJdbcBatchSize batch size} of this session if
+	 * one has been set, or by
+	 * {@value org.hibernate.cfg.BatchSettings#STATELESS_BULK_WRITE_BATCH_SIZE}
+	 * otherwise. An entity is never written before an entity earlier
+	 * in the stream whose type it has an association to.
+	 * <p>
+	 * Every buffered entity has been written when this method returns.
+	 * The stream is not closed by this method.
+	 *
+	 * @param entities a stream of transient instances to be inserted
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	void insertMultiple(Stream<?> entities);
+
 	/**
 	 * Insert a record.
 	 * <p>
@@ -137,6 +161,18 @@ public interface StatelessSession extends SharedSessionContract {
 	@Incubating
 	void updateMultiple(List<Object> entities);
 
+	/**
+	 * Update multiple records, consuming the given stream of entities.
+	 * The entities are buffered and grouped by entity type, as described
+	 * by {@link #insertMultiple(Stream)}.
+	 *
+	 * @param entities a stream of detached instances to be updated
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	void updateMultiple(Stream<?> entities);
+
 	/**
 	 * Update a record.
 	 * <p>
@@ -216,6 +252,19 @@ public interface StatelessSession extends SharedSessionContract {
 	@Incubating
 	void upsertMultiple(List<Object> entities);
 
+	/**
+	 * Perform an upsert for each entity consumed from the given stream.
+	 * The entities are buffered and grouped by entity type, as described
+	 * by {@link #insertMultiple(Stream)}.
+	 *
+	 * @param entities a stream of detached instances and new instances
+	 *                 with assigned identifiers
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	void upsertMultiple(Stream<?> entities);
+
 	/**
 	 * Use a SQL {@code merge into} statement to perform an upsert.
 	 *
@@ -16,6 +16,7 @@
 import org.hibernate.action.spi.AfterTransactionCompletionProcess;
 import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
 import org.hibernate.action.spi.Executable;
+import org.hibernate.cache.internal.NaturalIdNegativeCache;
 import org.hibernate.cache.spi.access.CollectionDataAccess;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.access.NaturalIdDataAccess;
@@ -30,6 +31,8 @@
 import org.hibernate.query.sqm.tree.cte.SqmCteStatement;
 import org.hibernate.sql.ast.tree.insert.InsertSelectStatement;
 
+import static org.hibernate.cache.internal.AsyncCachePutQueue.cancelPendingPuts;
+
 /**
  * An {@link org.hibernate.engine.spi.ActionQueue} {@link Executable} for
  * ensuring shared cache cleanup in relation to performed bulk HQL queries.
@@ -49,6 +52,7 @@ public class BulkOperationCleanupAction implements Executable, Serializable {
 	private final Set<EntityCleanup> entityCleanups = new HashSet<>();
 	private final Set<CollectionCleanup> collectionCleanups = new HashSet<>();
 	private final Set<NaturalIdCleanup> naturalIdCleanups = new HashSet<>();
+	private final Set<String> absentNaturalIdCleanups = new HashSet<>();
 
 	/**
 	 * Constructs an action to cleanup "affected cache regions" based on the
@@ -77,6 +81,9 @@ public BulkOperationCleanupAction(SharedSessionContractImplementor session, Enti
 						new NaturalIdCleanup( persister.getNaturalIdCacheAccessStrategy(), session )
 				);
 			}
+			if ( persister.hasNaturalIdentifier() ) {
+				invalidateAbsentNaturalIds( persister, session );
+			}
 
 			final MappingMetamodelImplementor mappingMetamodel = session.getFactory().getRuntimeMetamodels().getMappingMetamodel();
 			final Set<String> roles = mappingMetamodel.getCollectionRolesByEntityParticipant( persister.getEntityName() );
@@ -123,6 +130,9 @@ public BulkOperationCleanupAction(SharedSessionContractImplementor session, Set<
 				if ( entityDescriptor.hasNaturalIdentifier() && entityDescriptor.hasNaturalIdCache() ) {
 					naturalIdCleanups.add( new NaturalIdCleanup( entityDescriptor.getNaturalIdCacheAccessStrategy(), session ) );
 				}
+				if ( entityDescriptor.hasNaturalIdentifier() ) {
+					invalidateAbsentNaturalIds( entityDescriptor, session );
+				}
 
 				final Set<String> roles = metamodel.getCollectionRolesByEntityParticipant( entityDescriptor.getEntityName() );
 				if ( roles != null ) {
@@ -141,6 +151,22 @@ public BulkOperationCleanupAction(SharedSessionContractImplementor session, Set<
 		this.affectedTableSpaces = spacesList.toArray( new String[ 0 ] );
 	}
 
+	/**
+	 * The bulk operation might insert an entity, or update its natural id, so
+	 * the natural ids remembered as absent are forgotten now, and once again
+	 * when the transaction completes, whether or not there is a natural id
+	 * cache region.
+	 *
+	 * @see org.hibernate.cfg.CacheSettings#NATURAL_ID_NEGATIVE_CACHE_TTL
+	 */
+	private void invalidateAbsentNaturalIds(EntityPersister persister, SharedSessionContractImplementor session) {
+		final NaturalIdNegativeCache negativeCache = session.getFactory().getCache().getNaturalIdNegativeCache();
+		if ( negativeCache != null ) {
+			negativeCache.invalidate( persister );
+			absentNaturalIdCleanups.add( persister.getRootEntityName() );
+		}
+	}
+
 	public static void schedule(SharedSessionContractImplementor session, SqmDmlStatement<?> statement) {
 		final List<EntityPersister> entityPersisters = new ArrayList<>( 1 );
 		final MappingMetamodelImplementor metamodel = session.getFactory().getRuntimeMetamodels().getMappingMetamodel();
@@ -235,6 +261,16 @@ public AfterTransactionCompletionProcess getAfterTransactionCompletionProcess()
 				cleanup.release();
 			}
 			collectionCleanups.clear();
+
+			if ( !absentNaturalIdCleanups.isEmpty() ) {
+				final NaturalIdNegativeCache negativeCache =
+						session.getFactory().getCache().getNaturalIdNegativeCache();
+				final MappingMetamodelImplementor metamodel = session.getFactory().getMappingMetamodel();
+				for ( String rootEntityName : absentNaturalIdCleanups ) {
+					negativeCache.invalidate( metamodel.getEntityDescriptor( rootEntityName ) );
+				}
+				absentNaturalIdCleanups.clear();
+			}
 		};
 	}
 
@@ -257,6 +293,8 @@ private EntityCleanup(
 				SharedSessionContractImplementor session) {
 			this.cacheAccess = cacheAccess;
 			this.cacheLock = cacheAccess.lockRegion();
+			// a waiting put from load might hold data affected by the bulk operation
+			cancelPendingPuts( session.getFactory(), cacheAccess );
 			cacheAccess.removeAll( session );
 		}
 
@@ -274,6 +312,8 @@ private CollectionCleanup(
 				SharedSessionContractImplementor session) {
 			this.cacheAccess = cacheAccess;
 			this.cacheLock = cacheAccess.lockRegion();
+			// a waiting put from load might hold data affected by the bulk operation
+			cancelPendingPuts( session.getFactory(), cacheAccess );
 			cacheAccess.removeAll( session );
 		}
 
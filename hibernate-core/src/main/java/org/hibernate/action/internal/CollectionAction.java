@@ -18,6 +18,8 @@
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.pretty.MessageHelper;
 
+import static org.hibernate.cache.internal.AsyncCachePutQueue.cancelPendingPut;
+
 /**
  * Any action relating to insert/update/delete of a collection
  *
@@ -78,6 +80,7 @@ public final void beforeExecutions() throws CacheException {
 					session.getFactory(),
 					session.getTenantIdentifier()
 			);
+			cancelPendingPut( session.getFactory(), cache, ck );
 			final SoftLock lock = cache.lockItem( session, ck, null );
 			// the old behavior used key as opposed to getKey()
 			afterTransactionProcess = new CacheCleanupProcess( key, persister, lock );
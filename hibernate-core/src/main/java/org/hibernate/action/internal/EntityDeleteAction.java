@@ -23,6 +23,8 @@
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.stat.spi.StatisticsImplementor;
 
+import static org.hibernate.cache.internal.AsyncCachePutQueue.cancelPendingPut;
+
 /**
  * The action for performing an entity deletion.
  */
@@ -265,6 +267,7 @@ protected Object lockCacheItem() {
 					session.getFactory(),
 					session.getTenantIdentifier()
 			);
+			cancelPendingPut( session.getFactory(), cache, ck );
 			lock = cache.lockItem( session, ck, getCurrentVersion() );
 			return ck;
 		}
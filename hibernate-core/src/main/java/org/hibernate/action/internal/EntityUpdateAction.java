@@ -34,6 +34,7 @@
 import org.hibernate.tuple.entity.EntityMetamodel;
 import org.hibernate.type.TypeHelper;
 
+import static org.hibernate.cache.internal.AsyncCachePutQueue.cancelPendingPut;
 import static org.hibernate.engine.internal.Versioning.getVersion;
 
 /**
@@ -309,6 +310,7 @@ protected Object lockCacheItem(Object previousVersion) {
 					session.getFactory(),
 					session.getTenantIdentifier()
 			);
+			cancelPendingPut( session.getFactory(), cache, ck );
 			lock = cache.lockItem( session, ck, previousVersion );
 			return ck;
 		}
@@ -0,0 +1,355 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.boot.archive.scan.internal;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.hibernate.Version;
+import org.hibernate.boot.archive.internal.ByteArrayInputStreamAccess;
+import org.hibernate.boot.archive.scan.spi.ClassDescriptor;
+import org.hibernate.boot.archive.scan.spi.MappingFileDescriptor;
+import org.hibernate.boot.archive.scan.spi.PackageDescriptor;
+import org.hibernate.boot.archive.scan.spi.ScanEnvironment;
+import org.hibernate.boot.archive.scan.spi.ScanOptions;
+import org.hibernate.boot.archive.scan.spi.ScanResult;
+import org.hibernate.boot.archive.scan.spi.Scanner;
+import org.hibernate.boot.archive.spi.ArchiveException;
+import org.hibernate.boot.archive.spi.InputStreamAccess;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Stores the {@link ScanResult} of a persistence unit in a file, along with a
+ * fingerprint of the scanned archives, so that the result may be reused as long
+ * as the archives are not modified.
+ *
+ * @see org.hibernate.cfg.PersistenceSettings#SCANNER_SNAPSHOT
+ */
+public final class ScanResultSnapshot {
+	private static final Logger log = Logger.getLogger( ScanResultSnapshot.class );
+
+	private static final String MAGIC = "hibernate-scan-snapshot";
+	private static final int FORMAT_VERSION = 1;
+
+	private ScanResultSnapshot() {
+	}
+
+	/**
+	 * Describe the given environment, so that the snapshot of its scan result
+	 * is discarded when any of the scanned archives is modified.
+	 *
+	 * @return the fingerprint, or {@code null} if the archives cannot be checked
+	 * for modifications
+	 */
+	public static List<String> fingerprint(ScanEnvironment environment, ScanOptions options, Scanner scanner) {
+		final List<String> fingerprint = new ArrayList<>();
+		fingerprint.add( Version.getVersionString() );
+		fingerprint.add( scanner.getClass().getName() );
+		fingerprint.add( options.canDetectUnlistedClassesInRoot()
+				+ "," + options.canDetectUnlistedClassesInNonRoot()
+				+ "," + options.canDetectHibernateMappingFiles() );
+		fingerprint.add( String.valueOf( environment.getExplicitlyListedClassNames() ) );
+		fingerprint.add( String.valueOf( environment.getExplicitlyListedMappingFiles() ) );
+		try {
+			if ( environment.getRootUrl() != null ) {
+				if ( !addArchive( fingerprint, environment.getRootUrl() ) ) {
+					return null;
+				}
+			}
+			if ( environment.getNonRootUrls() != null ) {
+				for ( URL url : environment.getNonRootUrls() ) {
+					if ( !addArchive( fingerprint, url ) ) {
+						return null;
+					}
+				}
+			}
+		}
+		catch (IOException | URISyntaxException | IllegalArgumentException e) {
+			log.debugf( e, "Unable to fingerprint scanned archives" );
+			return null;
+		}
+		return fingerprint;
+	}
+
+	private static boolean addArchive(List<String> fingerprint, URL url) throws IOException, URISyntaxException {
+		final Path path = toPath( url );
+		if ( path == null || !Files.exists( path ) ) {
+			return false;
+		}
+		long lastModified = 0;
+		long size = 0;
+		long count = 0;
+		if ( Files.isDirectory( path ) ) {
+			try ( Stream<Path> files = Files.walk( path ) ) {
+				for ( Path file : (Iterable<Path>) files::iterator ) {
+					final BasicFileAttributes attributes = Files.readAttributes( file, BasicFileAttributes.class );
+					lastModified = Math.max( lastModified, attributes.lastModifiedTime().toMillis() );
+					size += attributes.size();
+					count++;
+				}
+			}
+		}
+		else {
+			final BasicFileAttributes attributes = Files.readAttributes( path, BasicFileAttributes.class );
+			lastModified = attributes.lastModifiedTime().toMillis();
+			size = attributes.size();
+			count = 1;
+		}
+		fingerprint.add( url.toExternalForm() + " " + lastModified + " " + size + " " + count );
+		return true;
+	}
+
+	private static Path toPath(URL url) throws IOException, URISyntaxException {
+		switch ( url.getProtocol() ) {
+			case "file":
+				return Path.of( url.toURI() );
+			case "jar":
+				final String file = url.getFile();
+				final int separator = file.indexOf( "!/" );
+				final URI archiveUri = new URI( separator < 0 ? file : file.substring( 0, separator ) );
+				return "file".equals( archiveUri.getScheme() ) ? Path.of( archiveUri ) : null;
+			default:
+				return null;
+		}
+	}
+
+	/**
+	 * Read the scan result stored in the given file, if it exists and has the given fingerprint.
+	 *
+	 * @param resourceLocator locates the class files of the classes and packages
+	 *
+	 * @return the stored scan result, or {@code null} if there is no valid snapshot
+	 */
+	public static ScanResult read(Path file, List<String> fingerprint, Function<String, URL> resourceLocator) {
+		if ( !Files.isRegularFile( file ) ) {
+			return null;
+		}
+		try ( DataInputStream input = new DataInputStream( new BufferedInputStream( Files.newInputStream( file ) ) ) ) {
+			if ( !MAGIC.equals( input.readUTF() ) || input.readInt() != FORMAT_VERSION ) {
+				log.debugf( "Ignoring scan snapshot [%s] written in another format", file );
+				return null;
+			}
+			final int fingerprintSize = input.readInt();
+			final List<String> storedFingerprint = new ArrayList<>( fingerprintSize );
+			for ( int i = 0; i < fingerprintSize; i++ ) {
+				storedFingerprint.add( input.readUTF() );
+			}
+			if ( !storedFingerprint.equals( fingerprint ) ) {
+				log.debugf( "Ignoring stale scan snapshot [%s]", file );
+				return null;
+			}
+
+			final Set<ClassDescriptor> classes = new HashSet<>();
+			final int classCount = input.readInt();
+			for ( int i = 0; i < classCount; i++ ) {
+				final String name = input.readUTF();
+				final ClassDescriptor.Categorization categorization =
+						ClassDescriptor.Categorization.values()[input.readByte()];
+				final InputStreamAccess streamAccess =
+						new LocatedInputStreamAccess( name.replace( '.', '/' ) + ".class", resourceLocator );
+				classes.add( new SnapshotClassDescriptor( name, categorization, streamAccess ) );
+			}
+			final Set<PackageDescriptor> packages = new HashSet<>();
+			final int packageCount = input.readInt();
+			for ( int i = 0; i < packageCount; i++ ) {
+				final String name = input.readUTF();
+				final InputStreamAccess streamAccess =
+						new LocatedInputStreamAccess( name.replace( '.', '/' ) + "/package-info.class", resourceLocator );
+				packages.add( new SnapshotPackageDescriptor( name, streamAccess ) );
+			}
+			final Set<MappingFileDescriptor> mappingFiles = new HashSet<>();
+			final int mappingFileCount = input.readInt();
+			for ( int i = 0; i < mappingFileCount; i++ ) {
+				final String name = input.readUTF();
+				final String streamName = input.readUTF();
+				final byte[] content = new byte[input.readInt()];
+				input.readFully( content );
+				mappingFiles.add( new SnapshotMappingFileDescriptor(
+						name,
+						new ByteArrayInputStreamAccess( streamName, content )
+				) );
+			}
+			log.debugf( "Using scan snapshot [%s]", file );
+			return new SnapshotScanResult( packages, classes, mappingFiles );
+		}
+		catch (IOException | RuntimeException e) {
+			log.debugf( e, "Unable to read scan snapshot [%s]", file );
+			return null;
+		}
+	}
+
+	/**
+	 * Store the given scan result in the given file. A failure to write the
+	 * file is logged, since scanning again on the next bootstrap is harmless.
+	 */
+	public static void write(Path file, List<String> fingerprint, ScanResult scanResult) {
+		try {
+			final Path directory = file.toAbsolutePath().getParent();
+			if ( directory != null ) {
+				Files.createDirectories( directory );
+			}
+			final Path temporaryFile = Files.createTempFile( directory, file.getFileName().toString(), ".tmp" );
+			try {
+				try ( DataOutputStream output =
+						new DataOutputStream( new BufferedOutputStream( Files.newOutputStream( temporaryFile ) ) ) ) {
+					output.writeUTF( MAGIC );
+					output.writeInt( FORMAT_VERSION );
+					output.writeInt( fingerprint.size() );
+					for ( String line : fingerprint ) {
+						output.writeUTF( line );
+					}
+					output.writeInt( scanResult.getLocatedClasses().size() );
+					for ( ClassDescriptor classDescriptor : scanResult.getLocatedClasses() ) {
+						output.writeUTF( classDescriptor.getName() );
+						output.writeByte( classDescriptor.getCategorization().ordinal() );
+					}
+					output.writeInt( scanResult.getLocatedPackages().size() );
+					for ( PackageDescriptor packageDescriptor : scanResult.getLocatedPackages() ) {
+						output.writeUTF( packageDescriptor.getName() );
+					}
+					output.writeInt( scanResult.getLocatedMappingFiles().size() );
+					for ( MappingFileDescriptor mappingFile : scanResult.getLocatedMappingFiles() ) {
+						final InputStreamAccess streamAccess = mappingFile.getStreamAccess();
+						final byte[] content;
+						try ( InputStream input = streamAccess.accessInputStream() ) {
+							content = input.readAllBytes();
+						}
+						output.writeUTF( mappingFile.getName() );
+						output.writeUTF( streamAccess.getStreamName() );
+						output.writeInt( content.length );
+						output.write( content );
+					}
+				}
+				try {
+					Files.move( temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE );
+				}
+				catch (AtomicMoveNotSupportedException e) {
+					Files.move( temporaryFile, file, StandardCopyOption.REPLACE_EXISTING );
+				}
+				log.debugf( "Wrote scan snapshot [%s]", file );
+			}
+			finally {
+				Files.deleteIfExists( temporaryFile );
+			}
+		}
+		catch (IOException | RuntimeException e) {
+			log.warnf( "Unable to write scan snapshot [%s]: %s", file, e.getMessage() );
+		}
+	}
+
+	private static class LocatedInputStreamAccess implements InputStreamAccess {
+		private final String resourceName;
+		private final Function<String, URL> resourceLocator;
+
+		private LocatedInputStreamAccess(String resourceName, Function<String, URL> resourceLocator) {
+			this.resourceName = resourceName;
+			this.resourceLocator = resourceLocator;
+		}
+
+		@Override
+		public String getStreamName() {
+			return resourceName;
+		}
+
+		@Override
+		public InputStream accessInputStream() {
+			final URL url = resourceLocator.apply( resourceName );
+			if ( url == null ) {
+				throw new ArchiveException( "Could not locate resource [" + resourceName + "]" );
+			}
+			try {
+				return url.openStream();
+			}
+			catch (IOException e) {
+				throw new ArchiveException( "Could not open stream for resource [" + resourceName + "]", e );
+			}
+		}
+	}
+
+	private record SnapshotClassDescriptor(
+			String name,
+			Categorization categorization,
+			InputStreamAccess streamAccess) implements ClassDescriptor {
+		@Override
+		public String getName() {
+			return name;
+		}
+
+		@Override
+		public Categorization getCategorization() {
+			return categorization;
+		}
+
+		@Override
+		public InputStreamAccess getStreamAccess() {
+			return streamAccess;
+		}
+	}
+
+	private record SnapshotPackageDescriptor(String name, InputStreamAccess streamAccess)
+			implements PackageDescriptor {
+		@Override
+		public String getName() {
+			return name;
+		}
+
+		@Override
+		public InputStreamAccess getStreamAccess() {
+			return streamAccess;
+		}
+	}
+
+	private record SnapshotMappingFileDescriptor(String name, InputStreamAccess streamAccess)
+			implements MappingFileDescriptor {
+		@Override
+		public String getName() {
+			return name;
+		}
+
+		@Override
+		public InputStreamAccess getStreamAccess() {
+			return streamAccess;
+		}
+	}
+
+	private record SnapshotScanResult(
+			Set<PackageDescriptor> locatedPackages,
+			Set<ClassDescriptor> locatedClasses,
+			Set<MappingFileDescriptor> locatedMappingFiles) implements ScanResult {
+		@Override
+		public Set<PackageDescriptor> getLocatedPackages() {
+			return locatedPackages;
+		}
+
+		@Override
+		public Set<ClassDescriptor> getLocatedClasses() {
+			return locatedClasses;
+		}
+
+		@Override
+		public Set<MappingFileDescriptor> getLocatedMappingFiles() {
+			return locatedMappingFiles;
+		}
+	}
+}
@@ -4,16 +4,25 @@
  */
 package org.hibernate.boot.internal;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.hibernate.SessionFactory;
 import org.hibernate.SessionFactoryObserver;
 import org.hibernate.boot.Metadata;
 import org.hibernate.boot.spi.MetadataImplementor;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.query.spi.QueryEngine;
+import org.hibernate.query.spi.QueryInterpretationCache;
+
+import org.jboss.logging.Logger;
 
 /**
  * Responsible for triggering {@linkplain QueryEngine#validateNamedQueries()
- * named query validation} when the {@link SessionFactory} is created.
+ * named query validation} when the {@link SessionFactory} is created, or,
+ * when validation is disabled, for {@linkplain
+ * org.hibernate.cfg.QuerySettings#QUERY_PRELOADING preloading} the named
+ * HQL queries into the query interpretation cache in the background.
  *
  * @implNote This was added in order to clean up the constructor of
  *           {@link org.hibernate.internal.SessionFactoryImpl}, which
@@ -22,6 +31,8 @@
  * @author Gavin King
  */
 class SessionFactoryObserverForNamedQueryValidation implements SessionFactoryObserver {
+	private static final Logger log = Logger.getLogger( SessionFactoryObserverForNamedQueryValidation.class );
+
 	private final Metadata metadata;
 
 	SessionFactoryObserverForNamedQueryValidation(MetadataImplementor metadata) {
@@ -36,5 +47,42 @@ public void sessionFactoryCreated(SessionFactory factory) {
 		if ( sessionFactory.getSessionFactoryOptions().isNamedQueryStartupCheckingEnabled() ) {
 			queryEngine.validateNamedQueries();
 		}
+		else if ( sessionFactory.getSessionFactoryOptions().isNamedQueryPreloadingEnabled()
+				&& queryEngine.getInterpretationCache().isEnabled() ) {
+			preloadNamedQueries( sessionFactory );
+		}
+	}
+
+	private static void preloadNamedQueries(SessionFactoryImplementor sessionFactory) {
+		final QueryEngine queryEngine = sessionFactory.getQueryEngine();
+		final List<String> queryStrings = new ArrayList<>();
+		queryEngine.getNamedObjectRepository()
+				.visitSqmQueryMementos( memento -> queryStrings.add( memento.getHqlString() ) );
+		if ( !queryStrings.isEmpty() ) {
+			final Thread thread = new Thread(
+					() -> preloadNamedQueries( sessionFactory, queryStrings ),
+					"Hibernate Named Query Preloading Thread"
+			);
+			thread.setDaemon( true );
+			thread.start();
+		}
+	}
+
+	private static void preloadNamedQueries(SessionFactoryImplementor sessionFactory, List<String> queryStrings) {
+		log.debugf( "Preloading %s named HQL queries", queryStrings.size() );
+		final QueryEngine queryEngine = sessionFactory.getQueryEngine();
+		final QueryInterpretationCache interpretationCache = queryEngine.getInterpretationCache();
+		for ( String queryString : queryStrings ) {
+			if ( sessionFactory.isClosed() ) {
+				return;
+			}
+			try {
+				interpretationCache.resolveHqlInterpretation( queryString, null, queryEngine.getHqlTranslator() );
+			}
+			catch (RuntimeException e) {
+				// the problem is reported when the query is used
+				log.debugf( e, "Unable to preload named HQL query: %s", queryString );
+			}
+		}
 	}
 }
@@ -75,6 +75,7 @@
 
 import static org.hibernate.cfg.AvailableSettings.ALLOW_JTA_TRANSACTION_ACCESS;
 import static org.hibernate.cfg.AvailableSettings.ALLOW_UPDATE_OUTSIDE_TRANSACTION;
+import static org.hibernate.cfg.AvailableSettings.ASYNC_PUT_QUEUE_SIZE;
 import static org.hibernate.cfg.AvailableSettings.AUTO_CLOSE_SESSION;
 import static org.hibernate.cfg.AvailableSettings.AUTO_EVICT_COLLECTION_CACHE;
 import static org.hibernate.cfg.AvailableSettings.AUTO_SESSION_EVENTS_LISTENER;
@@ -103,18 +104,29 @@
 import static org.hibernate.cfg.AvailableSettings.LOG_SESSION_METRICS;
 import static org.hibernate.cfg.AvailableSettings.MAX_FETCH_DEPTH;
 import static org.hibernate.cfg.AvailableSettings.MULTI_TENANT_IDENTIFIER_RESOLVER;
+import static org.hibernate.cfg.AvailableSettings.NATURAL_ID_NEGATIVE_CACHE_TTL;
+import static org.hibernate.cfg.AvailableSettings.NEAR_CACHE_MAX_ENTRIES;
+import static org.hibernate.cfg.AvailableSettings.NEAR_CACHE_TTL;
 import static org.hibernate.cfg.AvailableSettings.ORDER_INSERTS;
 import static org.hibernate.cfg.AvailableSettings.ORDER_UPDATES;
+import static org.hibernate.cfg.AvailableSettings.PARTIAL_AUTO_FLUSH;
+import static org.hibernate.cfg.AvailableSettings.PERSISTENCE_CONTEXT_COMPACT_ENTITY_STORAGE;
+import static org.hibernate.cfg.AvailableSettings.PERSISTENCE_CONTEXT_INCREMENTAL_DIRTY_CHECKING;
 import static org.hibernate.cfg.AvailableSettings.PREFER_USER_TRANSACTION;
 import static org.hibernate.cfg.AvailableSettings.QUERY_CACHE_FACTORY;
+import static org.hibernate.cfg.AvailableSettings.QUERY_CACHE_ROWS;
 import static org.hibernate.cfg.AvailableSettings.QUERY_STARTUP_CHECKING;
 import static org.hibernate.cfg.AvailableSettings.QUERY_STATISTICS_MAX_SIZE;
 import static org.hibernate.cfg.AvailableSettings.SESSION_FACTORY_NAME;
 import static org.hibernate.cfg.AvailableSettings.SESSION_FACTORY_NAME_IS_JNDI;
 import static org.hibernate.cfg.AvailableSettings.SESSION_SCOPED_INTERCEPTOR;
+import static org.hibernate.cfg.AvailableSettings.STATELESS_BULK_WRITE_BATCH_SIZE;
 import static org.hibernate.cfg.AvailableSettings.STATEMENT_BATCH_SIZE;
 import static org.hibernate.cfg.AvailableSettings.STATEMENT_FETCH_SIZE;
 import static org.hibernate.cfg.AvailableSettings.STATEMENT_INSPECTOR;
+import static org.hibernate.cfg.AvailableSettings.STATISTICS_LATENCY_HISTOGRAMS;
+import static org.hibernate.cfg.AvailableSettings.TIMESTAMPS_LOCAL_REFRESH_INTERVAL;
+import static org.hibernate.cfg.AvailableSettings.USE_BINARY_CACHE_ENTRIES;
 import static org.hibernate.cfg.AvailableSettings.USE_DIRECT_REFERENCE_CACHE_ENTRIES;
 import static org.hibernate.cfg.AvailableSettings.USE_GET_GENERATED_KEYS;
 import static org.hibernate.cfg.AvailableSettings.USE_IDENTIFIER_ROLLBACK;
@@ -126,10 +138,14 @@
 import static org.hibernate.cfg.AvailableSettings.USE_STRUCTURED_CACHE;
 import static org.hibernate.cfg.AvailableSettings.USE_SUBSELECT_FETCH;
 import static org.hibernate.cfg.CacheSettings.QUERY_CACHE_LAYOUT;
+import static org.hibernate.cfg.MappingSettings.LAZY_PERSISTER_INITIALIZATION;
 import static org.hibernate.cfg.PersistenceSettings.UNOWNED_ASSOCIATION_TRANSIENT_CHECK;
 import static org.hibernate.cfg.QuerySettings.DEFAULT_NULL_ORDERING;
 import static org.hibernate.cfg.QuerySettings.JSON_FUNCTIONS_ENABLED;
 import static org.hibernate.cfg.QuerySettings.PORTABLE_INTEGER_DIVISION;
+import static org.hibernate.cfg.QuerySettings.QUERY_PRELOADING;
+import static org.hibernate.cfg.QuerySettings.SCROLL_DETACH_ENTITIES;
+import static org.hibernate.cfg.QuerySettings.SCROLL_FETCH_MEMORY_BUDGET;
 import static org.hibernate.cfg.QuerySettings.XML_FUNCTIONS_ENABLED;
 import static org.hibernate.engine.config.spi.StandardConverters.BOOLEAN;
 import static org.hibernate.internal.CoreLogging.messageLogger;
@@ -140,6 +156,7 @@
 import static org.hibernate.internal.util.config.ConfigurationHelper.getBoolean;
 import static org.hibernate.internal.util.config.ConfigurationHelper.getInt;
 import static org.hibernate.internal.util.config.ConfigurationHelper.getInteger;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getLong;
 import static org.hibernate.internal.util.config.ConfigurationHelper.getString;
 import static org.hibernate.type.format.jackson.JacksonIntegration.getJsonJacksonFormatMapperOrNull;
 import static org.hibernate.type.format.jackson.JacksonIntegration.getXMLJacksonFormatMapperOrNull;
@@ -215,6 +232,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	// JPA callbacks
 	private final boolean callbacksEnabled;
 
+	// persistence context
+	private final boolean compactEntityStorageEnabled;
+	private final boolean incrementalDirtyCheckingEnabled;
+	private final boolean partialAutoFlushEnabled;
+
 	// multi-tenancy
 	private boolean multiTenancyEnabled;
 	private CurrentTenantIdentifierResolver<Object> currentTenantIdentifierResolver;
@@ -227,6 +249,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private final SqmTranslatorFactory sqmTranslatorFactory;
 	private final Boolean useOfJdbcNamedParametersEnabled;
 	private boolean namedQueryStartupCheckingEnabled;
+	private final boolean namedQueryPreloadingEnabled;
 	private final boolean preferJavaTimeJdbcTypes;
 	private final boolean preferNativeEnumTypes;
 	private final int preferredSqlTypeCodeForBoolean;
@@ -240,12 +263,19 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private boolean secondLevelCacheEnabled;
 	private boolean queryCacheEnabled;
 	private CacheLayout queryCacheLayout;
+	private boolean queryCacheRowsEnabled;
 	private TimestampsCacheFactory timestampsCacheFactory;
 	private String cacheRegionPrefix;
 	private boolean minimalPutsEnabled;
 	private boolean structuredCacheEntriesEnabled;
+	private boolean binaryCacheEntriesEnabled;
 	private boolean directReferenceCacheEntriesEnabled;
 	private boolean autoEvictCollectionCache;
+	private int nearCacheMaxEntries;
+	private long nearCacheTimeToLive;
+	private long timestampsLocalRefreshInterval;
+	private int asyncCachePutQueueSize;
+	private long naturalIdNegativeCacheTimeToLive;
 
 	// Schema tooling
 	private SchemaAutoTooling schemaAutoTooling;
@@ -253,6 +283,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	// JDBC Handling
 	private boolean getGeneratedKeysEnabled;
 	private int jdbcBatchSize;
+	private final int statelessBulkWriteBatchSize;
 	private boolean jdbcBatchVersionedData;
 	private Integer jdbcFetchSize;
 	private boolean scrollableResultSetsEnabled;
@@ -279,10 +310,14 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private final boolean inClauseParameterPaddingEnabled;
 
 	private final boolean portableIntegerDivisionEnabled;
+	private final boolean scrollDetachEntitiesEnabled;
+	private final long scrollFetchMemoryBudget;
+	private final boolean lazyPersisterInitializationEnabled;
 	private final boolean jsonFunctionsEnabled;
 	private final boolean xmlFunctionsEnabled;
 
 	private final int queryStatisticsMaxSize;
+	private final boolean statisticsLatencyHistogramsEnabled;
 
 
 	@SuppressWarnings( "unchecked" )
@@ -410,6 +445,12 @@ else if ( defaultNullPrecedence != null ) {
 
 		this.callbacksEnabled = getBoolean( JPA_CALLBACKS_ENABLED, configurationSettings, true );
 
+		this.compactEntityStorageEnabled =
+				getBoolean( PERSISTENCE_CONTEXT_COMPACT_ENTITY_STORAGE, configurationSettings, false );
+		this.incrementalDirtyCheckingEnabled =
+				getBoolean( PERSISTENCE_CONTEXT_INCREMENTAL_DIRTY_CHECKING, configurationSettings, false );
+		this.partialAutoFlushEnabled = getBoolean( PARTIAL_AUTO_FLUSH, configurationSettings, false );
+
 		this.jtaTrackByThread = configurationService.getSetting( JTA_TRACK_BY_THREAD, BOOLEAN, true );
 
 		final String hqlTranslatorImplFqn = extractPropertyValue(
@@ -458,6 +499,7 @@ else if ( defaultNullPrecedence != null ) {
 		this.useOfJdbcNamedParametersEnabled = configurationService.getSetting( CALLABLE_NAMED_PARAMS_ENABLED, BOOLEAN, true );
 
 		this.namedQueryStartupCheckingEnabled = configurationService.getSetting( QUERY_STARTUP_CHECKING, BOOLEAN, true );
+		this.namedQueryPreloadingEnabled = configurationService.getSetting( QUERY_PRELOADING, BOOLEAN, false );
 		this.preferJavaTimeJdbcTypes = MetadataBuildingContext.isPreferJavaTimeJdbcTypesEnabled( configurationService );
 		this.preferNativeEnumTypes = MetadataBuildingContext.isPreferNativeEnumTypesEnabled( configurationService );
 		this.preferredSqlTypeCodeForBoolean = ConfigurationHelper.getPreferredSqlTypeCodeForBoolean( serviceRegistry );
@@ -476,6 +518,7 @@ else if ( defaultNullPrecedence != null ) {
 					value -> CacheLayout.valueOf( value.toString().toUpperCase( Locale.ROOT ) ),
 					CacheLayout.FULL
 			);
+			this.queryCacheRowsEnabled = configurationService.getSetting( QUERY_CACHE_ROWS, BOOLEAN, false );
 			this.timestampsCacheFactory = strategySelector.resolveDefaultableStrategy(
 					TimestampsCacheFactory.class,
 					configurationSettings.get( QUERY_CACHE_FACTORY ),
@@ -491,23 +534,58 @@ else if ( defaultNullPrecedence != null ) {
 					regionFactory.isMinimalPutsEnabledByDefault()
 			);
 			this.structuredCacheEntriesEnabled = configurationService.getSetting( USE_STRUCTURED_CACHE, BOOLEAN, false );
+			this.binaryCacheEntriesEnabled = configurationService.getSetting( USE_BINARY_CACHE_ENTRIES, BOOLEAN, false );
 			this.directReferenceCacheEntriesEnabled = configurationService.getSetting(
 					USE_DIRECT_REFERENCE_CACHE_ENTRIES,
 					BOOLEAN,
 					false
 			);
 			this.autoEvictCollectionCache = configurationService.getSetting( AUTO_EVICT_COLLECTION_CACHE, BOOLEAN, false );
+			this.nearCacheMaxEntries = getInt( NEAR_CACHE_MAX_ENTRIES, configurationSettings, 0 );
+			if ( nearCacheMaxEntries < 0 ) {
+				throw new IllegalArgumentException( "Configuration property " + NEAR_CACHE_MAX_ENTRIES
+						+ " value [" + nearCacheMaxEntries + "] must not be negative" );
+			}
+			this.nearCacheTimeToLive = getLong( NEAR_CACHE_TTL, configurationSettings, 0 );
+			if ( nearCacheTimeToLive < 0 ) {
+				throw new IllegalArgumentException( "Configuration property " + NEAR_CACHE_TTL
+						+ " value [" + nearCacheTimeToLive + "] must not be negative" );
+			}
+			this.timestampsLocalRefreshInterval =
+					getLong( TIMESTAMPS_LOCAL_REFRESH_INTERVAL, configurationSettings, 0 );
+			if ( timestampsLocalRefreshInterval < 0 ) {
+				throw new IllegalArgumentException( "Configuration property " + TIMESTAMPS_LOCAL_REFRESH_INTERVAL
+						+ " value [" + timestampsLocalRefreshInterval + "] must not be negative" );
+			}
+			this.asyncCachePutQueueSize = getInt( ASYNC_PUT_QUEUE_SIZE, configurationSettings, 0 );
+			if ( asyncCachePutQueueSize < 0 ) {
+				throw new IllegalArgumentException( "Configuration property " + ASYNC_PUT_QUEUE_SIZE
+						+ " value [" + asyncCachePutQueueSize + "] must not be negative" );
+			}
+			this.naturalIdNegativeCacheTimeToLive =
+					getLong( NATURAL_ID_NEGATIVE_CACHE_TTL, configurationSettings, 0 );
+			if ( naturalIdNegativeCacheTimeToLive < 0 ) {
+				throw new IllegalArgumentException( "Configuration property " + NATURAL_ID_NEGATIVE_CACHE_TTL
+						+ " value [" + naturalIdNegativeCacheTimeToLive + "] must not be negative" );
+			}
 		}
 		else {
 			this.secondLevelCacheEnabled = false;
 			this.queryCacheEnabled = false;
 			this.queryCacheLayout = CacheLayout.AUTO;
+			this.queryCacheRowsEnabled = false;
 			this.timestampsCacheFactory = null;
 			this.cacheRegionPrefix = null;
 			this.minimalPutsEnabled = false;
 			this.structuredCacheEntriesEnabled = false;
+			this.binaryCacheEntriesEnabled = false;
 			this.directReferenceCacheEntriesEnabled = false;
 			this.autoEvictCollectionCache = false;
+			this.nearCacheMaxEntries = 0;
+			this.nearCacheTimeToLive = 0;
+			this.timestampsLocalRefreshInterval = 0;
+			this.asyncCachePutQueueSize = 0;
+			this.naturalIdNegativeCacheTimeToLive = 0;
 		}
 
 		try {
@@ -535,6 +613,13 @@ else if ( defaultNullPrecedence != null ) {
 			this.jdbcBatchSize = 0;
 		}
 
+		this.statelessBulkWriteBatchSize =
+				getInt( STATELESS_BULK_WRITE_BATCH_SIZE, configurationSettings, 500 );
+		if ( statelessBulkWriteBatchSize <= 0 ) {
+			throw new IllegalArgumentException( "Configuration property " + STATELESS_BULK_WRITE_BATCH_SIZE
+					+ " value [" + statelessBulkWriteBatchSize + "] must be positive" );
+		}
+
 		this.jdbcBatchVersionedData = getBoolean( BATCH_VERSIONED_DATA, configurationSettings, true );
 		this.scrollableResultSetsEnabled = getBoolean(
 				USE_SCROLLABLE_RESULTSET,
@@ -626,6 +711,19 @@ else if ( jdbcTimeZoneValue != null ) {
 				PORTABLE_INTEGER_DIVISION,
 				configurationSettings
 		);
+		this.scrollDetachEntitiesEnabled = getBoolean(
+				SCROLL_DETACH_ENTITIES,
+				configurationSettings
+		);
+		this.scrollFetchMemoryBudget = getLong( SCROLL_FETCH_MEMORY_BUDGET, configurationSettings, 0 );
+		if ( scrollFetchMemoryBudget < 0 ) {
+			throw new IllegalArgumentException( "Configuration property " + SCROLL_FETCH_MEMORY_BUDGET
+					+ " value [" + scrollFetchMemoryBudget + "] must not be negative" );
+		}
+		this.lazyPersisterInitializationEnabled = getBoolean(
+				LAZY_PERSISTER_INITIALIZATION,
+				configurationSettings
+		);
 		this.jsonFunctionsEnabled = getBoolean(
 				JSON_FUNCTIONS_ENABLED,
 				configurationSettings
@@ -640,6 +738,8 @@ else if ( jdbcTimeZoneValue != null ) {
 				configurationSettings,
 				Statistics.DEFAULT_QUERY_STATISTICS_MAX_SIZE
 		);
+		this.statisticsLatencyHistogramsEnabled =
+				getBoolean( STATISTICS_LATENCY_HISTOGRAMS, configurationSettings, false );
 
 		this.unownedAssociationTransientCheck = getBoolean(
 				UNOWNED_ASSOCIATION_TRANSIENT_CHECK,
@@ -1079,6 +1179,11 @@ public boolean isNamedQueryStartupCheckingEnabled() {
 		return namedQueryStartupCheckingEnabled;
 	}
 
+	@Override
+	public boolean isNamedQueryPreloadingEnabled() {
+		return namedQueryPreloadingEnabled;
+	}
+
 	@Override
 	public boolean isSecondLevelCacheEnabled() {
 		return secondLevelCacheEnabled;
@@ -1094,6 +1199,11 @@ public CacheLayout getQueryCacheLayout() {
 		return queryCacheLayout;
 	}
 
+	@Override
+	public boolean isQueryCacheRowsEnabled() {
+		return queryCacheRowsEnabled;
+	}
+
 	@Override
 	public TimestampsCacheFactory getTimestampsCacheFactory() {
 		return timestampsCacheFactory;
@@ -1114,6 +1224,11 @@ public boolean isStructuredCacheEntriesEnabled() {
 		return structuredCacheEntriesEnabled;
 	}
 
+	@Override
+	public boolean isBinaryCacheEntriesEnabled() {
+		return binaryCacheEntriesEnabled;
+	}
+
 	@Override
 	public boolean isDirectReferenceCacheEntriesEnabled() {
 		return directReferenceCacheEntriesEnabled;
@@ -1124,6 +1239,31 @@ public boolean isAutoEvictCollectionCache() {
 		return autoEvictCollectionCache;
 	}
 
+	@Override
+	public int getNearCacheMaxEntries() {
+		return nearCacheMaxEntries;
+	}
+
+	@Override
+	public long getNearCacheTimeToLive() {
+		return nearCacheTimeToLive;
+	}
+
+	@Override
+	public long getTimestampsLocalRefreshInterval() {
+		return timestampsLocalRefreshInterval;
+	}
+
+	@Override
+	public int getAsyncCachePutQueueSize() {
+		return asyncCachePutQueueSize;
+	}
+
+	@Override
+	public long getNaturalIdNegativeCacheTimeToLive() {
+		return naturalIdNegativeCacheTimeToLive;
+	}
+
 	@Override
 	public SchemaAutoTooling getSchemaAutoTooling() {
 		return schemaAutoTooling;
@@ -1134,6 +1274,11 @@ public int getJdbcBatchSize() {
 		return jdbcBatchSize;
 	}
 
+	@Override
+	public int getStatelessBulkWriteBatchSize() {
+		return statelessBulkWriteBatchSize;
+	}
+
 	@Override
 	public boolean isJdbcBatchVersionedData() {
 		return jdbcBatchVersionedData;
@@ -1259,6 +1404,21 @@ public boolean isPortableIntegerDivisionEnabled() {
 		return portableIntegerDivisionEnabled;
 	}
 
+	@Override
+	public boolean isScrollDetachEntitiesEnabled() {
+		return scrollDetachEntitiesEnabled;
+	}
+
+	@Override
+	public long getScrollFetchMemoryBudget() {
+		return scrollFetchMemoryBudget;
+	}
+
+	@Override
+	public boolean isLazyPersisterInitializationEnabled() {
+		return lazyPersisterInitializationEnabled;
+	}
+
 	@Override
 	public JpaCompliance getJpaCompliance() {
 		return jpaCompliance;
@@ -1269,11 +1429,31 @@ public int getQueryStatisticsMaxSize() {
 		return queryStatisticsMaxSize;
 	}
 
+	@Override
+	public boolean isStatisticsLatencyHistogramsEnabled() {
+		return statisticsLatencyHistogramsEnabled;
+	}
+
 	@Override
 	public boolean areJPACallbacksEnabled() {
 		return callbacksEnabled;
 	}
 
+	@Override
+	public boolean isCompactEntityStorageEnabled() {
+		return compactEntityStorageEnabled;
+	}
+
+	@Override
+	public boolean isIncrementalDirtyCheckingEnabled() {
+		return incrementalDirtyCheckingEnabled;
+	}
+
+	@Override
+	public boolean isPartialAutoFlushEnabled() {
+		return partialAutoFlushEnabled;
+	}
+
 	@Override
 	public boolean isCollectionsInDefaultFetchGroupEnabled() {
 		return collectionsInDefaultFetchGroupEnabled;
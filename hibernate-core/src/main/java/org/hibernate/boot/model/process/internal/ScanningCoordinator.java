@@ -6,6 +6,7 @@
 
 import java.lang.reflect.Constructor;
 import java.net.URL;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -16,6 +17,7 @@
 import org.hibernate.boot.archive.internal.StandardArchiveDescriptorFactory;
 import org.hibernate.boot.archive.internal.UrlInputStreamAccess;
 import org.hibernate.boot.archive.scan.internal.DisabledScanner;
+import org.hibernate.boot.archive.scan.internal.ScanResultSnapshot;
 import org.hibernate.boot.archive.scan.internal.StandardScanParameters;
 import org.hibernate.boot.archive.scan.spi.ClassDescriptor;
 import org.hibernate.boot.archive.scan.spi.MappingFileDescriptor;
@@ -34,9 +36,13 @@
 import org.hibernate.boot.spi.BootstrapContext;
 import org.hibernate.boot.spi.ClassLoaderAccess;
 import org.hibernate.boot.spi.XmlMappingBinderAccess;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
 
 import org.jboss.logging.Logger;
 
+import static org.hibernate.cfg.PersistenceSettings.SCANNER_SNAPSHOT;
+
 /**
  * Coordinates the process of executing {@link Scanner} (if enabled)
  * and applying the resources (classes, packages and mappings) discovered.
@@ -70,13 +76,54 @@ public void coordinateScan(
 		// NOTE : the idea with JandexInitializer/JandexInitManager was to allow adding classes
 		// to the index as we discovered them via scanning and .  Currently
 		final Scanner scanner = buildScanner( bootstrapContext, classLoaderAccess );
+		final ScanResult scanResult = scan( scanner, bootstrapContext );
+
+		applyScanResultsToManagedResources( managedResources, scanResult, bootstrapContext, xmlMappingBinderAccess );
+	}
+
+	private static ScanResult scan(Scanner scanner, BootstrapContext bootstrapContext) {
+		final ConfigurationService configurationService =
+				bootstrapContext.getServiceRegistry().getService( ConfigurationService.class );
+		final String snapshotLocation = configurationService == null
+				? null
+				: configurationService.getSetting( SCANNER_SNAPSHOT, StandardConverters.STRING );
+		if ( snapshotLocation == null ) {
+			return scanner.scan(
+					bootstrapContext.getScanEnvironment(),
+					bootstrapContext.getScanOptions(),
+					StandardScanParameters.INSTANCE
+			);
+		}
+
+		final Path snapshotFile = Path.of( snapshotLocation );
+		final List<String> fingerprint = ScanResultSnapshot.fingerprint(
+				bootstrapContext.getScanEnvironment(),
+				bootstrapContext.getScanOptions(),
+				scanner
+		);
+		if ( fingerprint != null ) {
+			final ScanResult snapshot = ScanResultSnapshot.read(
+					snapshotFile,
+					fingerprint,
+					bootstrapContext.getServiceRegistry().requireService( ClassLoaderService.class )::locateResource
+			);
+			if ( snapshot != null ) {
+				return snapshot;
+			}
+		}
+		else {
+			log.debugf( "Scanned archives cannot be checked for modifications, not using scan snapshot [%s]", snapshotLocation );
+		}
+
 		final ScanResult scanResult = scanner.scan(
 				bootstrapContext.getScanEnvironment(),
 				bootstrapContext.getScanOptions(),
 				StandardScanParameters.INSTANCE
 		);
-
-		applyScanResultsToManagedResources( managedResources, scanResult, bootstrapContext, xmlMappingBinderAccess );
+		if ( fingerprint != null ) {
+			ScanResultSnapshot.write( snapshotFile, fingerprint, scanResult );
+		}
+		return scanResult;
 	}
 
 	private static final Class<?>[] SINGLE_ARG = new Class[] { ArchiveDescriptorFactory.class };
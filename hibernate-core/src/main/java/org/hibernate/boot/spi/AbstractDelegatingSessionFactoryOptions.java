@@ -234,6 +234,11 @@ public boolean isNamedQueryStartupCheckingEnabled() {
 		return delegate.isNamedQueryStartupCheckingEnabled();
 	}
 
+	@Override
+	public boolean isNamedQueryPreloadingEnabled() {
+		return delegate.isNamedQueryPreloadingEnabled();
+	}
+
 	@Override
 	public boolean isAllowOutOfTransactionUpdateOperations() {
 		return delegate.isAllowOutOfTransactionUpdateOperations();
@@ -259,6 +264,11 @@ public CacheLayout getQueryCacheLayout() {
 		return delegate.getQueryCacheLayout();
 	}
 
+	@Override
+	public boolean isQueryCacheRowsEnabled() {
+		return delegate.isQueryCacheRowsEnabled();
+	}
+
 	@Override
 	public TimestampsCacheFactory getTimestampsCacheFactory() {
 		return delegate.getTimestampsCacheFactory();
@@ -284,11 +294,56 @@ public boolean isDirectReferenceCacheEntriesEnabled() {
 		return delegate.isDirectReferenceCacheEntriesEnabled();
 	}
 
+	@Override
+	public boolean isBinaryCacheEntriesEnabled() {
+		return delegate.isBinaryCacheEntriesEnabled();
+	}
+
 	@Override
 	public boolean isAutoEvictCollectionCache() {
 		return delegate.isAutoEvictCollectionCache();
 	}
 
+	@Override
+	public int getNearCacheMaxEntries() {
+		return delegate.getNearCacheMaxEntries();
+	}
+
+	@Override
+	public long getNearCacheTimeToLive() {
+		return delegate.getNearCacheTimeToLive();
+	}
+
+	@Override
+	public long getTimestampsLocalRefreshInterval() {
+		return delegate.getTimestampsLocalRefreshInterval();
+	}
+
+	@Override
+	public int getAsyncCachePutQueueSize() {
+		return delegate.getAsyncCachePutQueueSize();
+	}
+
+	@Override
+	public long getNaturalIdNegativeCacheTimeToLive() {
+		return delegate.getNaturalIdNegativeCacheTimeToLive();
+	}
+
+	@Override
+	public boolean isScrollDetachEntitiesEnabled() {
+		return delegate.isScrollDetachEntitiesEnabled();
+	}
+
+	@Override
+	public long getScrollFetchMemoryBudget() {
+		return delegate.getScrollFetchMemoryBudget();
+	}
+
+	@Override
+	public boolean isLazyPersisterInitializationEnabled() {
+		return delegate.isLazyPersisterInitializationEnabled();
+	}
+
 	@Override
 	public SchemaAutoTooling getSchemaAutoTooling() {
 		return delegate.getSchemaAutoTooling();
@@ -448,11 +503,36 @@ public int getQueryStatisticsMaxSize() {
 		return delegate.getQueryStatisticsMaxSize();
 	}
 
+	@Override
+	public boolean isStatisticsLatencyHistogramsEnabled() {
+		return delegate.isStatisticsLatencyHistogramsEnabled();
+	}
+
 	@Override
 	public boolean areJPACallbacksEnabled() {
 		return delegate.areJPACallbacksEnabled();
 	}
 
+	@Override
+	public boolean isCompactEntityStorageEnabled() {
+		return delegate.isCompactEntityStorageEnabled();
+	}
+
+	@Override
+	public boolean isIncrementalDirtyCheckingEnabled() {
+		return delegate.isIncrementalDirtyCheckingEnabled();
+	}
+
+	@Override
+	public boolean isPartialAutoFlushEnabled() {
+		return delegate.isPartialAutoFlushEnabled();
+	}
+
+	@Override
+	public int getStatelessBulkWriteBatchSize() {
+		return delegate.getStatelessBulkWriteBatchSize();
+	}
+
 	@Override
 	public boolean isCollectionsInDefaultFetchGroupEnabled() {
 		return delegate.isCollectionsInDefaultFetchGroupEnabled();
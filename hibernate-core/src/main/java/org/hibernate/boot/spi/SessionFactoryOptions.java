@@ -238,6 +238,19 @@ default boolean isAllowRefreshDetachedEntity() {
 	 */
 	boolean isNamedQueryStartupCheckingEnabled();
 
+	/**
+	 * Should named HQL queries be interpreted in the background once the
+	 * {@code SessionFactory} is created, when they are not checked at startup?
+	 *
+	 * @see org.hibernate.cfg.QuerySettings#QUERY_PRELOADING
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default boolean isNamedQueryPreloadingEnabled() {
+		return false;
+	}
+
 	/**
 	 * @see org.hibernate.cfg.CacheSettings#USE_SECOND_LEVEL_CACHE
 	 */
@@ -254,6 +267,19 @@ default boolean isAllowRefreshDetachedEntity() {
 	@Incubating
 	CacheLayout getQueryCacheLayout();
 
+	/**
+	 * Whether the query cache stores the rows of scalar queries, instead of
+	 * their raw JDBC values.
+	 *
+	 * @see org.hibernate.cfg.CacheSettings#QUERY_CACHE_ROWS
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default boolean isQueryCacheRowsEnabled() {
+		return false;
+	}
+
 	/**
 	 * @see org.hibernate.cfg.CacheSettings#QUERY_CACHE_FACTORY
 	 */
@@ -279,11 +305,125 @@ default boolean isAllowRefreshDetachedEntity() {
 	 */
 	boolean isDirectReferenceCacheEntriesEnabled();
 
+	/**
+	 * @see org.hibernate.cfg.CacheSettings#USE_BINARY_CACHE_ENTRIES
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default boolean isBinaryCacheEntriesEnabled() {
+		return false;
+	}
+
 	/**
 	 * @see org.hibernate.cfg.CacheSettings#AUTO_EVICT_COLLECTION_CACHE
 	 */
 	boolean isAutoEvictCollectionCache();
 
+	/**
+	 * The maximum number of entries in the near cache of each second-level cache
+	 * region, or {@code 0} if there is no near cache.
+	 *
+	 * @see org.hibernate.cfg.CacheSettings#NEAR_CACHE_MAX_ENTRIES
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default int getNearCacheMaxEntries() {
+		return 0;
+	}
+
+	/**
+	 * The time, in milliseconds, for which a near cache entry may be used, or
+	 * {@code 0} if entries do not expire.
+	 *
+	 * @see org.hibernate.cfg.CacheSettings#NEAR_CACHE_TTL
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default long getNearCacheTimeToLive() {
+		return 0;
+	}
+
+	/**
+	 * The time, in milliseconds, for which a local timestamps cache may use the
+	 * last update timestamp of a query space without reading it from the region.
+	 *
+	 * @see org.hibernate.cfg.CacheSettings#TIMESTAMPS_LOCAL_REFRESH_INTERVAL
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default long getTimestampsLocalRefreshInterval() {
+		return 0;
+	}
+
+	/**
+	 * The maximum number of puts from load waiting to be written to the
+	 * second-level cache asynchronously, or {@code 0} if puts are synchronous.
+	 *
+	 * @see org.hibernate.cfg.CacheSettings#ASYNC_PUT_QUEUE_SIZE
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default int getAsyncCachePutQueueSize() {
+		return 0;
+	}
+
+	/**
+	 * The time, in milliseconds, for which a natural id which could not be
+	 * resolved is remembered as absent, or {@code 0} if it is not.
+	 *
+	 * @see org.hibernate.cfg.CacheSettings#NATURAL_ID_NEGATIVE_CACHE_TTL
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default long getNaturalIdNegativeCacheTimeToLive() {
+		return 0;
+	}
+
+	/**
+	 * Should entities loaded by a row of scrollable or streamed results be
+	 * detached once the results move to another row?
+	 *
+	 * @see org.hibernate.cfg.QuerySettings#SCROLL_DETACH_ENTITIES
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default boolean isScrollDetachEntitiesEnabled() {
+		return false;
+	}
+
+	/**
+	 * The memory, in bytes, within which the fetch size of scrollable or
+	 * streamed results is adjusted, or {@code 0} if it is not adjusted.
+	 *
+	 * @see org.hibernate.cfg.QuerySettings#SCROLL_FETCH_MEMORY_BUDGET
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default long getScrollFetchMemoryBudget() {
+		return 0;
+	}
+
+	/**
+	 * Should the static SQL, loaders, and mutation coordinators of an entity
+	 * be built when the entity is first used?
+	 *
+	 * @see org.hibernate.cfg.MappingSettings#LAZY_PERSISTER_INITIALIZATION
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default boolean isLazyPersisterInitializationEnabled() {
+		return false;
+	}
+
 	SchemaAutoTooling getSchemaAutoTooling();
 
 	/**
@@ -472,6 +612,18 @@ default boolean isPortableIntegerDivisionEnabled() {
 	 */
 	int getQueryStatisticsMaxSize();
 
+	/**
+	 * Should {@link org.hibernate.stat.Statistics} record latency histograms?
+	 *
+	 * @see org.hibernate.cfg.StatisticsSettings#STATISTICS_LATENCY_HISTOGRAMS
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default boolean isStatisticsLatencyHistogramsEnabled() {
+		return false;
+	}
+
 	/**
 	 * Should JPA entity lifecycle callbacks be processed by
 	 * the {@link org.hibernate.event.spi.EventEngine} and
@@ -481,6 +633,58 @@ default boolean isPortableIntegerDivisionEnabled() {
 	 */
 	boolean areJPACallbacksEnabled();
 
+	/**
+	 * Should the persistence context store managed entities in a compact
+	 * open-addressing table instead of a {@link java.util.HashMap}?
+	 *
+	 * @see org.hibernate.cfg.PersistenceSettings#PERSISTENCE_CONTEXT_COMPACT_ENTITY_STORAGE
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default boolean isCompactEntityStorageEnabled() {
+		return false;
+	}
+
+	/**
+	 * Should a flush skip the full dirty check of entities which are
+	 * not modified, by comparing them to their loaded state in place?
+	 *
+	 * @see org.hibernate.cfg.PersistenceSettings#PERSISTENCE_CONTEXT_INCREMENTAL_DIRTY_CHECKING
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default boolean isIncrementalDirtyCheckingEnabled() {
+		return false;
+	}
+
+	/**
+	 * Should an automatic flush be limited to the entities and
+	 * collections which affect the query spaces of the query?
+	 *
+	 * @see org.hibernate.cfg.PersistenceSettings#PARTIAL_AUTO_FLUSH
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default boolean isPartialAutoFlushEnabled() {
+		return false;
+	}
+
+	/**
+	 * The maximum number of rows buffered by the streaming bulk write operations
+	 * of a {@link org.hibernate.StatelessSession}.
+	 *
+	 * @see org.hibernate.cfg.BatchSettings#STATELESS_BULK_WRITE_BATCH_SIZE
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default int getStatelessBulkWriteBatchSize() {
+		return 500;
+	}
+
 	/**
 	 * Controls whether Hibernate should try to map named parameter names
 	 * specified in a {@link org.hibernate.procedure.ProcedureCall} or
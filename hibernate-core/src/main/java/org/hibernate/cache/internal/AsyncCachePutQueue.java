@@ -0,0 +1,470 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.internal;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.HibernateException;
+import org.hibernate.Incubating;
+import org.hibernate.cache.spi.CacheImplementor;
+import org.hibernate.cache.spi.CacheTransactionSynchronization;
+import org.hibernate.cache.spi.Region;
+import org.hibernate.cache.spi.access.CachedDomainDataAccess;
+import org.hibernate.cache.spi.access.CollectionDataAccess;
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.engine.spi.SharedSessionDelegatorBaseImpl;
+import org.hibernate.event.spi.EventManager;
+import org.hibernate.event.spi.HibernateMonitoringEvent;
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+/**
+ * Writes entries loaded from the database to the second-level cache in the
+ * background, on a single worker thread, so that the latency of the put is
+ * not added to the load.
+ * <p>
+ * The queue is bounded: when it is full, {@code putFromLoad()} returns
+ * {@code false}, and the caller should put the entry synchronously, as usual.
+ * A put of a key which is still waiting in the queue replaces the waiting put.
+ * <p>
+ * Each put is made through {@link CachedDomainDataAccess#putFromLoad}, with the
+ * version and minimal-put flag of the load, and with the caching timestamp the
+ * session had at the time of the load. The session itself is not retained: the
+ * region sees a view of it exposing only its factory, identifier, tenant, and
+ * caching timestamp, and any other use of the session by the region fails the
+ * put, which is then dropped.
+ * <p>
+ * Since a delayed put might otherwise overwrite the effect of a later update or
+ * eviction, waiting puts of a key are {@linkplain #cancel(CachedDomainDataAccess, Object)
+ * cancelled} when the key is locked for an update or removal, or is evicted, and
+ * every waiting put for a region is cancelled when the region is evicted or
+ * invalidated by a bulk operation.
+ *
+ * @see org.hibernate.cfg.CacheSettings#ASYNC_PUT_QUEUE_SIZE
+ *
+ * @since 7.0
+ */
+@Incubating
+public class AsyncCachePutQueue {
+	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( AsyncCachePutQueue.class );
+
+	private final int capacity;
+
+	// guarded by this
+	private final LinkedHashMap<PendingKey, PendingPut> pendingPuts = new LinkedHashMap<>();
+	private int executingPuts;
+	private Thread worker;
+	private boolean stopped;
+
+	// the regions for which a failed put has already been logged
+	private final Set<String> failedRegions = ConcurrentHashMap.newKeySet();
+
+	public AsyncCachePutQueue(int capacity) {
+		this.capacity = capacity;
+	}
+
+	/**
+	 * Queue a put of the given entity data.
+	 *
+	 * @return {@code false} if the queue is full, and the put must be made synchronously
+	 */
+	public boolean putFromLoad(
+			SharedSessionContractImplementor session,
+			EntityDataAccess cacheAccess,
+			EntityPersister persister,
+			Object cacheKey,
+			Object value,
+			Object version,
+			boolean minimalPutOverride) {
+		return enqueue( new PendingPut( session, cacheAccess, cacheKey, value, version, minimalPutOverride ) {
+			@Override
+			void complete(HibernateMonitoringEvent cachePutEvent, boolean put, long queueLag) {
+				eventManager.completeAsyncCachePutEvent(
+						cachePutEvent,
+						// the view of the session, not the session itself
+						this.session,
+						cacheAccess,
+						persister,
+						put,
+						EventManager.CacheActionDescription.ENTITY_LOAD,
+						queueLag
+				);
+				if ( put && statistics.isStatisticsEnabled() ) {
+					statistics.entityCachePut(
+							persister.getRootEntityDescriptor().getEntityPersister().getNavigableRole(),
+							cacheAccess.getRegion().getName()
+					);
+				}
+			}
+		} );
+	}
+
+	/**
+	 * Queue a put of the given collection data.
+	 *
+	 * @return {@code false} if the queue is full, and the put must be made synchronously
+	 */
+	public boolean putFromLoad(
+			SharedSessionContractImplementor session,
+			CollectionDataAccess cacheAccess,
+			CollectionPersister persister,
+			Object cacheKey,
+			Object value,
+			Object version,
+			boolean minimalPutOverride) {
+		return enqueue( new PendingPut( session, cacheAccess, cacheKey, value, version, minimalPutOverride ) {
+			@Override
+			void complete(HibernateMonitoringEvent cachePutEvent, boolean put, long queueLag) {
+				eventManager.completeAsyncCachePutEvent(
+						cachePutEvent,
+						// the view of the session, not the session itself
+						this.session,
+						cacheAccess,
+						persister,
+						put,
+						EventManager.CacheActionDescription.COLLECTION_INSERT,
+						queueLag
+				);
+				if ( put && statistics.isStatisticsEnabled() ) {
+					statistics.collectionCachePut( persister.getNavigableRole(), cacheAccess.getRegion().getName() );
+				}
+			}
+		} );
+	}
+
+	private synchronized boolean enqueue(PendingPut put) {
+		if ( stopped ) {
+			return false;
+		}
+		final PendingKey key = new PendingKey( put.cacheAccess, put.cacheKey );
+		if ( pendingPuts.size() >= capacity && !pendingPuts.containsKey( key ) ) {
+			return false;
+		}
+		pendingPuts.put( key, put );
+		if ( worker == null ) {
+			startWorker();
+		}
+		notifyAll();
+		return true;
+	}
+
+	// guarded by this
+	private void startWorker() {
+		worker = new Thread( this::work, "Hibernate Cache Put Thread" );
+		worker.setDaemon( true );
+		worker.start();
+	}
+
+	private void work() {
+		try {
+			PendingPut put;
+			while ( ( put = take() ) != null ) {
+				try {
+					put.execute();
+				}
+				catch (RuntimeException e) {
+					putFailed( put, e );
+				}
+				finally {
+					synchronized ( this ) {
+						executingPuts--;
+						notifyAll();
+					}
+				}
+			}
+		}
+		finally {
+			synchronized ( this ) {
+				// the worker was interrupted, or a put failed with an error:
+				// start a new worker if puts are still waiting, or else when
+				// the next put is queued
+				worker = null;
+				if ( !stopped && !pendingPuts.isEmpty() ) {
+					startWorker();
+				}
+			}
+		}
+	}
+
+	private void putFailed(PendingPut put, RuntimeException e) {
+		final String regionName = put.cacheAccess.getRegion().getName();
+		// nobody waits for the put, so make sure its failure is noticed,
+		// but don't flood the log if the region is unavailable
+		if ( failedRegions.add( regionName ) ) {
+			LOG.warnf( e, "Asynchronous put into region [%s] failed"
+					+ " (further failures for this region are logged at debug level)", regionName );
+		}
+		else {
+			LOG.debugf( e, "Asynchronous put into region [%s] failed", regionName );
+		}
+	}
+
+	private synchronized PendingPut take() {
+		while ( pendingPuts.isEmpty() && !stopped ) {
+			try {
+				wait();
+			}
+			catch (InterruptedException e) {
+				return null;
+			}
+		}
+		if ( stopped ) {
+			return null;
+		}
+		final Iterator<PendingPut> iterator = pendingPuts.values().iterator();
+		final PendingPut put = iterator.next();
+		iterator.remove();
+		executingPuts++;
+		return put;
+	}
+
+	/**
+	 * The number of puts waiting in the queue.
+	 */
+	public synchronized int getPendingPutCount() {
+		return pendingPuts.size();
+	}
+
+	/**
+	 * Wait until every put which was queued has been written to the cache.
+	 */
+	public synchronized void flush() {
+		while ( !stopped && ( !pendingPuts.isEmpty() || executingPuts > 0 ) ) {
+			try {
+				wait();
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new HibernateException( "Interrupted while waiting for cache puts", e );
+			}
+		}
+	}
+
+	/**
+	 * Discard the put of the given key, if it is waiting in the queue. Called
+	 * when the key is locked for an update or removal, or is evicted.
+	 */
+	public synchronized void cancel(CachedDomainDataAccess cacheAccess, Object cacheKey) {
+		pendingPuts.remove( new PendingKey( cacheAccess, cacheKey ) );
+	}
+
+	/**
+	 * Discard every put into the given region which is waiting in the queue.
+	 * Called when the region is evicted, or invalidated by a bulk operation.
+	 */
+	public synchronized void cancel(CachedDomainDataAccess cacheAccess) {
+		pendingPuts.keySet().removeIf( key -> key.cacheAccess == cacheAccess );
+	}
+
+	/**
+	 * Discard every put into the given region which is waiting in the queue.
+	 */
+	public synchronized void cancel(Region region) {
+		pendingPuts.keySet().removeIf( key -> key.cacheAccess.getRegion() == region );
+	}
+
+	/**
+	 * Discard the put of the given key, if it is waiting in the
+	 * {@linkplain CacheImplementor#getAsyncPutQueue() queue} of the given factory.
+	 */
+	public static void cancelPendingPut(
+			SessionFactoryImplementor factory,
+			CachedDomainDataAccess cacheAccess,
+			Object cacheKey) {
+		final AsyncCachePutQueue asyncPutQueue = factory.getCache().getAsyncPutQueue();
+		if ( asyncPutQueue != null ) {
+			asyncPutQueue.cancel( cacheAccess, cacheKey );
+		}
+	}
+
+	/**
+	 * Discard every put into the given region which is waiting in the
+	 * {@linkplain CacheImplementor#getAsyncPutQueue() queue} of the given factory.
+	 */
+	public static void cancelPendingPuts(SessionFactoryImplementor factory, CachedDomainDataAccess cacheAccess) {
+		final AsyncCachePutQueue asyncPutQueue = factory.getCache().getAsyncPutQueue();
+		if ( asyncPutQueue != null ) {
+			asyncPutQueue.cancel( cacheAccess );
+		}
+	}
+
+	/**
+	 * Discard every put which is waiting in the queue.
+	 */
+	public synchronized void clear() {
+		pendingPuts.clear();
+		notifyAll();
+	}
+
+	/**
+	 * Discard every waiting put, and stop the worker thread.
+	 */
+	public synchronized void stop() {
+		stopped = true;
+		pendingPuts.clear();
+		notifyAll();
+	}
+
+	private abstract static class PendingPut {
+		final SharedSessionContractImplementor session;
+		final EventManager eventManager;
+		final StatisticsImplementor statistics;
+		final CachedDomainDataAccess cacheAccess;
+		final Object cacheKey;
+		final Object value;
+		final Object version;
+		final boolean minimalPutOverride;
+		final long queuedAt = System.nanoTime();
+
+		PendingPut(
+				SharedSessionContractImplementor session,
+				CachedDomainDataAccess cacheAccess,
+				Object cacheKey,
+				Object value,
+				Object version,
+				boolean minimalPutOverride) {
+			// capture only the immutable state of the session, which
+			// might be closed by the time the put is executed
+			this.session = new LoadingSession(
+					session.getFactory(),
+					session.getSessionIdentifier(),
+					session.getTenantIdentifier(),
+					session.getTenantIdentifierValue(),
+					session.getEventManager(),
+					session.getCacheTransactionSynchronization().getCachingTimestamp()
+			);
+			this.eventManager = session.getEventManager();
+			this.statistics = session.getFactory().getStatistics();
+			this.cacheAccess = cacheAccess;
+			this.cacheKey = cacheKey;
+			this.value = value;
+			this.version = version;
+			this.minimalPutOverride = minimalPutOverride;
+		}
+
+		void execute() {
+			final long queueLag = System.nanoTime() - queuedAt;
+			final HibernateMonitoringEvent cachePutEvent = eventManager.beginCachePutEvent();
+			boolean put = false;
+			try {
+				put = cacheAccess.putFromLoad( session, cacheKey, value, version, minimalPutOverride );
+			}
+			finally {
+				complete( cachePutEvent, put, queueLag );
+			}
+		}
+
+		abstract void complete(HibernateMonitoringEvent cachePutEvent, boolean put, long queueLag);
+	}
+
+	private static final class PendingKey {
+		private final CachedDomainDataAccess cacheAccess;
+		private final Object cacheKey;
+
+		private PendingKey(CachedDomainDataAccess cacheAccess, Object cacheKey) {
+			this.cacheAccess = cacheAccess;
+			this.cacheKey = cacheKey;
+		}
+
+		@Override
+		public boolean equals(Object other) {
+			return other instanceof PendingKey that
+				&& cacheAccess == that.cacheAccess
+				&& cacheKey.equals( that.cacheKey );
+		}
+
+		@Override
+		public int hashCode() {
+			return System.identityHashCode( cacheAccess ) * 31 + cacheKey.hashCode();
+		}
+	}
+
+	/**
+	 * The session which loaded the entry, as seen by the region on the worker
+	 * thread: its caching timestamp is the one it had when the entry was loaded.
+	 * It holds no reference to the session itself, and only exposes state which
+	 * cannot change, so any other operation fails.
+	 */
+	private static class LoadingSession extends SharedSessionDelegatorBaseImpl {
+		private final SessionFactoryImplementor factory;
+		private final UUID sessionIdentifier;
+		private final String tenantIdentifier;
+		private final Object tenantIdentifierValue;
+		private final EventManager eventManager;
+		private final CacheTransactionSynchronization cacheTransactionSynchronization;
+
+		private LoadingSession(
+				SessionFactoryImplementor factory,
+				UUID sessionIdentifier,
+				String tenantIdentifier,
+				Object tenantIdentifierValue,
+				EventManager eventManager,
+				long cachingTimestamp) {
+			super( (SharedSessionContractImplementor) null );
+			this.factory = factory;
+			this.sessionIdentifier = sessionIdentifier;
+			this.tenantIdentifier = tenantIdentifier;
+			this.tenantIdentifierValue = tenantIdentifierValue;
+			this.eventManager = eventManager;
+			this.cacheTransactionSynchronization = new CacheTransactionSynchronization() {
+				@Override
+				public long getCachingTimestamp() {
+					return cachingTimestamp;
+				}
+
+				@Override
+				public void transactionJoined() {
+				}
+
+				@Override
+				public void transactionCompleting() {
+				}
+
+				@Override
+				public void transactionCompleted(boolean successful) {
+				}
+			};
+		}
+
+		@Override
+		public SessionFactoryImplementor getFactory() {
+			return factory;
+		}
+
+		@Override
+		public UUID getSessionIdentifier() {
+			return sessionIdentifier;
+		}
+
+		@Override
+		public String getTenantIdentifier() {
+			return tenantIdentifier;
+		}
+
+		@Override
+		public Object getTenantIdentifierValue() {
+			return tenantIdentifierValue;
+		}
+
+		@Override
+		public CacheTransactionSynchronization getCacheTransactionSynchronization() {
+			return cacheTransactionSynchronization;
+		}
+
+		@Override
+		public EventManager getEventManager() {
+			return eventManager;
+		}
+	}
+}
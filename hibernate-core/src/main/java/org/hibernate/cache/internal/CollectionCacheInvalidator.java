@@ -142,6 +142,7 @@ private void evictCache(Object entity, EntityPersister persister, EventSource se
 					}
 					final CollectionDataAccess cacheAccessStrategy = collectionPersister.getCacheAccessStrategy();
 					final SoftLock softLock = cacheAccessStrategy.lockRegion();
+					AsyncCachePutQueue.cancelPendingPuts( factory, cacheAccessStrategy );
 					session.getActionQueue().registerProcess(
 							(success, session1) -> cacheAccessStrategy.unlockRegion( softLock )
 					);
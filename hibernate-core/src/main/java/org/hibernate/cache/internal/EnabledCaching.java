@@ -70,6 +70,9 @@ public class EnabledCaching implements CacheImplementor, DomainDataRegionBuildin
 	private final QueryResultsCache defaultQueryResultsCache;
 	private final Map<String, QueryResultsCache> namedQueryResultsCacheMap = new ConcurrentHashMap<>();
 
+	private final AsyncCachePutQueue asyncPutQueue;
+	private final NaturalIdNegativeCache naturalIdNegativeCache;
+
 
 	private final Set<String> legacySecondLevelCacheNames = new LinkedHashSet<>();
 	private final Map<String,Set<NaturalIdDataAccess>> legacyNaturalIdAccessesForRegion = new ConcurrentHashMap<>();
@@ -106,6 +109,15 @@ public EnabledCaching(SessionFactoryImplementor sessionFactory) {
 			timestampsCache = new TimestampsCacheDisabledImpl();
 			defaultQueryResultsCache = null;
 		}
+
+		final int asyncPutQueueSize = sessionFactory.getSessionFactoryOptions().getAsyncCachePutQueueSize();
+		asyncPutQueue = asyncPutQueueSize > 0 ? new AsyncCachePutQueue( asyncPutQueueSize ) : null;
+
+		final long naturalIdNegativeCacheTimeToLive =
+				sessionFactory.getSessionFactoryOptions().getNaturalIdNegativeCacheTimeToLive();
+		naturalIdNegativeCache = naturalIdNegativeCacheTimeToLive > 0
+				? new NaturalIdNegativeCache( naturalIdNegativeCacheTimeToLive )
+				: null;
 	}
 
 	@Override
@@ -273,6 +285,9 @@ public void evictEntityData(String entityName, Object identifier) {
 		}
 
 		final Object key = cacheAccess.generateCacheKey( identifier, entityDescriptor, sessionFactory, null );
+		if ( asyncPutQueue != null ) {
+			asyncPutQueue.cancel( cacheAccess, key );
+		}
 		cacheAccess.evict( key );
 	}
 
@@ -312,6 +327,9 @@ private void evictEntityData(NavigableRole navigableRole, EntityDataAccess cache
 			LOG.debugf( "Evicting entity cache: %s", navigableRole.getFullPath() );
 		}
 
+		if ( asyncPutQueue != null ) {
+			asyncPutQueue.cancel( cacheAccess );
+		}
 		cacheAccess.evictAll();
 	}
 
@@ -343,11 +361,17 @@ public void evictNaturalIdData(String entityName) {
 	}
 
 	private void evictNaturalIdData(EntityPersister rootEntityDescriptor) {
+		if ( naturalIdNegativeCache != null ) {
+			naturalIdNegativeCache.invalidate( rootEntityDescriptor );
+		}
 		evictNaturalIdData( rootEntityDescriptor.getNavigableRole(), rootEntityDescriptor.getNaturalIdCacheAccessStrategy() );
 	}
 
 	@Override
 	public void evictNaturalIdData() {
+		if ( naturalIdNegativeCache != null ) {
+			naturalIdNegativeCache.clear();
+		}
 		naturalIdAccessMap.forEach( this::evictNaturalIdData );
 	}
 
@@ -405,6 +429,9 @@ public void evictCollectionData(String role, Object ownerIdentifier) {
 		}
 
 		final Object key = cacheAccess.generateCacheKey( ownerIdentifier, collectionDescriptor, sessionFactory, null );
+		if ( asyncPutQueue != null ) {
+			asyncPutQueue.cancel( cacheAccess, key );
+		}
 		cacheAccess.evict( key );
 	}
 
@@ -433,6 +460,9 @@ private void evictCollectionData(NavigableRole navigableRole, CollectionDataAcce
 		if ( LOG.isDebugEnabled() ) {
 			LOG.debugf( "Evicting second-level cache: %s", navigableRole.getFullPath() );
 		}
+		if ( asyncPutQueue != null ) {
+			asyncPutQueue.cancel( cacheAccess );
+		}
 		cacheAccess.evictAll();
 
 	}
@@ -566,7 +596,11 @@ public Set<String> getCacheRegionNames() {
 
 	@Override
 	public void evictRegion(String regionName) {
-		getRegion( regionName ).clear();
+		final Region region = getRegion( regionName );
+		if ( asyncPutQueue != null ) {
+			asyncPutQueue.cancel( region );
+		}
+		region.clear();
 		final QueryResultsRegion queryResultsRegionWithDuplicateName = queryResultsRegionsByDuplicateName.get( regionName );
 		if ( queryResultsRegionWithDuplicateName != null ) {
 			queryResultsRegionWithDuplicateName.clear();
@@ -587,8 +621,29 @@ public <T> T unwrap(Class<T> cls) {
 		throw new PersistenceException( "Hibernate cannot unwrap Cache as " + cls.getName() );
 	}
 
+	@Override
+	public AsyncCachePutQueue getAsyncPutQueue() {
+		return asyncPutQueue;
+	}
+
+	@Override
+	public NaturalIdNegativeCache getNaturalIdNegativeCache() {
+		return naturalIdNegativeCache;
+	}
+
+	@Override
+	public void evictAllRegions() {
+		if ( asyncPutQueue != null ) {
+			asyncPutQueue.clear();
+		}
+		CacheImplementor.super.evictAllRegions();
+	}
+
 	@Override
 	public void close() {
+		if ( asyncPutQueue != null ) {
+			asyncPutQueue.stop();
+		}
 		for ( Region region : regionsByName.values() ) {
 			region.destroy();
 		}
@@ -0,0 +1,41 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.internal;
+
+import org.hibernate.Incubating;
+import org.hibernate.cache.spi.CacheImplementor;
+import org.hibernate.cache.spi.TimestampsCache;
+import org.hibernate.cache.spi.TimestampsCacheFactory;
+import org.hibernate.cache.spi.TimestampsRegion;
+
+/**
+ * A {@link TimestampsCacheFactory} which returns instances of
+ * {@link LocalTimestampsCacheImpl}, avoiding reads from the
+ * {@link TimestampsRegion} when checking cached query results for
+ * staleness where possible. May be selected by setting
+ * {@value org.hibernate.cfg.CacheSettings#QUERY_CACHE_FACTORY} to
+ * the name of this class.
+ *
+ * @see org.hibernate.cfg.CacheSettings#TIMESTAMPS_LOCAL_REFRESH_INTERVAL
+ *
+ * @since 7.0
+ */
+@Incubating
+public class LocalTimestampsCacheFactory implements TimestampsCacheFactory {
+	/**
+	 * Singleton access
+	 */
+	public static final LocalTimestampsCacheFactory INSTANCE = new LocalTimestampsCacheFactory();
+
+	@Override
+	public TimestampsCache buildTimestampsCache(
+			CacheImplementor cacheManager,
+			TimestampsRegion timestampsRegion) {
+		return new LocalTimestampsCacheImpl(
+				timestampsRegion,
+				cacheManager.getSessionFactory().getSessionFactoryOptions().getTimestampsLocalRefreshInterval()
+		);
+	}
+}
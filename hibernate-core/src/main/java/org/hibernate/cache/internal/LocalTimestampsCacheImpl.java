@@ -0,0 +1,144 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.internal;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.hibernate.Incubating;
+import org.hibernate.cache.CacheException;
+import org.hibernate.cache.spi.TimestampsRegion;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+/**
+ * A {@link org.hibernate.cache.spi.TimestampsCache} which keeps a local,
+ * lock-free table of the last update timestamp of each query space, in
+ * front of the {@link TimestampsRegion}.
+ * <p>
+ * Every invalidation is written through to the region, and is recorded
+ * in the local table, so that it is seen immediately by this node, and
+ * by other nodes as soon as the region is replicated. An up-to-date check
+ * is answered from the local table without reading the region when the
+ * local table already shows one of the spaces to be stale. Otherwise, it
+ * reads the region, unless a non-zero
+ * {@linkplain org.hibernate.cfg.CacheSettings#TIMESTAMPS_LOCAL_REFRESH_INTERVAL
+ * refresh interval} is configured and the timestamp of the space was read
+ * from, or written to, the region within that interval, in which case
+ * invalidations made through other nodes may be missed.
+ *
+ * @see LocalTimestampsCacheFactory
+ *
+ * @since 7.0
+ */
+@Incubating
+public class LocalTimestampsCacheImpl extends TimestampsCacheEnabledImpl {
+	private final long refreshInterval;
+	private final ConcurrentMap<String, SpaceTimestamp> localTimestamps = new ConcurrentHashMap<>();
+
+	public LocalTimestampsCacheImpl(TimestampsRegion timestampsRegion, long refreshInterval) {
+		super( timestampsRegion );
+		this.refreshInterval = refreshInterval;
+	}
+
+	@Override
+	protected void putLastUpdateTimestampForSpace(String space, Long ts, SharedSessionContractImplementor session) {
+		super.putLastUpdateTimestampForSpace( space, ts, session );
+		// replacing the entry makes any concurrent read of an older
+		// timestamp from the region fail to install its result
+		localTimestamps.put( space, new SpaceTimestamp( ts, System.currentTimeMillis() + refreshInterval ) );
+	}
+
+	@Override
+	public boolean isUpToDate(String[] spaces, Long timestamp, SharedSessionContractImplementor session) {
+		for ( String space : spaces ) {
+			if ( isKnownToBeStale( space, timestamp, session ) ) {
+				return false;
+			}
+		}
+		return super.isUpToDate( spaces, timestamp, session );
+	}
+
+	@Override
+	public boolean isUpToDate(Collection<String> spaces, Long timestamp, SharedSessionContractImplementor session) {
+		for ( String space : spaces ) {
+			if ( isKnownToBeStale( space, timestamp, session ) ) {
+				return false;
+			}
+		}
+		return super.isUpToDate( spaces, timestamp, session );
+	}
+
+	/**
+	 * A space updated after the given timestamp stays out of date whatever
+	 * happened on other nodes since, so there's no need to read the region.
+	 */
+	private boolean isKnownToBeStale(String space, Long timestamp, SharedSessionContractImplementor session) {
+		final SpaceTimestamp local = localTimestamps.get( space );
+		if ( local != null && local.lastUpdate != null && local.lastUpdate >= timestamp ) {
+			final StatisticsImplementor statistics = session.getFactory().getStatistics();
+			if ( statistics.isStatisticsEnabled() ) {
+				statistics.updateTimestampsCacheHit();
+			}
+			return true;
+		}
+		else {
+			return false;
+		}
+	}
+
+	@Override
+	protected Long getLastUpdateTimestampForSpace(String space, SharedSessionContractImplementor session) {
+		final SpaceTimestamp local = localTimestamps.get( space );
+		if ( refreshInterval > 0 && local != null && local.isFresh() ) {
+			return local.lastUpdate;
+		}
+
+		final Long ts = super.getLastUpdateTimestampForSpace( space, session );
+		// remembered even without a refresh interval, to recognize stale spaces
+		final SpaceTimestamp refreshed = new SpaceTimestamp( ts, System.currentTimeMillis() + refreshInterval );
+		if ( local == null ) {
+			localTimestamps.putIfAbsent( space, refreshed );
+		}
+		else {
+			localTimestamps.replace( space, local, refreshed );
+		}
+		return ts;
+	}
+
+	/**
+	 * The number of query spaces with a timestamp held locally.
+	 */
+	public int getLocalTimestampCount() {
+		return localTimestamps.size();
+	}
+
+	@Override
+	public void clear() throws CacheException {
+		localTimestamps.clear();
+		super.clear();
+	}
+
+	@Override
+	public void destroy() {
+		localTimestamps.clear();
+		super.destroy();
+	}
+
+	private static final class SpaceTimestamp {
+		private final Long lastUpdate;
+		private final long freshUntil;
+
+		private SpaceTimestamp(Long lastUpdate, long freshUntil) {
+			this.lastUpdate = lastUpdate;
+			this.freshUntil = freshUntil;
+		}
+
+		private boolean isFresh() {
+			return System.currentTimeMillis() < freshUntil;
+		}
+	}
+}
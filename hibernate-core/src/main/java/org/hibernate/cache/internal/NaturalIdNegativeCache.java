@@ -0,0 +1,189 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.internal;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Incubating;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.metamodel.mapping.EntityMappingType;
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * Remembers, for a limited time, the natural ids which could not be resolved
+ * to an entity, so that repeated lookups of an absent natural id do not hit
+ * the database.
+ * <p>
+ * Absent natural ids are tracked per entity hierarchy, and are forgotten when
+ * an entity of the hierarchy is inserted or has its natural id updated. To
+ * avoid remembering a natural id as absent when the insert of the entity it
+ * identifies happened while it was being looked up, a lookup must obtain a
+ * {@linkplain #getTimestamp timestamp} before querying the database, and a
+ * natural id is only remembered as absent if no invalidation happened since.
+ *
+ * @see org.hibernate.cfg.CacheSettings#NATURAL_ID_NEGATIVE_CACHE_TTL
+ *
+ * @since 7.0
+ */
+@Incubating
+public class NaturalIdNegativeCache {
+	/**
+	 * The maximum number of absent natural ids remembered per entity hierarchy.
+	 */
+	private static final int MAX_ENTRIES = 10_000;
+
+	private final long timeToLive;
+	private final Map<String, Entries> entriesByRootEntityName = new ConcurrentHashMap<>();
+
+	/**
+	 * @param timeToLive the time, in milliseconds, for which an absent natural id is remembered
+	 */
+	public NaturalIdNegativeCache(long timeToLive) {
+		this.timeToLive = TimeUnit.MILLISECONDS.toNanos( timeToLive );
+	}
+
+	/**
+	 * The timestamp to pass to {@link #putAbsent} once the lookup which
+	 * starts now has found no entity.
+	 */
+	public long getTimestamp() {
+		return System.nanoTime();
+	}
+
+	/**
+	 * Is the given natural id known not to identify any entity?
+	 *
+	 * @param naturalIdValues the natural id, in its internal form
+	 */
+	public boolean isAbsent(
+			Object naturalIdValues,
+			EntityMappingType entityDescriptor,
+			SharedSessionContractImplementor session) {
+		final EntityPersister rootEntityPersister = entityDescriptor.getRootEntityDescriptor().getEntityPersister();
+		final Entries entries = entriesByRootEntityName.get( rootEntityPersister.getEntityName() );
+		return entries != null && entries.contains( createKey( naturalIdValues, rootEntityPersister, session ) );
+	}
+
+	/**
+	 * Remember that the given natural id does not identify any entity, unless
+	 * the entity hierarchy was invalidated after the given timestamp.
+	 *
+	 * @param naturalIdValues the natural id, in its internal form
+	 * @param timestamp the {@linkplain #getTimestamp timestamp} obtained before the lookup
+	 */
+	public void putAbsent(
+			Object naturalIdValues,
+			EntityMappingType entityDescriptor,
+			SharedSessionContractImplementor session,
+			long timestamp) {
+		final EntityPersister rootEntityPersister = entityDescriptor.getRootEntityDescriptor().getEntityPersister();
+		entriesByRootEntityName.computeIfAbsent( rootEntityPersister.getEntityName(), name -> new Entries() )
+				.put( createKey( naturalIdValues, rootEntityPersister, session ), timestamp, timestamp + timeToLive );
+	}
+
+	/**
+	 * Remember that those of the given natural ids which are not among the
+	 * natural ids found do not identify any entity, unless the entity hierarchy
+	 * was invalidated after the given timestamp.
+	 *
+	 * @param naturalIdValues the natural ids looked up, in their internal form
+	 * @param foundNaturalIdValues the natural ids of the entities found, in their internal form
+	 * @param timestamp the {@linkplain #getTimestamp timestamp} obtained before the lookup
+	 */
+	public void putAllAbsent(
+			Object[] naturalIdValues,
+			Collection<?> foundNaturalIdValues,
+			EntityMappingType entityDescriptor,
+			SharedSessionContractImplementor session,
+			long timestamp) {
+		final EntityPersister rootEntityPersister = entityDescriptor.getRootEntityDescriptor().getEntityPersister();
+		final Set<Object> foundKeys = new HashSet<>( foundNaturalIdValues.size() );
+		for ( Object found : foundNaturalIdValues ) {
+			foundKeys.add( createKey( found, rootEntityPersister, session ) );
+		}
+		Entries entries = null;
+		for ( Object naturalId : naturalIdValues ) {
+			final Object key = createKey( naturalId, rootEntityPersister, session );
+			if ( !foundKeys.contains( key ) ) {
+				if ( entries == null ) {
+					entries = entriesByRootEntityName.computeIfAbsent(
+							rootEntityPersister.getEntityName(),
+							name -> new Entries()
+					);
+				}
+				entries.put( key, timestamp, timestamp + timeToLive );
+			}
+		}
+	}
+
+	/**
+	 * Forget every absent natural id of the hierarchy of the given entity.
+	 */
+	public void invalidate(EntityMappingType entityDescriptor) {
+		entriesByRootEntityName.computeIfAbsent( entityDescriptor.getRootEntityName(), name -> new Entries() )
+				.invalidate();
+	}
+
+	/**
+	 * Forget every absent natural id.
+	 */
+	public void clear() {
+		entriesByRootEntityName.values().forEach( Entries::invalidate );
+	}
+
+	private static Object createKey(
+			Object naturalIdValues,
+			EntityPersister rootEntityPersister,
+			SharedSessionContractImplementor session) {
+		return NaturalIdCacheKey.from( naturalIdValues, rootEntityPersister, session );
+	}
+
+	private static class Entries {
+		private final Map<Object, Long> expiries = new ConcurrentHashMap<>();
+		// guarded by this
+		private boolean invalidated;
+		private long invalidatedAt;
+
+		boolean contains(Object key) {
+			final Long expiry = expiries.get( key );
+			if ( expiry == null ) {
+				return false;
+			}
+			else if ( expiry - System.nanoTime() > 0 ) {
+				return true;
+			}
+			else {
+				expiries.remove( key, expiry );
+				return false;
+			}
+		}
+
+		synchronized void put(Object key, long timestamp, long expiry) {
+			if ( invalidated && timestamp - invalidatedAt <= 0 ) {
+				// the hierarchy was invalidated while the lookup was running
+				return;
+			}
+			if ( expiries.size() >= MAX_ENTRIES ) {
+				final long now = System.nanoTime();
+				expiries.values().removeIf( existing -> existing - now <= 0 );
+				if ( expiries.size() >= MAX_ENTRIES ) {
+					return;
+				}
+			}
+			expiries.put( key, expiry );
+		}
+
+		synchronized void invalidate() {
+			invalidated = true;
+			invalidatedAt = System.nanoTime();
+			expiries.clear();
+		}
+	}
+}
@@ -5,10 +5,18 @@
 package org.hibernate.cache.internal;
 
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
 
+import org.hibernate.cache.spi.DomainDataRegion;
 import org.hibernate.cache.spi.RegionFactory;
 import org.hibernate.cache.spi.TimestampsCache;
 import org.hibernate.cache.spi.TimestampsRegion;
+import org.hibernate.cache.spi.access.CachedDomainDataAccess;
+import org.hibernate.cache.spi.support.DomainDataRegionTemplate;
+import org.hibernate.cache.spi.support.NearCacheStorageAccess;
 import org.hibernate.engine.spi.SessionEventListenerManager;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
@@ -30,6 +38,12 @@ public class TimestampsCacheEnabledImpl implements TimestampsCache {
 
 	private final TimestampsRegion timestampsRegion;
 
+	// the near caches of the regions holding data from each space, along
+	// with the names of the entities and collections holding that data,
+	// built on first use since the persisters don't exist yet when this
+	// object is created
+	private volatile Map<String, Map<NearCacheStorageAccess, Set<String>>> nearCachesBySpace;
+
 	public TimestampsCacheEnabledImpl(TimestampsRegion timestampsRegion) {
 		this.timestampsRegion = timestampsRegion;
 	}
@@ -65,7 +79,7 @@ public void preInvalidate(
 
 				//put() has nowait semantics, is this really appropriate?
 				//note that it needs to be async replication, never local or sync
-				timestampsRegion.putIntoCache( space, ts, session );
+				putLastUpdateTimestampForSpace( space, ts, session );
 			}
 			finally {
 				eventManager.completeCachePutEvent(
@@ -104,7 +118,7 @@ public void invalidate(
 			final HibernateMonitoringEvent cachePutEvent = eventManager.beginCachePutEvent();
 			try {
 				eventListenerManager.cachePutStart();
-				timestampsRegion.putIntoCache( space, ts, session );
+				putLastUpdateTimestampForSpace( space, ts, session );
 			}
 			finally {
 				eventManager.completeCachePutEvent(
@@ -121,6 +135,90 @@ public void invalidate(
 				}
 			}
 		}
+
+		invalidateNearCaches( spaces, session.getFactory() );
+	}
+
+	private void invalidateNearCaches(String[] spaces, SessionFactoryImplementor factory) {
+		if ( factory.getSessionFactoryOptions().getNearCacheMaxEntries() > 0 ) {
+			Map<String, Map<NearCacheStorageAccess, Set<String>>> nearCaches = nearCachesBySpace;
+			if ( nearCaches == null ) {
+				nearCaches = nearCachesBySpace = collectNearCaches( factory );
+			}
+			for ( String space : spaces ) {
+				final Map<NearCacheStorageAccess, Set<String>> spaceNearCaches = nearCaches.get( space );
+				if ( spaceNearCaches != null ) {
+					if ( DEBUG_ENABLED ) {
+						log.debugf( "Invalidating near caches for space [%s]", space );
+					}
+					// a region may be shared with data from other spaces, so
+					// only discard the entries of the affected owners
+					spaceNearCaches.forEach( (nearCache, owners) -> nearCache.invalidateNearCache( key -> {
+						final String owner = ownerName( key );
+						return owner == null || owners.contains( owner );
+					} ) );
+				}
+			}
+		}
+	}
+
+	private static Map<String, Map<NearCacheStorageAccess, Set<String>>> collectNearCaches(
+			SessionFactoryImplementor factory) {
+		final Map<String, Map<NearCacheStorageAccess, Set<String>>> nearCaches = new HashMap<>();
+		factory.getMappingMetamodel().forEachEntityDescriptor( persister -> {
+			// the cache keys of an entity hierarchy hold the root entity name
+			if ( persister.hasCache() ) {
+				addNearCache( nearCaches, persister.getSynchronizedQuerySpaces(),
+						persister.getCacheAccessStrategy(), persister.getRootEntityName() );
+			}
+			if ( persister.hasNaturalIdCache() ) {
+				addNearCache( nearCaches, persister.getSynchronizedQuerySpaces(),
+						persister.getNaturalIdCacheAccessStrategy(), persister.getRootEntityName() );
+			}
+		} );
+		factory.getMappingMetamodel().forEachCollectionDescriptor( persister -> {
+			if ( persister.hasCache() ) {
+				addNearCache( nearCaches, persister.getCollectionSpaces(),
+						persister.getCacheAccessStrategy(), persister.getRole() );
+			}
+		} );
+		return nearCaches;
+	}
+
+	private static void addNearCache(
+			Map<String, Map<NearCacheStorageAccess, Set<String>>> nearCaches,
+			String[] spaces,
+			CachedDomainDataAccess access,
+			String owner) {
+		final DomainDataRegion region = access.getRegion();
+		if ( region instanceof DomainDataRegionTemplate template
+				&& template.getCacheStorageAccess() instanceof NearCacheStorageAccess nearCache ) {
+			for ( String space : spaces ) {
+				nearCaches.computeIfAbsent( space, s -> new HashMap<>() )
+						.computeIfAbsent( nearCache, n -> new HashSet<>() )
+						.add( owner );
+			}
+		}
+	}
+
+	/**
+	 * The name of the entity or collection role held in the given cache key,
+	 * or {@code null} if the key is just an identifier, as created by the
+	 * {@link SimpleCacheKeysFactory}, in which case the owner is unknown.
+	 */
+	private static String ownerName(Object key) {
+		if ( key instanceof BasicCacheKeyImplementation cacheKey ) {
+			return cacheKey.getEntityOrRoleName();
+		}
+		else if ( key instanceof CacheKeyImplementation cacheKey ) {
+			return cacheKey.getEntityOrRoleName();
+		}
+		else if ( key instanceof NaturalIdCacheKey cacheKey ) {
+			return cacheKey.getEntityName();
+		}
+		else {
+			return null;
+		}
 	}
 
 	@Override
@@ -190,7 +288,19 @@ public boolean isUpToDate(
 		return true;
 	}
 
-	private Long getLastUpdateTimestampForSpace(String space, SharedSessionContractImplementor session) {
+	/**
+	 * Write the last update timestamp of the given space to the region.
+	 */
+	protected void putLastUpdateTimestampForSpace(String space, Long ts, SharedSessionContractImplementor session) {
+		timestampsRegion.putIntoCache( space, ts, session );
+	}
+
+	/**
+	 * Read the last update timestamp of the given space from the region.
+	 *
+	 * @return the timestamp, or {@code null} if there is none in the region
+	 */
+	protected Long getLastUpdateTimestampForSpace(String space, SharedSessionContractImplementor session) {
 		Long ts = null;
 		final EventManager eventManager = session.getEventManager();
 		final HibernateMonitoringEvent cacheGetEvent = eventManager.beginCacheGetEvent();
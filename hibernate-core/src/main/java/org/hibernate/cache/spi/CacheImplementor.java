@@ -9,9 +9,12 @@
 
 import org.hibernate.Cache;
 import org.hibernate.HibernateException;
+import org.hibernate.Incubating;
 import org.hibernate.Internal;
 import org.hibernate.Remove;
 import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.internal.AsyncCachePutQueue;
+import org.hibernate.cache.internal.NaturalIdNegativeCache;
 import org.hibernate.cache.spi.access.CollectionDataAccess;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.access.NaturalIdDataAccess;
@@ -118,6 +121,32 @@ default void evictQueries() throws HibernateException {
 		}
 	}
 
+	/**
+	 * The queue of puts from load waiting to be written to the second-level
+	 * cache, or {@code null} if such puts are made synchronously.
+	 *
+	 * @see org.hibernate.cfg.CacheSettings#ASYNC_PUT_QUEUE_SIZE
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default AsyncCachePutQueue getAsyncPutQueue() {
+		return null;
+	}
+
+	/**
+	 * The natural ids known not to identify any entity, or {@code null} if
+	 * such "not found" results are not cached.
+	 *
+	 * @see org.hibernate.cfg.CacheSettings#NATURAL_ID_NEGATIVE_CACHE_TTL
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default NaturalIdNegativeCache getNaturalIdNegativeCache() {
+		return null;
+	}
+
 	/**
 	 * Close this "cache", releasing all underlying resources.
 	 */
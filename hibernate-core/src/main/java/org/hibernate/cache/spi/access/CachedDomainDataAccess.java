@@ -4,8 +4,13 @@
  */
 package org.hibernate.cache.spi.access;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
 import jakarta.persistence.Cache;
 
+import org.hibernate.Incubating;
 import org.hibernate.cache.CacheException;
 import org.hibernate.cache.spi.DomainDataRegion;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
@@ -55,6 +60,35 @@ public interface CachedDomainDataAccess {
 	 */
 	Object get(SharedSessionContractImplementor session, Object key);
 
+	/**
+	 * Attempt to retrieve multiple objects from the cache, in a single round
+	 * trip to the underlying cache where possible. Used when resolving many
+	 * entities or collections at once, for example by multi-load and batch
+	 * fetching.
+	 *
+	 * @param session Current session.
+	 * @param keys The keys of the items to be retrieved.
+	 *
+	 * @return the cached data, keyed by the keys of the items found in the cache
+	 *
+	 * @throws CacheException Propagated from underlying cache provider
+	 *
+	 * @implSpec The default implementation calls {@link #get} for each key.
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default Map<Object, Object> getAll(SharedSessionContractImplementor session, Collection<?> keys) {
+		final Map<Object, Object> result = new HashMap<>( keys.size() );
+		for ( Object key : keys ) {
+			final Object value = get( session, key );
+			if ( value != null ) {
+				result.put( key, value );
+			}
+		}
+		return result;
+	}
+
 	/**
 	 * Attempt to cache an object, afterQuery loading from the database.
 	 *
@@ -0,0 +1,251 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.spi.entry;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.hibernate.HibernateException;
+import org.hibernate.Incubating;
+import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.util.SerializationHelper;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.property.access.internal.PropertyAccessStrategyBackRefImpl;
+import org.hibernate.type.Type;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Binary CacheEntry format for entities. Stores the entry into the second-level
+ * cache as a compact {@code byte[]}, which is much smaller than the Java
+ * serialization of a {@link StandardCacheEntryImpl}, and much cheaper to write
+ * and read.
+ * <p>
+ * The layout of the entry is driven by the types of the persistent attributes
+ * of the entity: a value of the expected type of its attribute is written with
+ * no type information at all, and integral values are variable-length encoded.
+ * The entity name is written as an index into a dictionary of the names of the
+ * entities in the hierarchy. Values of any other type are written using Java
+ * serialization.
+ * <p>
+ * Every entry carries a format version, and a hash of the attribute names and
+ * types of the entity and of the dictionary of entity names, so that an entry
+ * written by an incompatible mapping of the entity is detected. Such an entry
+ * is {@linkplain #destructure destructured} as {@code null}, and is treated as
+ * a cache miss.
+ *
+ * @see org.hibernate.cfg.CacheSettings#USE_BINARY_CACHE_ENTRIES
+ *
+ * @since 7.0
+ */
+@Incubating
+public class BinaryCacheEntry implements CacheEntryStructure {
+	private static final Logger log = Logger.getLogger( BinaryCacheEntry.class );
+
+	private static final byte FORMAT_VERSION = 1;
+
+	private static final byte NULL = 0;
+	private static final byte EXPECTED = 1;
+	private static final byte SERIALIZED = 2;
+	private static final byte UNFETCHED = 3;
+	private static final byte UNKNOWN = 4;
+	private static final byte ARRAY = 5;
+	private static final byte CODEC = 16;
+
+	private final EntityPersister persister;
+	private volatile Layout layout;
+
+	/**
+	 * Constructs a BinaryCacheEntry strategy
+	 *
+	 * @param persister The persister whose data needs to be structured.
+	 */
+	public BinaryCacheEntry(EntityPersister persister) {
+		this.persister = persister;
+	}
+
+	@Override
+	public Object structure(Object item) {
+		final CacheEntry entry = (CacheEntry) item;
+		final Layout layout = layout( subclassPersister( entry.getSubclass(), persister.getFactory() ) );
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream( 64 );
+		try ( DataOutputStream out = new DataOutputStream( bytes ) ) {
+			out.writeByte( FORMAT_VERSION );
+			BinaryValueCodec.writeVarLong( layout.entityNames.indexOf( entry.getSubclass() ), out );
+			out.writeInt( layout.hash );
+			writeValue( entry.getVersion(), null, out );
+			final Serializable[] state = entry.getDisassembledState();
+			for ( int i = 0; i < state.length; i++ ) {
+				writeValue( state[i], layout.codecs[i], out );
+			}
+		}
+		catch (IOException e) {
+			throw new HibernateException( "Could not write binary cache entry for entity: " + entry.getSubclass(), e );
+		}
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * @return the {@link CacheEntry}, or {@code null} if the entry was written
+	 *         in another format, or by an incompatible mapping of the entity
+	 */
+	@Override
+	public Object destructure(Object structured, SessionFactoryImplementor factory) {
+		try ( DataInputStream in = new DataInputStream( new ByteArrayInputStream( (byte[]) structured ) ) ) {
+			final byte formatVersion = in.readByte();
+			if ( formatVersion != FORMAT_VERSION ) {
+				log.debugf( "Ignoring binary cache entry of entity [%s] written in format version %s",
+						persister.getEntityName(), formatVersion );
+				return null;
+			}
+			final List<String> entityNames = layout( persister ).entityNames;
+			final long subclassIndex = BinaryValueCodec.readVarLong( in );
+			if ( subclassIndex < 0 || subclassIndex >= entityNames.size() ) {
+				log.debugf( "Ignoring binary cache entry of entity [%s] written by an incompatible mapping",
+						persister.getEntityName() );
+				return null;
+			}
+			final String subclass = entityNames.get( (int) subclassIndex );
+			final Layout layout = layout( subclassPersister( subclass, factory ) );
+			if ( in.readInt() != layout.hash ) {
+				log.debugf( "Ignoring binary cache entry of entity [%s] written by an incompatible mapping",
+						subclass );
+				return null;
+			}
+			final Object version = readValue( null, in );
+			final Serializable[] state = new Serializable[layout.codecs.length];
+			for ( int i = 0; i < state.length; i++ ) {
+				state[i] = (Serializable) readValue( layout.codecs[i], in );
+			}
+			return new StandardCacheEntryImpl( state, subclass, version );
+		}
+		catch (IOException e) {
+			throw new HibernateException( "Could not read binary cache entry for entity: " + persister.getEntityName(), e );
+		}
+	}
+
+	private static EntityPersister subclassPersister(String subclass, SessionFactoryImplementor factory) {
+		return factory.getRuntimeMetamodels().getMappingMetamodel().getEntityDescriptor( subclass );
+	}
+
+	private Layout layout() {
+		Layout result = layout;
+		if ( result == null ) {
+			// the persisters of the hierarchy are not all available when
+			// this object is instantiated, so the layout is built lazily
+			layout = result = new Layout( persister );
+		}
+		return result;
+	}
+
+	private static Layout layout(EntityPersister persister) {
+		return persister.getCacheEntryStructure() instanceof BinaryCacheEntry binaryCacheEntry
+				? binaryCacheEntry.layout()
+				: new Layout( persister );
+	}
+
+	private static void writeValue(Object value, BinaryValueCodec expected, DataOutput out) throws IOException {
+		if ( value == null ) {
+			out.writeByte( NULL );
+		}
+		else if ( value == LazyPropertyInitializer.UNFETCHED_PROPERTY ) {
+			out.writeByte( UNFETCHED );
+		}
+		else if ( value == PropertyAccessStrategyBackRefImpl.UNKNOWN ) {
+			out.writeByte( UNKNOWN );
+		}
+		else if ( value.getClass() == Object[].class ) {
+			// the disassembled state of an embeddable
+			final Object[] values = (Object[]) value;
+			out.writeByte( ARRAY );
+			BinaryValueCodec.writeVarLong( values.length, out );
+			for ( Object element : values ) {
+				writeValue( element, null, out );
+			}
+		}
+		else {
+			final BinaryValueCodec codec = BinaryValueCodec.forType( value.getClass() );
+			if ( codec == null ) {
+				out.writeByte( SERIALIZED );
+				BinaryValueCodec.writeBytes( SerializationHelper.serialize( (Serializable) value ), out );
+			}
+			else {
+				out.writeByte( codec == expected ? EXPECTED : CODEC + codec.ordinal() );
+				codec.write( value, out );
+			}
+		}
+	}
+
+	private static Object readValue(BinaryValueCodec expected, DataInput in) throws IOException {
+		final byte tag = in.readByte();
+		switch ( tag ) {
+			case NULL: {
+				return null;
+			}
+			case EXPECTED: {
+				return expected.read( in );
+			}
+			case SERIALIZED: {
+				return SerializationHelper.deserialize( BinaryValueCodec.readBytes( in ) );
+			}
+			case UNFETCHED: {
+				return LazyPropertyInitializer.UNFETCHED_PROPERTY;
+			}
+			case UNKNOWN: {
+				return PropertyAccessStrategyBackRefImpl.UNKNOWN;
+			}
+			case ARRAY: {
+				final Object[] values = new Object[(int) BinaryValueCodec.readVarLong( in )];
+				for ( int i = 0; i < values.length; i++ ) {
+					values[i] = readValue( null, in );
+				}
+				return values;
+			}
+			default: {
+				return BinaryValueCodec.values()[tag - CODEC].read( in );
+			}
+		}
+	}
+
+	/**
+	 * The layout of the entries of a given entity.
+	 */
+	private static final class Layout {
+		private final BinaryValueCodec[] codecs;
+		private final int hash;
+		private final List<String> entityNames;
+
+		private Layout(EntityPersister persister) {
+			final String[] propertyNames = persister.getPropertyNames();
+			final Type[] propertyTypes = persister.getPropertyTypes();
+			codecs = new BinaryValueCodec[propertyTypes.length];
+			int hash = FORMAT_VERSION;
+			for ( int i = 0; i < propertyTypes.length; i++ ) {
+				codecs[i] = BinaryValueCodec.forType( propertyTypes[i].getReturnedClass() );
+				hash = 31 * hash + propertyNames[i].hashCode();
+				hash = 31 * hash + propertyTypes[i].getName().hashCode();
+			}
+
+			// the dictionary is the same for every entity in the hierarchy
+			final EntityPersister rootPersister = subclassPersister( persister.getRootEntityName(), persister.getFactory() );
+			entityNames = new ArrayList<>( rootPersister.getEntityMetamodel().getSubclassEntityNames() );
+			Collections.sort( entityNames );
+			// the subclass is written as an index into the dictionary, so
+			// an entity added to the hierarchy changes the meaning of entries
+			hash = 31 * hash + entityNames.hashCode();
+			this.hash = hash;
+		}
+	}
+}
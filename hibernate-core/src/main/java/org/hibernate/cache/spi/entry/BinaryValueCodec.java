@@ -0,0 +1,284 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.spi.entry;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Compact binary encodings of the basic values which commonly occur in the
+ * disassembled state of an entity, used by {@link BinaryCacheEntry}.
+ * Integral values are written as variable-length zig-zag encoded integers,
+ * so that small values occupy a single byte.
+ */
+enum BinaryValueCodec {
+	INTEGER( Integer.class, int.class ) {
+		@Override
+		void write(Object value, DataOutput out) throws IOException {
+			writeVarLong( (Integer) value, out );
+		}
+
+		@Override
+		Object read(DataInput in) throws IOException {
+			return (int) readVarLong( in );
+		}
+	},
+	LONG( Long.class, long.class ) {
+		@Override
+		void write(Object value, DataOutput out) throws IOException {
+			writeVarLong( (Long) value, out );
+		}
+
+		@Override
+		Object read(DataInput in) throws IOException {
+			return readVarLong( in );
+		}
+	},
+	SHORT( Short.class, short.class ) {
+		@Override
+		void write(Object value, DataOutput out) throws IOException {
+			writeVarLong( (Short) value, out );
+		}
+
+		@Override
+		Object read(DataInput in) throws IOException {
+			return (short) readVarLong( in );
+		}
+	},
+	BYTE( Byte.class, byte.class ) {
+		@Override
+		void write(Object value, DataOutput out) throws IOException {
+			out.writeByte( (Byte) value );
+		}
+
+		@Override
+		Object read(DataInput in) throws IOException {
+			return in.readByte();
+		}
+	},
+	BOOLEAN( Boolean.class, boolean.class ) {
+		@Override
+		void write(Object value, DataOutput out) throws IOException {
+			out.writeBoolean( (Boolean) value );
+		}
+
+		@Override
+		Object read(DataInput in) throws IOException {
+			return in.readBoolean();
+		}
+	},
+	CHARACTER( Character.class, char.class ) {
+		@Override
+		void write(Object value, DataOutput out) throws IOException {
+			writeVarLong( (Character) value, out );
+		}
+
+		@Override
+		Object read(DataInput in) throws IOException {
+			return (char) readVarLong( in );
+		}
+	},
+	FLOAT( Float.class, float.class ) {
+		@Override
+		void write(Object value, DataOutput out) throws IOException {
+			out.writeFloat( (Float) value );
+		}
+
+		@Override
+		Object read(DataInput in) throws IOException {
+			return in.readFloat();
+		}
+	},
+	DOUBLE( Double.class, double.class ) {
+		@Override
+		void write(Object value, DataOutput out) throws IOException {
+			out.writeDouble( (Double) value );
+		}
+
+		@Override
+		Object read(DataInput in) throws IOException {
+			return in.readDouble();
+		}
+	},
+	STRING( String.class ) {
+		@Override
+		void write(Object value, DataOutput out) throws IOException {
+			writeBytes( ( (String) value ).getBytes( StandardCharsets.UTF_8 ), out );
+		}
+
+		@Override
+		Object read(DataInput in) throws IOException {
+			return new String( readBytes( in ), StandardCharsets.UTF_8 );
+		}
+	},
+	BYTES( byte[].class ) {
+		@Override
+		void write(Object value, DataOutput out) throws IOException {
+			writeBytes( (byte[]) value, out );
+		}
+
+		@Override
+		Object read(DataInput in) throws IOException {
+			return readBytes( in );
+		}
+	},
+	BIG_INTEGER( BigInteger.class ) {
+		@Override
+		void write(Object value, DataOutput out) throws IOException {
+			writeBytes( ( (BigInteger) value ).toByteArray(), out );
+		}
+
+		@Override
+		Object read(DataInput in) throws IOException {
+			return new BigInteger( readBytes( in ) );
+		}
+	},
+	BIG_DECIMAL( BigDecimal.class ) {
+		@Override
+		void write(Object value, DataOutput out) throws IOException {
+			final BigDecimal decimal = (BigDecimal) value;
+			writeVarLong( decimal.scale(), out );
+			writeBytes( decimal.unscaledValue().toByteArray(), out );
+		}
+
+		@Override
+		Object read(DataInput in) throws IOException {
+			final int scale = (int) readVarLong( in );
+			return new BigDecimal( new BigInteger( readBytes( in ) ), scale );
+		}
+	},
+	UUID_VALUE( UUID.class ) {
+		@Override
+		void write(Object value, DataOutput out) throws IOException {
+			final UUID uuid = (UUID) value;
+			out.writeLong( uuid.getMostSignificantBits() );
+			out.writeLong( uuid.getLeastSignificantBits() );
+		}
+
+		@Override
+		Object read(DataInput in) throws IOException {
+			return new UUID( in.readLong(), in.readLong() );
+		}
+	},
+	LOCAL_DATE( LocalDate.class ) {
+		@Override
+		void write(Object value, DataOutput out) throws IOException {
+			writeVarLong( ( (LocalDate) value ).toEpochDay(), out );
+		}
+
+		@Override
+		Object read(DataInput in) throws IOException {
+			return LocalDate.ofEpochDay( readVarLong( in ) );
+		}
+	},
+	LOCAL_TIME( LocalTime.class ) {
+		@Override
+		void write(Object value, DataOutput out) throws IOException {
+			writeVarLong( ( (LocalTime) value ).toNanoOfDay(), out );
+		}
+
+		@Override
+		Object read(DataInput in) throws IOException {
+			return LocalTime.ofNanoOfDay( readVarLong( in ) );
+		}
+	},
+	LOCAL_DATE_TIME( LocalDateTime.class ) {
+		@Override
+		void write(Object value, DataOutput out) throws IOException {
+			final LocalDateTime dateTime = (LocalDateTime) value;
+			writeVarLong( dateTime.toLocalDate().toEpochDay(), out );
+			writeVarLong( dateTime.toLocalTime().toNanoOfDay(), out );
+		}
+
+		@Override
+		Object read(DataInput in) throws IOException {
+			final LocalDate date = LocalDate.ofEpochDay( readVarLong( in ) );
+			return LocalDateTime.of( date, LocalTime.ofNanoOfDay( readVarLong( in ) ) );
+		}
+	},
+	INSTANT( Instant.class ) {
+		@Override
+		void write(Object value, DataOutput out) throws IOException {
+			final Instant instant = (Instant) value;
+			writeVarLong( instant.getEpochSecond(), out );
+			writeVarLong( instant.getNano(), out );
+		}
+
+		@Override
+		Object read(DataInput in) throws IOException {
+			final long seconds = readVarLong( in );
+			return Instant.ofEpochSecond( seconds, readVarLong( in ) );
+		}
+	};
+
+	private static final Map<Class<?>, BinaryValueCodec> CODECS_BY_TYPE = new HashMap<>();
+	static {
+		for ( BinaryValueCodec codec : values() ) {
+			for ( Class<?> type : codec.types ) {
+				CODECS_BY_TYPE.put( type, codec );
+			}
+		}
+	}
+
+	private final Class<?>[] types;
+
+	BinaryValueCodec(Class<?>... types) {
+		this.types = types;
+	}
+
+	abstract void write(Object value, DataOutput out) throws IOException;
+
+	abstract Object read(DataInput in) throws IOException;
+
+	/**
+	 * The codec for values of exactly the given type, or {@code null}.
+	 */
+	static BinaryValueCodec forType(Class<?> type) {
+		return CODECS_BY_TYPE.get( type );
+	}
+
+	static void writeVarLong(long value, DataOutput out) throws IOException {
+		long zigzag = ( value << 1 ) ^ ( value >> 63 );
+		while ( ( zigzag & ~0x7FL ) != 0 ) {
+			out.writeByte( (int) ( ( zigzag & 0x7F ) | 0x80 ) );
+			zigzag >>>= 7;
+		}
+		out.writeByte( (int) zigzag );
+	}
+
+	static long readVarLong(DataInput in) throws IOException {
+		long zigzag = 0;
+		for ( int shift = 0; ; shift += 7 ) {
+			final byte b = in.readByte();
+			zigzag |= (long) ( b & 0x7F ) << shift;
+			if ( ( b & 0x80 ) == 0 ) {
+				break;
+			}
+		}
+		return ( zigzag >>> 1 ) ^ -( zigzag & 1 );
+	}
+
+	static void writeBytes(byte[] bytes, DataOutput out) throws IOException {
+		writeVarLong( bytes.length, out );
+		out.write( bytes );
+	}
+
+	static byte[] readBytes(DataInput in) throws IOException {
+		final byte[] bytes = new byte[(int) readVarLong( in )];
+		in.readFully( bytes );
+		return bytes;
+	}
+}
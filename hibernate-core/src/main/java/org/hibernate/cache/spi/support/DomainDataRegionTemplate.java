@@ -4,6 +4,7 @@
  */
 package org.hibernate.cache.spi.support;
 
+import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.cache.cfg.spi.CollectionDataCachingConfig;
 import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
 import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
@@ -48,7 +49,15 @@ public DomainDataRegionTemplate(
 			CacheKeysFactory defaultKeysFactory,
 			DomainDataRegionBuildingContext buildingContext) {
 		super( regionConfig, regionFactory, defaultKeysFactory, buildingContext );
-		this.storageAccess = storageAccess;
+		final SessionFactoryOptions options = buildingContext.getSessionFactory().getSessionFactoryOptions();
+		this.storageAccess = options.getNearCacheMaxEntries() > 0
+				? new NearCacheStorageAccess(
+						storageAccess,
+						getName(),
+						options.getNearCacheMaxEntries(),
+						options.getNearCacheTimeToLive()
+				)
+				: storageAccess;
 
 		// now the super-type calls will have access to the `DomainDataStorageAccess` reference
 		completeInstantiation( regionConfig, buildingContext );
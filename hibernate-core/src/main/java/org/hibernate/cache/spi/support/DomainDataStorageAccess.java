@@ -4,6 +4,11 @@
  */
 package org.hibernate.cache.spi.support;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.hibernate.Incubating;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 
 /**
@@ -22,4 +27,28 @@ public interface DomainDataStorageAccess extends StorageAccess {
 	default void putFromLoad(Object key, Object value, SharedSessionContractImplementor session) {
 		putIntoCache( key, value, session );
 	}
+
+	/**
+	 * Get the items with the given keys from the cache, in a single
+	 * round trip if the underlying cache supports bulk retrieval.
+	 *
+	 * @return the items found in the cache, keyed by their keys, with no
+	 * entry for keys which were not found
+	 *
+	 * @implNote the method default is to call {@link #getFromCache} for
+	 * each key
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default Map<Object, Object> getAllFromCache(Collection<?> keys, SharedSessionContractImplementor session) {
+		final Map<Object, Object> result = new HashMap<>( keys.size() );
+		for ( Object key : keys ) {
+			final Object value = getFromCache( key, session );
+			if ( value != null ) {
+				result.put( key, value );
+			}
+		}
+		return result;
+	}
 }
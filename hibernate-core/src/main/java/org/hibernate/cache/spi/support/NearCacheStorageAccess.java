@@ -0,0 +1,238 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.cache.spi.support;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+import org.hibernate.Incubating;
+import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.collections.BoundedTinyLfuMap;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+/**
+ * A {@link DomainDataStorageAccess} which keeps a bounded local copy of the
+ * entries read from another {@code DomainDataStorageAccess}, typically one
+ * backed by a remote or clustered cache.
+ * <p>
+ * Entries are held exactly as they were returned by the backing storage, that
+ * is, still disassembled, so that a hit in the near cache avoids the round trip
+ * to the backing cache and the deserialization of the entry, but not its
+ * assembly. Every write goes through to the backing storage and invalidates the
+ * local copy of the entry, so that the {@linkplain SoftLock soft locks} written
+ * by {@link AbstractReadWriteAccess} are always seen by this node. Soft locks
+ * themselves are never held locally. Changes made through other nodes of a
+ * cluster are only observed once a local entry
+ * {@linkplain org.hibernate.cfg.CacheSettings#NEAR_CACHE_TTL expires}.
+ *
+ * @see org.hibernate.cfg.CacheSettings#NEAR_CACHE_MAX_ENTRIES
+ *
+ * @since 7.0
+ */
+@Incubating
+public class NearCacheStorageAccess implements DomainDataStorageAccess {
+	private final DomainDataStorageAccess delegate;
+	private final String regionName;
+	private final long timeToLive;
+	private final BoundedTinyLfuMap<Object, Entry> entries;
+
+	// incremented by every write, so that a read which raced with
+	// a write does not leave a stale entry in the near cache
+	private final AtomicLong writeCount = new AtomicLong();
+
+	/**
+	 * @param delegate the backing storage
+	 * @param regionName the name of the region, for statistics
+	 * @param maxEntries the maximum number of entries held locally
+	 * @param timeToLive the time in milliseconds for which an entry may be used,
+	 * or {@code 0} if entries do not expire
+	 */
+	public NearCacheStorageAccess(
+			DomainDataStorageAccess delegate,
+			String regionName,
+			int maxEntries,
+			long timeToLive) {
+		this.delegate = delegate;
+		this.regionName = regionName;
+		this.timeToLive = timeToLive;
+		this.entries = new BoundedTinyLfuMap<>( maxEntries );
+	}
+
+	/**
+	 * The backing storage.
+	 */
+	public DomainDataStorageAccess getDelegate() {
+		return delegate;
+	}
+
+	/**
+	 * The number of entries currently held locally.
+	 */
+	public int getNearCacheSize() {
+		return entries.size();
+	}
+
+	/**
+	 * Discard every entry held locally, without affecting the backing storage.
+	 */
+	public void invalidateNearCache() {
+		writeCount.incrementAndGet();
+		entries.clear();
+	}
+
+	/**
+	 * Discard the entries held locally whose keys match the given predicate,
+	 * without affecting the backing storage.
+	 */
+	public void invalidateNearCache(Predicate<Object> keys) {
+		writeCount.incrementAndGet();
+		for ( Object key : entries.keySet() ) {
+			if ( keys.test( key ) ) {
+				entries.remove( key );
+			}
+		}
+	}
+
+	@Override
+	public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+		final StatisticsImplementor statistics = session.getFactory().getStatistics();
+		final Entry entry = entries.get( key );
+		if ( entry != null ) {
+			if ( entry.isValid() ) {
+				if ( statistics.isStatisticsEnabled() ) {
+					statistics.nearCacheHit( regionName );
+				}
+				return entry.value;
+			}
+			entries.remove( key, entry );
+		}
+		if ( statistics.isStatisticsEnabled() ) {
+			statistics.nearCacheMiss( regionName );
+		}
+
+		final long writes = writeCount.get();
+		final Object value = delegate.getFromCache( key, session );
+		putLocally( key, value, writes );
+		return value;
+	}
+
+	@Override
+	public Map<Object, Object> getAllFromCache(Collection<?> keys, SharedSessionContractImplementor session) {
+		final StatisticsImplementor statistics = session.getFactory().getStatistics();
+		final Map<Object, Object> result = new HashMap<>( keys.size() );
+		final List<Object> misses = new ArrayList<>();
+		for ( Object key : keys ) {
+			final Entry entry = entries.get( key );
+			if ( entry != null ) {
+				if ( entry.isValid() ) {
+					if ( statistics.isStatisticsEnabled() ) {
+						statistics.nearCacheHit( regionName );
+					}
+					result.put( key, entry.value );
+					continue;
+				}
+				entries.remove( key, entry );
+			}
+			if ( statistics.isStatisticsEnabled() ) {
+				statistics.nearCacheMiss( regionName );
+			}
+			misses.add( key );
+		}
+
+		if ( !misses.isEmpty() ) {
+			// fetch only the entries we don't hold locally
+			final long writes = writeCount.get();
+			final Map<Object, Object> values = delegate.getAllFromCache( misses, session );
+			for ( Map.Entry<Object, Object> value : values.entrySet() ) {
+				putLocally( value.getKey(), value.getValue(), writes );
+			}
+			result.putAll( values );
+		}
+		return result;
+	}
+
+	private void putLocally(Object key, Object value, long writes) {
+		if ( value != null && !( value instanceof SoftLock ) ) {
+			final Entry newEntry = new Entry( value, timeToLive > 0 ? System.currentTimeMillis() + timeToLive : 0 );
+			entries.put( key, newEntry );
+			if ( writeCount.get() != writes ) {
+				entries.remove( key, newEntry );
+			}
+		}
+	}
+
+	@Override
+	public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+		delegate.putIntoCache( key, value, session );
+		invalidate( key );
+	}
+
+	@Override
+	public void putFromLoad(Object key, Object value, SharedSessionContractImplementor session) {
+		delegate.putFromLoad( key, value, session );
+		invalidate( key );
+	}
+
+	@Override
+	public void removeFromCache(Object key, SharedSessionContractImplementor session) {
+		delegate.removeFromCache( key, session );
+		invalidate( key );
+	}
+
+	@Override
+	public void clearCache(SharedSessionContractImplementor session) {
+		delegate.clearCache( session );
+		invalidateNearCache();
+	}
+
+	@Override
+	public boolean contains(Object key) {
+		final Entry entry = entries.get( key );
+		return entry != null && entry.isValid() || delegate.contains( key );
+	}
+
+	@Override
+	public void evictData() {
+		delegate.evictData();
+		invalidateNearCache();
+	}
+
+	@Override
+	public void evictData(Object key) {
+		delegate.evictData( key );
+		invalidate( key );
+	}
+
+	@Override
+	public void release() {
+		invalidateNearCache();
+		delegate.release();
+	}
+
+	private void invalidate(Object key) {
+		writeCount.incrementAndGet();
+		entries.remove( key );
+	}
+
+	private static final class Entry {
+		private final Object value;
+		private final long expiry;
+
+		private Entry(Object value, long expiry) {
+			this.value = value;
+			this.expiry = expiry;
+		}
+
+		private boolean isValid() {
+			return expiry == 0 || System.currentTimeMillis() < expiry;
+		}
+	}
+}
@@ -6,6 +6,7 @@
 
 import java.sql.PreparedStatement;
 
+import org.hibernate.Incubating;
 import org.hibernate.engine.jdbc.batch.spi.BatchBuilder;
 
 /**
@@ -63,6 +64,45 @@ public interface BatchSettings {
 	 */
 	String BATCH_VERSIONED_DATA = "hibernate.jdbc.batch_versioned_data";
 
+	/**
+	 * When enabled, batched inserts are written using {@code insert} statements
+	 * with a multi-row {@code values} clause, of form {@code insert into t (a,b)
+	 * values (?,?),(?,?),(?,?)}, instead of a JDBC batch containing one
+	 * single-row statement per inserted row. The number of rows written by each
+	 * statement is limited by the {@linkplain #STATEMENT_BATCH_SIZE batch size},
+	 * and by the {@linkplain org.hibernate.dialect.Dialect#getMultiRowInsertRowLimit
+	 * limit} imposed by the Dialect.
+	 * <p>
+	 * This is most useful with drivers which do not rewrite batched inserts
+	 * themselves. Has no effect on inserts with custom SQL, or on inserts which
+	 * retrieve generated values.
+	 * <p>
+	 * Only applies when no {@linkplain #BUILDER custom batch builder} is specified.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String MULTI_ROW_INSERTS = "hibernate.jdbc.batch.multi_row_inserts";
+
+	/**
+	 * Specifies the maximum number of rows buffered by the streaming bulk write
+	 * operations of a {@linkplain org.hibernate.StatelessSession stateless session},
+	 * for example, {@link org.hibernate.StatelessSession#insertMultiple(java.util.stream.Stream)},
+	 * when no batch size has been {@linkplain org.hibernate.StatelessSession#setJdbcBatchSize
+	 * explicitly set} for the session.
+	 * <p>
+	 * Buffered rows are grouped by entity type, so that each group is written using
+	 * a single JDBC batch, even when the stream interleaves entities of different types.
+	 *
+	 * @settingDefault 500
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String STATELESS_BULK_WRITE_BATCH_SIZE = "hibernate.jdbc.stateless_bulk_write_batch_size";
+
 	/**
 	 * @deprecated Use {@link #BUILDER} instead
 	 */
@@ -88,6 +88,26 @@ public interface CacheSettings {
 	@Incubating
 	String QUERY_CACHE_LAYOUT = "hibernate.cache.query_cache_layout";
 
+	/**
+	 * When enabled, the query cache stores the rows of a query whose selection
+	 * items are all scalar values, as they are returned to the
+	 * {@link org.hibernate.sql.results.spi.RowTransformer}, and a cache hit
+	 * builds the result list directly from the cached rows, without resolving
+	 * the JDBC values mapping or the row reader. This applies to scalar, tuple,
+	 * and DTO projections, but not to queries which return entities or
+	 * embeddables, nor to queries whose results are filtered for duplicates.
+	 * <p>
+	 * Since the cached values are shared by every cache hit, this only applies
+	 * when the Java type of every selection item, after any conversion, is
+	 * immutable and serializable. Otherwise, the query is cached as usual.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String QUERY_CACHE_ROWS = "hibernate.cache.query_cache_rows";
+
 	/**
 	 * The {@link RegionFactory} implementation, either:
 	 * <ul>
@@ -159,6 +179,24 @@ public interface CacheSettings {
 	 */
 	String USE_STRUCTURED_CACHE = "hibernate.cache.use_structured_entries";
 
+	/**
+	 * Enables the use of a compact binary format for entity entries in the second-level
+	 * cache. Each entry is stored as a {@code byte[]} whose layout is determined by the
+	 * types of the attributes of the entity, which is much smaller, and much cheaper to
+	 * write and read, than the Java serialization of the disassembled state of the entity.
+	 * This is most useful with a remote or clustered cache provider.
+	 * <p>
+	 * Has no effect when {@value #USE_STRUCTURED_CACHE} is enabled.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @see org.hibernate.cache.spi.entry.BinaryCacheEntry
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String USE_BINARY_CACHE_ENTRIES = "hibernate.cache.use_binary_entries";
+
 	/**
 	 * Enables the automatic eviction of a bidirectional association's collection
 	 * cache when an element in the {@link jakarta.persistence.ManyToOne} collection
@@ -184,6 +222,118 @@ public interface CacheSettings {
 	 */
 	String USE_DIRECT_REFERENCE_CACHE_ENTRIES = "hibernate.cache.use_reference_entries";
 
+	/**
+	 * The maximum number of entries held in the local near cache placed in front of
+	 * each entity, collection, and natural id region of the second-level cache. The
+	 * near cache holds entries in the disassembled form in which they were read from
+	 * the region, so that a hit avoids the round trip to, and deserialization by, a
+	 * remote or clustered cache provider.
+	 * <p>
+	 * Changes made through this node are propagated to the near cache, and when the
+	 * query cache is enabled, the near cache of a region is discarded whenever one of
+	 * its tables is invalidated in the {@linkplain org.hibernate.cache.spi.TimestampsCache
+	 * timestamps cache}. But changes made through other nodes of a cluster are not seen,
+	 * and so a clustered deployment should also specify {@value #NEAR_CACHE_TTL}.
+	 * <p>
+	 * The near cache is disabled when the value is {@code 0}.
+	 *
+	 * @settingDefault {@code 0}
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String NEAR_CACHE_MAX_ENTRIES = "hibernate.cache.near_cache.max_entries";
+
+	/**
+	 * The time, in milliseconds, for which an entry held in the near cache enabled by
+	 * {@value #NEAR_CACHE_MAX_ENTRIES} may be used before it must be read again from
+	 * the second-level cache region. This bounds how long the near cache may serve a
+	 * value which was changed through another node of a cluster.
+	 * <p>
+	 * Entries do not expire when the value is {@code 0}.
+	 *
+	 * @settingDefault {@code 0}
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String NEAR_CACHE_TTL = "hibernate.cache.near_cache.ttl";
+
+	/**
+	 * The time, in milliseconds, for which the last update timestamp of a query
+	 * space read from the timestamps region may be used by a
+	 * {@link org.hibernate.cache.internal.LocalTimestampsCacheFactory local timestamps
+	 * cache} before it must be read from the region again.
+	 * <p>
+	 * By default, the region is consulted for every up-to-date check, unless this
+	 * node already knows the space to be stale, and so cached query results are
+	 * exactly as consistent as with the standard timestamps cache. A non-zero
+	 * interval gives up this consistency in a cluster: invalidations made through
+	 * this node are always seen immediately, but a query result made stale by a
+	 * change through another node may be served for up to the given interval.
+	 * <p>
+	 * Has no effect unless {@value #QUERY_CACHE_FACTORY} specifies the
+	 * {@code LocalTimestampsCacheFactory}.
+	 *
+	 * @settingDefault {@code 0}
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String TIMESTAMPS_LOCAL_REFRESH_INTERVAL = "hibernate.cache.timestamps.local_refresh_interval";
+
+	/**
+	 * The maximum number of entries waiting to be written to the second-level cache
+	 * by a background thread after being loaded from the database. When this setting
+	 * is enabled, entities and collections read from the database are put into their
+	 * regions asynchronously, so that the latency of a remote cache is not added to
+	 * each load which misses the cache. A put of a key which is already waiting in
+	 * the queue replaces the waiting put, and when the queue is full, the put happens
+	 * synchronously, as usual.
+	 * <p>
+	 * The put has the version, minimal-put flag, and caching timestamp of the load,
+	 * but it does not have access to the session which loaded the entry, which might
+	 * be closed by the time the put happens: the region sees only the factory, the
+	 * identifier and tenant of the session, and its caching timestamp. A region which
+	 * needs anything else from the session, for example, its JDBC connection, is not
+	 * suitable for asynchronous puts, and its puts are dropped.
+	 * <p>
+	 * A waiting put is discarded when its key is locked by an update or removal, or
+	 * evicted, and when its region is evicted or invalidated by a bulk operation. A
+	 * put which has already started when this happens may still land afterward,
+	 * though a {@code read-write} region rejects it if the item is locked. Since
+	 * the put is delayed, this window is wider than for a synchronous put.
+	 * <p>
+	 * Puts are synchronous when the value is {@code 0}.
+	 *
+	 * @settingDefault {@code 0}
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String ASYNC_PUT_QUEUE_SIZE = "hibernate.cache.async_put.queue_size";
+
+	/**
+	 * The time, in milliseconds, for which the fact that no entity has a given
+	 * natural id is remembered, so that repeated lookups of a natural id which does
+	 * not exist do not hit the database. Such a "not found" result is forgotten as
+	 * soon as an entity of the same hierarchy is inserted, or has its natural id
+	 * updated, through this session factory, and is never cached when filters are
+	 * enabled in the session which performed the lookup.
+	 * <p>
+	 * Changes made by other nodes of a cluster, or outside of Hibernate, are not
+	 * seen until the result expires, so the value bounds how long such a natural
+	 * id may be reported as absent.
+	 * <p>
+	 * "Not found" results are not cached when the value is {@code 0}.
+	 *
+	 * @settingDefault {@code 0}
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String NATURAL_ID_NEGATIVE_CACHE_TTL = "hibernate.cache.natural_id.negative_ttl";
+
 	/**
 	 * Specifies the {@link org.hibernate.cache.spi.CacheKeysFactory} to use, either:
 	 * <ul>
@@ -4,6 +4,7 @@
  */
 package org.hibernate.cfg;
 
+import org.hibernate.Incubating;
 import org.hibernate.annotations.BatchSize;
 
 /**
@@ -31,6 +32,47 @@ public interface FetchSettings {
 	 */
 	String DEFAULT_BATCH_FETCH_SIZE = "hibernate.default_batch_fetch_size";
 
+	/**
+	 * When enabled, the {@linkplain BatchSize#size() batch size} of each entity and
+	 * collection is only the initial batch size, and is tuned at runtime, within the
+	 * bounds given by {@value #BATCH_FETCH_ADAPTIVE_MIN_SIZE} and
+	 * {@value #BATCH_FETCH_ADAPTIVE_MAX_SIZE}, according to the number of keys which
+	 * are observed to be pending in the batch fetch queue, and the time taken by each
+	 * batch.
+	 * <p>
+	 * Only applies when the batch of keys is passed as a single SQL {@code ARRAY}
+	 * parameter, that is, when the database supports arrays, and the identifier or
+	 * collection key maps to a single column.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String BATCH_FETCH_ADAPTIVE = "hibernate.batch_fetch.adaptive";
+
+	/**
+	 * The smallest batch size {@linkplain #BATCH_FETCH_ADAPTIVE adaptive batch fetching}
+	 * may tune a batch size down to.
+	 *
+	 * @settingDefault 2
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String BATCH_FETCH_ADAPTIVE_MIN_SIZE = "hibernate.batch_fetch.adaptive.min_size";
+
+	/**
+	 * The largest batch size {@linkplain #BATCH_FETCH_ADAPTIVE adaptive batch fetching}
+	 * may tune a batch size up to.
+	 *
+	 * @settingDefault 256
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String BATCH_FETCH_ADAPTIVE_MAX_SIZE = "hibernate.batch_fetch.adaptive.max_size";
+
 	/**
 	 * When enabled, Hibernate will use subselect fetching, when possible, to
 	 * fetch any collection.  Subselect fetching involves fetching the collection
@@ -46,4 +88,37 @@ public interface FetchSettings {
 	 * @see org.hibernate.boot.SessionFactoryBuilder#applySubselectFetchEnabled(boolean)
 	 */
 	String USE_SUBSELECT_FETCH = "hibernate.use_subselect_fetch";
+
+	/**
+	 * The maximum number of subselect fetches which may be executed concurrently,
+	 * each using its own JDBC connection, or {@code 0} if subselect fetches are
+	 * always executed sequentially.
+	 * <p>
+	 * When a collection is subselect fetched, and the owning entity has other
+	 * subselect fetched collections which were loaded by the same query, and
+	 * which are not yet initialized, the subselect fetches for those collections
+	 * are executed concurrently with the fetch which was requested, instead of
+	 * one by one as they're accessed.
+	 * <p>
+	 * The extra connections are obtained from the
+	 * {@link org.hibernate.engine.jdbc.connections.spi.ConnectionProvider}, and
+	 * do not participate in the transaction of the session. Each concurrent fetch
+	 * sees the data committed at the time it executes, and never sees changes made
+	 * by the session which were not yet committed. So concurrent fetches are only
+	 * used when the session has no transaction in progress and no pending changes,
+	 * and never with JTA.
+	 * <p>
+	 * At most this number of extra connections is in use at any time, across all
+	 * sessions, and a fetch which would need another one is executed sequentially
+	 * instead. The connection pool should be sized to allow for them, in addition
+	 * to the connections held by sessions.
+	 *
+	 * @settingDefault {@code 0}
+	 *
+	 * @since 7.0
+	 *
+	 * @see #USE_SUBSELECT_FETCH
+	 */
+	@Incubating
+	String SUBSELECT_FETCH_PARALLELISM = "hibernate.subselect_fetch.parallelism";
 }
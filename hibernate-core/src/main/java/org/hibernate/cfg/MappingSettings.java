@@ -590,4 +590,43 @@ public interface MappingSettings {
 	 */
 	String USE_NATIONALIZED_CHARACTER_DATA = "hibernate.use_nationalized_character_data";
 
+	/**
+	 * When enabled, specifies that the persisters of the entities and collections,
+	 * along with their loaders, mutation coordinators, and static SQL, are created
+	 * and initialized in parallel, using one thread per available processor, when
+	 * the {@link SessionFactory} is built.
+	 * <p>
+	 * The persisters of an inheritance hierarchy are always initialized by a single
+	 * thread, supertype first, and the mapping model of embeddables and inheritance
+	 * hierarchies is still resolved sequentially, in dependency order. Custom
+	 * {@linkplain org.hibernate.persister.spi.PersisterFactory persisters} must
+	 * tolerate being initialized concurrently with other persisters.
+	 *
+	 * @settingDefault {@code false} (disabled)
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String PARALLEL_INITIALIZATION = "hibernate.mapping.parallel_initialization";
+
+	/**
+	 * When enabled, specifies that the static SQL, loaders, and mutation
+	 * coordinators of an entity are built when the entity is first used,
+	 * instead of when the {@link SessionFactory} is built. The mapping model
+	 * of every entity is still fully built, and validated, at startup.
+	 * <p>
+	 * This reduces the startup time and the memory footprint of a
+	 * {@code SessionFactory} which maps many entities, only a few of which
+	 * are actually used. On the other hand, problems with the SQL of an
+	 * entity, including problems with a {@linkplain org.hibernate.annotations.NamedQuery
+	 * named query} used as its loader, are only reported when it is first used.
+	 *
+	 * @settingDefault {@code false} (disabled)
+	 *
+	 * @see org.hibernate.boot.spi.SessionFactoryOptions#isLazyPersisterInitializationEnabled
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String LAZY_PERSISTER_INITIALIZATION = "hibernate.mapping.lazy_persister_initialization";
 }
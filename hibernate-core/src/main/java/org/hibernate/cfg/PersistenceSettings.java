@@ -151,6 +151,25 @@ public interface PersistenceSettings {
 	 */
 	String SCANNER_DISCOVERY = "hibernate.archive.autodetection";
 
+	/**
+	 * Specifies the path of a file in which the results of
+	 * {@linkplain org.hibernate.boot.archive.scan.spi.Scanner scanning} are stored,
+	 * so that a later bootstrap of the same persistence unit may skip scanning.
+	 * The file is written after the persistence unit has been scanned, and is read
+	 * on later bootstraps as long as it is still valid, that is, as long as it
+	 * was written by the same version of Hibernate, with the same scanning
+	 * options, for archives which were not modified since.
+	 * <p>
+	 * The snapshot is never used when the archives of the persistence unit cannot
+	 * be checked for modifications, that is, when they are not on the file system.
+	 *
+	 * @see #SCANNER
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String SCANNER_SNAPSHOT = "hibernate.archive.snapshot";
+
 	/**
 	 * Allows JPA callbacks (via {@link jakarta.persistence.PreUpdate} and friends) to be
 	 * completely disabled. Mostly useful to save some memory when they are not used.
@@ -167,6 +186,63 @@ public interface PersistenceSettings {
 	@Incubating
 	String JPA_CALLBACKS_ENABLED = "hibernate.jpa_callbacks.enabled";
 
+	/**
+	 * When enabled, the persistence context of each session stores its managed entities
+	 * in a compact open-addressing table keyed by {@link org.hibernate.engine.spi.EntityKey},
+	 * instead of in a {@link java.util.HashMap}. This avoids allocating a map entry object
+	 * per managed entity, and reduces the memory footprint and garbage collection pressure
+	 * of sessions which hold very large numbers of entities, for example, in batch jobs.
+	 * <p>
+	 * Disabled by default.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String PERSISTENCE_CONTEXT_COMPACT_ENTITY_STORAGE = "hibernate.persistence_context.compact_entity_storage";
+
+	/**
+	 * When enabled, a flush first compares each managed entity which is not enhanced for
+	 * dirty tracking with its loaded state in place, property by property, short-circuiting
+	 * on identical values, and skips the entity if nothing was modified. Only entities which
+	 * might be dirty are then snapshotted and fully dirty checked, so that the cost of a flush
+	 * is dominated by the number of modified entities, rather than by the number of entities
+	 * in the persistence context.
+	 * <p>
+	 * This fast path is never used for entities of a session with an
+	 * {@linkplain org.hibernate.Interceptor interceptor}, or when a
+	 * {@linkplain org.hibernate.CustomEntityDirtinessStrategy custom dirtiness strategy}
+	 * is configured.
+	 * <p>
+	 * Disabled by default.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String PERSISTENCE_CONTEXT_INCREMENTAL_DIRTY_CHECKING = "hibernate.persistence_context.incremental_dirty_checking";
+
+	/**
+	 * When enabled, an {@linkplain org.hibernate.FlushMode#AUTO automatic flush} before
+	 * execution of a query only dirty checks and flushes the entities and collections
+	 * which are mapped to one of the tables the query reads from. Modifications to other
+	 * entities and collections remain pending until the next flush, usually when the
+	 * transaction commits. In a long-running session with many managed entities, this
+	 * avoids dirty checking the whole persistence context before every query.
+	 * <p>
+	 * Has no effect when the flush mode is {@link org.hibernate.FlushMode#ALWAYS}.
+	 * <p>
+	 * Disabled by default.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String PARTIAL_AUTO_FLUSH = "hibernate.flush.partial_auto_flush";
+
 	/**
 	 * Specifies a class which implements {@link org.hibernate.SessionFactoryObserver} and has
 	 * a constructor with no parameters.
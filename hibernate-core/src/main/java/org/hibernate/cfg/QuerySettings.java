@@ -82,6 +82,58 @@ public interface QuerySettings {
 	 */
 	String QUERY_STARTUP_CHECKING = "hibernate.query.startup_check";
 
+	/**
+	 * When enabled, and when named queries are not {@linkplain #QUERY_STARTUP_CHECKING
+	 * checked during startup}, specifies that named HQL queries be interpreted by a
+	 * background thread once the {@link org.hibernate.SessionFactory} is created, so
+	 * that they are already in the {@linkplain #QUERY_PLAN_CACHE_ENABLED query plan
+	 * cache} when they are first executed, without delaying startup.
+	 * <p>
+	 * A problem with a named query is only reported when the query is first used.
+	 *
+	 * @settingDefault {@code false} (disabled)
+	 *
+	 * @see org.hibernate.boot.spi.SessionFactoryOptions#isNamedQueryPreloadingEnabled
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String QUERY_PRELOADING = "hibernate.query.preload";
+
+	/**
+	 * When enabled, specifies that the HQL parser be warmed up when the
+	 * {@link org.hibernate.SessionFactory} is created, by parsing the named
+	 * HQL queries, and the queries recorded in the
+	 * {@linkplain #QUERY_PARSER_WARMUP_CORPUS warmup corpus}, if any. This
+	 * primes the prediction caches of the parser, so that the first queries
+	 * executed after startup aren't slowed down by a cold parser.
+	 *
+	 * @settingDefault {@code false} (disabled)
+	 *
+	 * @see org.hibernate.stat.Statistics#getHqlParserFallbackCount()
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String QUERY_PARSER_WARMUP = "hibernate.query.hql.warmup";
+
+	/**
+	 * Specifies the path of a file to which the most recently parsed HQL
+	 * queries are written when the {@link org.hibernate.SessionFactory} is
+	 * closed, and from which they are read back to {@linkplain
+	 * #QUERY_PARSER_WARMUP warm up the parser} the next time it's created.
+	 * Queries with inline literals are not written to the file, since the
+	 * literals might hold sensitive data.
+	 * <p>
+	 * Has no effect unless {@value #QUERY_PARSER_WARMUP} is enabled.
+	 *
+	 * @settingDefault none - only the named queries are used to warm up the parser
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String QUERY_PARSER_WARMUP_CORPUS = "hibernate.query.hql.warmup_corpus";
+
 	/**
 	 * By default, a {@linkplain jakarta.persistence.criteria.CriteriaBuilder criteria
 	 * query} produces SQL with a JDBC bind parameter for any value specified via the
@@ -280,6 +332,102 @@ public interface QuerySettings {
 	@Deprecated(since="6.0")
 	String QUERY_PLAN_CACHE_PARAMETER_METADATA_MAX_SIZE = "hibernate.query.plan_parameter_metadata_max_size";
 
+	/**
+	 * The maximum number of interpreted HQL queries held by the
+	 * {@linkplain org.hibernate.query.spi.QueryInterpretationCache
+	 * query interpretation cache}.
+	 * <p>
+	 * Defaults to the value of {@value #QUERY_PLAN_CACHE_MAX_SIZE}.
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String QUERY_PLAN_CACHE_HQL_MAX_SIZE = "hibernate.query.plan_cache_hql_max_size";
+
+	/**
+	 * The maximum number of native query parameter interpretations held
+	 * by the {@linkplain org.hibernate.query.spi.QueryInterpretationCache
+	 * query interpretation cache}.
+	 * <p>
+	 * Defaults to the value of {@value #QUERY_PLAN_CACHE_MAX_SIZE}.
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String QUERY_PLAN_CACHE_NATIVE_MAX_SIZE = "hibernate.query.plan_cache_native_max_size";
+
+	/**
+	 * Selects the policy used to bound the size of the
+	 * {@linkplain org.hibernate.query.spi.QueryInterpretationCache
+	 * query interpretation cache}, either:
+	 * <ul>
+	 *     <li>{@code lirs}, a segmented cache with LIRS eviction, or
+	 *     <li>{@code tinylfu}, a cache which never locks on reads, and only
+	 *         admits a new entry when it is used more frequently than the
+	 *         entry it would replace, as estimated by a frequency sketch.
+	 * </ul>
+	 * <p>
+	 * The {@code tinylfu} policy is better suited to applications which build
+	 * many distinct queries dynamically, since queries executed only once do
+	 * not flush out frequently executed queries. It also reports evictions to
+	 * {@link org.hibernate.stat.Statistics#getQueryPlanCacheEvictionCount()}.
+	 *
+	 * @settingDefault {@code lirs}
+	 *
+	 * @see org.hibernate.query.internal.QueryInterpretationCacheTinyLfuImpl
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String QUERY_PLAN_CACHE_EVICTION_POLICY = "hibernate.query.plan_cache_eviction_policy";
+
+	/**
+	 * When enabled, the entities loaded by a row of a {@link org.hibernate.ScrollableResults}
+	 * or of a {@link java.util.stream.Stream} obtained from a query executed by a stateful
+	 * session are detached from the persistence context as soon as the results move to
+	 * another row, so that the memory used by the persistence context does not grow with
+	 * the number of rows read.
+	 * <p>
+	 * Only entities which were loaded by the row are detached: an entity which was already
+	 * associated with the persistence context when the row was read is left alone, as is
+	 * an entity which was modified, deleted, or locked, or whose collections or proxies
+	 * are still being initialized. As for {@link org.hibernate.Session#detach}, an entity
+	 * cascades the detachment to the associations mapped with {@code CascadeType.DETACH}.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @see org.hibernate.stat.Statistics#getScrollDetachedEntityCount()
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String SCROLL_DETACH_ENTITIES = "hibernate.query.scroll.detach_entities";
+
+	/**
+	 * The amount of memory, in bytes, which the JDBC driver may use to buffer
+	 * the rows of a {@link org.hibernate.ScrollableResults} or of a
+	 * {@link java.util.stream.Stream} obtained from a query. When a positive
+	 * value is specified, the {@linkplain java.sql.ResultSet#setFetchSize fetch size}
+	 * is adjusted while the results are read: it grows while the round trips to
+	 * the database account for a significant part of the time spent reading the
+	 * results, but never beyond the number of rows which, at the average size of
+	 * the rows read so far, fit in the given budget.
+	 * <p>
+	 * The fetch size is not adjusted for a query which specifies its own
+	 * {@linkplain org.hibernate.query.SelectionQuery#setFetchSize fetch size}.
+	 * The size of a row is estimated from the values read from it, and so the
+	 * budget is only approximately respected. Note that some JDBC drivers
+	 * ignore the fetch size, or only honor it under specific conditions.
+	 *
+	 * @settingDefault {@code 0}, the fetch size is not adjusted
+	 *
+	 * @see org.hibernate.cfg.JdbcSettings#STATEMENT_FETCH_SIZE
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	String SCROLL_FETCH_MEMORY_BUDGET = "hibernate.query.scroll.fetch_memory_budget";
+
 	/**
 	 * For database supporting name parameters this setting allows to use named parameter is the procedure call.
 	 * <p>
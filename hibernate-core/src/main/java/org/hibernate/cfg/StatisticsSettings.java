@@ -4,6 +4,7 @@
  */
 package org.hibernate.cfg;
 
+import org.hibernate.Incubating;
 import org.hibernate.stat.spi.StatisticsFactory;
 
 /**
@@ -41,4 +42,21 @@ public interface StatisticsSettings {
 	 * @see org.hibernate.stat.Statistics#getQueries()
 	 */
 	String QUERY_STATISTICS_MAX_SIZE = "hibernate.statistics.query_max_size";
+
+	/**
+	 * When statistics are {@linkplain #GENERATE_STATISTICS enabled}, specifies that
+	 * a {@linkplain org.hibernate.stat.LatencyHistogram latency histogram} should be
+	 * recorded for each query, for loads of each entity, for fetches of each
+	 * collection, and for reads from each second-level cache region, so that
+	 * percentiles of these latencies are available, and not just their minimum,
+	 * maximum, and average.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 7.0
+	 *
+	 * @see org.hibernate.stat.Statistics#isLatencyHistogramsEnabled()
+	 */
+	@Incubating
+	String STATISTICS_LATENCY_HISTOGRAMS = "hibernate.statistics.latency_histograms";
 }
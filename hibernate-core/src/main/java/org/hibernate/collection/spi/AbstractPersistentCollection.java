@@ -582,6 +582,11 @@ public boolean endRead() {
 		return afterInitialize();
 	}
 
+	@Override
+	public void abortRead() {
+		initializing = false;
+	}
+
 	@Override
 	public void beforeInitialize(CollectionPersister persister, int anticipatedSize) {
 	}
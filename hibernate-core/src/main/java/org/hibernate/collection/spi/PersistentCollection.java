@@ -361,6 +361,16 @@ default boolean needsUpdating(
 	@SuppressWarnings("UnusedReturnValue")
 	boolean endRead();
 
+	/**
+	 * Called when reading the rows of the collection failed, instead of
+	 * {@link #endRead}, to leave the collection uninitialized, so that it
+	 * may be initialized again later.  Pairs with {@link #beginRead}
+	 *
+	 * @since 7.0
+	 */
+	default void abortRead() {
+	}
+
 	/**
 	 * Called after initialization is complete.  Pairs with {@link #beforeInitialize}
 	 */
@@ -4090,6 +4090,34 @@ public int getParameterCountLimit() {
 		return getInExpressionCountLimit();
 	}
 
+	/**
+	 * Return the maximum number of rows which may be written by a single
+	 * {@code insert} statement with a multi-row {@code values} clause, of
+	 * form {@code insert into t (a,b) values (?,?),(?,?),(?,?)}, given
+	 * the number of parameters in each row.
+	 * <p>
+	 * By default, the limit is derived from the
+	 * {@linkplain #getParameterCountLimit() parameter count limit}, or,
+	 * when the database declares no such limit, from the lowest limit
+	 * imposed by common JDBC drivers, that is, {@value Short#MAX_VALUE}.
+	 *
+	 * @param parametersPerRow The number of JDBC parameters in each row
+	 *
+	 * @return The limit, or {@code 1} if multi-row inserts are not supported.
+	 *
+	 * @see org.hibernate.cfg.BatchSettings#MULTI_ROW_INSERTS
+	 *
+	 * @since 7.0
+	 */
+	public int getMultiRowInsertRowLimit(int parametersPerRow) {
+		if ( !supportsValuesListForInsert() ) {
+			return 1;
+		}
+		final int parameterCountLimit = getParameterCountLimit();
+		final int limit = parameterCountLimit > 0 ? parameterCountLimit : Short.MAX_VALUE;
+		return Math.max( 1, limit / Math.max( 1, parametersPerRow ) );
+	}
+
 	/**
 	 * Must LOB values occur last in inserts and updates?
 	 *
@@ -1148,6 +1148,11 @@ public int getParameterCountLimit() {
 		return wrapped.getParameterCountLimit();
 	}
 
+	@Override
+	public int getMultiRowInsertRowLimit(int parametersPerRow) {
+		return wrapped.getMultiRowInsertRowLimit( parametersPerRow );
+	}
+
 	@Override
 	public boolean forceLobAsLastValue() {
 		return wrapped.forceLobAsLastValue();
@@ -912,6 +912,12 @@ public int getMaxIdentifierLength() {
 		return 127;
 	}
 
+	@Override
+	public int getMultiRowInsertRowLimit(int parametersPerRow) {
+		// multi-row values lists are emulated using union all
+		return 1;
+	}
+
 	@Override
 	public LimitHandler getLimitHandler() {
 		return LimitOffsetLimitHandler.INSTANCE;
@@ -1270,6 +1270,12 @@ public int getInExpressionCountLimit() {
 				: PARAM_LIST_SIZE_LIMIT_1000;
 	}
 
+	@Override
+	public int getMultiRowInsertRowLimit(int parametersPerRow) {
+		// multi-row values lists are only supported since 23
+		return getVersion().isSameOrAfter( 23 ) ? super.getMultiRowInsertRowLimit( parametersPerRow ) : 1;
+	}
+
 	@Override
 	public boolean forceLobAsLastValue() {
 		return true;
@@ -705,6 +705,12 @@ public int getInExpressionCountLimit() {
 		return PARAM_LIST_SIZE_LIMIT;
 	}
 
+	@Override
+	public int getMultiRowInsertRowLimit(int parametersPerRow) {
+		// a table value constructor is limited to 1000 rows
+		return Math.min( 1000, super.getMultiRowInsertRowLimit( parametersPerRow ) );
+	}
+
 	@Override
 	public IdentityColumnSupport getIdentityColumnSupport() {
 		return SQLServerIdentityColumnSupport.INSTANCE;
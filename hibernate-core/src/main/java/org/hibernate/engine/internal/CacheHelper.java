@@ -4,6 +4,9 @@
  */
 package org.hibernate.engine.internal;
 
+import java.util.Collection;
+import java.util.Map;
+
 import org.hibernate.cache.MutableCacheKeyBuilder;
 import org.hibernate.cache.spi.access.CachedDomainDataAccess;
 import org.hibernate.engine.spi.SessionEventListenerManager;
@@ -13,6 +16,7 @@
 import org.hibernate.metamodel.mapping.JdbcMapping;
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.stat.spi.StatisticsImplementor;
 import org.hibernate.type.descriptor.converter.spi.BasicValueConverter;
 import org.hibernate.type.descriptor.java.JavaType;
 
@@ -44,10 +48,15 @@ public static Object fromSharedCache(
 		eventListenerManager.cacheGetStart();
 		final EventManager eventManager = session.getEventManager();
 		final HibernateMonitoringEvent cacheGetEvent = eventManager.beginCacheGetEvent();
+		final StatisticsImplementor statistics = session.getFactory().getStatistics();
+		final long startTime = statistics.isLatencyHistogramsEnabled() ? System.nanoTime() : 0;
 		try {
 			cachedValue = cacheAccess.get( session, cacheKey );
 		}
 		finally {
+			if ( startTime != 0 ) {
+				statistics.cacheReadLatency( cacheAccess.getRegion().getName(), System.nanoTime() - startTime );
+			}
 			eventManager.completeCacheGetEvent(
 					cacheGetEvent,
 					session,
@@ -71,10 +80,15 @@ public static Object fromSharedCache(
 		eventListenerManager.cacheGetStart();
 		final EventManager eventManager = session.getEventManager();
 		final HibernateMonitoringEvent cacheGetEvent = eventManager.beginCacheGetEvent();
+		final StatisticsImplementor statistics = session.getFactory().getStatistics();
+		final long startTime = statistics.isLatencyHistogramsEnabled() ? System.nanoTime() : 0;
 		try {
 			cachedValue = cacheAccess.get( session, cacheKey );
 		}
 		finally {
+			if ( startTime != 0 ) {
+				statistics.cacheReadLatency( cacheAccess.getRegion().getName(), System.nanoTime() - startTime );
+			}
 			eventManager.completeCacheGetEvent(
 					cacheGetEvent,
 					session,
@@ -86,6 +100,98 @@ public static Object fromSharedCache(
 		}
 		return cachedValue;
 	}
+	/**
+	 * Retrieve the entries with the given keys from the shared cache,
+	 * using a single {@link CachedDomainDataAccess#getAll bulk get}.
+	 *
+	 * @return the entries found in the cache, keyed by cache key
+	 */
+	public static Map<Object, Object> allFromSharedCache(
+			SharedSessionContractImplementor session,
+			Collection<?> cacheKeys,
+			EntityPersister persister,
+			CachedDomainDataAccess cacheAccess) {
+		return allFromSharedCache( session, cacheKeys, persister, false, cacheAccess );
+	}
+
+	/**
+	 * Retrieve the entries with the given keys from the shared cache,
+	 * using a single {@link CachedDomainDataAccess#getAll bulk get}.
+	 *
+	 * @return the entries found in the cache, keyed by cache key
+	 */
+	public static Map<Object, Object> allFromSharedCache(
+			SharedSessionContractImplementor session,
+			Collection<?> cacheKeys,
+			EntityPersister persister,
+			boolean isNaturalKey,
+			CachedDomainDataAccess cacheAccess) {
+		final SessionEventListenerManager eventListenerManager = session.getEventListenerManager();
+		Map<Object, Object> cachedValues = null;
+		eventListenerManager.cacheGetStart();
+		final EventManager eventManager = session.getEventManager();
+		final HibernateMonitoringEvent cacheGetEvent = eventManager.beginCacheGetEvent();
+		final StatisticsImplementor statistics = session.getFactory().getStatistics();
+		final long startTime = statistics.isLatencyHistogramsEnabled() ? System.nanoTime() : 0;
+		try {
+			cachedValues = cacheAccess.getAll( session, cacheKeys );
+		}
+		finally {
+			if ( startTime != 0 ) {
+				statistics.cacheReadLatency( cacheAccess.getRegion().getName(), System.nanoTime() - startTime );
+			}
+			final boolean hit = cachedValues != null && !cachedValues.isEmpty();
+			eventManager.completeCacheGetEvent(
+					cacheGetEvent,
+					session,
+					cacheAccess.getRegion(),
+					persister,
+					isNaturalKey,
+					hit
+			);
+			eventListenerManager.cacheGetEnd( hit );
+		}
+		return cachedValues;
+	}
+
+	/**
+	 * Retrieve the entries with the given keys from the shared cache,
+	 * using a single {@link CachedDomainDataAccess#getAll bulk get}.
+	 *
+	 * @return the entries found in the cache, keyed by cache key
+	 */
+	public static Map<Object, Object> allFromSharedCache(
+			SharedSessionContractImplementor session,
+			Collection<?> cacheKeys,
+			CollectionPersister persister,
+			CachedDomainDataAccess cacheAccess) {
+		final SessionEventListenerManager eventListenerManager = session.getEventListenerManager();
+		Map<Object, Object> cachedValues = null;
+		eventListenerManager.cacheGetStart();
+		final EventManager eventManager = session.getEventManager();
+		final HibernateMonitoringEvent cacheGetEvent = eventManager.beginCacheGetEvent();
+		final StatisticsImplementor statistics = session.getFactory().getStatistics();
+		final long startTime = statistics.isLatencyHistogramsEnabled() ? System.nanoTime() : 0;
+		try {
+			cachedValues = cacheAccess.getAll( session, cacheKeys );
+		}
+		finally {
+			if ( startTime != 0 ) {
+				statistics.cacheReadLatency( cacheAccess.getRegion().getName(), System.nanoTime() - startTime );
+			}
+			final boolean hit = cachedValues != null && !cachedValues.isEmpty();
+			eventManager.completeCacheGetEvent(
+					cacheGetEvent,
+					session,
+					cacheAccess.getRegion(),
+					persister,
+					hit
+			);
+			eventListenerManager.cacheGetEnd( hit );
+		}
+		return cachedValues;
+	}
+
 	public static void addBasicValueToCacheKey(
 			MutableCacheKeyBuilder cacheKey,
 			Object value,
@@ -0,0 +1,351 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.engine.internal;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+import org.hibernate.engine.spi.EntityHolder;
+import org.hibernate.engine.spi.EntityKey;
+
+/**
+ * A compact {@code Map} of {@link EntityHolder}s by {@link EntityKey}, used by
+ * {@link StatefulPersistenceContext} as an alternative to {@link java.util.HashMap}
+ * when {@value org.hibernate.cfg.PersistenceSettings#PERSISTENCE_CONTEXT_COMPACT_ENTITY_STORAGE}
+ * is enabled.
+ * <p>
+ * The map uses open addressing with linear probing over two parallel arrays: one holding
+ * the (cached) hash code of each key, and one holding the holder itself. The key is never
+ * stored separately, since every holder already references its own {@link EntityKey}, so
+ * that an entry costs two array slots rather than a {@code HashMap.Node} plus a reference
+ * to the key. Removal uses backward shifting, so no tombstones accumulate when entities
+ * are repeatedly evicted and re-added.
+ * <p>
+ * The views returned by {@link #entrySet()}, {@link #keySet()} and {@link #values()} are
+ * read-only, and their iterators are fail-fast.
+ *
+ * @implNote Every holder must be stored under a key equal to its own
+ *           {@link EntityHolder#getEntityKey() entity key}, and the key of a holder
+ *           must not change while the holder is in the map.
+ *
+ * @param <H> the concrete type of holder
+ */
+final class EntityHolderMap<H extends EntityHolder> extends AbstractMap<EntityKey, H> {
+	private static final int MIN_CAPACITY = 8;
+	private static final float LOAD_FACTOR = 0.6f;
+
+	private int[] hashes;
+	private EntityHolder[] holders;
+	private int size;
+	private int resizeThreshold;
+	private int modCount;
+
+	EntityHolderMap(int expectedSize) {
+		allocate( tableSizeFor( expectedSize ) );
+	}
+
+	private static int tableSizeFor(int expectedSize) {
+		final int required = (int) Math.ceil( Math.max( expectedSize, MIN_CAPACITY ) / LOAD_FACTOR );
+		return Integer.highestOneBit( required - 1 ) << 1;
+	}
+
+	private void allocate(int capacity) {
+		hashes = new int[capacity];
+		holders = new EntityHolder[capacity];
+		resizeThreshold = (int) ( capacity * LOAD_FACTOR );
+	}
+
+	private static int slot(int hash, int mask) {
+		// EntityKey hash codes are often sequential ids, so spread the bits
+		// before masking to avoid long runs of adjacent occupied slots
+		final int h = hash * 0x9E3779B9;
+		return ( h ^ ( h >>> 16 ) ) & mask;
+	}
+
+	/**
+	 * @return the index of the slot holding the given key, or a negative
+	 *         value {@code -(insertionSlot + 1)} if the key is not present
+	 */
+	private int indexOf(EntityKey key) {
+		final int hash = key.hashCode();
+		final int mask = holders.length - 1;
+		int index = slot( hash, mask );
+		while ( true ) {
+			final EntityHolder holder = holders[index];
+			if ( holder == null ) {
+				return -index - 1;
+			}
+			if ( hashes[index] == hash ) {
+				final EntityKey existing = holder.getEntityKey();
+				if ( existing == key || existing.equals( key ) ) {
+					return index;
+				}
+			}
+			index = ( index + 1 ) & mask;
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private H holderAt(int index) {
+		return (H) holders[index];
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return key instanceof EntityKey entityKey && indexOf( entityKey ) >= 0;
+	}
+
+	@Override
+	public boolean containsValue(Object value) {
+		if ( value instanceof EntityHolder holder ) {
+			final int index = indexOf( holder.getEntityKey() );
+			return index >= 0 && holders[index] == holder;
+		}
+		return false;
+	}
+
+	@Override
+	public H get(Object key) {
+		if ( key instanceof EntityKey entityKey ) {
+			final int index = indexOf( entityKey );
+			return index < 0 ? null : holderAt( index );
+		}
+		return null;
+	}
+
+	@Override
+	public H put(EntityKey key, H holder) {
+		return put( key, holder, false );
+	}
+
+	@Override
+	public H putIfAbsent(EntityKey key, H holder) {
+		return put( key, holder, true );
+	}
+
+	private H put(EntityKey key, H holder, boolean onlyIfAbsent) {
+		if ( holder == null ) {
+			throw new NullPointerException( "EntityHolderMap does not support null values" );
+		}
+		assert key.equals( holder.getEntityKey() ) : "EntityHolder stored under a key other than its own";
+		final int index = indexOf( key );
+		if ( index >= 0 ) {
+			final H previous = holderAt( index );
+			if ( !onlyIfAbsent ) {
+				holders[index] = holder;
+			}
+			return previous;
+		}
+		else {
+			final int insertionIndex = -index - 1;
+			hashes[insertionIndex] = key.hashCode();
+			holders[insertionIndex] = holder;
+			modCount++;
+			if ( ++size > resizeThreshold ) {
+				resize( holders.length << 1 );
+			}
+			return null;
+		}
+	}
+
+	@Override
+	public H remove(Object key) {
+		if ( key instanceof EntityKey entityKey ) {
+			final int index = indexOf( entityKey );
+			if ( index >= 0 ) {
+				final H previous = holderAt( index );
+				removeAt( index );
+				return previous;
+			}
+		}
+		return null;
+	}
+
+	private void removeAt(int index) {
+		final int mask = holders.length - 1;
+		int gap = index;
+		int next = index;
+		while ( true ) {
+			next = ( next + 1 ) & mask;
+			final EntityHolder holder = holders[next];
+			if ( holder == null ) {
+				break;
+			}
+			final int ideal = slot( hashes[next], mask );
+			// move the entry back into the gap unless its ideal
+			// slot lies cyclically within (gap, next]
+			if ( ( ( next - ideal ) & mask ) >= ( ( next - gap ) & mask ) ) {
+				hashes[gap] = hashes[next];
+				holders[gap] = holder;
+				gap = next;
+			}
+		}
+		hashes[gap] = 0;
+		holders[gap] = null;
+		size--;
+		modCount++;
+	}
+
+	private void resize(int newCapacity) {
+		final int[] oldHashes = hashes;
+		final EntityHolder[] oldHolders = holders;
+		allocate( newCapacity );
+		final int mask = newCapacity - 1;
+		for ( int i = 0; i < oldHolders.length; i++ ) {
+			final EntityHolder holder = oldHolders[i];
+			if ( holder != null ) {
+				final int hash = oldHashes[i];
+				int index = slot( hash, mask );
+				while ( holders[index] != null ) {
+					index = ( index + 1 ) & mask;
+				}
+				hashes[index] = hash;
+				holders[index] = holder;
+			}
+		}
+	}
+
+	@Override
+	public void clear() {
+		if ( size > 0 ) {
+			Arrays.fill( hashes, 0 );
+			Arrays.fill( holders, null );
+			size = 0;
+			modCount++;
+		}
+	}
+
+	@Override
+	public void forEach(BiConsumer<? super EntityKey, ? super H> action) {
+		final int expectedModCount = modCount;
+		final EntityHolder[] holders = this.holders;
+		for ( int i = 0; i < holders.length; i++ ) {
+			final EntityHolder holder = holders[i];
+			if ( holder != null ) {
+				action.accept( holder.getEntityKey(), holderAt( i ) );
+				if ( modCount != expectedModCount ) {
+					throw new ConcurrentModificationException();
+				}
+			}
+		}
+	}
+
+	@Override
+	public Set<Entry<EntityKey, H>> entrySet() {
+		return new AbstractSet<>() {
+			@Override
+			public Iterator<Entry<EntityKey, H>> iterator() {
+				return new SlotIterator<>() {
+					@Override
+					Entry<EntityKey, H> element(H holder) {
+						return new SimpleImmutableEntry<>( holder.getEntityKey(), holder );
+					}
+				};
+			}
+
+			@Override
+			public int size() {
+				return size;
+			}
+		};
+	}
+
+	@Override
+	public Set<EntityKey> keySet() {
+		return new AbstractSet<>() {
+			@Override
+			public Iterator<EntityKey> iterator() {
+				return new SlotIterator<>() {
+					@Override
+					EntityKey element(H holder) {
+						return holder.getEntityKey();
+					}
+				};
+			}
+
+			@Override
+			public boolean contains(Object key) {
+				return containsKey( key );
+			}
+
+			@Override
+			public int size() {
+				return size;
+			}
+		};
+	}
+
+	@Override
+	public Collection<H> values() {
+		return new AbstractCollection<>() {
+			@Override
+			public Iterator<H> iterator() {
+				return new SlotIterator<>() {
+					@Override
+					H element(H holder) {
+						return holder;
+					}
+				};
+			}
+
+			@Override
+			public int size() {
+				return size;
+			}
+		};
+	}
+
+	private abstract class SlotIterator<T> implements Iterator<T> {
+		private final int expectedModCount = modCount;
+		private int index = advance( 0 );
+
+		abstract T element(H holder);
+
+		private int advance(int from) {
+			final EntityHolder[] holders = EntityHolderMap.this.holders;
+			int i = from;
+			while ( i < holders.length && holders[i] == null ) {
+				i++;
+			}
+			return i;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return index < holders.length;
+		}
+
+		@Override
+		public T next() {
+			if ( modCount != expectedModCount ) {
+				throw new ConcurrentModificationException();
+			}
+			if ( index >= holders.length ) {
+				throw new NoSuchElementException();
+			}
+			final H holder = holderAt( index );
+			index = advance( index + 1 );
+			return element( holder );
+		}
+	}
+}
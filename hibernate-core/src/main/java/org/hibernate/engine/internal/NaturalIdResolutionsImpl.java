@@ -13,6 +13,7 @@
 import java.util.concurrent.ConcurrentHashMap;
 
 import org.hibernate.AssertionFailure;
+import org.hibernate.cache.internal.NaturalIdNegativeCache;
 import org.hibernate.cache.spi.access.NaturalIdDataAccess;
 import org.hibernate.cache.spi.access.SoftLock;
 import org.hibernate.engine.spi.CachedNaturalIdValueSource;
@@ -232,6 +233,10 @@ public void manageSharedResolution(
 			return;
 		}
 
+		if ( source == CachedNaturalIdValueSource.INSERT || source == CachedNaturalIdValueSource.UPDATE ) {
+			invalidateAbsentNaturalIds( entityDescriptor );
+		}
+
 		if ( naturalIdMapping.getCacheAccess() == null ) {
 			// nothing to do
 			return;
@@ -634,7 +639,12 @@ public Object findCachedIdByNaturalId(Object naturalId, EntityMappingType entity
 			}
 		}
 
-		// Session cache miss, see if second-level caching is enabled
+		// Session cache miss, see if the natural id is known not to exist
+		if ( isKnownAbsent( naturalId, persister ) ) {
+			return NaturalIdResolutions.INVALID_NATURAL_ID_REFERENCE;
+		}
+
+		// See if second-level caching is enabled
 		if ( !persister.hasNaturalIdCache() ) {
 			return null;
 		}
@@ -645,10 +655,76 @@ public Object findCachedIdByNaturalId(Object naturalId, EntityMappingType entity
 		final Object naturalIdCacheKey = naturalIdCacheAccessStrategy.generateCacheKey( naturalId, persister, session );
 
 		pk = CacheHelper.fromSharedCache( session, naturalIdCacheKey, persister, true, naturalIdCacheAccessStrategy );
+		resolvedFromSharedCache( persister, cachedNaturalId, pk );
+		return pk;
+	}
 
-		// Found in second-level cache, store in session cache
-		final SessionFactoryImplementor factory = session.getFactory();
-		final StatisticsImplementor statistics = factory.getStatistics();
+	@Override
+	public Object[] findCachedIdsByNaturalIds(Object[] naturalIds, EntityMappingType entityDescriptor) {
+		final EntityPersister persister = locatePersisterForKey( entityDescriptor.getEntityPersister() );
+		final EntityResolutions entityNaturalIdResolutionCache = resolutionsByEntity.get( persister );
+
+		final Object[] pks = new Object[naturalIds.length];
+		final Resolution[] misses = new Resolution[naturalIds.length];
+		int missCount = 0;
+		for ( int i = 0; i < naturalIds.length; i++ ) {
+			final Object naturalId = naturalIds[i];
+			validateNaturalId( persister, naturalId );
+			final Resolution cachedNaturalId = new ResolutionImpl( persister, naturalId, persistenceContext );
+			if ( entityNaturalIdResolutionCache != null ) {
+				final Object pk = entityNaturalIdResolutionCache.naturalIdToPkMap.get( cachedNaturalId );
+				if ( pk != null ) {
+					pks[i] = pk;
+					continue;
+				}
+				if ( entityNaturalIdResolutionCache.containsInvalidNaturalIdReference( naturalId ) ) {
+					pks[i] = NaturalIdResolutions.INVALID_NATURAL_ID_REFERENCE;
+					continue;
+				}
+			}
+			if ( isKnownAbsent( naturalId, persister ) ) {
+				pks[i] = NaturalIdResolutions.INVALID_NATURAL_ID_REFERENCE;
+				continue;
+			}
+			misses[i] = cachedNaturalId;
+			missCount++;
+		}
+
+		if ( missCount == 0 || !persister.hasNaturalIdCache() ) {
+			return pks;
+		}
+
+		// Try resolution of the session cache misses from second-level cache, in bulk
+		final NaturalIdDataAccess naturalIdCacheAccessStrategy = persister.getNaturalIdCacheAccessStrategy();
+		final SharedSessionContractImplementor session = session();
+		final Object[] naturalIdCacheKeys = new Object[naturalIds.length];
+		final List<Object> cacheKeysToGet = new ArrayList<>( missCount );
+		for ( int i = 0; i < naturalIds.length; i++ ) {
+			if ( misses[i] != null ) {
+				naturalIdCacheKeys[i] = naturalIdCacheAccessStrategy.generateCacheKey( naturalIds[i], persister, session );
+				cacheKeysToGet.add( naturalIdCacheKeys[i] );
+			}
+		}
+
+		final Map<Object, Object> cachedPks =
+				CacheHelper.allFromSharedCache( session, cacheKeysToGet, persister, true, naturalIdCacheAccessStrategy );
+		for ( int i = 0; i < naturalIds.length; i++ ) {
+			if ( misses[i] != null ) {
+				pks[i] = cachedPks == null ? null : cachedPks.get( naturalIdCacheKeys[i] );
+				resolvedFromSharedCache( persister, misses[i], pks[i] );
+			}
+		}
+		return pks;
+	}
+
+	/**
+	 * Record the outcome of the attempt to resolve the given natural id from
+	 * the second-level cache, storing the resolution in the session cache if
+	 * it was found.
+	 */
+	private void resolvedFromSharedCache(EntityPersister persister, Resolution cachedNaturalId, Object pk) {
+		final NaturalIdDataAccess naturalIdCacheAccessStrategy = persister.getNaturalIdCacheAccessStrategy();
+		final StatisticsImplementor statistics = session().getFactory().getStatistics();
 		final boolean statisticsEnabled = statistics.isStatisticsEnabled();
 		if ( pk != null ) {
 			if ( statisticsEnabled ) {
@@ -662,12 +738,13 @@ public Object findCachedIdByNaturalId(Object naturalId, EntityMappingType entity
 				// protected to avoid Arrays.toString call unless needed
 				LOG.tracef(
 						"Found natural key [%s] -> primary key [%s] xref in second-level cache for %s",
-						naturalId,
+						cachedNaturalId.getNaturalIdValue(),
 						pk,
 						persister.getRootEntityName()
 				);
 			}
 
+			EntityResolutions entityNaturalIdResolutionCache = resolutionsByEntity.get( persister );
 			if ( entityNaturalIdResolutionCache == null ) {
 				entityNaturalIdResolutionCache = new EntityResolutions( persister, persistenceContext );
 				EntityResolutions existingCache = resolutionsByEntity.putIfAbsent( persister, entityNaturalIdResolutionCache );
@@ -685,8 +762,35 @@ else if ( statisticsEnabled ) {
 					naturalIdCacheAccessStrategy.getRegion().getName()
 			);
 		}
+	}
 
-		return pk;
+	/**
+	 * Is the given natural id remembered as not identifying any entity?
+	 *
+	 * @see org.hibernate.cfg.CacheSettings#NATURAL_ID_NEGATIVE_CACHE_TTL
+	 */
+	private boolean isKnownAbsent(Object naturalId, EntityPersister persister) {
+		final SharedSessionContractImplementor session = session();
+		final NaturalIdNegativeCache negativeCache = session.getFactory().getCache().getNaturalIdNegativeCache();
+		return negativeCache != null
+			&& session.getCacheMode().isGetEnabled()
+			&& negativeCache.isAbsent( naturalId, persister, session );
+	}
+
+	/**
+	 * Forget the natural ids of the given entity hierarchy which are remembered
+	 * as not identifying any entity, now and again once the transaction which
+	 * inserted or updated an entity of the hierarchy completes.
+	 */
+	private void invalidateAbsentNaturalIds(EntityMappingType entityDescriptor) {
+		final SharedSessionContractImplementor session = session();
+		final NaturalIdNegativeCache negativeCache = session.getFactory().getCache().getNaturalIdNegativeCache();
+		if ( negativeCache != null ) {
+			negativeCache.invalidate( entityDescriptor );
+			session.asEventSource().getActionQueue().registerProcess(
+					(success, s) -> negativeCache.invalidate( entityDescriptor )
+			);
+		}
 	}
 
 	@Override
@@ -114,7 +114,8 @@ the following fields are used in all circumstances, and are not worth (or not su
 	 */
 
 	// Loaded entity instances, by EntityKey
-	private HashMap<EntityKey, EntityHolderImpl> entitiesByKey;
+	// (either a HashMap or an EntityHolderMap, see PersistenceSettings#PERSISTENCE_CONTEXT_COMPACT_ENTITY_STORAGE)
+	private Map<EntityKey, EntityHolderImpl> entitiesByKey;
 
 	// New entity holder cached instance
 	private EntityHolderImpl newEntityHolder;
@@ -180,11 +181,19 @@ public StatefulPersistenceContext(SharedSessionContractImplementor session) {
 
 	private Map<EntityKey, EntityHolderImpl> getOrInitializeEntitiesByKey() {
 		if ( entitiesByKey == null ) {
-			entitiesByKey = CollectionHelper.mapOfSize( INIT_COLL_SIZE );
+			entitiesByKey = createEntitiesByKeyMap( session, INIT_COLL_SIZE );
 		}
 		return entitiesByKey;
 	}
 
+	private static Map<EntityKey, EntityHolderImpl> createEntitiesByKeyMap(
+			SharedSessionContractImplementor session,
+			int size) {
+		return session.getFactory().getSessionFactoryOptions().isCompactEntityStorageEnabled()
+				? new EntityHolderMap<>( size )
+				: CollectionHelper.mapOfSize( size );
+	}
+
 	private EntityHolderImpl getOrInitializeNewHolder() {
 		if ( newEntityHolder == null ) {
 			return newEntityHolder = new EntityHolderImpl();
@@ -1963,7 +1972,7 @@ public static StatefulPersistenceContext deserialize(
 			if ( traceEnabled ) {
 				LOG.trace( "Starting deserialization of [" + count + "] entitiesByKey entries" );
 			}
-			rtn.entitiesByKey = CollectionHelper.mapOfSize(Math.max(count, INIT_COLL_SIZE));
+			rtn.entitiesByKey = createEntitiesByKeyMap( session, Math.max( count, INIT_COLL_SIZE ) );
 			for ( int i = 0; i < count; i++ ) {
 				final EntityKey ek = EntityKey.deserialize( ois, sfi );
 				final EntityPersister persister = sfi.getMappingMetamodel().getEntityDescriptor( (String) ois.readObject() );
@@ -15,6 +15,7 @@
 import org.hibernate.engine.jdbc.mutation.internal.PreparedStatementGroupSingleTable;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.sql.model.TableMapping;
 import org.hibernate.sql.model.jdbc.JdbcInsertMutation;
 
@@ -28,6 +29,7 @@
  */
 public class BatchBuilderImpl implements BatchBuilder {
 	private final int globalBatchSize;
+	private final boolean multiRowInserts;
 
 	/**
 	 * Constructs a BatchBuilderImpl
@@ -36,14 +38,28 @@ public class BatchBuilderImpl implements BatchBuilder {
 	 * on {@link #buildBatch}
 	 */
 	public BatchBuilderImpl(int globalBatchSize) {
+		this( globalBatchSize, false );
+	}
+
+	/**
+	 * Constructs a BatchBuilderImpl
+	 *
+	 * @param globalBatchSize The batch size to use.  Can be overridden
+	 * on {@link #buildBatch}
+	 * @param multiRowInserts Whether to use {@linkplain MultiRowInsertBatch
+	 * multi-row inserts} for batches of insert statements
+	 */
+	public BatchBuilderImpl(int globalBatchSize, boolean multiRowInserts) {
 		if ( BATCH_LOGGER.isTraceEnabled() ) {
 			BATCH_LOGGER.tracef(
-					"Using standard BatchBuilder (%s)",
-					globalBatchSize
+					"Using standard BatchBuilder (%s, multi-row inserts: %s)",
+					globalBatchSize,
+					multiRowInserts
 			);
 		}
 
 		this.globalBatchSize = globalBatchSize;
+		this.multiRowInserts = multiRowInserts;
 	}
 
 	public int getJdbcBatchSize() {
@@ -61,7 +77,13 @@ public Batch buildBatch(
 				: explicitBatchSize;
 		assert batchSize > 1;
 
-		return new BatchImpl( key, statementGroupSupplier.get(), batchSize, jdbcCoordinator );
+		final PreparedStatementGroup statementGroup = statementGroupSupplier.get();
+		if ( multiRowInserts
+				&& jdbcCoordinator.getJdbcSessionOwner() instanceof SharedSessionContractImplementor
+				&& MultiRowInsertBatch.isApplicable( statementGroup ) ) {
+			return new MultiRowInsertBatch( key, statementGroup, batchSize, jdbcCoordinator );
+		}
+		return new BatchImpl( key, statementGroup, batchSize, jdbcCoordinator );
 	}
 
 
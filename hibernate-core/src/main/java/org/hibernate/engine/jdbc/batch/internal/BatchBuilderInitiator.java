@@ -40,7 +40,8 @@ public BatchBuilder initiateService(Map<String, Object> configurationValues, Ser
 
 		if ( builder == null ) {
 			return new BatchBuilderImpl(
-					ConfigurationHelper.getInt( BatchSettings.STATEMENT_BATCH_SIZE, configurationValues, 1 )
+					ConfigurationHelper.getInt( BatchSettings.STATEMENT_BATCH_SIZE, configurationValues, 1 ),
+					ConfigurationHelper.getBoolean( BatchSettings.MULTI_ROW_INSERTS, configurationValues )
 			);
 		}
 
@@ -0,0 +1,459 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.hibernate.StaleStateException;
+import org.hibernate.engine.jdbc.batch.spi.Batch;
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.jdbc.batch.spi.BatchObserver;
+import org.hibernate.engine.jdbc.mutation.JdbcValueBindings;
+import org.hibernate.engine.jdbc.mutation.TableInclusionChecker;
+import org.hibernate.engine.jdbc.mutation.group.PreparedStatementDetails;
+import org.hibernate.engine.jdbc.mutation.group.PreparedStatementGroup;
+import org.hibernate.engine.jdbc.mutation.spi.Binding;
+import org.hibernate.engine.jdbc.mutation.spi.BindingGroup;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
+import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.spi.EventManager;
+import org.hibernate.event.spi.HibernateMonitoringEvent;
+import org.hibernate.jdbc.BatchedTooManyRowsAffectedException;
+import org.hibernate.jdbc.Expectation;
+import org.hibernate.resource.jdbc.spi.JdbcEventHandler;
+import org.hibernate.sql.model.TableMapping;
+
+import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_LOGGER;
+import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_MESSAGE_LOGGER;
+
+/**
+ * A {@link Batch} of inserts which, instead of adding each row to a JDBC
+ * batch, collects the values bound for each row, and, when the batch is
+ * executed, writes many rows using a single {@code insert} statement with a
+ * multi-row {@code values} clause, of form {@code insert into t (a,b) values
+ * (?,?),(?,?),(?,?)}. This avoids a parse/bind/execute cycle per row on
+ * drivers which do not rewrite batched inserts themselves.
+ * <p>
+ * The number of rows written by a statement is limited by the batch size,
+ * and by the {@linkplain org.hibernate.dialect.Dialect#getMultiRowInsertRowLimit
+ * limit} imposed by the Dialect. When there are more pending rows than that,
+ * the rows are written using a JDBC batch of multi-row statements, followed
+ * by a single statement for the remaining rows.
+ * <p>
+ * Only used for groups of insert statements {@linkplain #isApplicable rendered}
+ * in the standard form, without a {@code returning} clause.
+ *
+ * @see org.hibernate.cfg.BatchSettings#MULTI_ROW_INSERTS
+ */
+public class MultiRowInsertBatch implements Batch {
+	private static final String VALUES = ") values (";
+
+	private final BatchKey key;
+	private final int batchSizeToUse;
+	private final PreparedStatementGroup statementGroup;
+
+	private final JdbcCoordinator jdbcCoordinator;
+	private final SharedSessionContractImplementor session;
+	private final SqlStatementLogger sqlStatementLogger;
+	private final SqlExceptionHelper sqlExceptionHelper;
+
+	private final LinkedHashSet<BatchObserver> observers = new LinkedHashSet<>();
+	private final Map<String, PendingRows> pendingRowsByTable = new LinkedHashMap<>();
+
+	private int batchPosition;
+
+	public MultiRowInsertBatch(
+			BatchKey key,
+			PreparedStatementGroup statementGroup,
+			int batchSizeToUse,
+			JdbcCoordinator jdbcCoordinator) {
+		if ( key == null ) {
+			throw new IllegalArgumentException( "Batch key cannot be null" );
+		}
+		if ( !( jdbcCoordinator.getJdbcSessionOwner() instanceof SharedSessionContractImplementor ) ) {
+			throw new IllegalArgumentException( "JDBC coordinator must belong to a session" );
+		}
+
+		this.key = key;
+		this.batchSizeToUse = batchSizeToUse;
+		this.statementGroup = statementGroup;
+		this.jdbcCoordinator = jdbcCoordinator;
+		this.session = (SharedSessionContractImplementor) jdbcCoordinator.getJdbcSessionOwner();
+
+		final JdbcServices jdbcServices = jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getJdbcServices();
+		this.sqlStatementLogger = jdbcServices.getSqlStatementLogger();
+		this.sqlExceptionHelper = jdbcServices.getSqlExceptionHelper();
+
+		statementGroup.forEachStatement( (tableName, statementDetails) -> {
+			final String sql = statementDetails.getSqlString();
+			final int valuesStart = sql.indexOf( VALUES ) + VALUES.length() - 1;
+			final String prefix = sql.substring( 0, valuesStart );
+			final String row = sql.substring( valuesStart );
+			final int parametersPerRow = countParameters( row );
+			final int maxRows = Math.min(
+					batchSizeToUse,
+					jdbcServices.getDialect().getMultiRowInsertRowLimit( parametersPerRow )
+			);
+			pendingRowsByTable.put(
+					statementDetails.getMutatingTableDetails().getTableName(),
+					new PendingRows( statementDetails, prefix, row, parametersPerRow, maxRows )
+			);
+		} );
+
+		if ( BATCH_LOGGER.isTraceEnabled() ) {
+			BATCH_MESSAGE_LOGGER.createBatch(
+					batchSizeToUse,
+					key.toLoggableString()
+			);
+		}
+	}
+
+	/**
+	 * Can the statements of the given group be written using multi-row inserts?
+	 * This is the case if every statement is an {@code insert} rendered in the
+	 * standard form, {@code insert into t (a,b) values (?,?)}, without custom
+	 * SQL, and with a row count expectation which can be checked in bulk.
+	 */
+	public static boolean isApplicable(PreparedStatementGroup statementGroup) {
+		return statementGroup.getNumberOfStatements() > 0
+			&& !statementGroup.hasMatching( statementDetails -> !isApplicable( statementDetails ) );
+	}
+
+	private static boolean isApplicable(PreparedStatementDetails statementDetails) {
+		final TableMapping.MutationDetails insertDetails =
+				statementDetails.getMutatingTableDetails().getInsertDetails();
+		if ( insertDetails != null && insertDetails.getCustomSql() != null ) {
+			return false;
+		}
+		final Expectation expectation = statementDetails.getExpectation();
+		if ( !( expectation instanceof Expectation.None || expectation instanceof Expectation.RowCount )
+				|| expectation.getNumberOfParametersUsed() > 0 ) {
+			return false;
+		}
+		final String sql = statementDetails.getSqlString();
+		// the statement must be exactly one row of values, and
+		// must not have a comment, returning clause or wrapper
+		return sql.startsWith( "insert into " )
+			&& sql.endsWith( ")" )
+			&& sql.indexOf( VALUES ) > 0
+			&& sql.indexOf( VALUES ) == sql.lastIndexOf( VALUES )
+			&& countParameters( sql.substring( sql.indexOf( VALUES ) ) ) > 0;
+	}
+
+	/**
+	 * Count the parameter markers in the given SQL, skipping over quoted
+	 * literals and identifiers, for example, a discriminator value.
+	 *
+	 * @return the number of parameters, or -1 if a quote is not closed
+	 */
+	private static int countParameters(String sql) {
+		int count = 0;
+		for ( int i = 0; i < sql.length(); i++ ) {
+			final char character = sql.charAt( i );
+			if ( character == '\'' || character == '"' ) {
+				// an escaped quote is read as two adjacent literals
+				i = sql.indexOf( character, i + 1 );
+				if ( i < 0 ) {
+					return -1;
+				}
+			}
+			else if ( character == '?' ) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	@Override
+	public final BatchKey getKey() {
+		return key;
+	}
+
+	@Override
+	public PreparedStatementGroup getStatementGroup() {
+		return statementGroup;
+	}
+
+	@Override
+	public void addObserver(BatchObserver observer) {
+		observers.add( observer );
+	}
+
+	@Override
+	public void addToBatch(
+			JdbcValueBindings jdbcValueBindings,
+			TableInclusionChecker inclusionChecker,
+			StaleStateMapper staleStateMapper) {
+		// an insert can't fail due to stale state
+		addToBatch( jdbcValueBindings, inclusionChecker );
+	}
+
+	@Override
+	public void addToBatch(JdbcValueBindings jdbcValueBindings, TableInclusionChecker inclusionChecker) {
+		if ( BATCH_LOGGER.isTraceEnabled() ) {
+			BATCH_MESSAGE_LOGGER.addToBatch(
+					batchPosition + 1,
+					batchSizeToUse,
+					getKey().toLoggableString()
+			);
+		}
+
+		for ( PendingRows pendingRows : pendingRowsByTable.values() ) {
+			final TableMapping table = pendingRows.statementDetails.getMutatingTableDetails();
+			if ( inclusionChecker == null || inclusionChecker.include( table ) ) {
+				final BindingGroup bindingGroup = jdbcValueBindings.getBindingGroup( table.getTableName() );
+				final List<Binding> row = bindingGroup == null
+						? List.of()
+						: new ArrayList<>( bindingGroup.getBindings() );
+				jdbcValueBindings.afterStatement( table );
+				pendingRows.rows.add( row );
+			}
+		}
+
+		batchPosition++;
+		if ( batchPosition == batchSizeToUse ) {
+			notifyObserversImplicitExecution();
+			performExecution();
+		}
+	}
+
+	@Override
+	public void execute() {
+		notifyObserversExplicitExecution();
+		if ( batchPosition == 0 ) {
+			if ( BATCH_LOGGER.isDebugEnabled() ) {
+				BATCH_LOGGER.debugf(
+						"No batched statements to execute - %s",
+						getKey().toLoggableString()
+				);
+			}
+		}
+		else {
+			performExecution();
+		}
+	}
+
+	protected void performExecution() {
+		if ( BATCH_LOGGER.isTraceEnabled() ) {
+			BATCH_MESSAGE_LOGGER.executeBatch(
+					batchPosition,
+					batchSizeToUse,
+					getKey().toLoggableString()
+			);
+		}
+
+		try {
+			for ( PendingRows pendingRows : pendingRowsByTable.values() ) {
+				pendingRows.execute();
+			}
+		}
+		catch (RuntimeException e) {
+			// the rows of the other tables can't be written either
+			abortBatch( e );
+			throw e;
+		}
+		finally {
+			for ( PendingRows pendingRows : pendingRowsByTable.values() ) {
+				pendingRows.rows.clear();
+			}
+			batchPosition = 0;
+		}
+	}
+
+	protected void abortBatch(Exception cause) {
+		try {
+			jdbcCoordinator.abortBatch();
+		}
+		catch (RuntimeException e) {
+			cause.addSuppressed( e );
+		}
+	}
+
+	@Override
+	public void release() {
+		for ( PendingRows pendingRows : pendingRowsByTable.values() ) {
+			pendingRows.rows.clear();
+		}
+		batchPosition = 0;
+		statementGroup.release();
+		observers.clear();
+	}
+
+	protected final void notifyObserversExplicitExecution() {
+		for ( BatchObserver observer : observers ) {
+			observer.batchExplicitlyExecuted();
+		}
+	}
+
+	protected final void notifyObserversImplicitExecution() {
+		for ( BatchObserver observer : observers ) {
+			observer.batchImplicitlyExecuted();
+		}
+	}
+
+	/**
+	 * The rows waiting to be inserted into one table.
+	 */
+	private class PendingRows {
+		private final PreparedStatementDetails statementDetails;
+		private final String prefix;
+		private final String row;
+		private final int parametersPerRow;
+		private final int maxRows;
+		private final List<List<Binding>> rows = new ArrayList<>();
+
+		private PendingRows(
+				PreparedStatementDetails statementDetails,
+				String prefix,
+				String row,
+				int parametersPerRow,
+				int maxRows) {
+			this.statementDetails = statementDetails;
+			this.prefix = prefix;
+			this.row = row;
+			this.parametersPerRow = parametersPerRow;
+			this.maxRows = Math.max( 1, maxRows );
+		}
+
+		private String sql(int numberOfRows) {
+			final StringBuilder sql = new StringBuilder( prefix.length() + ( row.length() + 1 ) * numberOfRows );
+			sql.append( prefix ).append( row );
+			for ( int i = 1; i < numberOfRows; i++ ) {
+				sql.append( ',' ).append( row );
+			}
+			return sql.toString();
+		}
+
+		private void execute() {
+			final int numberOfRows = rows.size();
+			if ( numberOfRows == 0 ) {
+				return;
+			}
+			final int fullStatements = numberOfRows / maxRows;
+			final int remainingRows = numberOfRows % maxRows;
+			if ( fullStatements > 0 ) {
+				execute( 0, fullStatements, maxRows );
+			}
+			if ( remainingRows > 0 ) {
+				execute( fullStatements * maxRows, 1, remainingRows );
+			}
+		}
+
+		/**
+		 * Write the given number of statements, each with the given number of
+		 * rows, starting from the given pending row, using a JDBC batch if there
+		 * is more than one statement.
+		 */
+		private void execute(int firstRow, int numberOfStatements, int rowsPerStatement) {
+			final String sql = sql( rowsPerStatement );
+			final PreparedStatement statement =
+					jdbcCoordinator.getMutationStatementPreparer().prepareStatement( sql, false );
+			try {
+				for ( int i = 0; i < numberOfStatements; i++ ) {
+					sqlStatementLogger.logStatement( sql );
+					final int start = firstRow + i * rowsPerStatement;
+					for ( int j = 0; j < rowsPerStatement; j++ ) {
+						bindRow( statement, rows.get( start + j ), j * parametersPerRow );
+					}
+					if ( numberOfStatements > 1 ) {
+						statement.addBatch();
+					}
+				}
+				final int[] rowCounts = executeStatement( statement, sql, numberOfStatements > 1 );
+				for ( int i = 0; i < rowCounts.length; i++ ) {
+					checkRowCount( rowCounts[i], rowsPerStatement, i, sql );
+				}
+			}
+			catch (SQLException e) {
+				throw sqlExceptionHelper.convert( e, "could not execute multi-row insert", sql );
+			}
+			finally {
+				jdbcCoordinator.getLogicalConnection().getResourceRegistry().release( statement );
+				jdbcCoordinator.afterStatementExecution();
+			}
+		}
+
+		private void bindRow(PreparedStatement statement, List<Binding> bindings, int offset) {
+			for ( Binding binding : bindings ) {
+				final int position = offset + binding.getPosition();
+				try {
+					binding.getValueBinder().bind( statement, binding.getValue(), position, session );
+				}
+				catch (SQLException e) {
+					throw sqlExceptionHelper.convert(
+							e,
+							String.format(
+									Locale.ROOT,
+									"Unable to bind parameter #%s - %s",
+									position,
+									binding.getValue()
+							)
+					);
+				}
+			}
+		}
+
+		private int[] executeStatement(PreparedStatement statement, String sql, boolean batched)
+				throws SQLException {
+			final JdbcEventHandler eventHandler = session.getJdbcSessionContext().getEventHandler();
+			final EventManager eventManager = session.getEventManager();
+			if ( batched ) {
+				final HibernateMonitoringEvent executionEvent = eventManager.beginJdbcBatchExecutionEvent();
+				try {
+					eventHandler.jdbcExecuteBatchStart();
+					return statement.executeBatch();
+				}
+				finally {
+					eventManager.completeJdbcBatchExecutionEvent( executionEvent, sql );
+					eventHandler.jdbcExecuteBatchEnd();
+				}
+			}
+			else {
+				final HibernateMonitoringEvent executionEvent = eventManager.beginJdbcPreparedStatementExecutionEvent();
+				try {
+					eventHandler.jdbcExecuteStatementStart();
+					return new int[] { statement.executeUpdate() };
+				}
+				finally {
+					eventManager.completeJdbcPreparedStatementExecutionEvent( executionEvent, sql );
+					eventHandler.jdbcExecuteStatementEnd();
+				}
+			}
+		}
+
+		private void checkRowCount(int rowCount, int expectedRowCount, int batchPosition, String sql) {
+			if ( statementDetails.getExpectation() instanceof Expectation.RowCount
+					&& rowCount != Statement.SUCCESS_NO_INFO ) {
+				if ( rowCount < expectedRowCount ) {
+					throw new StaleStateException(
+							"Multi-row insert returned unexpected row count from statement " + batchPosition
+									+ " (expected row count " + expectedRowCount + " but was " + rowCount + ")"
+									+ " [" + sql + "]"
+					);
+				}
+				else if ( rowCount > expectedRowCount ) {
+					throw new BatchedTooManyRowsAffectedException(
+							"Multi-row insert returned unexpected row count from statement " + batchPosition
+									+ " (expected row count " + expectedRowCount + " but was " + rowCount + ")",
+							expectedRowCount,
+							rowCount,
+							batchPosition
+					);
+				}
+			}
+		}
+	}
+}
@@ -4,10 +4,18 @@
  */
 package org.hibernate.engine.spi;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
+import java.util.function.Function;
 
 import org.hibernate.cache.spi.access.CollectionDataAccess;
 import org.hibernate.cache.spi.access.EntityDataAccess;
@@ -213,6 +221,8 @@ public <T> void collectBatchLoadableEntityIds(
 		}
 
 		final EntityIdentifierMapping identifierMapping = entityDescriptor.getIdentifierMapping();
+		final CacheLookahead<EntityKey> cached =
+				entityCacheLookahead( set, entityDescriptor.getEntityPersister(), domainBatchSize );
 
 		int batchPosition = 1;
 		int end = -1;
@@ -228,7 +238,7 @@ public <T> void collectBatchLoadableEntityIds(
 				end = batchPosition;
 			}
 			else {
-				if ( !isCached( key, entityDescriptor.getEntityPersister() ) ) {
+				if ( !cached.isCached( key ) ) {
 					//noinspection unchecked
 					collector.accept( batchPosition++, (T) key.getIdentifier() );
 				}
@@ -273,6 +283,7 @@ public <T> void collectBatchLoadableEntityIds(
 		final EntityPersister entityPersister = entityDescriptor.getEntityPersister();
 		final Type identifierType = entityPersister.getIdentifierType();
 		if ( set != null ) {
+			final CacheLookahead<EntityKey> cached = entityCacheLookahead( set, entityPersister, maxBatchSize );
 			for ( EntityKey key : set ) {
 				if ( checkForEnd && i == end ) {
 					// the first id found after the given id
@@ -283,7 +294,7 @@ public <T> void collectBatchLoadableEntityIds(
 					end = i;
 				}
 				else {
-					if ( !isCached( key, entityPersister ) ) {
+					if ( !cached.isCached( key ) ) {
 						ids[i++] = key.getIdentifier();
 					}
 				}
@@ -301,19 +312,34 @@ public <T> void collectBatchLoadableEntityIds(
 		return ids;
 	}
 
-	private boolean isCached(EntityKey entityKey, EntityPersister persister) {
+	private CacheLookahead<EntityKey> entityCacheLookahead(
+			Collection<EntityKey> entityKeys,
+			EntityPersister persister,
+			int chunkSize) {
 		final SharedSessionContractImplementor session = context.getSession();
-		if ( context.getSession().getCacheMode().isGetEnabled() && persister.canReadFromCache() ) {
+		if ( session.getCacheMode().isGetEnabled() && persister.canReadFromCache() ) {
 			final EntityDataAccess cache = persister.getCacheAccessStrategy();
-			final Object key = cache.generateCacheKey(
-					entityKey.getIdentifier(),
-					persister,
-					session.getFactory(),
-					session.getTenantIdentifier()
-			);
-			return CacheHelper.fromSharedCache( session, key, persister, cache ) != null;
+			return new CacheLookahead<>( entityKeys.iterator(), chunkSize, chunk -> {
+				final Map<Object, EntityKey> entityKeysByCacheKey = CollectionHelper.mapOfSize( chunk.size() );
+				for ( EntityKey entityKey : chunk ) {
+					final Object cacheKey = cache.generateCacheKey(
+							entityKey.getIdentifier(),
+							persister,
+							session.getFactory(),
+							session.getTenantIdentifier()
+					);
+					entityKeysByCacheKey.put( cacheKey, entityKey );
+				}
+				final Map<Object, Object> cachedValues =
+						CacheHelper.allFromSharedCache( session, entityKeysByCacheKey.keySet(), persister, cache );
+				final List<EntityKey> cachedKeys = new ArrayList<>( cachedValues.size() );
+				for ( Object cacheKey : cachedValues.keySet() ) {
+					cachedKeys.add( entityKeysByCacheKey.get( cacheKey ) );
+				}
+				return cachedKeys;
+			} );
 		}
-		return false;
+		return CacheLookahead.none();
 	}
 
 
@@ -382,6 +408,9 @@ public <T> void collectBatchLoadableCollectionKeys(
 			return;
 		}
 
+		final CacheLookahead<CollectionEntry> cached =
+				collectionCacheLookahead( map.keySet(), pluralAttributeMapping.getCollectionDescriptor(), batchSize );
+
 		int i = 1;
 		int end = -1;
 		boolean checkForEnd = false;
@@ -425,7 +454,7 @@ public <T> void collectBatchLoadableCollectionKeys(
 			if ( isEqual ) {
 				end = i;
 			}
-			else if ( !isCached( loadedKey, pluralAttributeMapping.getCollectionDescriptor() ) ) {
+			else if ( !cached.isCached( ce ) ) {
 				//noinspection unchecked
 				collector.accept( i++, (T) loadedKey );
 			}
@@ -469,6 +498,8 @@ else if ( !isCached( loadedKey, pluralAttributeMapping.getCollectionDescriptor()
 		final LinkedHashMap<CollectionEntry, PersistentCollection<?>> map =
 				batchLoadableCollections.get( collectionPersister.getRole() );
 		if ( map != null ) {
+			final CacheLookahead<CollectionEntry> cached =
+					collectionCacheLookahead( map.keySet(), collectionPersister, batchSize );
 			for ( Entry<CollectionEntry, PersistentCollection<?>> me : map.entrySet() ) {
 				final CollectionEntry ce = me.getKey();
 				final Object loadedKey = ce.getLoadedKey();
@@ -503,7 +534,7 @@ else if ( !isCached( loadedKey, pluralAttributeMapping.getCollectionDescriptor()
 					end = i;
 					//checkForEnd = false;
 				}
-				else if ( !isCached( loadedKey, collectionPersister ) ) {
+				else if ( !cached.isCached( ce ) ) {
 					keys[i++] = loadedKey;
 					//count++;
 				}
@@ -519,19 +550,80 @@ else if ( !isCached( loadedKey, collectionPersister ) ) {
 		return keys; //we ran out of keys to try
 	}
 
-	private boolean isCached(Object collectionKey, CollectionPersister persister) {
-		SharedSessionContractImplementor session = context.getSession();
+	private CacheLookahead<CollectionEntry> collectionCacheLookahead(
+			Collection<CollectionEntry> collectionEntries,
+			CollectionPersister persister,
+			int chunkSize) {
+		final SharedSessionContractImplementor session = context.getSession();
 		if ( session.getCacheMode().isGetEnabled() && persister.hasCache() ) {
-			CollectionDataAccess cache = persister.getCacheAccessStrategy();
-			Object cacheKey = cache.generateCacheKey(
-					collectionKey,
-					persister,
-					session.getFactory(),
-					session.getTenantIdentifier()
-			);
-			return CacheHelper.fromSharedCache( session, cacheKey, persister, cache ) != null;
+			final CollectionDataAccess cache = persister.getCacheAccessStrategy();
+			return new CacheLookahead<>( collectionEntries.iterator(), chunkSize, chunk -> {
+				final Map<Object, CollectionEntry> entriesByCacheKey = CollectionHelper.mapOfSize( chunk.size() );
+				for ( CollectionEntry ce : chunk ) {
+					final Object loadedKey = ce.getLoadedKey();
+					if ( loadedKey != null ) {
+						final Object cacheKey = cache.generateCacheKey(
+								loadedKey,
+								persister,
+								session.getFactory(),
+								session.getTenantIdentifier()
+						);
+						entriesByCacheKey.put( cacheKey, ce );
+					}
+				}
+				final Map<Object, Object> cachedValues =
+						CacheHelper.allFromSharedCache( session, entriesByCacheKey.keySet(), persister, cache );
+				final List<CollectionEntry> cachedEntries = new ArrayList<>( cachedValues.size() );
+				for ( Object cacheKey : cachedValues.keySet() ) {
+					cachedEntries.add( entriesByCacheKey.get( cacheKey ) );
+				}
+				return cachedEntries;
+			} );
+		}
+		return CacheLookahead.none();
+	}
+
+	/**
+	 * Determines which members of a batch-fetch queue already have an
+	 * entry in the second-level cache. Rather than checking the members
+	 * one at a time, it retrieves the entries of the next {@code chunkSize}
+	 * members in bulk, so that assembling a batch usually costs a single
+	 * round trip to the cache.
+	 */
+	private static final class CacheLookahead<K> {
+		private static final CacheLookahead<?> NONE =
+				new CacheLookahead<>( Collections.emptyIterator(), 1, chunk -> Collections.emptyList() );
+
+		private final Iterator<K> keys;
+		private final int chunkSize;
+		private final Function<List<K>, Collection<K>> lookup;
+		private final Set<K> checked = new HashSet<>();
+		private final Set<K> cached = new HashSet<>();
+
+		private CacheLookahead(Iterator<K> keys, int chunkSize, Function<List<K>, Collection<K>> lookup) {
+			this.keys = keys;
+			this.chunkSize = Math.max( chunkSize, 1 );
+			this.lookup = lookup;
+		}
+
+		@SuppressWarnings("unchecked")
+		private static <K> CacheLookahead<K> none() {
+			return (CacheLookahead<K>) NONE;
+		}
+
+		private boolean isCached(K key) {
+			// members are checked in the order of the queue,
+			// so the key is always in one of the next chunks
+			while ( !checked.contains( key ) && keys.hasNext() ) {
+				final List<K> chunk = new ArrayList<>( chunkSize );
+				while ( chunk.size() < chunkSize && keys.hasNext() ) {
+					chunk.add( keys.next() );
+				}
+				checked.addAll( chunk );
+				cached.addAll( lookup.apply( chunk ) );
+			}
+			return cached.contains( key );
 		}
-		return false;
 	}
 
 	public SharedSessionContractImplementor getSession() {
@@ -6,6 +6,7 @@
 
 import java.util.Collection;
 
+import org.hibernate.Incubating;
 import org.hibernate.metamodel.mapping.EntityMappingType;
 
 /**
@@ -86,6 +87,26 @@ default void removeSharedResolution(Object id, Object naturalId, EntityMappingTy
 	 */
 	Object findCachedIdByNaturalId(Object naturalId, EntityMappingType entityDescriptor);
 
+	/**
+	 * Find the cached identifiers for the given natural-ids, consulting the
+	 * second-level cache with a single bulk get for those which are not
+	 * cached locally.
+	 *
+	 * @return An array holding, at the position of each natural-id, the
+	 * cross-referenced primary key, {@link #INVALID_NATURAL_ID_REFERENCE}
+	 * or {@code null}.
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default Object[] findCachedIdsByNaturalIds(Object[] naturalIds, EntityMappingType entityDescriptor) {
+		final Object[] ids = new Object[naturalIds.length];
+		for ( int i = 0; i < naturalIds.length; i++ ) {
+			ids[i] = findCachedIdByNaturalId( naturalIds[i], entityDescriptor );
+		}
+		return ids;
+	}
+
 	/**
 	 * Find all the locally cached primary key cross-reference entries for the given entity.
 	 *
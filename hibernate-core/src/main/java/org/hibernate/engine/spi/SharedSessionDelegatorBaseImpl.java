@@ -63,6 +63,13 @@ public SharedSessionDelegatorBaseImpl(SessionImplementor delegate) {
 		this.delegate = delegate;
 	}
 
+	/**
+	 * @since 7.0
+	 */
+	public SharedSessionDelegatorBaseImpl(SharedSessionContractImplementor delegate) {
+		this.delegate = delegate;
+	}
+
 	/**
 	 * Returns the delegate session.
 	 */
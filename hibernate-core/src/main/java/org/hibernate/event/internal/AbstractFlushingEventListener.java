@@ -76,10 +76,24 @@ protected void flushEverythingToExecutions(FlushEvent event) throws HibernateExc
 	}
 
 	protected void flushEverythingToExecutions(FlushEvent event, PersistenceContext persistenceContext, EventSource session) {
+		flushToExecutions( event, persistenceContext, session, null );
+	}
+
+	/**
+	 * Like {@link #flushEverythingToExecutions(FlushEvent, PersistenceContext, EventSource)},
+	 * but limited to the entities and collections belonging to the given scope, when one is
+	 * given. Entities and collections which do not belong to the scope are neither dirty
+	 * checked nor flushed.
+	 */
+	void flushToExecutions(
+			FlushEvent event,
+			PersistenceContext persistenceContext,
+			EventSource session,
+			PartialFlushScope scope) {
 		persistenceContext.setFlushing( true );
 		try {
-			int entityCount = flushEntities( event, persistenceContext );
-			int collectionCount = flushCollections( session, persistenceContext );
+			int entityCount = flushEntities( event, persistenceContext, scope );
+			int collectionCount = flushCollections( session, persistenceContext, scope );
 
 			event.setNumberOfEntitiesProcessed( entityCount );
 			event.setNumberOfCollectionsProcessed( collectionCount );
@@ -219,7 +233,10 @@ private void prepareCollectionFlushes(PersistenceContext persistenceContext) thr
 	 * 2. schedule any entity updates
 	 * 3. search out any reachable collections
 	 */
-	private int flushEntities(final FlushEvent event, final PersistenceContext persistenceContext)
+	private int flushEntities(
+			final FlushEvent event,
+			final PersistenceContext persistenceContext,
+			final PartialFlushScope scope)
 			throws HibernateException {
 
 		LOG.trace( "Flushing entities and processing referenced collections" );
@@ -235,7 +252,10 @@ private int flushEntities(final FlushEvent event, final PersistenceContext persi
 		// So this needs to be safe from concurrent modification problems.
 
 		final Map.Entry<Object,EntityEntry>[] entityEntries = persistenceContext.reentrantSafeEntityEntries();
-		final int count = entityEntries.length;
+		int count = 0;
+		if ( scope != null ) {
+			scope.addDeletedEntities( entityEntries );
+		}
 
 		FlushEntityEvent entityEvent = null; //allow reuse of the event as it's heavily allocated in certain use cases
 		int eventGenerationId = 0; //Used to double-check the instance reuse won't cause problems
@@ -246,6 +266,12 @@ private int flushEntities(final FlushEvent event, final PersistenceContext persi
 			final EntityEntry entry = me.getValue();
 			final Status status = entry.getStatus();
 
+			if ( scope != null && !scope.includes( entry ) ) {
+				// leave it for the next full flush
+				continue;
+			}
+			count++;
+
 			if ( status != Status.LOADING && status != Status.GONE ) {
 				entityEvent = createOrReuseEventInstance( entityEvent, source, me.getKey(), entry );
 
@@ -285,7 +311,10 @@ private FlushEntityEvent createOrReuseEventInstance(
 	 * process any unreferenced collections and then inspect all known collections,
 	 * scheduling creates/removes/updates
 	 */
-	private int flushCollections(final EventSource session, final PersistenceContext persistenceContext)
+	private int flushCollections(
+			final EventSource session,
+			final PersistenceContext persistenceContext,
+			final PartialFlushScope scope)
 			throws HibernateException {
 		LOG.trace( "Processing unreferenced collections" );
 
@@ -299,7 +328,13 @@ private int flushCollections(final EventSource session, final PersistenceContext
 			for ( Map.Entry<PersistentCollection<?>, CollectionEntry> me : ( (IdentityMap<PersistentCollection<?>, CollectionEntry>) collectionEntries ).entryArray() ) {
 				final CollectionEntry ce = me.getValue();
 				if ( !ce.isReached() && !ce.isIgnore() ) {
-					Collections.processUnreachableCollection( me.getKey(), session );
+					if ( scope == null || scope.includes( me.getKey(), persistenceContext ) ) {
+						Collections.processUnreachableCollection( me.getKey(), session );
+					}
+					else {
+						// its owner was not flushed, so leave it for the next full flush
+						ce.setProcessed( true );
+					}
 				}
 			}
 		}
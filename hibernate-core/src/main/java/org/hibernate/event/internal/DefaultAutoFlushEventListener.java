@@ -55,7 +55,7 @@ public void onAutoFlush(AutoFlushEvent event) throws HibernateException {
 					preFlush( session, persistenceContext );
 				}
 				final int oldSize = actionQueue.numberOfCollectionRemovals();
-				flushEverythingToExecutions( event, persistenceContext, session );
+				flushToExecutions( event, persistenceContext, session, partialFlushScope( event, source ) );
 				if ( flushIsReallyNeeded( event, source ) ) {
 					LOG.trace( "Need to execute flush" );
 					event.setFlushRequired( true );
@@ -110,6 +110,18 @@ public void onAutoPreFlush(EventSource source) throws HibernateException {
 		}
 	}
 
+	/**
+	 * If partial auto-flush is enabled, limit the flush to entities and collections
+	 * which affect the query spaces of the query. This is never done when the flush
+	 * mode is {@link FlushMode#ALWAYS}.
+	 */
+	private static PartialFlushScope partialFlushScope(AutoFlushEvent event, EventSource source) {
+		return source.getHibernateFlushMode() != FlushMode.ALWAYS
+			&& source.getFactory().getSessionFactoryOptions().isPartialAutoFlushEnabled()
+				? new PartialFlushScope( event.getQuerySpaces() )
+				: null;
+	}
+
 	private boolean flushIsReallyNeeded(AutoFlushEvent event, final EventSource source) {
 		return source.getHibernateFlushMode() == FlushMode.ALWAYS
 			|| source.getActionQueue().areTablesToBeUpdated( event.getQuerySpaces() );
@@ -12,6 +12,7 @@
 import org.hibernate.StaleObjectStateException;
 import org.hibernate.action.internal.DelayedPostInsertIdentifier;
 import org.hibernate.action.internal.EntityUpdateAction;
+import org.hibernate.boot.internal.DefaultCustomEntityDirtinessStrategy;
 import org.hibernate.bytecode.enhance.spi.interceptor.EnhancementAsProxyLazinessInterceptor;
 import org.hibernate.engine.internal.Nullability;
 import org.hibernate.engine.internal.Versioning;
@@ -30,6 +31,7 @@
 import org.hibernate.event.spi.FlushEntityEventListener;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.internal.EmptyInterceptor;
 import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.jpa.event.spi.CallbackRegistry;
 import org.hibernate.jpa.event.spi.CallbackRegistryConsumer;
@@ -132,6 +134,17 @@ public void onFlushEntity(FlushEntityEvent event) throws HibernateException {
 
 		final boolean mightBeDirty = entry.requiresDirtyCheck( entity );
 
+		if ( mightBeDirty && isIncrementalDirtyCheckPossible( entity, entry, session )
+				&& isUnmodified( entity, entry, session ) ) {
+			// nothing to do, except search for collections by reachability
+			final EntityPersister persister = entry.getPersister();
+			if ( persister.hasCollections() ) {
+				new FlushVisitor( session, entity )
+						.processEntityPropertyValues( entry.getLoadedState(), persister.getPropertyTypes() );
+			}
+			return;
+		}
+
 		final Object[] values = getValues( entity, entry, mightBeDirty, session );
 
 		event.setPropertyValues( values );
@@ -161,6 +174,46 @@ public void onFlushEntity(FlushEntityEvent event) throws HibernateException {
 
 	}
 
+	/**
+	 * Can we compare the state of the given entity with its loaded state in place,
+	 * without taking a snapshot of its current state? This is only possible for a
+	 * managed entity which does not track its own dirtiness, and when neither an
+	 * interceptor nor a custom dirtiness strategy might take part in dirty checking.
+	 * A versioned entity with collections always needs the full check, since its
+	 * collections must be searched for changes which increment the version.
+	 */
+	private static boolean isIncrementalDirtyCheckPossible(Object entity, EntityEntry entry, EventSource session) {
+		final EntityPersister persister = entry.getPersister();
+		return entry.getStatus() == Status.MANAGED
+			&& entry.getLoadedState() != null
+			&& !isSelfDirtinessTracker( entity )
+			&& !( persister.isVersioned() && persister.hasCollections() )
+			&& session.getInterceptor() == EmptyInterceptor.INSTANCE
+			&& session.getFactory().getCustomEntityDirtinessStrategy() == DefaultCustomEntityDirtinessStrategy.INSTANCE
+			&& session.getFactory().getSessionFactoryOptions().isIncrementalDirtyCheckingEnabled();
+	}
+
+	/**
+	 * Compare the entity with its loaded state in place, without allocating. If
+	 * the entity turns out to be unmodified, the dirty calculation is reported
+	 * as usual. Otherwise, it is left to the full dirty check, which reports it.
+	 */
+	private boolean isUnmodified(Object entity, EntityEntry entry, EventSource session) {
+		final EntityPersister persister = entry.getPersister();
+		checkId( entity, persister, entry.getId(), entry.getStatus(), session );
+		final EventManager eventManager = session.getEventManager();
+		final HibernateMonitoringEvent dirtyCalculationEvent = eventManager.beginDirtyCalculationEvent();
+		session.getEventListenerManager().dirtyCalculationStart();
+		if ( persister.isUnmodified( entity, entry.getLoadedState(), session ) ) {
+			eventManager.completeDirtyCalculationEvent( dirtyCalculationEvent, session, persister, entry, null );
+			session.getEventListenerManager().dirtyCalculationEnd( false );
+			return true;
+		}
+		else {
+			return false;
+		}
+	}
+
 	private Object[] getValues(Object entity, EntityEntry entry, boolean mightBeDirty, SessionImplementor session) {
 		final Object[] loadedState = entry.getLoadedState();
 		if ( entry.getStatus() == Status.DELETED ) {
@@ -64,16 +64,20 @@ public void onInitializeCollection(InitializeCollectionEvent event) throws Hiber
 				if ( LOG.isTraceEnabled() ) {
 					LOG.trace( "Collection not cached" );
 				}
+				final StatisticsImplementor statistics = source.getFactory().getStatistics();
+				final long startTime = statistics.isLatencyHistogramsEnabled() ? System.nanoTime() : 0;
 				loadedPersister.initialize( loadedKey, source );
 				handlePotentiallyEmptyCollection( collection, persistenceContext, loadedKey, loadedPersister );
 				if ( LOG.isTraceEnabled() ) {
 					LOG.trace( "Collection initialized" );
 				}
 
-				final StatisticsImplementor statistics = source.getFactory().getStatistics();
 				if ( statistics.isStatisticsEnabled() ) {
 					statistics.fetchCollection( loadedPersister.getRole() );
 				}
+				if ( startTime != 0 ) {
+					statistics.collectionFetchLatency( loadedPersister.getRole(), System.nanoTime() - startTime );
+				}
 			}
 		}
 	}
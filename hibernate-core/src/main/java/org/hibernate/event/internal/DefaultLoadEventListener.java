@@ -598,6 +598,9 @@ private Object loadFromCacheOrDatasource(LoadEvent event, EntityPersister persis
 	 * @return The object loaded from the datasource, or null if not found.
 	 */
 	protected Object loadFromDatasource(final LoadEvent event, final EntityPersister persister) {
+		final StatisticsImplementor statistics = event.getFactory().getStatistics();
+		final long startTime = statistics.isLatencyHistogramsEnabled() ? System.nanoTime() : 0;
+
 		Object entity = persister.load(
 				event.getEntityId(),
 				event.getInstanceToLoad(),
@@ -617,10 +620,12 @@ protected Object loadFromDatasource(final LoadEvent event, final EntityPersister
 			entity = lazyInitializer.getImplementation();
 		}
 
-		final StatisticsImplementor statistics = event.getFactory().getStatistics();
 		if ( event.isAssociationFetch() && statistics.isStatisticsEnabled() ) {
 			statistics.fetchEntity( event.getEntityClassName() );
 		}
+		if ( startTime != 0 ) {
+			statistics.entityLoadLatency( persister.getEntityName(), System.nanoTime() - startTime );
+		}
 
 		return entity;
 	}
@@ -34,6 +34,7 @@
 import org.hibernate.type.ComponentType;
 import org.hibernate.type.Type;
 
+import static org.hibernate.cache.internal.AsyncCachePutQueue.cancelPendingPut;
 import static org.hibernate.pretty.MessageHelper.infoString;
 import static org.hibernate.proxy.HibernateProxy.extractLazyInitializer;
 
@@ -213,6 +214,7 @@ private static void evictEntity(Object object, EntityPersister persister, Object
 					source.getFactory(),
 					source.getTenantIdentifier()
 			);
+			cancelPendingPut( source.getFactory(), cache, ck );
 			final SoftLock lock = cache.lockItem( source, ck, previousVersion );
 			cache.remove( source, ck );
 			source.getActionQueue().registerProcess( (success, session) -> cache.unlockItem( session, ck, lock ) );
@@ -321,6 +323,7 @@ private static void evictCachedCollections(Type[] types, Object id, EventSource
 						factory,
 						source.getTenantIdentifier()
 					);
+					cancelPendingPut( factory, cache, ck );
 					final SoftLock lock = cache.lockItem( source, ck, null );
 					cache.remove( source, ck );
 					source.getActionQueue().registerProcess( (success, session) -> cache.unlockItem( session, ck, lock ) );
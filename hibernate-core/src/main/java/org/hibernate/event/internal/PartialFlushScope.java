@@ -0,0 +1,142 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.event.internal;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.Status;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.CollectionType;
+import org.hibernate.type.CompositeType;
+import org.hibernate.type.EntityType;
+import org.hibernate.type.Type;
+
+/**
+ * Determines which entities and collections take part in a partial auto-flush,
+ * that is, an auto-flush limited to the query spaces of the query which is about
+ * to be executed.
+ * <p>
+ * An entity takes part if one of the tables it is mapped to, or one of the tables
+ * of its collections, is one of the query spaces. A collection takes part if its
+ * owner does. Everything else is left unflushed until the next full flush.
+ * <p>
+ * Deleted entities always take part, whatever the query spaces, since their
+ * deletes are already queued, and must be preceded by the updates which null
+ * out foreign keys referencing them. For the same reason, so do entities with
+ * an association, or a collection, targeting the hierarchy of a deleted entity.
+ *
+ * @see org.hibernate.cfg.PersistenceSettings#PARTIAL_AUTO_FLUSH
+ */
+final class PartialFlushScope {
+	private final Set<String> querySpaces;
+	private final Map<EntityPersister, Boolean> includedPersisters = new HashMap<>();
+	private final Set<String> deletedRootEntityNames = new HashSet<>();
+
+	PartialFlushScope(Set<String> querySpaces) {
+		this.querySpaces = querySpaces;
+	}
+
+	/**
+	 * Take note of the deleted entities among the given entries. Must be called
+	 * before the scope is first queried.
+	 */
+	void addDeletedEntities(Map.Entry<Object, EntityEntry>[] entityEntries) {
+		for ( Map.Entry<Object, EntityEntry> me : entityEntries ) {
+			final EntityEntry entry = me.getValue();
+			if ( entry.getStatus() == Status.DELETED ) {
+				deletedRootEntityNames.add( entry.getPersister().getRootEntityName() );
+			}
+		}
+	}
+
+	boolean includes(EntityEntry entry) {
+		return entry.getStatus() == Status.DELETED || includes( entry.getPersister() );
+	}
+
+	boolean includes(EntityPersister persister) {
+		return includedPersisters.computeIfAbsent( persister, this::affectsQuerySpaces );
+	}
+
+	boolean includes(PersistentCollection<?> collection, PersistenceContext persistenceContext) {
+		final Object owner = collection.getOwner();
+		if ( owner == null ) {
+			return true;
+		}
+		else {
+			final EntityEntry ownerEntry = persistenceContext.getEntry( owner );
+			return ownerEntry == null || includes( ownerEntry );
+		}
+	}
+
+	private boolean affectsQuerySpaces(EntityPersister persister) {
+		return intersectsQuerySpaces( persister.getPropertySpaces() )
+			|| propertiesAffectQuerySpaces( persister.getPropertyTypes(), persister.getFactory() );
+	}
+
+	private boolean propertiesAffectQuerySpaces(Type[] types, SessionFactoryImplementor factory) {
+		for ( Type type : types ) {
+			if ( type instanceof CollectionType collectionType ) {
+				final CollectionPersister collectionPersister =
+						factory.getMappingMetamodel().getCollectionDescriptor( collectionType.getRole() );
+				if ( intersectsQuerySpaces( collectionPersister.getCollectionSpaces() )
+						|| referencesDeletedEntity( collectionPersister.getElementType(), factory )
+						|| collectionPersister.hasIndex()
+								&& referencesDeletedEntity( collectionPersister.getIndexType(), factory ) ) {
+					return true;
+				}
+			}
+			else if ( type instanceof CompositeType compositeType ) {
+				if ( propertiesAffectQuerySpaces( compositeType.getSubtypes(), factory ) ) {
+					return true;
+				}
+			}
+			else if ( referencesDeletedEntity( type, factory ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private boolean referencesDeletedEntity(Type type, SessionFactoryImplementor factory) {
+		if ( deletedRootEntityNames.isEmpty() ) {
+			return false;
+		}
+		else if ( type instanceof EntityType entityType ) {
+			return deletedRootEntityNames.contains(
+					factory.getMappingMetamodel().getEntityDescriptor( entityType.getAssociatedEntityName() )
+							.getRootEntityName()
+			);
+		}
+		else if ( type instanceof CompositeType compositeType ) {
+			for ( Type subtype : compositeType.getSubtypes() ) {
+				if ( referencesDeletedEntity( subtype, factory ) ) {
+					return true;
+				}
+			}
+			return false;
+		}
+		else {
+			return false;
+		}
+	}
+
+	private boolean intersectsQuerySpaces(Serializable[] spaces) {
+		for ( Serializable space : spaces ) {
+			if ( querySpaces.contains( space ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
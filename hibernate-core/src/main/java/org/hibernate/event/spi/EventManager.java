@@ -101,6 +101,42 @@ void completeCachePutEvent(
 			boolean cacheContentChanged,
 			CacheActionDescription description);
 
+	/**
+	 * Complete the event for a put of entity data which waited in the
+	 * {@linkplain org.hibernate.cfg.CacheSettings#ASYNC_PUT_QUEUE_SIZE
+	 * asynchronous put queue} for the given number of nanoseconds.
+	 *
+	 * @since 7.0
+	 */
+	default void completeAsyncCachePutEvent(
+			HibernateMonitoringEvent cachePutEvent,
+			SharedSessionContractImplementor session,
+			CachedDomainDataAccess cachedDomainDataAccess,
+			EntityPersister persister,
+			boolean cacheContentChanged,
+			CacheActionDescription description,
+			long queueLag) {
+		completeCachePutEvent( cachePutEvent, session, cachedDomainDataAccess, persister, cacheContentChanged, description );
+	}
+
+	/**
+	 * Complete the event for a put of collection data which waited in the
+	 * {@linkplain org.hibernate.cfg.CacheSettings#ASYNC_PUT_QUEUE_SIZE
+	 * asynchronous put queue} for the given number of nanoseconds.
+	 *
+	 * @since 7.0
+	 */
+	default void completeAsyncCachePutEvent(
+			HibernateMonitoringEvent cachePutEvent,
+			SharedSessionContractImplementor session,
+			CachedDomainDataAccess cachedDomainDataAccess,
+			CollectionPersister persister,
+			boolean cacheContentChanged,
+			CacheActionDescription description,
+			long queueLag) {
+		completeCachePutEvent( cachePutEvent, session, cachedDomainDataAccess, persister, cacheContentChanged, description );
+	}
+
 	HibernateMonitoringEvent beginCacheGetEvent();
 
 	void completeCacheGetEvent(
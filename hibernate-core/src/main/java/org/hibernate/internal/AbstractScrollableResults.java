@@ -4,8 +4,18 @@
  */
 package org.hibernate.internal;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.hibernate.HibernateException;
+import org.hibernate.LockMode;
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.EntityHolder;
+import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.engine.spi.Status;
+import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.query.spi.ScrollableResultsImplementor;
 import org.hibernate.sql.results.jdbc.internal.JdbcValuesSourceProcessingStateStandardImpl;
 import org.hibernate.sql.results.internal.RowProcessingStateStandardImpl;
@@ -26,8 +36,10 @@
 	private final RowProcessingStateStandardImpl rowProcessingState;
 	private final RowReader<R> rowReader;
 	private final SharedSessionContractImplementor persistenceContext;
+	private final boolean detachEntities;
 
 	private boolean closed;
+	private List<Object> rowEntities;
 
 	public AbstractScrollableResults(
 			JdbcValues jdbcValues,
@@ -42,6 +54,8 @@ public AbstractScrollableResults(
 		this.rowProcessingState = rowProcessingState;
 		this.rowReader = rowReader;
 		this.persistenceContext = persistenceContext;
+		this.detachEntities = persistenceContext.isEventSource()
+				&& persistenceContext.getFactory().getSessionFactoryOptions().isScrollDetachEntitiesEnabled();
 	}
 
 
@@ -83,6 +97,81 @@ protected void afterScrollOperation() {
 		getPersistenceContext().afterScrollOperation();
 	}
 
+	/**
+	 * Remember the entities loaded by the row just read, so that they can be
+	 * {@linkplain #detachRowEntities detached} once the results move to another
+	 * row. Must be called before the processing state is finished up.
+	 *
+	 * @see org.hibernate.cfg.QuerySettings#SCROLL_DETACH_ENTITIES
+	 */
+	protected void collectRowEntities() {
+		if ( detachEntities ) {
+			final List<EntityHolder> holders = jdbcValuesSourceProcessingState.getLoadingEntityHolders();
+			if ( holders != null ) {
+				for ( EntityHolder holder : holders ) {
+					if ( holder.getEntity() != null ) {
+						if ( rowEntities == null ) {
+							rowEntities = new ArrayList<>();
+						}
+						rowEntities.add( holder.getEntity() );
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Detach the entities loaded by the previous row from the persistence
+	 * context, unless they were modified or locked in the meantime. Must be
+	 * called before another row is read.
+	 *
+	 * @see org.hibernate.cfg.QuerySettings#SCROLL_DETACH_ENTITIES
+	 */
+	protected void detachRowEntities() {
+		if ( rowEntities != null ) {
+			final PersistenceContext context = persistenceContext.getPersistenceContextInternal();
+			if ( !context.isLoadFinished() ) {
+				// a proxy or collection is being initialized
+				return;
+			}
+			int detached = 0;
+			for ( Object entity : rowEntities ) {
+				if ( isDetachable( entity, context ) ) {
+					persistenceContext.asEventSource().evict( entity );
+					detached++;
+				}
+			}
+			rowEntities = null;
+			if ( detached > 0 && persistenceContext.getFactory().getStatistics().isStatisticsEnabled() ) {
+				persistenceContext.getFactory().getStatistics().scrollEntitiesDetached( detached );
+			}
+		}
+	}
+
+	private boolean isDetachable(Object entity, PersistenceContext context) {
+		final EntityEntry entry = context.getEntry( entity );
+		if ( entry == null
+				|| entry.getStatus() != Status.MANAGED && entry.getStatus() != Status.READ_ONLY
+				|| entry.getLockMode().greaterThan( LockMode.READ ) ) {
+			return false;
+		}
+		final EntityPersister persister = entry.getPersister();
+		final Object[] currentState = persister.getValues( entity );
+		if ( entry.getStatus() == Status.MANAGED
+				&& entry.requiresDirtyCheck( entity )
+				&& persister.findDirty( currentState, entry.getLoadedState(), entity, persistenceContext ) != null ) {
+			return false;
+		}
+		for ( Object value : currentState ) {
+			if ( value instanceof PersistentCollection<?> collection
+					&& collection.wasInitialized()
+					&& collection.isDirty() ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 	@Override
 	public void setFetchSize(int fetchSize) {
 		getJdbcValues().setFetchSize(fetchSize);
@@ -298,6 +298,8 @@ else if ( maxPosition != null && rowNumber == maxPosition ) {
 	}
 
 	private boolean prepareCurrentRow() {
+		detachRowEntities();
+
 		final RowProcessingStateStandardImpl rowProcessingState = getRowProcessingState();
 		final RowReader<R> rowReader = getRowReader();
 
@@ -333,6 +335,7 @@ private boolean prepareCurrentRow() {
 				}
 
 			}
+			collectRowEntities();
 			getJdbcValuesSourceProcessingState().finishUp( false );
 		}
 		finally {
@@ -117,6 +117,7 @@ public boolean setRowNumber(int rowNumber) throws HibernateException {
 	}
 
 	private void prepareCurrentRow(boolean underlyingScrollSuccessful) {
+		detachRowEntities();
 		if ( !underlyingScrollSuccessful ) {
 			currentRow = null;
 			return;
@@ -131,6 +132,7 @@ private void prepareCurrentRow(boolean underlyingScrollSuccessful) {
 				currentRow = getRowReader().readRow( getRowProcessingState() );
 
 				getRowProcessingState().finishRowProcessing( true );
+				collectRowEntities();
 				getJdbcValuesSourceProcessingState().finishUp( false );
 			}
 			finally {
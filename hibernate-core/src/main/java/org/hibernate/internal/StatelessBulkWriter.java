@@ -0,0 +1,143 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.internal;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.CompositeType;
+import org.hibernate.type.EntityType;
+import org.hibernate.type.Type;
+
+/**
+ * Implements the streaming bulk write operations of {@link StatelessSessionImpl},
+ * for example, {@link org.hibernate.StatelessSession#insertMultiple(Stream)}.
+ * <p>
+ * Entities are consumed from the stream and buffered in groups, one group per
+ * entity type, up to the given batch size. The groups are then written one after
+ * the other, so that each group is written using a single JDBC batch, even when
+ * the stream interleaves entities of different types, which would otherwise
+ * force the current batch to be executed every time the type changes.
+ * <p>
+ * Moving an entity ahead of entities of some other type is only safe if it does
+ * not reference that type via a foreign key. When an entity of a type which
+ * already has a group arrives after an entity of a type it might reference, the
+ * buffered groups are written first, so that the order of dependent rows in the
+ * stream is always respected.
+ */
+final class StatelessBulkWriter {
+	private final StatelessSessionImpl session;
+	private final BiConsumer<String, Object> operation;
+	private final int batchSize;
+
+	private final Map<EntityPersister, List<Object>> groups = new LinkedHashMap<>();
+	private final Map<EntityPersister, Set<String>> referencedEntities = new HashMap<>();
+	private EntityPersister lastPersister;
+	private int buffered;
+
+	StatelessBulkWriter(StatelessSessionImpl session, BiConsumer<String, Object> operation, int batchSize) {
+		this.session = session;
+		this.operation = operation;
+		this.batchSize = batchSize;
+	}
+
+	void write(Stream<?> entities) {
+		final Integer jdbcBatchSize = session.getJdbcBatchSize();
+		session.setJdbcBatchSize( batchSize );
+		try {
+			entities.forEachOrdered( this::add );
+			flush();
+			session.getJdbcCoordinator().executeBatch();
+		}
+		finally {
+			session.setJdbcBatchSize( jdbcBatchSize );
+		}
+	}
+
+	private void add(Object entity) {
+		final EntityPersister persister = session.getEntityPersister( null, entity );
+		List<Object> group = groups.get( persister );
+		if ( group != null && persister != lastPersister && referencesLaterGroup( persister ) ) {
+			flush();
+			group = null;
+		}
+		if ( group == null ) {
+			group = new ArrayList<>();
+			groups.put( persister, group );
+		}
+		group.add( entity );
+		lastPersister = persister;
+		if ( ++buffered >= batchSize ) {
+			flush();
+		}
+	}
+
+	private void flush() {
+		for ( Map.Entry<EntityPersister, List<Object>> entry : groups.entrySet() ) {
+			final String entityName = entry.getKey().getEntityName();
+			for ( Object entity : entry.getValue() ) {
+				operation.accept( entityName, entity );
+			}
+		}
+		groups.clear();
+		lastPersister = null;
+		buffered = 0;
+	}
+
+	/**
+	 * Does the given entity type reference the type of any group which was
+	 * started after its own group?
+	 */
+	private boolean referencesLaterGroup(EntityPersister persister) {
+		final Set<String> referenced = referencedEntities.computeIfAbsent( persister, this::referencedEntities );
+		if ( !referenced.isEmpty() ) {
+			boolean later = false;
+			for ( EntityPersister groupPersister : groups.keySet() ) {
+				if ( later ) {
+					if ( referenced.contains( groupPersister.getRootEntityName() ) ) {
+						return true;
+					}
+				}
+				else if ( groupPersister == persister ) {
+					later = true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * The root entity names of every entity type the given entity type has an
+	 * association to, including associations belonging to embeddable types.
+	 */
+	private Set<String> referencedEntities(EntityPersister persister) {
+		final Set<String> referenced = new HashSet<>();
+		collectReferencedEntities( persister.getPropertyTypes(), persister.getFactory(), referenced );
+		return referenced;
+	}
+
+	private static void collectReferencedEntities(
+			Type[] types,
+			SessionFactoryImplementor factory,
+			Set<String> referenced) {
+		for ( Type type : types ) {
+			if ( type instanceof EntityType entityType ) {
+				referenced.add( entityType.getAssociatedEntityPersister( factory ).getRootEntityName() );
+			}
+			else if ( type instanceof CompositeType compositeType ) {
+				collectReferencedEntities( compositeType.getSubtypes(), factory, referenced );
+			}
+		}
+	}
+}
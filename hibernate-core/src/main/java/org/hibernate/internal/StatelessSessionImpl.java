@@ -5,9 +5,11 @@
 package org.hibernate.internal;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.function.BiConsumer;
+import java.util.stream.Stream;
 
 import org.hibernate.CacheMode;
 import org.hibernate.FlushMode;
@@ -19,6 +21,7 @@
 import org.hibernate.UnresolvableObjectException;
 import org.hibernate.bytecode.enhance.spi.interceptor.EnhancementAsProxyLazinessInterceptor;
 import org.hibernate.bytecode.spi.BytecodeEnhancementMetadata;
+import org.hibernate.cache.internal.NaturalIdNegativeCache;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.collection.spi.CollectionSemantics;
 import org.hibernate.collection.spi.PersistentCollection;
@@ -98,6 +101,7 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 	private final LoadQueryInfluencers influencers;
 	private final PersistenceContext temporaryPersistenceContext;
 	private final boolean connectionProvided;
+	private Set<String> absentNaturalIdInvalidations;
 
 	public StatelessSessionImpl(SessionFactoryImpl factory, SessionCreationOptions options) {
 		super( factory, options );
@@ -134,6 +138,11 @@ public void insertMultiple(List<Object> entities) {
 		}
 	}
 
+	@Override
+	public void insertMultiple(Stream<?> entities) {
+		writeMultiple( entities, this::insert );
+	}
+
 	@Override
 	public Object insert(String entityName, Object entity) {
 		checkOpen();
@@ -195,6 +204,7 @@ else if ( generator.generatedOnExecution( entity, this ) ) {
 						statistics.recreateCollection( descriptor.getRole() );
 					}
 				} );
+		invalidateAbsentNaturalIds( persister );
 		firePostInsert(entity, id, state, persister);
 		final StatisticsImplementor statistics = getFactory().getStatistics();
 		if ( statistics.isStatisticsEnabled() ) {
@@ -203,6 +213,38 @@ else if ( generator.generatedOnExecution( entity, this ) ) {
 		return id;
 	}
 
+	/**
+	 * Forget the natural ids of the hierarchy of the given entity which are
+	 * remembered as not identifying any entity, now and again once the current
+	 * transaction completes, since the insert might not yet be visible to a
+	 * concurrent lookup.
+	 *
+	 * @see org.hibernate.cfg.CacheSettings#NATURAL_ID_NEGATIVE_CACHE_TTL
+	 */
+	private void invalidateAbsentNaturalIds(EntityPersister persister) {
+		if ( persister.hasNaturalIdentifier() ) {
+			final NaturalIdNegativeCache negativeCache = getFactory().getCache().getNaturalIdNegativeCache();
+			if ( negativeCache != null ) {
+				negativeCache.invalidate( persister );
+				if ( isTransactionInProgress() ) {
+					if ( absentNaturalIdInvalidations == null ) {
+						absentNaturalIdInvalidations = new HashSet<>();
+					}
+					absentNaturalIdInvalidations.add( persister.getRootEntityName() );
+				}
+			}
+		}
+	}
+
+	private void writeMultiple(Stream<?> entities, BiConsumer<String, Object> operation) {
+		checkOpen();
+		final Integer jdbcBatchSize = getJdbcBatchSize();
+		final int batchSize = jdbcBatchSize != null && jdbcBatchSize > 0
+				? jdbcBatchSize
+				: getFactory().getSessionFactoryOptions().getStatelessBulkWriteBatchSize();
+		new StatelessBulkWriter( this, operation, batchSize ).write( entities );
+	}
+
 	// deletes ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
 	@Override
@@ -272,6 +314,11 @@ public void updateMultiple(List<Object> entities) {
 		}
 	}
 
+	@Override
+	public void updateMultiple(Stream<?> entities) {
+		writeMultiple( entities, this::update );
+	}
+
 	@Override
 	public void update(String entityName, Object entity) {
 		checkOpen();
@@ -292,6 +339,9 @@ public void update(String entityName, Object entity) {
 			getInterceptor()
 					.onUpdate( entity, id, state, persister.getPropertyNames(), persister.getPropertyTypes() );
 			persister.getUpdateCoordinator().update( entity, id, null, state, oldVersion, null, null, false, this );
+			if ( persister.hasNaturalIdentifier() && persister.getNaturalIdMapping().isMutable() ) {
+				invalidateAbsentNaturalIds( persister );
+			}
 			forEachOwnedCollection( entity, id, persister,
 					(descriptor, collection) -> {
 						// TODO: can we do better here?
@@ -329,6 +379,11 @@ public void upsertMultiple(List<Object> entities) {
 		}
 	}
 
+	@Override
+	public void upsertMultiple(Stream<?> entities) {
+		writeMultiple( entities, this::upsert );
+	}
+
 	@Override
 	public void upsert(String entityName, Object entity) {
 		checkOpen();
@@ -340,6 +395,7 @@ public void upsert(String entityName, Object entity) {
 					.onUpsert( entity, id, state, persister.getPropertyNames(), persister.getPropertyTypes() );
 			final Object oldVersion = versionToUpsert( entity, persister, state );
 			persister.getMergeCoordinator().update( entity, id, null, state, oldVersion, null, null, false, this );
+			invalidateAbsentNaturalIds( persister );
 			// TODO: statistics for upsert!
 			forEachOwnedCollection( entity, id, persister,
 					(descriptor, collection) -> {
@@ -682,15 +738,19 @@ public void initializeCollection(PersistentCollection<?> collection, boolean wri
 				LOG.tracev( "Initializing collection {0}",
 						collectionInfoString( loadedPersister, collection, loadedKey, this ) );
 			}
+			final StatisticsImplementor statistics = getFactory().getStatistics();
+			final long startTime = statistics.isLatencyHistogramsEnabled() ? System.nanoTime() : 0;
 			loadedPersister.initialize( loadedKey, this );
 			handlePotentiallyEmptyCollection( collection, persistenceContext, loadedKey, loadedPersister );
 			if ( LOG.isTraceEnabled() ) {
 				LOG.trace( "Collection initialized" );
 			}
-			final StatisticsImplementor statistics = getFactory().getStatistics();
 			if ( statistics.isStatisticsEnabled() ) {
 				statistics.fetchCollection( loadedPersister.getRole() );
 			}
+			if ( startTime != 0 ) {
+				statistics.collectionFetchLatency( loadedPersister.getRole(), System.nanoTime() - startTime );
+			}
 		}
 	}
 
@@ -1033,6 +1093,13 @@ public void beforeTransactionCompletion() {
 
 	@Override
 	public void afterTransactionCompletion(boolean successful, boolean delayed) {
+		if ( absentNaturalIdInvalidations != null ) {
+			final NaturalIdNegativeCache negativeCache = getFactory().getCache().getNaturalIdNegativeCache();
+			for ( String rootEntityName : absentNaturalIdInvalidations ) {
+				negativeCache.invalidate( getFactory().getMappingMetamodel().getEntityDescriptor( rootEntityName ) );
+			}
+			absentNaturalIdInvalidations = null;
+		}
 		afterTransactionCompletionEvents( successful );
 		if ( shouldAutoClose() && !isClosed() ) {
 			managedClose();
@@ -0,0 +1,338 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.internal.util.collections;
+
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * A bounded {@link ConcurrentMap} which uses a
+ * <a href="https://arxiv.org/abs/1512.00727">TinyLFU</a> admission policy.
+ * <p>
+ * Entries live in a {@link ConcurrentHashMap}, so that reads never lock, and
+ * every read records the key in a compact {@linkplain FrequencySketch frequency
+ * sketch}. When the map grows beyond its maximum size, the oldest entry is
+ * selected as the eviction candidate, and its estimated access frequency is
+ * compared with the frequency of the entry which was just added. If the new
+ * entry is not accessed more frequently, it is not admitted, and the old entry
+ * is given a second chance instead. This protects frequently used entries from
+ * being flushed out by a stream of entries which are used only once, for
+ * example, many distinct dynamically built queries.
+ * <p>
+ * A removed entry leaves a stale node in the insertion queue, as does an
+ * entry which was not admitted. When stale nodes outnumber the entries of
+ * the map, the queue is compacted, so that it stays bounded even if the map
+ * never fills up.
+ * <p>
+ * The map is bounded only approximately: concurrent insertions may briefly
+ * push its size past the maximum. Neither {@code null} keys nor {@code null}
+ * values are supported.
+ *
+ * @param <K> the type of keys maintained by this map
+ * @param <V> the type of mapped values
+ */
+public class BoundedTinyLfuMap<K, V> extends AbstractMap<K, V> implements ConcurrentMap<K, V> {
+
+	// don't compact the queues of very small maps on every insertion
+	private static final int MINIMUM_COMPACTION_SIZE = 16;
+
+	private final int maximumSize;
+	private final ConcurrentHashMap<K, V> map;
+	private final ConcurrentLinkedQueue<K> insertionOrder = new ConcurrentLinkedQueue<>();
+	// the approximate number of nodes in the queue, whose size() is not constant time
+	private final AtomicInteger queueSize = new AtomicInteger();
+	private final ReentrantLock compactionLock = new ReentrantLock();
+	private final FrequencySketch sketch;
+	private final BiConsumer<K, V> evictionListener;
+
+	/**
+	 * @param maximumSize the maximum number of entries
+	 * @param evictionListener notified of entries which were evicted or not admitted
+	 */
+	public BoundedTinyLfuMap(int maximumSize, BiConsumer<K, V> evictionListener) {
+		if ( maximumSize <= 0 ) {
+			throw new IllegalArgumentException( "Maximum size must be positive" );
+		}
+		this.maximumSize = maximumSize;
+		this.map = new ConcurrentHashMap<>( Math.min( maximumSize, 1024 ) );
+		this.sketch = new FrequencySketch( maximumSize );
+		this.evictionListener = evictionListener;
+	}
+
+	public BoundedTinyLfuMap(int maximumSize) {
+		this( maximumSize, (k, v) -> {} );
+	}
+
+	public int getMaximumSize() {
+		return maximumSize;
+	}
+
+	@Override
+	public V get(Object key) {
+		sketch.increment( key );
+		return map.get( key );
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return map.containsKey( key );
+	}
+
+	@Override
+	public int size() {
+		return map.size();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return map.isEmpty();
+	}
+
+	@Override
+	public V put(K key, V value) {
+		final V previous = map.put( key, value );
+		if ( previous == null ) {
+			afterInsert( key );
+		}
+		return previous;
+	}
+
+	@Override
+	public V putIfAbsent(K key, V value) {
+		final V previous = map.putIfAbsent( key, value );
+		if ( previous == null ) {
+			afterInsert( key );
+		}
+		return previous;
+	}
+
+	@Override
+	public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+		sketch.increment( key );
+		final V existing = map.get( key );
+		if ( existing != null ) {
+			return existing;
+		}
+		final V value = mappingFunction.apply( key );
+		if ( value == null ) {
+			return null;
+		}
+		final V previous = putIfAbsent( key, value );
+		return previous == null ? value : previous;
+	}
+
+	@Override
+	public V remove(Object key) {
+		// the key is left in the insertion queue, and skipped when it's
+		// polled, or discarded when the queue is compacted
+		return map.remove( key );
+	}
+
+	@Override
+	public boolean remove(Object key, Object value) {
+		return map.remove( key, value );
+	}
+
+	@Override
+	public boolean replace(K key, V oldValue, V newValue) {
+		return map.replace( key, oldValue, newValue );
+	}
+
+	@Override
+	public V replace(K key, V value) {
+		return map.replace( key, value );
+	}
+
+	@Override
+	public void clear() {
+		map.clear();
+		insertionOrder.clear();
+		queueSize.set( 0 );
+	}
+
+	@Override
+	public Set<Entry<K, V>> entrySet() {
+		return Collections.unmodifiableSet( map.entrySet() );
+	}
+
+	/**
+	 * The number of nodes in the insertion queue, including stale nodes.
+	 */
+	int getInsertionQueueSize() {
+		return queueSize.get();
+	}
+
+	private void afterInsert(K candidate) {
+		enqueue( candidate );
+		compactIfNecessary();
+		// bounded by the size of the queue, in case other threads keep
+		// adding entries while we're evicting, and since the queue was
+		// just compacted, mostly by the number of live entries
+		int attempts = queueSize.get();
+		while ( map.size() > maximumSize && attempts-- > 0 ) {
+			final K victim = insertionOrder.poll();
+			if ( victim == null ) {
+				break;
+			}
+			queueSize.decrementAndGet();
+			if ( !map.containsKey( victim ) ) {
+				// it was already removed, or evicted by another thread
+				continue;
+			}
+			if ( victim.equals( candidate ) ) {
+				// the new entry is also the oldest, there's nothing to compare
+				enqueue( victim );
+				continue;
+			}
+			if ( sketch.frequency( candidate ) <= sketch.frequency( victim ) ) {
+				// the candidate is not more popular than the victim: reject
+				// the candidate, and give the victim a second chance; the node
+				// of the candidate is discarded when the queue is compacted
+				enqueue( victim );
+				evict( candidate );
+				return;
+			}
+			evict( victim );
+		}
+	}
+
+	private void enqueue(K key) {
+		insertionOrder.add( key );
+		queueSize.incrementAndGet();
+	}
+
+	/**
+	 * Discard the nodes of keys which are no longer in the map, and every
+	 * node of a key but the most recent one, once the queue holds more than
+	 * twice as many nodes as there are entries in the map.
+	 */
+	private void compactIfNecessary() {
+		if ( queueSize.get() > 2 * map.size() + MINIMUM_COMPACTION_SIZE && compactionLock.tryLock() ) {
+			try {
+				final Map<K, Integer> occurrences = new HashMap<>();
+				for ( K key : insertionOrder ) {
+					occurrences.merge( key, 1, Integer::sum );
+				}
+				int remaining = 0;
+				final Iterator<K> iterator = insertionOrder.iterator();
+				while ( iterator.hasNext() ) {
+					final K key = iterator.next();
+					// a key added by another thread since we counted has no occurrences
+					final Integer later = occurrences.computeIfPresent( key, (k, count) -> count - 1 );
+					if ( later != null && later > 0 || !map.containsKey( key ) ) {
+						iterator.remove();
+					}
+					else {
+						remaining++;
+					}
+				}
+				// nodes added by other threads meanwhile may be missed,
+				// which only delays the next compaction
+				queueSize.set( remaining );
+			}
+			finally {
+				compactionLock.unlock();
+			}
+		}
+	}
+
+	private void evict(K key) {
+		final V evicted = map.remove( key );
+		if ( evicted != null ) {
+			evictionListener.accept( key, evicted );
+		}
+	}
+
+	/**
+	 * A count-min sketch of the access frequency of keys, with four hash
+	 * functions and 4-bit counters, which are all halved periodically so
+	 * that the popularity of keys decays over time.
+	 * <p>
+	 * Updates are not synchronized: concurrent increments may occasionally
+	 * be lost, which is harmless since the frequencies are only estimates.
+	 */
+	private static final class FrequencySketch {
+		private static final long[] SEEDS = {
+				0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L
+		};
+		private static final long RESET_MASK = 0x7777777777777777L;
+
+		private final long[] table;
+		private final int tableMask;
+		private final int sampleSize;
+		private int additions;
+
+		private FrequencySketch(int maximumSize) {
+			final int length = Integer.highestOneBit( Math.max( maximumSize, 8 ) - 1 ) << 1;
+			table = new long[length];
+			tableMask = length - 1;
+			sampleSize = 10 * Math.max( maximumSize, 8 );
+		}
+
+		private static int spread(int hashCode) {
+			final int h = hashCode * 0x9E3779B9;
+			return h ^ ( h >>> 16 );
+		}
+
+		private int indexOf(int hash, int i) {
+			long h = ( hash + SEEDS[i] ) * SEEDS[i];
+			h += h >>> 32;
+			return ( (int) h ) & tableMask;
+		}
+
+		int frequency(Object key) {
+			final int hash = spread( key.hashCode() );
+			// each key uses one of four groups of four counters in each slot
+			final int start = ( hash & 3 ) << 2;
+			int frequency = Integer.MAX_VALUE;
+			for ( int i = 0; i < 4; i++ ) {
+				final int offset = ( start + i ) << 2;
+				final int count = (int) ( ( table[indexOf( hash, i )] >>> offset ) & 0xfL );
+				frequency = Math.min( frequency, count );
+			}
+			return frequency;
+		}
+
+		void increment(Object key) {
+			final int hash = spread( key.hashCode() );
+			final int start = ( hash & 3 ) << 2;
+			boolean added = false;
+			for ( int i = 0; i < 4; i++ ) {
+				added |= incrementAt( indexOf( hash, i ), start + i );
+			}
+			if ( added && ++additions >= sampleSize ) {
+				reset();
+			}
+		}
+
+		private boolean incrementAt(int index, int counter) {
+			final int offset = counter << 2;
+			final long mask = 0xfL << offset;
+			if ( ( table[index] & mask ) != mask ) {
+				table[index] += 1L << offset;
+				return true;
+			}
+			return false;
+		}
+
+		private void reset() {
+			for ( int i = 0; i < table.length; i++ ) {
+				table[i] = ( table[i] >>> 1 ) & RESET_MASK;
+			}
+			additions = additions >>> 1;
+		}
+	}
+}
@@ -29,6 +29,7 @@
  */
 public abstract class AbstractCollectionBatchLoader implements CollectionBatchLoader {
 	private final int domainBatchSize;
+	private final AdaptiveBatchSizer adaptiveBatchSizer;
 	private final PluralAttributeMapping attributeMapping;
 	private final LoadQueryInfluencers influencers;
 	private final SessionFactoryImplementor sessionFactory;
@@ -42,7 +43,17 @@ public AbstractCollectionBatchLoader(
 			LoadQueryInfluencers influencers,
 			PluralAttributeMapping attributeMapping,
 			SessionFactoryImplementor sessionFactory) {
+		this( domainBatchSize, null, influencers, attributeMapping, sessionFactory );
+	}
+
+	AbstractCollectionBatchLoader(
+			int domainBatchSize,
+			AdaptiveBatchSizer adaptiveBatchSizer,
+			LoadQueryInfluencers influencers,
+			PluralAttributeMapping attributeMapping,
+			SessionFactoryImplementor sessionFactory) {
 		this.domainBatchSize = domainBatchSize;
+		this.adaptiveBatchSizer = adaptiveBatchSizer;
 		this.attributeMapping = attributeMapping;
 
 		this.keyJdbcCount = attributeMapping.getJdbcTypeCount();
@@ -62,6 +73,35 @@ public PluralAttributeMapping getLoadable() {
 		return attributeMapping;
 	}
 
+	/**
+	 * The number of keys to collect from the batch fetch queue for the next load,
+	 * which is the {@linkplain #getDomainBatchSize() domain batch size}, unless
+	 * it is tuned at runtime by an {@link AdaptiveBatchSizer}.
+	 */
+	int getKeyBatchSize() {
+		return adaptiveBatchSizer == null ? domainBatchSize : adaptiveBatchSizer.getBatchSize();
+	}
+
+	/**
+	 * Report the number of keys collected from the batch fetch queue into a
+	 * batch of the given size to the {@link AdaptiveBatchSizer}, if any.
+	 */
+	void recordKeys(int batchSize, int keys) {
+		if ( adaptiveBatchSizer != null ) {
+			adaptiveBatchSizer.recordKeys( batchSize, keys );
+		}
+	}
+
+	/**
+	 * Report the time a load of the given number of keys took to the
+	 * {@link AdaptiveBatchSizer}, if any.
+	 */
+	void recordLatency(int keys, long nanos) {
+		if ( adaptiveBatchSizer != null ) {
+			adaptiveBatchSizer.recordLatency( keys, nanos );
+		}
+	}
+
 	public LoadQueryInfluencers getInfluencers() {
 		return influencers;
 	}
@@ -89,7 +129,9 @@ public PersistentCollection<?> load(Object key, SharedSessionContractImplementor
 			return singleKeyLoader.load( key, session );
 		}
 
+		final long start = System.nanoTime();
 		initializeKeys( key, keys, session );
+		recordLatency( keys.length, System.nanoTime() - start );
 
 		finishInitializingKeys( keys, session );
 
@@ -127,7 +169,7 @@ protected void finishInitializingKey(Object key, SharedSessionContractImplemento
 	}
 
 	Object[] resolveKeysToInitialize(Object keyBeingLoaded, SharedSessionContractImplementor session) {
-		final int length = getDomainBatchSize();
+		final int length = getKeyBatchSize();
 		final Object[] keysToInitialize = (Object[]) Array.newInstance(
 				getKeyType( getLoadable().getKeyDescriptor().getKeyPart() ),
 				length
@@ -140,7 +182,9 @@ Object[] resolveKeysToInitialize(Object keyBeingLoaded, SharedSessionContractImp
 						getLoadable()
 				);
 		// now trim down the array to the number of keys we found
-		return trimIdBatch( length, keysToInitialize );
+		final Object[] keys = trimIdBatch( length, keysToInitialize );
+		recordKeys( length, keys.length );
+		return keys;
 	}
 
 	protected Class<?> getKeyType(ValuedModelPart keyPart) {
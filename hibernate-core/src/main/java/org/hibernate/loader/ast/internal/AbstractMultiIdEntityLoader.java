@@ -9,6 +9,7 @@
 import org.hibernate.LockOptions;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.event.spi.EventSource;
 import org.hibernate.event.spi.LoadEvent;
@@ -17,6 +18,7 @@
 import org.hibernate.loader.ast.spi.MultiIdLoadOptions;
 import org.hibernate.metamodel.mapping.EntityIdentifierMapping;
 import org.hibernate.metamodel.mapping.EntityMappingType;
+import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.sql.ast.SqlAstTranslatorFactory;
 import org.hibernate.sql.exec.spi.JdbcSelectExecutor;
 import org.hibernate.type.descriptor.java.JavaType;
@@ -24,6 +26,7 @@
 import java.lang.reflect.Array;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import static org.hibernate.internal.util.collections.CollectionHelper.arrayList;
 import static org.hibernate.internal.util.collections.CollectionHelper.isEmpty;
@@ -125,11 +128,13 @@ private List<T> orderedMultiLoad(
 		final List<Object> idsInBatch = new ArrayList<>();
 		final List<Integer> elementPositionsLoadedByBatch = new ArrayList<>();
 
+		final Map<Object, Object> cacheEntries = getFromSecondLevelCacheIfEnabled( ids, loadOptions, lockOptions, session );
+
 		for ( int i = 0; i < ids.length; i++ ) {
 			final Object id = idCoercionEnabled ? idType.coerce( ids[i], session ) : ids[i];
 			final EntityKey entityKey = new EntityKey( id, getLoadable().getEntityPersister() );
 
-			if ( !loadFromEnabledCaches( loadOptions, session, id, lockOptions, entityKey, result, i ) ) {
+			if ( !loadFromEnabledCaches( loadOptions, session, id, lockOptions, entityKey, cacheEntries, result, i ) ) {
 				// if we did not hit any of the continues above,
 				// then we need to batch load the entity state.
 				idsInBatch.add( id );
@@ -185,10 +190,11 @@ protected boolean loadFromEnabledCaches(
 			Object id,
 			LockOptions lockOptions,
 			EntityKey entityKey,
+			Map<Object, Object> cacheEntries,
 			List<Object> result,
 			int i) {
 		if ( loadOptions.isSessionCheckingEnabled() || loadOptions.isSecondLevelCacheCheckingEnabled() ) {
-			return loadFromCaches( loadOptions, entityKey, result, i,
+			return loadFromCaches( loadOptions, entityKey, cacheEntries, result, i,
 					new LoadEvent(
 							id,
 							getLoadable().getJavaType().getJavaTypeClass().getName(),
@@ -206,6 +212,7 @@ protected boolean loadFromEnabledCaches(
 	private boolean loadFromCaches(
 			MultiIdLoadOptions loadOptions,
 			EntityKey entityKey,
+			Map<Object, Object> cacheEntries,
 			List<Object> result,
 			int i,
 			LoadEvent loadEvent) {
@@ -229,11 +236,7 @@ private boolean loadFromCaches(
 		if ( managedEntity == null
 				&& loadOptions.isSecondLevelCacheCheckingEnabled() ) {
 			// look for it in the SessionFactory
-			managedEntity = CacheEntityLoaderHelper.INSTANCE.loadFromSecondLevelCache(
-					loadEvent,
-					getLoadable().getEntityPersister(),
-					entityKey
-			);
+			managedEntity = loadFromSecondLevelCache( loadEvent, entityKey, cacheEntries );
 		}
 
 		if ( managedEntity != null ) {
@@ -294,11 +297,13 @@ protected final <R> Object[] resolveInCaches(
 		final boolean idCoercionEnabled = isIdCoercionEnabled();
 		final JavaType<?> idType = getLoadable().getIdentifierMapping().getJavaType();
 
+		final Map<Object, Object> cacheEntries = getFromSecondLevelCacheIfEnabled( ids, loadOptions, lockOptions, session );
+
 		List<Object> unresolvedIds = null;
 		for ( int i = 0; i < ids.length; i++ ) {
 			final Object id = idCoercionEnabled ? idType.coerce( ids[i], session ) : ids[i];
 			final EntityKey entityKey = new EntityKey( id, getLoadable().getEntityPersister() );
-			unresolvedIds = loadFromCaches( id, entityKey, i, unresolvedIds, loadOptions, resolutionConsumer,
+			unresolvedIds = loadFromCaches( id, entityKey, i, unresolvedIds, loadOptions, cacheEntries, resolutionConsumer,
 					new LoadEvent(
 							id,
 							getLoadable().getJavaType().getJavaTypeClass().getName(),
@@ -323,6 +328,65 @@ else if ( unresolvedIds.size() == ids.length ) {
 		}
 	}
 
+	/**
+	 * Retrieve the second-level cache entries of all the given ids which
+	 * are not already associated with the session, using a single bulk
+	 * get, instead of a round trip to the cache for each id.
+	 *
+	 * @return the cache entries keyed by id, or {@code null} if the
+	 * second-level cache is not to be checked
+	 */
+	private Map<Object, Object> getFromSecondLevelCacheIfEnabled(
+			Object[] ids,
+			MultiIdLoadOptions loadOptions,
+			LockOptions lockOptions,
+			EventSource session) {
+		if ( !loadOptions.isSecondLevelCacheCheckingEnabled() ) {
+			return null;
+		}
+
+		final boolean idCoercionEnabled = isIdCoercionEnabled();
+		final JavaType<?> idType = getLoadable().getIdentifierMapping().getJavaType();
+		final EntityPersister persister = getLoadable().getEntityPersister();
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+
+		final List<Object> idsToCheck = arrayList( ids.length );
+		for ( Object value : ids ) {
+			final Object id = idCoercionEnabled ? idType.coerce( value, session ) : value;
+			if ( !loadOptions.isSessionCheckingEnabled()
+					|| persistenceContext.getEntity( new EntityKey( id, persister ) ) == null ) {
+				idsToCheck.add( id );
+			}
+		}
+		return CacheEntityLoaderHelper.INSTANCE.getFromSecondLevelCache(
+				session,
+				lockOptions.getLockMode(),
+				persister,
+				idsToCheck
+		);
+	}
+
+	private Object loadFromSecondLevelCache(
+			LoadEvent loadEvent,
+			EntityKey entityKey,
+			Map<Object, Object> cacheEntries) {
+		final EntityPersister persister = getLoadable().getEntityPersister();
+		final Object id = entityKey.getIdentifier();
+		if ( cacheEntries != null && cacheEntries.containsKey( id ) ) {
+			return CacheEntityLoaderHelper.INSTANCE.loadFromSecondLevelCache(
+					loadEvent,
+					persister,
+					entityKey,
+					cacheEntries.get( id )
+			);
+		}
+		else {
+			// the id was not part of the bulk lookup, because the
+			// entity was already associated with the session
+			return CacheEntityLoaderHelper.INSTANCE.loadFromSecondLevelCache( loadEvent, persister, entityKey );
+		}
+	}
+
 	private boolean isIdCoercionEnabled() {
 		return !getSessionFactory().getJpaMetamodel().getJpaCompliance().isLoadByIdComplianceEnabled();
 	}
@@ -334,6 +398,7 @@ private <R, K> List<K> loadFromCaches(
 			K id, EntityKey entityKey, int i,
 			List<K> unresolvedIds,
 			MultiIdLoadOptions loadOptions,
+			Map<Object, Object> cacheEntries,
 			ResolutionConsumer<R> resolutionConsumer,
 			LoadEvent loadEvent) {
 		Object cachedEntity = null;
@@ -353,11 +418,7 @@ private <R, K> List<K> loadFromCaches(
 		}
 
 		if ( cachedEntity == null && loadOptions.isSecondLevelCacheCheckingEnabled() ) {
-			cachedEntity = CacheEntityLoaderHelper.INSTANCE.loadFromSecondLevelCache(
-					loadEvent,
-					getLoadable().getEntityPersister(),
-					entityKey
-			);
+			cachedEntity = loadFromSecondLevelCache( loadEvent, entityKey, cacheEntries );
 		}
 
 		if ( cachedEntity != null ) {
@@ -13,6 +13,7 @@
 
 import org.hibernate.HibernateException;
 import org.hibernate.LockOptions;
+import org.hibernate.cache.internal.NaturalIdNegativeCache;
 import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.spi.LoadQueryInfluencers;
@@ -106,9 +107,10 @@ public T load(Object naturalIdValue, NaturalIdLoadOptions options, SharedSession
 		);
 
 		// we have to add the restrictions ourselves manually because we want special null handling
+		final Object normalizedNaturalIdValue = naturalIdMapping().normalizeInput( naturalIdValue );
 		final JdbcParameterBindings jdbcParamBindings = new JdbcParameterBindingsImpl( naturalIdMapping.getJdbcTypeCount() );
 		applyNaturalIdRestriction(
-				naturalIdMapping().normalizeInput( naturalIdValue ),
+				normalizedNaturalIdValue,
 				sqlSelect.getQuerySpec().getFromClause().getRoots().get(0),
 				sqlSelect.getQuerySpec()::applyPredicate,
 				jdbcParamBindings::addBinding,
@@ -132,6 +134,8 @@ public T load(Object naturalIdValue, NaturalIdLoadOptions options, SharedSession
 						.translate( jdbcParamBindings, queryOptions );
 
 		final long startToken = sessionFactory.getStatistics().isStatisticsEnabled() ? System.nanoTime() : -1;
+		final NaturalIdNegativeCache negativeCache = LoaderHelper.getNaturalIdNegativeCache( session );
+		final long negativeCacheTimestamp = negativeCache == null ? 0 : negativeCache.getTimestamp();
 
 		final List<T> results = session.getFactory().getJdbcServices().getJdbcSelectExecutor().list(
 				jdbcSelect,
@@ -153,6 +157,9 @@ public T load(Object naturalIdValue, NaturalIdLoadOptions options, SharedSession
 		}
 
 		final T result = results.isEmpty() ? null : results.get(0);
+		if ( result == null && negativeCache != null ) {
+			negativeCache.putAbsent( normalizedNaturalIdValue, entityDescriptor, session, negativeCacheTimestamp );
+		}
 //		entityDescriptor().getPostLoadListener().completedLoad( result, entityDescriptor(), naturalIdValue, KeyType.NATURAL_ID, LoadSource.DATABASE );
 		if ( startToken > 0 ) {
 			session.getFactory().getStatistics().naturalIdQueryExecuted(
@@ -295,8 +302,11 @@ protected Expression resolveColumnReference(
 
 	@Override
 	public Object resolveNaturalIdToId(Object naturalIdValue, SharedSessionContractImplementor session) {
-		return selectByNaturalId(
-				naturalIdMapping().normalizeInput( naturalIdValue ),
+		final Object normalizedNaturalIdValue = naturalIdMapping().normalizeInput( naturalIdValue );
+		final NaturalIdNegativeCache negativeCache = LoaderHelper.getNaturalIdNegativeCache( session );
+		final long negativeCacheTimestamp = negativeCache == null ? 0 : negativeCache.getTimestamp();
+		final Object id = selectByNaturalId(
+				normalizedNaturalIdValue,
 				NaturalIdLoadOptions.NONE,
 				(tableGroup, creationState) -> entityDescriptor.getIdentifierMapping().createDomainResult(
 						tableGroup.getNavigablePath().append( EntityIdentifierMapping.ID_ROLE_NAME ),
@@ -324,6 +334,10 @@ public Object resolveNaturalIdToId(Object naturalIdValue, SharedSessionContractI
 				},
 				session
 		);
+		if ( id == null && negativeCache != null ) {
+			negativeCache.putAbsent( normalizedNaturalIdValue, entityDescriptor, session, negativeCacheTimestamp );
+		}
+		return id;
 	}
 
 	@Override
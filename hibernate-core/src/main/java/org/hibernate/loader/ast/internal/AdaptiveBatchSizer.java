@@ -0,0 +1,110 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.loader.ast.internal;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static org.hibernate.loader.ast.internal.MultiKeyLoadLogging.MULTI_KEY_LOAD_LOGGER;
+
+/**
+ * Tunes the batch size of a batch loader at runtime, within the bounds given by
+ * {@value org.hibernate.cfg.FetchSettings#BATCH_FETCH_ADAPTIVE_MIN_SIZE} and
+ * {@value org.hibernate.cfg.FetchSettings#BATCH_FETCH_ADAPTIVE_MAX_SIZE}.
+ * <p>
+ * Each load reports the number of keys it collected from the
+ * {@linkplain org.hibernate.engine.spi.BatchFetchQueue batch fetch queue}, out
+ * of the size of its batch, and how long the load took. The batch size tracks a
+ * moving average of the number of keys collected, rounded up to a power of two.
+ * When every slot of a batch was filled, there were probably more keys pending,
+ * and so the estimate is doubled, unless the time taken per key by the last load
+ * got much worse than usual, which indicates that bigger batches are no longer
+ * paying off. The {@linkplain #getHitRatio hit ratio}, the moving average of the
+ * fraction of the slots of a batch which were filled, is logged along with each
+ * change of the batch size.
+ * <p>
+ * Only used by the loaders which pass the keys as a single SQL {@code ARRAY}
+ * parameter, since their SQL does not depend on the size of the batch.
+ *
+ * @see org.hibernate.cfg.FetchSettings#BATCH_FETCH_ADAPTIVE
+ */
+final class AdaptiveBatchSizer {
+	// weight of the most recent observation in the moving averages
+	private static final double ALPHA = 0.25;
+
+	private final String role;
+	private final int minSize;
+	private final int maxSize;
+
+	// races between sessions only lose an observation, so volatile is enough
+	private volatile int batchSize;
+	private volatile double collectedKeys;
+	private volatile double hitRatio = 1.0;
+	private volatile double nanosPerKey;
+	private volatile boolean slower;
+
+	AdaptiveBatchSizer(String role, int initialSize, int minSize, int maxSize) {
+		this.role = role;
+		this.minSize = minSize;
+		this.maxSize = maxSize;
+		this.batchSize = clamp( initialSize );
+		this.collectedKeys = batchSize;
+	}
+
+	/**
+	 * The number of keys the next load should try to collect.
+	 */
+	int getBatchSize() {
+		return batchSize;
+	}
+
+	/**
+	 * The moving average of the fraction of the slots of a batch which were
+	 * filled with keys from the batch fetch queue.
+	 */
+	double getHitRatio() {
+		return hitRatio;
+	}
+
+	/**
+	 * Record that a load collected the given number of keys, including the key
+	 * being loaded, into a batch of the given size.
+	 */
+	void recordKeys(int batchSize, int keys) {
+		final double ratio = hitRatio;
+		hitRatio = ratio + ALPHA * ( (double) keys / batchSize - ratio );
+
+		final double observed = keys >= batchSize && !slower ? 2.0 * keys : keys;
+		final double average = collectedKeys + ALPHA * ( observed - collectedKeys );
+		collectedKeys = average;
+
+		final int newSize = clamp( ceilingPowerOfTwo( average ) );
+		if ( newSize != this.batchSize ) {
+			this.batchSize = newSize;
+			if ( MULTI_KEY_LOAD_LOGGER.isDebugEnabled() ) {
+				MULTI_KEY_LOAD_LOGGER.debugf( "Adjusted batch size for `%s` to %s (hit ratio %.2f)",
+						role, newSize, hitRatio );
+			}
+		}
+	}
+
+	/**
+	 * Record that a load of the given number of keys took the given time.
+	 */
+	void recordLatency(int keys, long nanos) {
+		final double perKey = (double) nanos / max( keys, 1 );
+		final double averagePerKey = nanosPerKey;
+		nanosPerKey = averagePerKey == 0 ? perKey : averagePerKey + ALPHA * ( perKey - averagePerKey );
+		slower = averagePerKey > 0 && perKey > 2 * averagePerKey;
+	}
+
+	private int clamp(int size) {
+		return min( max( size, minSize ), maxSize );
+	}
+
+	private static int ceilingPowerOfTwo(double value) {
+		final int size = (int) Math.ceil( value );
+		return size <= 1 ? 1 : Integer.highestOneBit( size - 1 ) << 1;
+	}
+}
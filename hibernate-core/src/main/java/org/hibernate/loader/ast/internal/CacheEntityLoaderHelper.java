@@ -4,6 +4,9 @@
  */
 package org.hibernate.loader.ast.internal;
 
+import java.util.Collection;
+import java.util.Map;
+
 import org.hibernate.HibernateException;
 import org.hibernate.Incubating;
 import org.hibernate.LockMode;
@@ -38,11 +41,14 @@
 import org.hibernate.type.Type;
 import org.hibernate.type.TypeHelper;
 
+import static java.util.Collections.emptyMap;
+import static org.hibernate.engine.internal.CacheHelper.allFromSharedCache;
 import static org.hibernate.engine.internal.CacheHelper.fromSharedCache;
 import static org.hibernate.engine.internal.ManagedTypeHelper.asPersistentAttributeInterceptable;
 import static org.hibernate.engine.internal.ManagedTypeHelper.isManagedEntity;
 import static org.hibernate.engine.internal.ManagedTypeHelper.isPersistentAttributeInterceptable;
 import static org.hibernate.engine.internal.Versioning.getVersion;
+import static org.hibernate.internal.util.collections.CollectionHelper.mapOfSize;
 import static org.hibernate.loader.ast.internal.LoaderHelper.upgradeLock;
 import static org.hibernate.proxy.HibernateProxy.extractLazyInitializer;
 
@@ -196,6 +202,89 @@ public Object loadFromSecondLevelCache(
 				persister,
 				entityKey
 		);
+		firePostLoadEvent( event, persister, entity );
+		return entity;
+	}
+
+	/**
+	 * Attempts to load the entity from a second-level cache entry which was
+	 * already retrieved by {@link #getFromSecondLevelCache(EventSource, LockMode, EntityPersister, Collection)}.
+	 *
+	 * @param event The load event
+	 * @param persister The persister for the entity being requested for load
+	 * @param entityKey The entity key
+	 * @param cacheEntry The cache entry, or null if there was no entry for the entity
+	 *
+	 * @return The entity from the second-level cache, or null.
+	 */
+	public Object loadFromSecondLevelCache(
+			final LoadEvent event,
+			final EntityPersister persister,
+			final EntityKey entityKey,
+			final Object cacheEntry) {
+		final Object entity = cacheEntry == null
+				? null
+				: processCachedEntry( event.getInstanceToLoad(), persister, cacheEntry, event.getSession(), entityKey );
+		firePostLoadEvent( event, persister, entity );
+		return entity;
+	}
+
+	/**
+	 * Retrieves the second-level cache entries of the entities with the given
+	 * identifiers, using a single bulk get from the cache.
+	 *
+	 * @param source The source
+	 * @param lockMode The lock mode
+	 * @param persister The persister for the entities being requested for load
+	 * @param ids The identifiers of the entities
+	 *
+	 * @return The cache entries keyed by identifier, with a null entry for
+	 * each identifier not found in the cache, or null if the second-level
+	 * cache may not be used
+	 */
+	public Map<Object, Object> getFromSecondLevelCache(
+			final EventSource source,
+			final LockMode lockMode,
+			final EntityPersister persister,
+			final Collection<?> ids) {
+		final boolean useCache =
+				persister.canReadFromCache()
+						&& source.getCacheMode().isGetEnabled()
+						&& lockMode.lessThan( LockMode.READ );
+		if ( !useCache ) {
+			return null;
+		}
+
+		final EntityDataAccess cache = persister.getCacheAccessStrategy();
+		final SessionFactoryImplementor factory = source.getFactory();
+		final Map<Object, Object> idsByCacheKey = mapOfSize( ids.size() );
+		for ( Object id : ids ) {
+			idsByCacheKey.put( cache.generateCacheKey( id, persister, factory, source.getTenantIdentifier() ), id );
+		}
+		final Map<Object, Object> cached = idsByCacheKey.isEmpty()
+				? emptyMap()
+				: allFromSharedCache( source, idsByCacheKey.keySet(), persister, cache );
+
+		final StatisticsImplementor statistics = factory.getStatistics();
+		final String rootEntityRole = StatsHelper.getRootEntityRole( persister );
+		final String regionName = cache.getRegion().getName();
+		final Map<Object, Object> cacheEntries = mapOfSize( idsByCacheKey.size() );
+		for ( Map.Entry<Object, Object> entry : idsByCacheKey.entrySet() ) {
+			final Object ce = cached.get( entry.getKey() );
+			cacheEntries.put( entry.getValue(), ce );
+			if ( statistics.isStatisticsEnabled() ) {
+				if ( ce == null ) {
+					statistics.entityCacheMiss( rootEntityRole, regionName );
+				}
+				else {
+					statistics.entityCacheHit( rootEntityRole, regionName );
+				}
+			}
+		}
+		return cacheEntries;
+	}
+
+	private static void firePostLoadEvent(LoadEvent event, EntityPersister persister, Object entity) {
 		if ( entity != null ) {
 			//PostLoad is needed for EJB3
 			final PostLoadEvent postLoadEvent =
@@ -207,7 +296,6 @@ public Object loadFromSecondLevelCache(
 					.getFastSessionServices()
 					.firePostLoadEvent( postLoadEvent );
 		}
-		return entity;
 	}
 
 	/**
@@ -282,7 +370,19 @@ private Object processCachedEntry(
 			final EntityKey entityKey) {
 		final CacheEntry entry = (CacheEntry)
 				persister.getCacheEntryStructure().destructure( ce, source.getFactory() );
-		if ( entry.isReferenceEntry() ) {
+		if ( entry == null ) {
+			// the entry was written by an incompatible mapping of the entity,
+			// so remove it, to let the entity loaded from the database replace it
+			final EntityDataAccess cacheAccess = persister.getCacheAccessStrategy();
+			cacheAccess.evict( cacheAccess.generateCacheKey(
+					entityKey.getIdentifier(),
+					persister,
+					source.getFactory(),
+					source.getTenantIdentifier()
+			) );
+			return null;
+		}
+		else if ( entry.isReferenceEntry() ) {
 			if ( instanceToLoad != null ) {
 				throw new HibernateException(
 						"Attempt to load entity from cache using provided object instance, but cache " +
@@ -56,7 +56,20 @@ public CollectionBatchLoaderArrayParam(
 			LoadQueryInfluencers loadQueryInfluencers,
 			PluralAttributeMapping attributeMapping,
 			SessionFactoryImplementor sessionFactory) {
-		super( domainBatchSize, loadQueryInfluencers, attributeMapping, sessionFactory );
+		this( domainBatchSize, null, loadQueryInfluencers, attributeMapping, sessionFactory );
+	}
+
+	/**
+	 * Instantiates the loader, with the given {@link AdaptiveBatchSizer}
+	 * tuning the number of keys per batch, if it is not null
+	 */
+	CollectionBatchLoaderArrayParam(
+			int domainBatchSize,
+			AdaptiveBatchSizer adaptiveBatchSizer,
+			LoadQueryInfluencers loadQueryInfluencers,
+			PluralAttributeMapping attributeMapping,
+			SessionFactoryImplementor sessionFactory) {
+		super( domainBatchSize, adaptiveBatchSizer, loadQueryInfluencers, attributeMapping, sessionFactory );
 
 		if ( MULTI_KEY_LOAD_LOGGER.isDebugEnabled() ) {
 			MULTI_KEY_LOAD_LOGGER.debugf(
@@ -126,7 +139,7 @@ private PersistentCollection<?> loadEmbeddable(
 			);
 		}
 
-		final int length = getDomainBatchSize();
+		final int length = getKeyBatchSize();
 		final Object[] keysToInitialize = (Object[]) Array.newInstance(
 				jdbcParameter.getExpressionType()
 						.getSingleJdbcMapping()
@@ -150,12 +163,15 @@ private PersistentCollection<?> loadEmbeddable(
 				);
 		// now trim down the array to the number of keys we found
 		final Object[] keys = trimIdBatch( length, keysToInitialize );
+		recordKeys( length, keys.length );
 
 		if ( hasSingleId( keys ) ) {
 			return singleKeyLoader.load( keyBeingLoaded, session );
 		}
 
+		final long start = System.nanoTime();
 		initializeKeys( keyBeingLoaded, keys, session );
+		recordLatency( keys.length, System.nanoTime() - start );
 
 		for ( Object initializedKey : embeddedKeys ) {
 			if ( initializedKey != null ) {
@@ -220,7 +236,7 @@ Object[] resolveKeysToInitialize(Object keyBeingLoaded, SharedSessionContractImp
 		final ForeignKeyDescriptor keyDescriptor = getLoadable().getKeyDescriptor();
 		if( keyDescriptor.isEmbedded()){
 			assert keyDescriptor.getJdbcTypeCount() == 1;
-			final int length = getDomainBatchSize();
+			final int length = getKeyBatchSize();
 			final Object[] keysToInitialize = (Object[]) Array.newInstance( keyDescriptor.getSingleJdbcMapping().getJdbcJavaType().getJavaTypeClass(), length );
 			session.getPersistenceContextInternal().getBatchFetchQueue()
 					.collectBatchLoadableCollectionKeys(
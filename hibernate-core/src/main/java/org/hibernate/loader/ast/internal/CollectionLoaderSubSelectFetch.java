@@ -4,17 +4,17 @@
  */
 package org.hibernate.loader.ast.internal;
 
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 
 import org.hibernate.LockOptions;
 import org.hibernate.collection.spi.PersistentCollection;
-import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
-import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.spi.BatchFetchQueue;
 import org.hibernate.engine.spi.CollectionKey;
 import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.LoadQueryInfluencers;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
@@ -22,18 +22,29 @@
 import org.hibernate.internal.util.NullnessUtil;
 import org.hibernate.internal.util.collections.CollectionHelper;
 import org.hibernate.loader.ast.spi.CollectionLoader;
+import org.hibernate.metamodel.mapping.AttributeMappingsList;
+import org.hibernate.metamodel.mapping.JdbcMappingContainer;
 import org.hibernate.metamodel.mapping.PluralAttributeMapping;
+import org.hibernate.persister.collection.AbstractCollectionPersister;
+import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.sql.ast.SqlAstTranslatorFactory;
+import org.hibernate.sql.ast.spi.SqlSelection;
 import org.hibernate.sql.ast.tree.from.TableGroup;
 import org.hibernate.sql.ast.tree.select.QuerySpec;
 import org.hibernate.sql.ast.tree.select.SelectStatement;
+import org.hibernate.sql.exec.internal.JdbcSelectExecutorStandardImpl;
+import org.hibernate.sql.exec.spi.ExecutionContext;
 import org.hibernate.sql.exec.spi.JdbcOperationQuerySelect;
 import org.hibernate.sql.results.graph.DomainResult;
 import org.hibernate.sql.results.internal.ResultsHelper;
 import org.hibernate.sql.results.internal.RowTransformerStandardImpl;
+import org.hibernate.sql.results.jdbc.internal.JdbcValuesPrefetched;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
 import org.hibernate.sql.results.spi.ListResultsConsumer;
 
+import static java.util.Collections.emptyList;
+
 /**
  * A one-time use {@link CollectionLoader} for applying a subselect fetch.
  *
@@ -80,11 +91,6 @@ protected SelectStatement getSqlAst() {
 	@Override
 	public PersistentCollection<?> load(Object triggerKey, SharedSessionContractImplementor session) {
 		final CollectionKey collectionKey = new CollectionKey( attributeMapping.getCollectionDescriptor(), triggerKey );
-
-		final SessionFactoryImplementor sessionFactory = session.getFactory();
-		final JdbcServices jdbcServices = sessionFactory.getJdbcServices();
-		final JdbcEnvironment jdbcEnvironment = jdbcServices.getJdbcEnvironment();
-		final SqlAstTranslatorFactory sqlAstTranslatorFactory = jdbcEnvironment.getSqlAstTranslatorFactory();
 		final PersistenceContext persistenceContext = session.getPersistenceContext();
 
 		// try to find a registered SubselectFetch
@@ -93,53 +99,101 @@ public PersistentCollection<?> load(Object triggerKey, SharedSessionContractImpl
 
 		final BatchFetchQueue batchFetchQueue = persistenceContext.getBatchFetchQueue();
 		final EntityEntry ownerEntry = persistenceContext.getEntry( collection.getOwner() );
-		List<PersistentCollection<?>> subSelectFetchedCollections = null;
-		if ( ownerEntry != null ) {
-			final EntityKey triggerKeyOwnerKey = ownerEntry.getEntityKey();
-			final SubselectFetch registeredFetch = batchFetchQueue.getSubselect( triggerKeyOwnerKey );
-			if ( registeredFetch != null ) {
-				subSelectFetchedCollections = CollectionHelper.arrayList(
-						registeredFetch.getResultingEntityKeys().size() );
-
-				// there was one, so we want to make sure to prepare the corresponding collection
-				// reference for reading
-				final Iterator<EntityKey> itr = registeredFetch.getResultingEntityKeys().iterator();
-				while ( itr.hasNext() ) {
-					final EntityKey key = itr.next();
-
-					final PersistentCollection<?> containedCollection = persistenceContext.getCollection(
-							new CollectionKey( attributeMapping.getCollectionDescriptor(), key.getIdentifier() )
-					);
-
-					if ( containedCollection != null && containedCollection != collection ) {
-						containedCollection.beginRead();
-						containedCollection.beforeInitialize( getLoadable().getCollectionDescriptor(), -1 );
-
-						subSelectFetchedCollections.add( containedCollection );
-					}
-				}
+		final SubselectFetch registeredFetch =
+				ownerEntry == null ? null : batchFetchQueue.getSubselect( ownerEntry.getEntityKey() );
+
+		// start the subselect fetches of the other collections of the owner
+		// first, so that they execute concurrently with this one
+		final List<BackgroundFetch> backgroundFetches =
+				registeredFetch == null
+						? emptyList()
+						: startBackgroundFetches( collection.getOwner(), ownerEntry, registeredFetch, session );
+
+		final List<PersistentCollection<?>> subSelectFetchedCollections =
+				registeredFetch == null ? null : beginRead( registeredFetch, collection, persistenceContext );
+
+		try {
+			final SubselectFetch.RegistrationHandler subSelectFetchableKeysHandler =
+					createRegistrationHandler( batchFetchQueue );
+			session.getJdbcServices().getJdbcSelectExecutor().list(
+					translate( session ),
+					this.subselect.getLoadingJdbcParameterBindings(),
+					new ExecutionContextWithSubselectFetchHandler( session, subSelectFetchableKeysHandler ),
+					RowTransformerStandardImpl.instance(),
+					ListResultsConsumer.UniqueSemantic.NONE
+			);
+
+			finishLoading( subSelectFetchedCollections, persistenceContext );
+
+			for ( BackgroundFetch backgroundFetch : backgroundFetches ) {
+				backgroundFetch.complete( session );
 			}
 		}
+		catch (RuntimeException e) {
+			// leave every collection we began to read uninitialized, and make
+			// sure the background fetches have released their connections
+			abortLoading( subSelectFetchedCollections );
+			for ( BackgroundFetch backgroundFetch : backgroundFetches ) {
+				backgroundFetch.cancel();
+			}
+			throw e;
+		}
 
-		final JdbcOperationQuerySelect jdbcSelect = sqlAstTranslatorFactory
+		return collection;
+	}
+
+	private JdbcOperationQuerySelect translate(SharedSessionContractImplementor session) {
+		final SessionFactoryImplementor sessionFactory = session.getFactory();
+		final SqlAstTranslatorFactory sqlAstTranslatorFactory =
+				sessionFactory.getJdbcServices().getJdbcEnvironment().getSqlAstTranslatorFactory();
+		return sqlAstTranslatorFactory
 				.buildSelectTranslator( sessionFactory, sqlAst )
 				.translate( this.subselect.getLoadingJdbcParameterBindings(), QueryOptions.NONE );
+	}
 
-		final SubselectFetch.RegistrationHandler subSelectFetchableKeysHandler = SubselectFetch.createRegistrationHandler(
+	private SubselectFetch.RegistrationHandler createRegistrationHandler(BatchFetchQueue batchFetchQueue) {
+		return SubselectFetch.createRegistrationHandler(
 				batchFetchQueue,
 				sqlAst,
 				this.subselect.getLoadingJdbcParameters(),
 				this.subselect.getLoadingJdbcParameterBindings()
 		);
+	}
 
-		jdbcServices.getJdbcSelectExecutor().list(
-				jdbcSelect,
-				this.subselect.getLoadingJdbcParameterBindings(),
-				new ExecutionContextWithSubselectFetchHandler( session, subSelectFetchableKeysHandler ),
-				RowTransformerStandardImpl.instance(),
-				ListResultsConsumer.UniqueSemantic.NONE
-		);
+	/**
+	 * Prepare the collections belonging to the other owners loaded by the same
+	 * query for reading, excluding the given collection.
+	 */
+	private List<PersistentCollection<?>> beginRead(
+			SubselectFetch registeredFetch,
+			PersistentCollection<?> excluded,
+			PersistenceContext persistenceContext) {
+		final List<PersistentCollection<?>> subSelectFetchedCollections =
+				CollectionHelper.arrayList( registeredFetch.getResultingEntityKeys().size() );
+
+		// there was one, so we want to make sure to prepare the corresponding collection
+		// reference for reading
+		final Iterator<EntityKey> itr = registeredFetch.getResultingEntityKeys().iterator();
+		while ( itr.hasNext() ) {
+			final EntityKey key = itr.next();
+
+			final PersistentCollection<?> containedCollection = persistenceContext.getCollection(
+					new CollectionKey( attributeMapping.getCollectionDescriptor(), key.getIdentifier() )
+			);
+
+			if ( containedCollection != null && containedCollection != excluded ) {
+				containedCollection.beginRead();
+				containedCollection.beforeInitialize( getLoadable().getCollectionDescriptor(), -1 );
+
+				subSelectFetchedCollections.add( containedCollection );
+			}
+		}
+		return subSelectFetchedCollections;
+	}
 
+	private void finishLoading(
+			List<PersistentCollection<?>> subSelectFetchedCollections,
+			PersistenceContext persistenceContext) {
 		if ( subSelectFetchedCollections != null && ! subSelectFetchedCollections.isEmpty() ) {
 			subSelectFetchedCollections.forEach(
 					c -> {
@@ -160,8 +214,159 @@ public PersistentCollection<?> load(Object triggerKey, SharedSessionContractImpl
 
 			subSelectFetchedCollections.clear();
 		}
+	}
 
-		return collection;
+	private static void abortLoading(List<PersistentCollection<?>> subSelectFetchedCollections) {
+		if ( subSelectFetchedCollections != null ) {
+			for ( PersistentCollection<?> collection : subSelectFetchedCollections ) {
+				if ( !collection.wasInitialized() ) {
+					collection.abortRead();
+				}
+			}
+		}
 	}
 
+	/**
+	 * If enabled, start a subselect fetch in the background for each other
+	 * uninitialized collection of the given owner which is subselect fetched
+	 * using the same subselect.
+	 *
+	 * @see org.hibernate.cfg.FetchSettings#SUBSELECT_FETCH_PARALLELISM
+	 */
+	private List<BackgroundFetch> startBackgroundFetches(
+			Object owner,
+			EntityEntry ownerEntry,
+			SubselectFetch registeredFetch,
+			SharedSessionContractImplementor session) {
+		final ParallelFetchExecutor parallelFetchExecutor =
+				session.getFactory().getServiceRegistry().requireService( ParallelFetchExecutor.class );
+		if ( !parallelFetchExecutor.isEnabled( session ) ) {
+			return emptyList();
+		}
+
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		final LoadQueryInfluencers influencers = session.getLoadQueryInfluencers();
+		final List<BackgroundFetch> backgroundFetches = new ArrayList<>();
+		final AttributeMappingsList attributeMappings = ownerEntry.getPersister().getAttributeMappings();
+		for ( int i = 0; i < attributeMappings.size(); i++ ) {
+			final PluralAttributeMapping sibling = attributeMappings.get( i ).asPluralAttributeMapping();
+			if ( sibling != null && sibling != attributeMapping ) {
+				final CollectionPersister siblingDescriptor = sibling.getCollectionDescriptor();
+				if ( influencers.effectiveSubselectFetchEnabled( siblingDescriptor )
+						&& !hasNamedQueryLoader( siblingDescriptor ) ) {
+					final Object siblingKey = siblingDescriptor.getCollectionType().getKeyOfOwner( owner, session );
+					final PersistentCollection<?> siblingCollection = siblingKey == null ? null
+							: persistenceContext.getCollection( new CollectionKey( siblingDescriptor, siblingKey ) );
+					if ( siblingCollection != null && !siblingCollection.wasInitialized() ) {
+						final BackgroundFetch backgroundFetch =
+								new CollectionLoaderSubSelectFetch( sibling, null, registeredFetch, session )
+										.startBackgroundFetch( parallelFetchExecutor, session );
+						if ( backgroundFetch != null ) {
+							backgroundFetches.add( backgroundFetch );
+						}
+					}
+				}
+			}
+		}
+		return backgroundFetches;
+	}
+
+	private static boolean hasNamedQueryLoader(CollectionPersister collectionDescriptor) {
+		return collectionDescriptor instanceof AbstractCollectionPersister persister
+			&& persister.getCollectionLoader() instanceof CollectionLoaderNamedQuery;
+	}
+
+	private BackgroundFetch startBackgroundFetch(
+			ParallelFetchExecutor parallelFetchExecutor,
+			SharedSessionContractImplementor session) {
+		final JdbcOperationQuerySelect jdbcSelect = translate( session );
+		// SQL generated from the mapping model never needs to be
+		// resolved against the metadata of the JDBC result set
+		final JdbcValuesMapping jdbcValuesMapping =
+				jdbcSelect.getJdbcValuesMappingProducer()
+						.resolve( null, session.getLoadQueryInfluencers(), session.getFactory() );
+		if ( selectsLob( jdbcValuesMapping ) ) {
+			// a LOB locator can't outlive the connection it was read from
+			return null;
+		}
+
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		final ExecutionContextWithSubselectFetchHandler executionContext =
+				new ExecutionContextWithSubselectFetchHandler(
+						session,
+						createRegistrationHandler( persistenceContext.getBatchFetchQueue() )
+				);
+		final ParallelFetchExecutor.Fetch fetch = parallelFetchExecutor.execute(
+				jdbcSelect,
+				this.subselect.getLoadingJdbcParameterBindings(),
+				jdbcValuesMapping,
+				executionContext
+		);
+		if ( fetch == null ) {
+			// no worker connection is available
+			return null;
+		}
+		return new BackgroundFetch(
+				jdbcSelect,
+				jdbcValuesMapping,
+				executionContext,
+				fetch,
+				beginRead( subselect, null, persistenceContext )
+		);
+	}
+
+	private static boolean selectsLob(JdbcValuesMapping jdbcValuesMapping) {
+		for ( SqlSelection sqlSelection : jdbcValuesMapping.getSqlSelections() ) {
+			final JdbcMappingContainer expressionType = sqlSelection.getExpressionType();
+			final int jdbcTypeCount = expressionType.getJdbcTypeCount();
+			for ( int i = 0; i < jdbcTypeCount; i++ ) {
+				if ( expressionType.getJdbcMapping( i ).getJdbcType().isLob() ) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * A subselect fetch executing in the background, whose results are processed
+	 * by the session once the subselect fetch it was started by is complete.
+	 */
+	private class BackgroundFetch {
+		private final JdbcOperationQuerySelect jdbcSelect;
+		private final JdbcValuesMapping jdbcValuesMapping;
+		private final ExecutionContext executionContext;
+		private final ParallelFetchExecutor.Fetch fetch;
+		private final List<PersistentCollection<?>> collections;
+
+		private BackgroundFetch(
+				JdbcOperationQuerySelect jdbcSelect,
+				JdbcValuesMapping jdbcValuesMapping,
+				ExecutionContext executionContext,
+				ParallelFetchExecutor.Fetch fetch,
+				List<PersistentCollection<?>> collections) {
+			this.jdbcSelect = jdbcSelect;
+			this.jdbcValuesMapping = jdbcValuesMapping;
+			this.executionContext = executionContext;
+			this.fetch = fetch;
+			this.collections = collections;
+		}
+
+		private void complete(SharedSessionContractImplementor session) {
+			( (JdbcSelectExecutorStandardImpl) session.getJdbcServices().getJdbcSelectExecutor() ).processResults(
+					jdbcSelect,
+					new JdbcValuesPrefetched( fetch.getRows(), jdbcValuesMapping ),
+					executionContext,
+					RowTransformerStandardImpl.instance(),
+					null,
+					ListResultsConsumer.instance( ListResultsConsumer.UniqueSemantic.NONE )
+			);
+			finishLoading( collections, session.getPersistenceContextInternal() );
+		}
+
+		private void cancel() {
+			fetch.cancel();
+			abortLoading( collections );
+		}
+	}
 }
@@ -38,6 +38,7 @@
 		extends AbstractEntityBatchLoader<T>
 		implements SqlArrayMultiKeyLoader {
 	private final int domainBatchSize;
+	private final AdaptiveBatchSizer adaptiveBatchSizer;
 
 	private final LoadQueryInfluencers loadQueryInfluencers;
 	private final BasicEntityIdentifierMapping identifierMapping;
@@ -62,9 +63,22 @@ public EntityBatchLoaderArrayParam(
 			int domainBatchSize,
 			EntityMappingType entityDescriptor,
 			LoadQueryInfluencers loadQueryInfluencers) {
+		this( domainBatchSize, null, entityDescriptor, loadQueryInfluencers );
+	}
+
+	/**
+	 * Instantiates the loader, with the given {@link AdaptiveBatchSizer}
+	 * tuning the number of ids per batch, if it is not null
+	 */
+	EntityBatchLoaderArrayParam(
+			int domainBatchSize,
+			AdaptiveBatchSizer adaptiveBatchSizer,
+			EntityMappingType entityDescriptor,
+			LoadQueryInfluencers loadQueryInfluencers) {
 		super( entityDescriptor, loadQueryInfluencers );
 		this.loadQueryInfluencers = loadQueryInfluencers;
 		this.domainBatchSize = domainBatchSize;
+		this.adaptiveBatchSizer = adaptiveBatchSizer;
 
 		if ( MULTI_KEY_LOAD_LOGGER.isDebugEnabled() ) {
 			MULTI_KEY_LOAD_LOGGER.debugf(
@@ -109,15 +123,21 @@ public int getDomainBatchSize() {
 	protected Object[] resolveIdsToInitialize(Object pkValue, SharedSessionContractImplementor session) {
 		//TODO: should this really be different to EntityBatchLoaderInPredicate impl?
 		final Class<?> idType = identifierMapping.getJavaType().getJavaTypeClass();
-		final Object[] idsToLoad = (Object[]) Array.newInstance( idType, domainBatchSize );
+		final int batchSize = adaptiveBatchSizer == null ? domainBatchSize : adaptiveBatchSizer.getBatchSize();
+		final Object[] idsToLoad = (Object[]) Array.newInstance( idType, batchSize );
 		session.getPersistenceContextInternal().getBatchFetchQueue()
 				.collectBatchLoadableEntityIds(
-						domainBatchSize,
+						batchSize,
 						(index, value) -> idsToLoad[index] = value,
 						pkValue,
 						getLoadable()
 				);
-		return trimIdBatch( domainBatchSize, idsToLoad );
+		final Object[] ids = trimIdBatch( batchSize, idsToLoad );
+		if ( adaptiveBatchSizer != null ) {
+			// the ids were trimmed to the number found in the batch fetch queue
+			adaptiveBatchSizer.recordKeys( batchSize, ids.length );
+		}
+		return ids;
 	}
 
 	@Override
@@ -140,6 +160,7 @@ protected void initializeEntities(
 			}
 		}
 
+		final long start = adaptiveBatchSizer == null ? 0 : System.nanoTime();
 		LoaderHelper.loadByArrayParameter(
 				idsToInitialize,
 				sqlAst,
@@ -153,6 +174,9 @@ protected void initializeEntities(
 				readOnly,
 				session
 		);
+		if ( adaptiveBatchSizer != null ) {
+			adaptiveBatchSizer.recordLatency( idsToInitialize.length, System.nanoTime() - start );
+		}
 	}
 
 	@Override
@@ -11,6 +11,7 @@
 import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
 import org.hibernate.ObjectDeletedException;
+import org.hibernate.cache.internal.NaturalIdNegativeCache;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.access.SoftLock;
 import org.hibernate.engine.spi.EntityEntry;
@@ -142,6 +143,21 @@ public static Boolean getReadOnlyFromLoadQueryInfluencers(LoadQueryInfluencers l
 		return loadQueryInfluencers.getReadOnly();
 	}
 
+	/**
+	 * The cache of absent natural ids which a lookup by natural id in the given
+	 * session should populate, or {@code null} if the lookup should not populate
+	 * it, because there is no such cache, the session does not put into caches,
+	 * or filters enabled in the session might hide entities.
+	 */
+	public static NaturalIdNegativeCache getNaturalIdNegativeCache(SharedSessionContractImplementor session) {
+		final NaturalIdNegativeCache negativeCache = session.getFactory().getCache().getNaturalIdNegativeCache();
+		return negativeCache != null
+				&& session.getCacheMode().isPutEnabled()
+				&& !session.getLoadQueryInfluencers().hasEnabledFilters()
+				? negativeCache
+				: null;
+	}
+
 	/**
 	 * Normalize an array of keys (primary, foreign or natural).
 	 * <p/>
@@ -0,0 +1,161 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.loader.ast.internal;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.LockMode;
+import org.hibernate.LockOptions;
+import org.hibernate.cache.internal.NaturalIdNegativeCache;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.loader.ast.spi.MultiIdLoadOptions;
+import org.hibernate.loader.ast.spi.MultiNaturalIdLoadOptions;
+import org.hibernate.metamodel.mapping.EntityMappingType;
+import org.hibernate.proxy.LazyInitializer;
+
+import static org.hibernate.engine.spi.NaturalIdResolutions.INVALID_NATURAL_ID_REFERENCE;
+import static org.hibernate.proxy.HibernateProxy.extractLazyInitializer;
+
+/**
+ * Support for resolving natural ids from the caches before loading
+ * the entities they identify by natural id.
+ *
+ * @see org.hibernate.engine.spi.NaturalIdResolutions#findCachedIdsByNaturalIds
+ */
+class MultiNaturalIdLoadHelper {
+	private MultiNaturalIdLoadHelper() {
+	}
+
+	/**
+	 * Resolve the given natural ids to identifiers from the persistence context,
+	 * the natural ids known to be absent, and the second-level cache, and load
+	 * the entities they identify by identifier, adding them to the results.
+	 *
+	 * @param naturalIds the natural ids, in their internal form
+	 *
+	 * @return the natural ids which could not be resolved, and must be loaded
+	 * from the database
+	 */
+	static <K, E> K[] loadResolvedNaturalIds(
+			K[] naturalIds,
+			EntityMappingType entityDescriptor,
+			MultiNaturalIdLoadOptions loadOptions,
+			SharedSessionContractImplementor session,
+			List<E> results) {
+		final LockOptions lockOptions = loadOptions.getLockOptions();
+		if ( lockOptions != null && lockOptions.getLockMode().greaterThan( LockMode.READ ) ) {
+			// the rows must be locked in the database
+			return naturalIds;
+		}
+
+		final Object[] ids = session.getPersistenceContextInternal().getNaturalIdResolutions()
+				.findCachedIdsByNaturalIds( naturalIds, entityDescriptor );
+
+		final List<Object> resolvedIds = new ArrayList<>( ids.length );
+		final List<K> unresolvedNaturalIds = new ArrayList<>( ids.length );
+		for ( int i = 0; i < ids.length; i++ ) {
+			if ( ids[i] == null ) {
+				unresolvedNaturalIds.add( naturalIds[i] );
+			}
+			else if ( ids[i] != INVALID_NATURAL_ID_REFERENCE ) {
+				resolvedIds.add( ids[i] );
+			}
+		}
+
+		if ( !resolvedIds.isEmpty() ) {
+			//noinspection unchecked
+			results.addAll( (List<E>) entityDescriptor.getEntityPersister().multiLoad(
+					resolvedIds.toArray(),
+					session.asEventSource(),
+					new ResolvedIdLoadOptions( loadOptions, session )
+			) );
+		}
+
+		//noinspection unchecked
+		return unresolvedNaturalIds.toArray(
+				(K[]) Array.newInstance( naturalIds.getClass().getComponentType(), unresolvedNaturalIds.size() )
+		);
+	}
+
+	/**
+	 * Remember the natural ids which were loaded from the database, but
+	 * did not identify any entity, as absent.
+	 *
+	 * @param naturalIds the natural ids loaded, in their internal form
+	 * @param loaded the entities loaded
+	 * @param timestamp the {@linkplain NaturalIdNegativeCache#getTimestamp timestamp}
+	 * obtained before loading
+	 */
+	static void cacheAbsentNaturalIds(
+			Object[] naturalIds,
+			List<?> loaded,
+			EntityMappingType entityDescriptor,
+			NaturalIdNegativeCache negativeCache,
+			SharedSessionContractImplementor session,
+			long timestamp) {
+		if ( loaded.size() < naturalIds.length ) {
+			final List<Object> loadedNaturalIds = new ArrayList<>( loaded.size() );
+			for ( Object entity : loaded ) {
+				final LazyInitializer lazyInitializer = extractLazyInitializer( entity );
+				loadedNaturalIds.add( entityDescriptor.getNaturalIdMapping().extractNaturalIdFromEntity(
+						lazyInitializer == null ? entity : lazyInitializer.getImplementation()
+				) );
+			}
+			negativeCache.putAllAbsent( naturalIds, loadedNaturalIds, entityDescriptor, session, timestamp );
+		}
+	}
+
+	/**
+	 * The options for loading the entities whose natural id was resolved
+	 * to an identifier.
+	 */
+	private static class ResolvedIdLoadOptions implements MultiIdLoadOptions {
+		private final MultiNaturalIdLoadOptions loadOptions;
+		private final boolean secondLevelCacheCheckingEnabled;
+
+		private ResolvedIdLoadOptions(MultiNaturalIdLoadOptions loadOptions, SharedSessionContractImplementor session) {
+			this.loadOptions = loadOptions;
+			this.secondLevelCacheCheckingEnabled = session.getCacheMode().isGetEnabled();
+		}
+
+		@Override
+		public boolean isSessionCheckingEnabled() {
+			return true;
+		}
+
+		@Override
+		public boolean isSecondLevelCacheCheckingEnabled() {
+			return secondLevelCacheCheckingEnabled;
+		}
+
+		@Override
+		public Boolean getReadOnly(SessionImplementor session) {
+			return session.getLoadQueryInfluencers().getReadOnly();
+		}
+
+		@Override
+		public boolean isReturnOfDeletedEntitiesEnabled() {
+			return loadOptions.isReturnOfDeletedEntitiesEnabled();
+		}
+
+		@Override
+		public boolean isOrderReturnEnabled() {
+			return false;
+		}
+
+		@Override
+		public LockOptions getLockOptions() {
+			return loadOptions.getLockOptions();
+		}
+
+		@Override
+		public Integer getBatchSize() {
+			return loadOptions.getBatchSize();
+		}
+	}
+}
@@ -4,11 +4,13 @@
  */
 package org.hibernate.loader.ast.internal;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
 import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
+import org.hibernate.cache.internal.NaturalIdNegativeCache;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.loader.ast.spi.MultiNaturalIdLoadOptions;
@@ -73,6 +75,18 @@ public <K> List<E> multiLoad(K[] naturalIds, MultiNaturalIdLoadOptions loadOptio
 		final SessionFactoryImplementor sessionFactory = session.getFactory();
 		naturalIds = LoaderHelper.normalizeKeys( naturalIds, getNaturalIdAttribute(), session, sessionFactory );
 
+		final List<E> results = new ArrayList<>( naturalIds.length );
+		naturalIds = MultiNaturalIdLoadHelper.loadResolvedNaturalIds(
+				naturalIds,
+				entityDescriptor,
+				loadOptions,
+				session,
+				results
+		);
+		if ( naturalIds.length == 0 ) {
+			return results;
+		}
+
 		final LockOptions lockOptions = (loadOptions.getLockOptions() == null)
 				? new LockOptions( LockMode.NONE )
 				: loadOptions.getLockOptions();
@@ -101,7 +115,10 @@ public <K> List<E> multiLoad(K[] naturalIds, MultiNaturalIdLoadOptions loadOptio
 				.buildSelectTranslator( sessionFactory, sqlAst )
 				.translate( JdbcParameterBindings.NO_BINDINGS, QueryOptions.NONE );
 
-		return LoaderHelper.loadByArrayParameter(
+		final NaturalIdNegativeCache negativeCache = LoaderHelper.getNaturalIdNegativeCache( session );
+		final long negativeCacheTimestamp = negativeCache == null ? 0 : negativeCache.getTimestamp();
+
+		final List<E> loaded = LoaderHelper.loadByArrayParameter(
 				naturalIds,
 				sqlAst,
 				jdbcSelectOperation,
@@ -114,6 +131,20 @@ public <K> List<E> multiLoad(K[] naturalIds, MultiNaturalIdLoadOptions loadOptio
 				session.isDefaultReadOnly(),
 				session
 		);
+
+		if ( negativeCache != null ) {
+			MultiNaturalIdLoadHelper.cacheAbsentNaturalIds(
+					naturalIds,
+					loaded,
+					entityDescriptor,
+					negativeCache,
+					session,
+					negativeCacheTimestamp
+			);
+		}
+
+		results.addAll( loaded );
+		return results;
 	}
 
 }
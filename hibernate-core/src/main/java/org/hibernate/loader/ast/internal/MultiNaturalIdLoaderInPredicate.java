@@ -4,11 +4,13 @@
  */
 package org.hibernate.loader.ast.internal;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
 import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
+import org.hibernate.cache.internal.NaturalIdNegativeCache;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.loader.ast.spi.MultiNaturalIdLoadOptions;
@@ -41,6 +43,39 @@ public <K> List<E> multiLoad(K[] naturalIds, MultiNaturalIdLoadOptions options,
 			LoadingLogger.LOGGER.tracef( "Starting multi natural-id loading for `%s`", entityDescriptor.getEntityName() );
 		}
 
+		final Object[] normalizedNaturalIds = new Object[naturalIds.length];
+		for ( int i = 0; i < naturalIds.length; i++ ) {
+			normalizedNaturalIds[i] = entityDescriptor.getNaturalIdMapping().normalizeInput( naturalIds[i] );
+		}
+
+		final List<E> results = new ArrayList<>( naturalIds.length );
+		final Object[] naturalIdsToLoad = MultiNaturalIdLoadHelper.loadResolvedNaturalIds(
+				normalizedNaturalIds,
+				entityDescriptor,
+				options,
+				session,
+				results
+		);
+		if ( naturalIdsToLoad.length > 0 ) {
+			loadFromDatabase( naturalIdsToLoad, options, session, results );
+		}
+
+		if ( results.size() == 1 ) {
+			return results;
+		}
+
+		if ( options.isOrderReturnEnabled() ) {
+			throw new UnsupportedOperationException( "Support for ordered loading by multiple natural-id values is not supported" );
+		}
+
+		return results;
+	}
+
+	private void loadFromDatabase(
+			Object[] naturalIdsToLoad,
+			MultiNaturalIdLoadOptions options,
+			SharedSessionContractImplementor session,
+			List<E> results) {
 		final SessionFactoryImplementor sessionFactory = session.getFactory();
 
 		final int maxBatchSize;
@@ -50,12 +85,12 @@ public <K> List<E> multiLoad(K[] naturalIds, MultiNaturalIdLoadOptions options,
 		else {
 			maxBatchSize = session.getJdbcServices().getJdbcEnvironment().getDialect().getMultiKeyLoadSizingStrategy().determineOptimalBatchLoadSize(
 					entityDescriptor.getNaturalIdMapping().getJdbcTypeCount(),
-					naturalIds.length,
+					naturalIdsToLoad.length,
 					sessionFactory.getSessionFactoryOptions().inClauseParameterPaddingEnabled()
 			);
 		}
 
-		final int batchSize = Math.min( maxBatchSize, naturalIds.length );
+		final int batchSize = Math.min( maxBatchSize, naturalIdsToLoad.length );
 
 		final LockOptions lockOptions = (options.getLockOptions() == null)
 				? new LockOptions( LockMode.NONE )
@@ -75,17 +110,23 @@ public <K> List<E> multiLoad(K[] naturalIds, MultiNaturalIdLoadOptions options,
 				sessionFactory
 		);
 
-		final List<E> results = batcher.multiLoad( naturalIds, options, session );
+		final NaturalIdNegativeCache negativeCache = LoaderHelper.getNaturalIdNegativeCache( session );
+		final long negativeCacheTimestamp = negativeCache == null ? 0 : negativeCache.getTimestamp();
 
-		if ( results.size() == 1 ) {
-			return results;
-		}
+		final List<E> loaded = batcher.multiLoad( naturalIdsToLoad, options, session );
 
-		if ( options.isOrderReturnEnabled() ) {
-			throw new UnsupportedOperationException( "Support for ordered loading by multiple natural-id values is not supported" );
+		if ( negativeCache != null ) {
+			MultiNaturalIdLoadHelper.cacheAbsentNaturalIds(
+					naturalIdsToLoad,
+					loaded,
+					entityDescriptor,
+					negativeCache,
+					session,
+					negativeCacheTimestamp
+			);
 		}
 
-		return results;
+		results.addAll( loaded );
 	}
 
 	@Override
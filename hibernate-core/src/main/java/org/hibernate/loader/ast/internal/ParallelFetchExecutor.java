@@ -0,0 +1,302 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.loader.ast.internal;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.HibernateException;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.service.Service;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+import org.hibernate.service.spi.Stoppable;
+import org.hibernate.sql.ast.spi.SqlSelection;
+import org.hibernate.sql.exec.internal.JdbcSelectExecutorStandardImpl;
+import org.hibernate.sql.exec.spi.ExecutionContext;
+import org.hibernate.sql.exec.spi.JdbcOperationQuerySelect;
+import org.hibernate.sql.exec.spi.JdbcParameterBinder;
+import org.hibernate.sql.exec.spi.JdbcParameterBindings;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
+import org.hibernate.type.descriptor.WrapperOptions;
+
+/**
+ * Executes subselect fetches in the background, each on a JDBC connection of
+ * its own, obtained directly from the {@link ConnectionProvider}.
+ * <p>
+ * Statements are prepared and bound on the thread of the session. Only the
+ * execution of the query, and the extraction of the JDBC values from its result
+ * set, happen on a worker thread. The rows are then processed by the session,
+ * on its own thread, as usual.
+ * <p>
+ * A worker connection is outside any transaction of the session, and so only
+ * sees committed data, as of the time the fetch executes. Background fetches
+ * are therefore only started for a session with no transaction in progress,
+ * and no pending changes. At most {@code parallelism} worker connections are
+ * held at any time, across all sessions: when none is available, the fetch is
+ * not started in the background, and the session fetches the collection itself
+ * when it is accessed, as usual, instead of waiting for a connection.
+ *
+ * @see org.hibernate.cfg.FetchSettings#SUBSELECT_FETCH_PARALLELISM
+ */
+public class ParallelFetchExecutor implements Service, Stoppable {
+	private final int parallelism;
+	private final ServiceRegistryImplementor serviceRegistry;
+	private final Semaphore connectionPermits;
+
+	private volatile ExecutorService executorService;
+
+	public ParallelFetchExecutor(int parallelism, ServiceRegistryImplementor serviceRegistry) {
+		this.parallelism = parallelism;
+		this.serviceRegistry = serviceRegistry;
+		this.connectionPermits = new Semaphore( parallelism );
+	}
+
+	/**
+	 * May subselect fetches be executed in the background for the given session?
+	 */
+	boolean isEnabled(SharedSessionContractImplementor session) {
+		return parallelism > 0
+			// other connections can't see uncommitted changes made by the
+			// session, nor share the isolation of its transaction
+			&& !session.isTransactionInProgress()
+			&& !( session.isEventSource() && session.asEventSource().getActionQueue().hasAnyQueuedActions() )
+			&& !session.getFactory().getSessionFactoryOptions().isMultiTenancyEnabled()
+			&& !session.getTransactionCoordinator().getTransactionCoordinatorBuilder().isJta()
+			&& session.getJdbcServices().getJdbcSelectExecutor() instanceof JdbcSelectExecutorStandardImpl;
+	}
+
+	/**
+	 * Prepare and bind the given select on a new connection, and start executing
+	 * it in the background.
+	 *
+	 * @return the fetch, or {@code null} if every worker connection is in use
+	 */
+	Fetch execute(
+			JdbcOperationQuerySelect jdbcSelect,
+			JdbcParameterBindings jdbcParameterBindings,
+			JdbcValuesMapping jdbcValuesMapping,
+			ExecutionContext executionContext) {
+		if ( !connectionPermits.tryAcquire() ) {
+			return null;
+		}
+
+		final SharedSessionContractImplementor session = executionContext.getSession();
+		final JdbcServices jdbcServices = session.getJdbcServices();
+		final String incomingSql = jdbcSelect.getSqlString();
+		final String inspectedSql =
+				session.getJdbcSessionContext().getStatementInspector().inspect( incomingSql );
+		final String sql = inspectedSql == null ? incomingSql : inspectedSql;
+		jdbcServices.getSqlStatementLogger().logStatement( sql );
+
+		final ConnectionProvider connectionProvider = serviceRegistry.requireService( ConnectionProvider.class );
+		Connection connection = null;
+		PreparedStatement statement = null;
+		try {
+			connection = connectionProvider.getConnection();
+			statement = connection.prepareStatement( sql );
+			int position = 1;
+			for ( JdbcParameterBinder parameterBinder : jdbcSelect.getParameterBinders() ) {
+				parameterBinder.bindParameterValue( statement, position++, jdbcParameterBindings, executionContext );
+			}
+		}
+		catch (SQLException e) {
+			release( connectionProvider, connection, statement, e );
+			connectionPermits.release();
+			throw jdbcServices.getSqlExceptionHelper()
+					.convert( e, "JDBC exception preparing SQL [" + sql + "]" );
+		}
+		catch (RuntimeException e) {
+			release( connectionProvider, connection, statement, null );
+			connectionPermits.release();
+			throw e;
+		}
+
+		final Connection workerConnection = connection;
+		final PreparedStatement workerStatement = statement;
+		// the options the session exposes as WrapperOptions, such as its
+		// JDBC time zone, are fixed when it is opened, and so may be read
+		// by the worker
+		final WrapperOptions wrapperOptions = session;
+		final Fetch fetch = new Fetch( sql, workerStatement, jdbcServices );
+		fetch.rows = executorService().submit( () -> {
+			SQLException failure = null;
+			try {
+				// the statement still has to be released if the fetch was
+				// cancelled before it started
+				return fetch.cancelled ? List.of() : readRows( workerStatement, jdbcValuesMapping, wrapperOptions );
+			}
+			catch (SQLException e) {
+				failure = e;
+				throw e;
+			}
+			finally {
+				release( connectionProvider, workerConnection, workerStatement, failure );
+				connectionPermits.release();
+			}
+		} );
+		return fetch;
+	}
+
+	private static List<Object[]> readRows(
+			PreparedStatement statement,
+			JdbcValuesMapping jdbcValuesMapping,
+			WrapperOptions wrapperOptions) throws SQLException {
+		final List<SqlSelection> sqlSelections = jdbcValuesMapping.getSqlSelections();
+		final int rowSize = jdbcValuesMapping.getRowSize();
+		final List<Object[]> rows = new ArrayList<>();
+		try ( ResultSet resultSet = statement.executeQuery() ) {
+			while ( resultSet.next() ) {
+				final Object[] row = new Object[rowSize];
+				for ( SqlSelection sqlSelection : sqlSelections ) {
+					row[sqlSelection.getValuesArrayPosition()] =
+							sqlSelection.getJdbcValueExtractor()
+									.extract( resultSet, sqlSelection.getJdbcResultSetIndex(), wrapperOptions );
+				}
+				rows.add( row );
+			}
+		}
+		return rows;
+	}
+
+	private static void release(
+			ConnectionProvider connectionProvider,
+			Connection connection,
+			PreparedStatement statement,
+			SQLException failure) {
+		try {
+			if ( statement != null ) {
+				statement.close();
+			}
+			if ( connection != null ) {
+				if ( !connection.getAutoCommit() ) {
+					connection.rollback();
+				}
+				connectionProvider.closeConnection( connection );
+			}
+		}
+		catch (SQLException e) {
+			if ( failure != null ) {
+				failure.addSuppressed( e );
+			}
+		}
+	}
+
+	private ExecutorService executorService() {
+		ExecutorService executor = executorService;
+		if ( executor == null ) {
+			synchronized ( this ) {
+				executor = executorService;
+				if ( executor == null ) {
+					executor = Executors.newFixedThreadPool( parallelism, new FetchThreadFactory() );
+					executorService = executor;
+				}
+			}
+		}
+		return executor;
+	}
+
+	@Override
+	public void stop() {
+		final ExecutorService executor = executorService;
+		if ( executor != null ) {
+			executor.shutdownNow();
+			executorService = null;
+		}
+	}
+
+	/**
+	 * A subselect fetch executing in the background.
+	 */
+	static class Fetch {
+		private final String sql;
+		private final PreparedStatement statement;
+		private final JdbcServices jdbcServices;
+		private Future<List<Object[]>> rows;
+		private volatile boolean cancelled;
+
+		private Fetch(String sql, PreparedStatement statement, JdbcServices jdbcServices) {
+			this.sql = sql;
+			this.statement = statement;
+			this.jdbcServices = jdbcServices;
+		}
+
+		/**
+		 * Cancel the fetch, and wait for the worker to release its connection.
+		 * Any failure of the fetch is ignored.
+		 */
+		void cancel() {
+			cancelled = true;
+			if ( !rows.isDone() ) {
+				try {
+					statement.cancel();
+				}
+				catch (SQLException e) {
+					// the statement already completed, or was closed
+				}
+			}
+			try {
+				rows.get();
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			catch (ExecutionException e) {
+				// the failure of a cancelled fetch is not of interest
+			}
+		}
+
+		/**
+		 * Wait for the fetch to complete, and return the JDBC values of each row.
+		 */
+		List<Object[]> getRows() {
+			try {
+				return rows.get();
+			}
+			catch (InterruptedException e) {
+				// the fetch is not cancelled, since it must release its connection
+				Thread.currentThread().interrupt();
+				throw new HibernateException( "Interrupted while waiting for subselect fetch [" + sql + "]", e );
+			}
+			catch (ExecutionException e) {
+				final Throwable cause = e.getCause();
+				if ( cause instanceof SQLException sqlException ) {
+					throw jdbcServices.getSqlExceptionHelper()
+							.convert( sqlException, "JDBC exception executing SQL [" + sql + "]" );
+				}
+				else if ( cause instanceof RuntimeException runtimeException ) {
+					throw runtimeException;
+				}
+				else {
+					throw new HibernateException( "Subselect fetch failed [" + sql + "]", cause );
+				}
+			}
+		}
+	}
+
+	private static class FetchThreadFactory implements ThreadFactory {
+		private final AtomicInteger count = new AtomicInteger();
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			final Thread thread = new Thread( runnable );
+			thread.setDaemon( true );
+			thread.setName( "Hibernate Subselect Fetch Thread " + count.incrementAndGet() );
+			return thread;
+		}
+	}
+}
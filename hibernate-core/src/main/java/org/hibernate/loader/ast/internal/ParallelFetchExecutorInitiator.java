@@ -0,0 +1,38 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.loader.ast.internal;
+
+import java.util.Map;
+
+import org.hibernate.boot.registry.StandardServiceInitiator;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+
+import static org.hibernate.cfg.FetchSettings.SUBSELECT_FETCH_PARALLELISM;
+
+/**
+ * Initiator for {@link ParallelFetchExecutor}
+ */
+public class ParallelFetchExecutorInitiator implements StandardServiceInitiator<ParallelFetchExecutor> {
+	/**
+	 * Singleton access
+	 */
+	public static final ParallelFetchExecutorInitiator INSTANCE = new ParallelFetchExecutorInitiator();
+
+	@Override
+	public ParallelFetchExecutor initiateService(Map<String, Object> configurationValues, ServiceRegistryImplementor registry) {
+		final int parallelism = ConfigurationHelper.getInt( SUBSELECT_FETCH_PARALLELISM, configurationValues, 0 );
+		if ( parallelism < 0 ) {
+			throw new IllegalArgumentException( "Configuration property " + SUBSELECT_FETCH_PARALLELISM
+					+ " value [" + parallelism + "] must not be negative" );
+		}
+		return new ParallelFetchExecutor( parallelism, registry );
+	}
+
+	@Override
+	public Class<ParallelFetchExecutor> getServiceInitiated() {
+		return ParallelFetchExecutor.class;
+	}
+}
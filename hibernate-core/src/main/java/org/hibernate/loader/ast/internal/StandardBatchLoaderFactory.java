@@ -17,6 +17,11 @@
 import org.hibernate.type.BasicType;
 import org.hibernate.type.Type;
 
+import static org.hibernate.cfg.FetchSettings.BATCH_FETCH_ADAPTIVE;
+import static org.hibernate.cfg.FetchSettings.BATCH_FETCH_ADAPTIVE_MAX_SIZE;
+import static org.hibernate.cfg.FetchSettings.BATCH_FETCH_ADAPTIVE_MIN_SIZE;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getBoolean;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getInt;
 import static org.hibernate.loader.ast.internal.MultiKeyLoadHelper.supportsSqlArrayType;
 
 /**
@@ -25,8 +30,24 @@
  * @author Steve Ebersole
  */
 public class StandardBatchLoaderFactory implements BatchLoaderFactory {
+	private final boolean adaptive;
+	private final int adaptiveMinSize;
+	private final int adaptiveMaxSize;
+
 	@SuppressWarnings("unused")
 	public StandardBatchLoaderFactory(Map<String, Object> configurationValues, ServiceRegistryImplementor registry) {
+		adaptive = getBoolean( BATCH_FETCH_ADAPTIVE, configurationValues, false );
+		adaptiveMinSize = getInt( BATCH_FETCH_ADAPTIVE_MIN_SIZE, configurationValues, 2 );
+		adaptiveMaxSize = getInt( BATCH_FETCH_ADAPTIVE_MAX_SIZE, configurationValues, 256 );
+		if ( adaptive && ( adaptiveMinSize < 2 || adaptiveMaxSize < adaptiveMinSize ) ) {
+			throw new IllegalArgumentException( "Configuration properties " + BATCH_FETCH_ADAPTIVE_MIN_SIZE
+					+ " and " + BATCH_FETCH_ADAPTIVE_MAX_SIZE + " values [" + adaptiveMinSize + ", "
+					+ adaptiveMaxSize + "] do not define a valid range of batch sizes" );
+		}
+	}
+
+	private AdaptiveBatchSizer adaptiveBatchSizer(String role, int domainBatchSize) {
+		return adaptive ? new AdaptiveBatchSizer( role, domainBatchSize, adaptiveMinSize, adaptiveMaxSize ) : null;
 	}
 
 	@Override
@@ -41,7 +62,12 @@ public <T> EntityBatchLoader<T> createEntityBatchLoader(
 				&& supportsSqlArrayType( factory.getJdbcServices().getDialect() )
 				&& identifierType instanceof BasicType ) {
 			// we can use a single ARRAY parameter to send all the ids
-			return new EntityBatchLoaderArrayParam<>( domainBatchSize, entityDescriptor, loadQueryInfluencers );
+			return new EntityBatchLoaderArrayParam<>(
+					domainBatchSize,
+					adaptiveBatchSizer( entityDescriptor.getEntityName(), domainBatchSize ),
+					entityDescriptor,
+					loadQueryInfluencers
+			);
 		}
 		else {
 			return new EntityBatchLoaderInPredicate<>( domainBatchSize, entityDescriptor, loadQueryInfluencers );
@@ -57,7 +83,13 @@ public CollectionBatchLoader createCollectionBatchLoader(
 		if ( attributeMapping.getKeyDescriptor().getJdbcTypeCount() == 1
 				&& supportsSqlArrayType( factory.getJdbcServices().getDialect() ) ) {
 			// we can use a single ARRAY parameter to send all the ids
-			return new CollectionBatchLoaderArrayParam( domainBatchSize, influencers, attributeMapping, factory );
+			return new CollectionBatchLoaderArrayParam(
+					domainBatchSize,
+					adaptiveBatchSizer( attributeMapping.getNavigableRole().getFullPath(), domainBatchSize ),
+					influencers,
+					attributeMapping,
+					factory
+			);
 		}
 		else {
 			return new CollectionBatchLoaderInPredicate( domainBatchSize, influencers, attributeMapping, factory );
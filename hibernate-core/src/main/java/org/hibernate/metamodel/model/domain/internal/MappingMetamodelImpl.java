@@ -7,14 +7,20 @@
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.ToIntFunction;
 import java.util.stream.Stream;
 
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -81,7 +87,9 @@
 import jakarta.persistence.metamodel.ManagedType;
 import jakarta.persistence.metamodel.Metamodel;
 
+import static org.hibernate.cfg.MappingSettings.PARALLEL_INITIALIZATION;
 import static org.hibernate.internal.util.collections.ArrayHelper.EMPTY_STRING_ARRAY;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getBoolean;
 import static org.hibernate.metamodel.internal.JpaMetamodelPopulationSetting.determineJpaMetaModelPopulationSetting;
 import static org.hibernate.metamodel.internal.JpaStaticMetamodelPopulationSetting.determineJpaStaticMetaModelPopulationSetting;
 
@@ -163,35 +171,53 @@ public void finishInitialization(RuntimeModelCreationContext context) {
 		final PersisterFactory persisterFactory =
 				jpaMetamodel.getServiceRegistry().requireService( PersisterFactory.class );
 		final CacheImplementor cache = context.getCache();
-		processBootEntities(
-				bootModel.getEntityBindings(),
-				cache,
-				persisterFactory,
-				context
-		);
-		processBootCollections(
-				bootModel.getCollectionBindings(),
-				cache,
-				persisterFactory,
-				context
-		);
-
-		// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
-		// after *all* persisters and named queries are registered
+		final ForkJoinPool pool = createInitializationPool( context.getSettings() );
+		try {
+			processBootEntities(
+					bootModel.getEntityBindings(),
+					cache,
+					persisterFactory,
+					context,
+					pool
+			);
+			processBootCollections(
+					bootModel.getCollectionBindings(),
+					cache,
+					persisterFactory,
+					context,
+					pool
+			);
 
-		MappingModelCreationProcess.process( entityPersisterMap, collectionPersisterMap, context );
+			// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+			// after *all* persisters and named queries are registered
+
+			// the mapping model of embeddables and of inheritance hierarchies
+			// is resolved in dependency order, and so is never parallelized
+			MappingModelCreationProcess.process( entityPersisterMap, collectionPersisterMap, context );
+
+			// the static SQL, loaders, and mutation coordinators of an entity only
+			// depend on the (now complete) mapping model, but an inheritance
+			// hierarchy is always initialized by a single thread, supertype first
+			final List<List<EntityPersister>> hierarchies =
+					groupByHierarchy(
+							Arrays.asList( entityPersisterMap.values() ),
+							EntityPersister::getRootEntityName,
+							MappingMetamodelImpl::inheritanceDepth
+					);
+			runAll( pool, hierarchies, hierarchy -> hierarchy.forEach( EntityPersister::postInstantiate ) );
+			for ( EntityPersister persister : entityPersisterMap.values() ) {
+				registerEntityNameResolvers( persister, entityNameResolvers );
+			}
+			runAll( pool, hierarchies, hierarchy -> hierarchy.forEach( EntityPersister::prepareLoaders ) );
 
-		for ( EntityPersister persister : entityPersisterMap.values() ) {
-			persister.postInstantiate();
-			registerEntityNameResolvers( persister, entityNameResolvers );
+			runAll( pool, collectionPersisterMap.values(), CollectionPersister::postInstantiate );
 		}
-
-		for ( EntityPersister persister : entityPersisterMap.values() ) {
-			persister.prepareLoaders();
+		finally {
+			if ( pool != null ) {
+				pool.shutdown();
+			}
 		}
 
-		collectionPersisterMap.values().forEach( CollectionPersister::postInstantiate );
-
 		registerEmbeddableMappingType( bootModel );
 
 		final Map<String, Object> settings = context.getSettings();
@@ -222,19 +248,39 @@ private void processBootEntities(
 			java.util.Collection<PersistentClass> entityBindings,
 			CacheImplementor cacheImplementor,
 			PersisterFactory persisterFactory,
-			RuntimeModelCreationContext modelCreationContext) {
-		for ( final PersistentClass model : entityBindings ) {
-			final NavigableRole rootEntityRole = new NavigableRole( model.getRootClass().getEntityName() );
-			final EntityDataAccess accessStrategy = cacheImplementor.getEntityRegionAccess( rootEntityRole );
-			final NaturalIdDataAccess naturalIdAccessStrategy = cacheImplementor
-					.getNaturalIdCacheRegionAccessStrategy( rootEntityRole );
-
-			final EntityPersister cp = persisterFactory.createEntityPersister(
-					model,
-					accessStrategy,
-					naturalIdAccessStrategy,
-					modelCreationContext
+			RuntimeModelCreationContext modelCreationContext,
+			@Nullable ForkJoinPool pool) {
+		final Map<String, EntityPersister> createdPersisters;
+		if ( pool == null ) {
+			createdPersisters = null;
+		}
+		else {
+			// the persisters of an inheritance hierarchy share the boot model
+			// of their supertypes, and so are created by a single thread
+			createdPersisters = new ConcurrentHashMap<>();
+			runAll(
+					pool,
+					groupByHierarchy(
+							entityBindings,
+							model -> model.getRootClass().getEntityName(),
+							MappingMetamodelImpl::inheritanceDepth
+					),
+					hierarchy -> {
+						for ( PersistentClass model : hierarchy ) {
+							createdPersisters.put(
+									model.getEntityName(),
+									createEntityPersister( model, cacheImplementor, persisterFactory, modelCreationContext )
+							);
+						}
+					}
 			);
+		}
+
+		// the persisters are always registered in order, by this thread
+		for ( final PersistentClass model : entityBindings ) {
+			final EntityPersister cp = createdPersisters == null
+					? createEntityPersister( model, cacheImplementor, persisterFactory, modelCreationContext )
+					: createdPersisters.get( model.getEntityName() );
 			entityPersisterMap.put( model.getEntityName(), cp );
 			// Also register the persister under the class name if available,
 			// otherwise the getEntityDescriptor(Class) won't work for entities with custom entity names
@@ -285,18 +331,28 @@ private void processBootCollections(
 			java.util.Collection<Collection> collectionBindings,
 			CacheImplementor cacheImplementor,
 			PersisterFactory persisterFactory,
-			RuntimeModelCreationContext modelCreationContext) {
-		for ( final Collection model : collectionBindings ) {
-			final NavigableRole navigableRole = new NavigableRole( model.getRole() );
-
-			final CollectionDataAccess accessStrategy = cacheImplementor.getCollectionRegionAccess(
-					navigableRole );
-
-			final CollectionPersister persister = persisterFactory.createCollectionPersister(
-					model,
-					accessStrategy,
-					modelCreationContext
+			RuntimeModelCreationContext modelCreationContext,
+			@Nullable ForkJoinPool pool) {
+		final Map<String, CollectionPersister> createdPersisters;
+		if ( pool == null ) {
+			createdPersisters = null;
+		}
+		else {
+			createdPersisters = new ConcurrentHashMap<>();
+			runAll(
+					pool,
+					collectionBindings,
+					model -> createdPersisters.put(
+							model.getRole(),
+							createCollectionPersister( model, cacheImplementor, persisterFactory, modelCreationContext )
+					)
 			);
+		}
+
+		for ( final Collection model : collectionBindings ) {
+			final CollectionPersister persister = createdPersisters == null
+					? createCollectionPersister( model, cacheImplementor, persisterFactory, modelCreationContext )
+					: createdPersisters.get( model.getRole() );
 			collectionPersisterMap.put( model.getRole(), persister );
 			if ( persister.getIndexType() instanceof org.hibernate.type.EntityType entityType ) {
 				registerEntityParticipant( entityType, persister );
@@ -307,6 +363,127 @@ private void processBootCollections(
 		}
 	}
 
+	private static EntityPersister createEntityPersister(
+			PersistentClass model,
+			CacheImplementor cacheImplementor,
+			PersisterFactory persisterFactory,
+			RuntimeModelCreationContext modelCreationContext) {
+		final NavigableRole rootEntityRole = new NavigableRole( model.getRootClass().getEntityName() );
+		final EntityDataAccess accessStrategy = cacheImplementor.getEntityRegionAccess( rootEntityRole );
+		final NaturalIdDataAccess naturalIdAccessStrategy = cacheImplementor
+				.getNaturalIdCacheRegionAccessStrategy( rootEntityRole );
+
+		return persisterFactory.createEntityPersister(
+				model,
+				accessStrategy,
+				naturalIdAccessStrategy,
+				modelCreationContext
+		);
+	}
+
+	private static CollectionPersister createCollectionPersister(
+			Collection model,
+			CacheImplementor cacheImplementor,
+			PersisterFactory persisterFactory,
+			RuntimeModelCreationContext modelCreationContext) {
+		final NavigableRole navigableRole = new NavigableRole( model.getRole() );
+
+		final CollectionDataAccess accessStrategy = cacheImplementor.getCollectionRegionAccess(
+				navigableRole );
+
+		return persisterFactory.createCollectionPersister(
+				model,
+				accessStrategy,
+				modelCreationContext
+		);
+	}
+
+	/**
+	 * Create the pool used to initialize the persisters in parallel, or
+	 * return {@code null} if they are initialized sequentially.
+	 *
+	 * @see org.hibernate.cfg.MappingSettings#PARALLEL_INITIALIZATION
+	 */
+	private static @Nullable ForkJoinPool createInitializationPool(Map<String, Object> settings) {
+		if ( !getBoolean( PARALLEL_INITIALIZATION, settings ) ) {
+			return null;
+		}
+		final int parallelism = Runtime.getRuntime().availableProcessors();
+		if ( parallelism < 2 ) {
+			return null;
+		}
+		log.debugf( "Initializing persisters using %s threads", parallelism );
+		// the persisters may load classes, so the worker threads inherit the context class loader
+		final ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+		return new ForkJoinPool(
+				parallelism,
+				forkJoinPool -> {
+					final ForkJoinWorkerThread thread =
+							ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread( forkJoinPool );
+					thread.setName( "hibernate-persister-initialization-" + thread.getPoolIndex() );
+					thread.setContextClassLoader( classLoader );
+					return thread;
+				},
+				null,
+				false
+		);
+	}
+
+	/**
+	 * Run the given action for each element, on the given pool if there is one,
+	 * and wait for all of them to complete, rethrowing the first failure.
+	 */
+	private static <T> void runAll(@Nullable ForkJoinPool pool, java.util.Collection<T> elements, Consumer<T> action) {
+		if ( pool == null || elements.size() < 2 ) {
+			elements.forEach( action );
+		}
+		else {
+			final List<ForkJoinTask<?>> tasks = new ArrayList<>( elements.size() );
+			for ( T element : elements ) {
+				tasks.add( pool.submit( () -> action.accept( element ) ) );
+			}
+			for ( ForkJoinTask<?> task : tasks ) {
+				task.join();
+			}
+		}
+	}
+
+	/**
+	 * Group the given elements by the root entity of their inheritance hierarchy,
+	 * ordering the elements of each hierarchy so that supertypes come first.
+	 */
+	private static <T> List<List<T>> groupByHierarchy(
+			java.util.Collection<T> elements,
+			Function<T, String> rootEntityName,
+			ToIntFunction<T> inheritanceDepth) {
+		final Map<String, List<T>> hierarchies = new LinkedHashMap<>();
+		for ( T element : elements ) {
+			hierarchies.computeIfAbsent( rootEntityName.apply( element ), name -> new ArrayList<>() ).add( element );
+		}
+		final List<List<T>> result = new ArrayList<>( hierarchies.size() );
+		for ( List<T> hierarchy : hierarchies.values() ) {
+			hierarchy.sort( Comparator.comparingInt( inheritanceDepth ) );
+			result.add( hierarchy );
+		}
+		return result;
+	}
+
+	private static int inheritanceDepth(PersistentClass model) {
+		int depth = 0;
+		for ( PersistentClass superclass = model.getSuperclass(); superclass != null; superclass = superclass.getSuperclass() ) {
+			depth++;
+		}
+		return depth;
+	}
+
+	private static int inheritanceDepth(EntityPersister persister) {
+		int depth = 0;
+		for ( EntityMappingType supertype = persister.getSuperMappingType(); supertype != null; supertype = supertype.getSuperMappingType() ) {
+			depth++;
+		}
+		return depth;
+	}
+
 	private void registerEntityParticipant(org.hibernate.type.EntityType entityType, CollectionPersister persister) {
 		final String entityName = entityType.getAssociatedEntityName();
 		Set<String> roles = collectionRolesByEntityParticipant.get( entityName );
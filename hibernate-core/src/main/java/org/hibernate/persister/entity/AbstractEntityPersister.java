@@ -34,6 +34,7 @@
 import org.hibernate.bytecode.spi.ReflectionOptimizer;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.access.NaturalIdDataAccess;
+import org.hibernate.cache.spi.entry.BinaryCacheEntry;
 import org.hibernate.cache.spi.entry.CacheEntry;
 import org.hibernate.cache.spi.entry.CacheEntryStructure;
 import org.hibernate.cache.spi.entry.ReferenceCacheEntryImpl;
@@ -423,6 +424,13 @@
 	private GeneratedValuesMutationDelegate updateDelegate;
 	private String identitySelectString;
 
+	// when lazy initialization is enabled, the state built by
+	// doLateInit() and prepareLoaders() is built on first use
+	private final boolean lazyInitialization;
+	private volatile boolean lateInitPending;
+	private boolean lateInitInProgress;
+	private boolean loadersDeferred;
+
 	private final JavaType<?> javaType;
 	private final EntityRepresentationStrategy representationStrategy;
 
@@ -485,6 +493,8 @@ public AbstractEntityPersister(
 
 		final SessionFactoryOptions sessionFactoryOptions = creationContext.getSessionFactoryOptions();
 
+		lazyInitialization = sessionFactoryOptions.isLazyPersisterInitializationEnabled();
+
 		if ( sessionFactoryOptions.isSecondLevelCacheEnabled() ) {
 			this.cacheAccessStrategy = cacheAccessStrategy;
 			this.naturalIdRegionAccessStrategy = naturalIdRegionAccessStrategy;
@@ -1008,42 +1018,50 @@ public String[] getRootTableKeyColumnNames() {
 	}
 
 	SingleIdArrayLoadPlan getSQLLazySelectLoadPlan(String fetchGroup) {
+		initializeIfPending();
 		return lazyLoadPlanByFetchGroup.get( fetchGroup );
 	}
 
 	@Override
 	public InsertCoordinator getInsertCoordinator() {
+		initializeIfPending();
 		return insertCoordinator;
 	}
 
 	@Override
 	public UpdateCoordinator getUpdateCoordinator() {
+		initializeIfPending();
 		return updateCoordinator;
 	}
 
 	@Override
 	public DeleteCoordinator getDeleteCoordinator() {
+		initializeIfPending();
 		return deleteCoordinator;
 	}
 
 	@Override
 	public UpdateCoordinator getMergeCoordinator() {
+		initializeIfPending();
 		return mergeCoordinator;
 	}
 
 	public String getVersionSelectString() {
+		initializeIfPending();
 		return sqlVersionSelectString;
 	}
 
 	@Internal // called by Hibernate Reactive
 	@SuppressWarnings("unused")
 	public GeneratedValuesProcessor getInsertGeneratedValuesProcessor() {
+		initializeIfPending();
 		return insertGeneratedValuesProcessor;
 	}
 
 	@Internal // called by Hibernate Reactive
 	@SuppressWarnings("unused")
 	public GeneratedValuesProcessor getUpdateGeneratedValuesProcessor() {
+		initializeIfPending();
 		return updateGeneratedValuesProcessor;
 	}
 
@@ -1138,9 +1156,15 @@ else if ( canUseReferenceCacheEntries() ) {
 			return new ReferenceCacheEntryHelper( this );
 		}
 		else {
-			return options.isStructuredCacheEntriesEnabled()
-					? new StructuredCacheEntryHelper( this )
-					: new StandardCacheEntryHelper( this );
+			if ( options.isStructuredCacheEntriesEnabled() ) {
+				return new StructuredCacheEntryHelper( this );
+			}
+			else if ( options.isBinaryCacheEntriesEnabled() ) {
+				return new BinaryCacheEntryHelper( this );
+			}
+			else {
+				return new StandardCacheEntryHelper( this );
+			}
 		}
 	}
 
@@ -1518,7 +1542,10 @@ public Object initializeLazyProperty(String fieldName, Object entity, SharedSess
 			final Object ce = CacheHelper.fromSharedCache( session, cacheKey, this, cacheAccess );
 			if ( ce != null ) {
 				final CacheEntry cacheEntry = (CacheEntry) getCacheEntryStructure().destructure( ce, factory );
-				final Object initializedValue = initializeLazyPropertiesFromCache( fieldName, entity, session, entry, cacheEntry );
+				final Object initializedValue = cacheEntry == null
+						// the entry was written by an incompatible mapping
+						? LazyPropertyInitializer.UNFETCHED_PROPERTY
+						: initializeLazyPropertiesFromCache( fieldName, entity, session, entry, cacheEntry );
 				if (initializedValue != LazyPropertyInitializer.UNFETCHED_PROPERTY) {
 					// The following should be redundant, since the setter should have set this already.
 					// interceptor.attributeInitialized(fieldName);
@@ -2017,7 +2044,7 @@ public String getDiscriminatorAlias(String suffix) {
 
 	@Override
 	public Object[] getDatabaseSnapshot(Object id, SharedSessionContractImplementor session) throws HibernateException {
-		return singleIdLoader.loadDatabaseSnapshot( id, session );
+		return getSingleIdLoader().loadDatabaseSnapshot( id, session );
 	}
 
 	@Override
@@ -2061,7 +2088,7 @@ protected GeneratedValuesProcessor createGeneratedValuesProcessor(
 	public Object forceVersionIncrement(Object id, Object currentVersion, SharedSessionContractImplementor session) {
 		assert getMappedTableDetails().getTableName().equals( getVersionedTableName() );
 		final Object nextVersion = calculateNextVersion( id, currentVersion, session );
-		updateCoordinator.forceVersionIncrement( id, currentVersion, nextVersion, session );
+		getUpdateCoordinator().forceVersionIncrement( id, currentVersion, nextVersion, session );
 		return nextVersion;
 	}
 
@@ -2073,7 +2100,7 @@ public Object forceVersionIncrement(
 			SharedSessionContractImplementor session) throws HibernateException {
 		assert getMappedTableDetails().getTableName().equals( getVersionedTableName() );
 		final Object nextVersion = calculateNextVersion( id, currentVersion, session );
-		updateCoordinator.forceVersionIncrement( id, currentVersion, nextVersion, batching, session );
+		getUpdateCoordinator().forceVersionIncrement( id, currentVersion, nextVersion, batching, session );
 		return nextVersion;
 	}
 
@@ -2634,6 +2661,7 @@ protected void initPropertyPaths(Metadata mapping) throws MappingException {
 
 	@Override
 	public String getIdentitySelectString() {
+		initializeIfPending();
 		return identitySelectString;
 	}
 
@@ -2666,20 +2694,24 @@ public String getSelectByUniqueKeyString(String[] propertyNames, String[] column
 
 	@Override
 	public GeneratedValuesMutationDelegate getInsertDelegate() {
+		initializeIfPending();
 		return insertDelegate;
 	}
 
 	@Override
 	public GeneratedValuesMutationDelegate getUpdateDelegate() {
+		initializeIfPending();
 		return updateDelegate;
 	}
 
 	@Override
 	public EntityTableMapping[] getTableMappings() {
+		initializeIfPending();
 		return tableMappings;
 	}
 
 	protected EntityTableMapping getTableMapping(int i) {
+		initializeIfPending();
 		return tableMappings[i];
 	}
 
@@ -2700,6 +2732,7 @@ public EntityMappingType getTargetPart() {
 
 	@Override
 	public void forEachMutableTable(Consumer<EntityTableMapping> consumer) {
+		initializeIfPending();
 		for ( int i = 0; i < tableMappings.length; i++ ) {
 			// inverse tables are not mutable from this mapping
 			if ( !tableMappings[i].isInverse() ) {
@@ -2710,6 +2743,7 @@ public void forEachMutableTable(Consumer<EntityTableMapping> consumer) {
 
 	@Override
 	public void forEachMutableTableReverse(Consumer<EntityTableMapping> consumer) {
+		initializeIfPending();
 		for ( int i = tableMappings.length - 1; i >= 0; i-- ) {
 			// inverse tables are not mutable from this mapping
 			if ( !tableMappings[i].isInverse() ) {
@@ -2725,6 +2759,7 @@ public String getIdentifierTableName() {
 
 	@Override
 	public EntityTableMapping getIdentifierTableMapping() {
+		initializeIfPending();
 		return tableMappings[0];
 	}
 
@@ -3179,6 +3214,10 @@ protected void postConstruct(Metadata mapping) throws MappingException {
 
 	@Override
 	public void prepareLoaders() {
+		if ( loadersDeferred ) {
+			// built on first use, along with the rest of the late state
+			return;
+		}
 		// Hibernate Reactive needs to override the loaders
 		singleIdLoader = buildSingleIdEntityLoader();
 		multiIdLoader = buildMultiIdLoader();
@@ -3492,7 +3531,41 @@ protected String substituteBrackets(String sql) {
 
 	@Override
 	public final void postInstantiate() throws MappingException {
-		doLateInit();
+		if ( lazyInitialization ) {
+			loadersDeferred = true;
+			lateInitPending = true;
+		}
+		else {
+			doLateInit();
+		}
+	}
+
+	/**
+	 * When {@linkplain org.hibernate.cfg.MappingSettings#LAZY_PERSISTER_INITIALIZATION
+	 * lazy initialization} is enabled, build the static SQL, mutation coordinators,
+	 * and loaders of this entity, unless they were already built.
+	 */
+	private void initializeIfPending() {
+		if ( lateInitPending ) {
+			initializePending();
+		}
+	}
+
+	private synchronized void initializePending() {
+		// a reentrant call, made while the state is being built, sees
+		// the state built so far, just as during an eager initialization
+		if ( lateInitPending && !lateInitInProgress ) {
+			lateInitInProgress = true;
+			try {
+				doLateInit();
+				loadersDeferred = false;
+				prepareLoaders();
+				lateInitPending = false;
+			}
+			finally {
+				lateInitInProgress = false;
+			}
+		}
 	}
 
 	/**
@@ -3550,6 +3623,7 @@ private boolean hasNamedQueryLoader() {
 	}
 
 	public SingleIdEntityLoader<?> getSingleIdLoader() {
+		initializeIfPending();
 		return singleIdLoader;
 	}
 
@@ -3604,6 +3678,7 @@ else if ( interceptor.isAttributeLoaded( nameOfAttributeBeingAccessed ) ) {
 
 	@Override
 	public List<?> multiLoad(Object[] ids, EventSource session, MultiIdLoadOptions loadOptions) {
+		initializeIfPending();
 		return multiIdLoader.load( ids, loadOptions, session );
 	}
 
@@ -3678,6 +3753,30 @@ public int[] findDirty(Object[] currentState, Object[] previousState, Object ent
 		}
 	}
 
+	@Override
+	public boolean isUnmodified(Object entity, Object[] loadedState, SharedSessionContractImplementor session) {
+		if ( entityMetamodel.getBytecodeEnhancementMetadata().isEnhancedForLazyLoading() ) {
+			return false;
+		}
+		final Type[] propertyTypes = entityMetamodel.getPropertyTypes();
+		for ( int i = 0; i < propertyTypes.length; i++ ) {
+			final Object loaded = loadedState[i];
+			final Object current = getterCache[i].get( entity );
+			if ( current != loaded ) {
+				final Type type = propertyTypes[i];
+				// a collection which was replaced must be wrapped, so identity is required;
+				// properties which are never dirty checked, for example non-updatable ones,
+				// are still compared, since the full check verifies immutable natural ids
+				if ( type instanceof CollectionType
+						|| type instanceof CompositeType && hasCollections()
+						|| type.isDirty( loaded, current, session ) ) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
 	/**
 	 * Locate the property-indices of all properties considered to be dirty.
 	 *
@@ -4437,6 +4536,7 @@ public void processInsertGeneratedProperties(
 			Object[] state,
 			GeneratedValues generatedValues,
 			SharedSessionContractImplementor session) {
+		initializeIfPending();
 		if ( insertGeneratedValuesProcessor == null ) {
 			throw new UnsupportedOperationException( "Entity has no insert-generated properties - `" + getEntityName() + "`" );
 		}
@@ -4467,6 +4567,7 @@ protected List<? extends ModelPart> initInsertGeneratedProperties(List<Attribute
 
 	@Override
 	public List<? extends ModelPart> getInsertGeneratedProperties() {
+		initializeIfPending();
 		return insertGeneratedProperties;
 	}
 
@@ -4477,6 +4578,7 @@ public void processUpdateGeneratedProperties(
 			Object[] state,
 			GeneratedValues generatedValues,
 			SharedSessionContractImplementor session) {
+		initializeIfPending();
 		if ( updateGeneratedValuesProcessor == null ) {
 			throw new AssertionFailure( "Entity has no update-generated properties - `" + getEntityName() + "`" );
 		}
@@ -4503,6 +4605,7 @@ protected List<? extends ModelPart> initUpdateGeneratedProperties(List<Attribute
 
 	@Override
 	public List<? extends ModelPart> getUpdateGeneratedProperties() {
+		initializeIfPending();
 		return updateGeneratedProperties;
 	}
 
@@ -4714,6 +4817,26 @@ public CacheEntry buildCacheEntry(Object entity, Object[] state, Object version,
 		}
 	}
 
+	private static class BinaryCacheEntryHelper implements CacheEntryHelper {
+		private final EntityPersister persister;
+		private final BinaryCacheEntry structure;
+
+		private BinaryCacheEntryHelper(EntityPersister persister) {
+			this.persister = persister;
+			this.structure = new BinaryCacheEntry( persister );
+		}
+
+		@Override
+		public CacheEntryStructure getCacheEntryStructure() {
+			return structure;
+		}
+
+		@Override
+		public CacheEntry buildCacheEntry(Object entity, Object[] state, Object version, SharedSessionContractImplementor session) {
+			return new StandardCacheEntryImpl( state, persister, version, session, entity );
+		}
+	}
+
 	private static class NoopCacheEntryHelper implements CacheEntryHelper {
 		public static final NoopCacheEntryHelper INSTANCE = new NoopCacheEntryHelper();
 
@@ -424,6 +424,29 @@ default boolean hasOwnedCollections() {
 	 */
 	int[] findModified(Object[] old, Object[] current, Object object, SharedSessionContractImplementor session);
 
+	/**
+	 * Determine, without taking a snapshot of the current state of the given
+	 * entity, whether its state is certainly unchanged since it was loaded.
+	 * <p>
+	 * This is a quick check which compares each property of the entity with
+	 * its loaded state in place, and which may be used to avoid the cost of a
+	 * full dirty check of an entity which was not modified. A return value of
+	 * {@code false} does not mean that the entity is dirty, only that a full
+	 * dirty check is required.
+	 *
+	 * @param entity The entity instance
+	 * @param loadedState The state of the entity when it was loaded
+	 * @param session The originating session
+	 * @return {@code true} if no property of the entity was modified, and no
+	 *         collection or association held by the entity was replaced
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default boolean isUnmodified(Object entity, Object[] loadedState, SharedSessionContractImplementor session) {
+		return false;
+	}
+
 	/**
 	 * Determine whether the entity has a particular property holding
 	 * the identifier value.
@@ -0,0 +1,218 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.query.hql.internal;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.antlr.v4.runtime.Token;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.hibernate.grammars.hql.HqlLexer;
+import org.jboss.logging.Logger;
+
+/**
+ * Primes the prediction caches of the ANTLR-generated HQL parser, which
+ * are shared by every instance of the parser, by parsing a corpus of
+ * queries when the {@link org.hibernate.SessionFactory} is created, so
+ * that the first executions of each query after a restart aren't slowed
+ * down by a cold cache.
+ * <p>
+ * The corpus comprises the named HQL queries and, if a corpus file is
+ * configured, the queries most recently parsed by the previous instance
+ * of the {@code SessionFactory}, which are written to the file when it
+ * is closed. The prediction caches themselves can't be persisted, so the
+ * query strings are replayed instead.
+ * <p>
+ * Since the corpus file is written in plain text, a query with an inline
+ * literal, which might hold sensitive data, is never written to the file.
+ * This also excludes queries built by concatenating values into the query
+ * string, for example, into an {@code in} list, which would otherwise fill
+ * the corpus with variants of the same query.
+ *
+ * @see org.hibernate.cfg.QuerySettings#QUERY_PARSER_WARMUP
+ * @see org.hibernate.cfg.QuerySettings#QUERY_PARSER_WARMUP_CORPUS
+ *
+ * @since 7.0
+ */
+public class HqlParserWarmup {
+	private static final Logger log = Logger.getLogger( HqlParserWarmup.class );
+
+	private static final String MAGIC = "hibernate-hql-warmup-corpus";
+	private static final int FORMAT_VERSION = 1;
+
+	/**
+	 * The maximum number of recently parsed queries written to the corpus file.
+	 */
+	public static final int MAX_CORPUS_SIZE = 1000;
+
+	private final @Nullable Path corpusFile;
+	private final @Nullable Map<String, Boolean> recentQueries;
+
+	public HqlParserWarmup(@Nullable Path corpusFile) {
+		this.corpusFile = corpusFile;
+		this.recentQueries = corpusFile == null ? null : new LinkedHashMap<>( 16, 0.75f, true ) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+				return size() > MAX_CORPUS_SIZE;
+			}
+		};
+	}
+
+	/**
+	 * Record that the given query was parsed, so that it's written to the
+	 * corpus file, unless it contains an inline literal.
+	 */
+	public void queryParsed(String hql) {
+		if ( recentQueries != null && !hasLiteral( hql ) ) {
+			synchronized ( recentQueries ) {
+				recentQueries.put( hql, Boolean.TRUE );
+			}
+		}
+	}
+
+	/**
+	 * Does the given query contain a string, numeric, or binary literal?
+	 * Boolean literals and {@code null} are not considered sensitive.
+	 */
+	private static boolean hasLiteral(String hql) {
+		final HqlLexer lexer = HqlParseTreeBuilder.INSTANCE.buildHqlLexer( hql );
+		lexer.removeErrorListeners();
+		for ( Token token = lexer.nextToken(); token.getType() != Token.EOF; token = lexer.nextToken() ) {
+			switch ( token.getType() ) {
+				case HqlLexer.STRING_LITERAL:
+				case HqlLexer.JAVA_STRING_LITERAL:
+				case HqlLexer.INTEGER_LITERAL:
+				case HqlLexer.LONG_LITERAL:
+				case HqlLexer.FLOAT_LITERAL:
+				case HqlLexer.DOUBLE_LITERAL:
+				case HqlLexer.BIG_INTEGER_LITERAL:
+				case HqlLexer.BIG_DECIMAL_LITERAL:
+				case HqlLexer.HEX_LITERAL:
+				case HqlLexer.BINARY_LITERAL:
+					return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Parse the given queries along with the queries read from the corpus
+	 * file, ignoring any syntax error.
+	 *
+	 * @return the number of queries which were successfully parsed
+	 */
+	public int warmUp(Collection<String> queries) {
+		final Set<String> corpus = new LinkedHashSet<>( queries );
+		if ( corpusFile != null ) {
+			corpus.addAll( readCorpus( corpusFile ) );
+		}
+		final long start = System.nanoTime();
+		int parsed = 0;
+		for ( String hql : corpus ) {
+			try {
+				StandardHqlTranslator.parseHql( hql, () -> {} );
+				parsed++;
+			}
+			catch (RuntimeException e) {
+				// the problem is reported when the query is used
+				log.debugf( "Unable to parse HQL query during parser warmup: %s", hql );
+			}
+		}
+		log.debugf( "Warmed up the HQL parser with %s queries in %s ms",
+				parsed, ( System.nanoTime() - start ) / 1_000_000 );
+		return parsed;
+	}
+
+	/**
+	 * Write the most recently parsed queries to the corpus file, if any.
+	 */
+	public void writeCorpus() {
+		if ( corpusFile == null || recentQueries == null ) {
+			return;
+		}
+		final List<String> queries;
+		synchronized ( recentQueries ) {
+			queries = new ArrayList<>( recentQueries.keySet() );
+		}
+		if ( !queries.isEmpty() ) {
+			writeCorpus( corpusFile, queries );
+		}
+	}
+
+	private static List<String> readCorpus(Path file) {
+		if ( !Files.isRegularFile( file ) ) {
+			return List.of();
+		}
+		try ( DataInputStream input = new DataInputStream( new BufferedInputStream( Files.newInputStream( file ) ) ) ) {
+			if ( !MAGIC.equals( input.readUTF() ) || input.readInt() != FORMAT_VERSION ) {
+				log.debugf( "Ignoring HQL warmup corpus [%s] written in another format", file );
+				return List.of();
+			}
+			final int size = input.readInt();
+			final List<String> queries = new ArrayList<>( size );
+			for ( int i = 0; i < size; i++ ) {
+				final byte[] hql = new byte[input.readInt()];
+				input.readFully( hql );
+				queries.add( new String( hql, StandardCharsets.UTF_8 ) );
+			}
+			return queries;
+		}
+		catch (IOException | RuntimeException e) {
+			log.debugf( e, "Unable to read HQL warmup corpus [%s]", file );
+			return List.of();
+		}
+	}
+
+	private static void writeCorpus(Path file, List<String> queries) {
+		try {
+			final Path directory = file.toAbsolutePath().getParent();
+			if ( directory != null ) {
+				Files.createDirectories( directory );
+			}
+			final Path temporaryFile = Files.createTempFile( directory, file.getFileName().toString(), ".tmp" );
+			try {
+				try ( DataOutputStream output =
+						new DataOutputStream( new BufferedOutputStream( Files.newOutputStream( temporaryFile ) ) ) ) {
+					output.writeUTF( MAGIC );
+					output.writeInt( FORMAT_VERSION );
+					output.writeInt( queries.size() );
+					for ( String query : queries ) {
+						final byte[] hql = query.getBytes( StandardCharsets.UTF_8 );
+						output.writeInt( hql.length );
+						output.write( hql );
+					}
+				}
+				try {
+					Files.move( temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE );
+				}
+				catch (AtomicMoveNotSupportedException e) {
+					Files.move( temporaryFile, file, StandardCopyOption.REPLACE_EXISTING );
+				}
+				log.debugf( "Wrote %s queries to HQL warmup corpus [%s]", queries.size(), file );
+			}
+			finally {
+				Files.deleteIfExists( temporaryFile );
+			}
+		}
+		catch (IOException e) {
+			log.warnf( "Unable to write HQL warmup corpus [%s]: %s", file, e.getMessage() );
+		}
+	}
+}
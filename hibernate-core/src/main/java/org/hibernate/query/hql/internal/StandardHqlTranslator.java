@@ -24,6 +24,7 @@
 import org.hibernate.query.sqm.internal.SqmTreePrinter;
 import org.hibernate.query.sqm.spi.SqmCreationContext;
 import org.hibernate.query.sqm.tree.SqmStatement;
+import org.hibernate.stat.spi.StatisticsImplementor;
 
 import org.antlr.v4.runtime.ANTLRErrorListener;
 import org.antlr.v4.runtime.BailErrorStrategy;
@@ -33,6 +34,9 @@
 import org.antlr.v4.runtime.Recognizer;
 import org.antlr.v4.runtime.atn.PredictionMode;
 import org.antlr.v4.runtime.misc.ParseCancellationException;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.function.Supplier;
 
 import static java.util.stream.Collectors.toList;
 
@@ -45,19 +49,40 @@ public class StandardHqlTranslator implements HqlTranslator {
 
 	private final SqmCreationContext sqmCreationContext;
 	private final SqmCreationOptions sqmCreationOptions;
+	private final @Nullable Supplier<StatisticsImplementor> statistics;
+	private final @Nullable HqlParserWarmup parserWarmup;
 
 	public StandardHqlTranslator(
 			SqmCreationContext sqmCreationContext,
 			SqmCreationOptions sqmCreationOptions) {
+		this( sqmCreationContext, sqmCreationOptions, null, null );
+	}
+
+	/**
+	 * @param statistics the statistics to which fallbacks from SLL to LL parsing are reported
+	 * @param parserWarmup the {@link HqlParserWarmup} which records the parsed queries
+	 *
+	 * @since 7.0
+	 */
+	public StandardHqlTranslator(
+			SqmCreationContext sqmCreationContext,
+			SqmCreationOptions sqmCreationOptions,
+			@Nullable Supplier<StatisticsImplementor> statistics,
+			@Nullable HqlParserWarmup parserWarmup) {
 		this.sqmCreationContext = sqmCreationContext;
 		this.sqmCreationOptions = sqmCreationOptions;
+		this.statistics = statistics;
+		this.parserWarmup = parserWarmup;
 	}
 
 	@Override
 	public <R> SqmStatement<R> translate(String query, Class<R> expectedResultType) {
 		HqlLogging.QUERY_LOGGER.debugf( "HQL : %s", query );
 
-		final HqlParser.StatementContext hqlParseTree = parseHql( query );
+		final HqlParser.StatementContext hqlParseTree = parseHql( query, () -> parserFallback( query ) );
+		if ( parserWarmup != null ) {
+			parserWarmup.queryParsed( query );
+		}
 
 		// then we perform semantic analysis and build the semantic representation...
 		try {
@@ -89,7 +114,23 @@ public <R> SqmStatement<R> translate(String query, Class<R> expectedResultType)
 		}
 	}
 
-	private HqlParser.StatementContext parseHql(String hql) {
+	private void parserFallback(String hql) {
+		HqlLogging.QUERY_LOGGER.debugf( "Reparsing HQL with LL prediction: %s", hql );
+		if ( statistics != null ) {
+			final StatisticsImplementor statisticsImplementor = statistics.get();
+			if ( statisticsImplementor.isStatisticsEnabled() ) {
+				statisticsImplementor.hqlParserFallback( hql );
+			}
+		}
+	}
+
+	/**
+	 * Parse the given HQL, first using SLL prediction, and then, if that
+	 * fails, using full LL prediction.
+	 *
+	 * @param onFallback called when SLL prediction fails and the query is reparsed
+	 */
+	static HqlParser.StatementContext parseHql(String hql, Runnable onFallback) {
 		// Build the lexer
 		final HqlLexer hqlLexer = HqlParseTreeBuilder.INSTANCE.buildHqlLexer( hql );
 
@@ -105,6 +146,8 @@ private HqlParser.StatementContext parseHql(String hql) {
 			return hqlParser.statement();
 		}
 		catch ( ParseCancellationException e) {
+			onFallback.run();
+
 			// reset the input token stream and parser state
 			hqlLexer.reset();
 			hqlParser.reset();
@@ -13,9 +13,11 @@
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.query.spi.NativeQueryInterpreter;
 import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.util.config.ConfigurationException;
 import org.hibernate.internal.util.config.ConfigurationHelper;
 import org.hibernate.query.BindingContext;
 import org.hibernate.query.hql.HqlTranslator;
+import org.hibernate.query.hql.internal.HqlParserWarmup;
 import org.hibernate.query.hql.internal.StandardHqlTranslator;
 import org.hibernate.query.hql.spi.SqmCreationOptions;
 import org.hibernate.query.named.NamedObjectRepository;
@@ -31,13 +33,17 @@
 import org.hibernate.query.sqm.sql.StandardSqmTranslatorFactory;
 import org.hibernate.service.ServiceRegistry;
 import org.hibernate.service.spi.ServiceRegistryImplementor;
+import org.hibernate.stat.spi.StatisticsImplementor;
 import org.hibernate.type.spi.TypeConfiguration;
 import org.jboss.logging.Logger;
 
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.function.Supplier;
 
 import static java.util.Comparator.comparingInt;
 
@@ -59,9 +65,22 @@ public static QueryEngineImpl from(
 			Map<String,Object> properties,
 			String name) {
 		final Dialect dialect = serviceRegistry.requireService( JdbcServices.class ).getDialect();
+		final HqlParserWarmup parserWarmup = buildParserWarmup( options, dialect, properties );
+		if ( parserWarmup != null ) {
+			final List<String> namedQueries = new ArrayList<>();
+			metadata.visitNamedHqlQueryDefinitions( definition -> namedQueries.add( definition.getHqlString() ) );
+			parserWarmup.warmUp( namedQueries );
+		}
 		return new QueryEngineImpl(
 				metadata.getTypeConfiguration(),
-				resolveHqlTranslator( options, dialect, sqmCreationContext, new SqmCreationOptionsStandard( options ) ),
+				resolveHqlTranslator(
+						options,
+						dialect,
+						sqmCreationContext,
+						new SqmCreationOptionsStandard( options ),
+						() -> serviceRegistry.requireService( StatisticsImplementor.class ),
+						parserWarmup
+				),
 				resolveSqmTranslatorFactory( options, dialect ),
 				createFunctionRegistry( serviceRegistry, metadata, options, dialect ),
 				metadata.buildNamedQueryRepository(),
@@ -70,7 +89,8 @@ public static QueryEngineImpl from(
 				sqmCreationContext,
 				options,
 				options.getUuid(),
-				name
+				name,
+				parserWarmup
 		);
 	}
 
@@ -113,6 +133,7 @@ private static SqmFunctionRegistry createFunctionRegistry(
 	private final HqlTranslator hqlTranslator;
 	private final SqmTranslatorFactory sqmTranslatorFactory;
 	private final SqmFunctionRegistry sqmFunctionRegistry;
+	private final HqlParserWarmup parserWarmup;
 
 	private QueryEngineImpl(
 			TypeConfiguration typeConfiguration,
@@ -124,7 +145,8 @@ private QueryEngineImpl(
 			NativeQueryInterpreter nativeQueryInterpreter,
 			BindingContext context,
 			QueryEngineOptions options,
-			String uuid, String name) {
+			String uuid, String name,
+			HqlParserWarmup parserWarmup) {
 		this.typeConfiguration = typeConfiguration;
 		this.sqmFunctionRegistry = functionRegistry;
 		this.sqmTranslatorFactory = sqmTranslatorFactory;
@@ -133,6 +155,7 @@ private QueryEngineImpl(
 		this.interpretationCache = interpretationCache;
 		this.nativeQueryInterpreter = nativeQueryInterpreter;
 		this.criteriaBuilder = createCriteriaBuilder( context, options, uuid, name );
+		this.parserWarmup = parserWarmup;
 	}
 
 	private SqmCriteriaNodeBuilder createCriteriaBuilder(
@@ -145,7 +168,9 @@ private static HqlTranslator resolveHqlTranslator(
 			QueryEngineOptions runtimeOptions,
 			Dialect dialect,
 			SqmCreationContext sqmCreationContext,
-			SqmCreationOptions sqmCreationOptions) {
+			SqmCreationOptions sqmCreationOptions,
+			Supplier<StatisticsImplementor> statistics,
+			HqlParserWarmup parserWarmup) {
 		if ( runtimeOptions.getCustomHqlTranslator() != null ) {
 			return runtimeOptions.getCustomHqlTranslator();
 		}
@@ -153,8 +178,22 @@ else if ( dialect.getHqlTranslator() != null ) {
 			return dialect.getHqlTranslator();
 		}
 		else {
-			return new StandardHqlTranslator( sqmCreationContext, sqmCreationOptions );
+			return new StandardHqlTranslator( sqmCreationContext, sqmCreationOptions, statistics, parserWarmup );
+		}
+	}
+
+	private static HqlParserWarmup buildParserWarmup(
+			QueryEngineOptions runtimeOptions,
+			Dialect dialect,
+			Map<String, Object> properties) {
+		if ( runtimeOptions.getCustomHqlTranslator() != null
+				|| dialect.getHqlTranslator() != null
+				|| !ConfigurationHelper.getBoolean( AvailableSettings.QUERY_PARSER_WARMUP, properties ) ) {
+			// the warmup only benefits the standard HQL parser
+			return null;
 		}
+		final String corpusFile = ConfigurationHelper.getString( AvailableSettings.QUERY_PARSER_WARMUP_CORPUS, properties );
+		return new HqlParserWarmup( corpusFile == null || corpusFile.isBlank() ? null : Path.of( corpusFile ) );
 	}
 
 	private static SqmTranslatorFactory resolveSqmTranslatorFactory(
@@ -201,8 +240,25 @@ private static QueryInterpretationCache buildInterpretationCache(
 			final int size = explicitMaxPlanSize != null
 					? explicitMaxPlanSize
 					: QueryEngine.DEFAULT_QUERY_PLAN_MAX_COUNT;
-
-			return new QueryInterpretationCacheStandardImpl( size, serviceRegistry );
+			final int hqlSize =
+					ConfigurationHelper.getInt( AvailableSettings.QUERY_PLAN_CACHE_HQL_MAX_SIZE, properties, size );
+			final int nativeSize =
+					ConfigurationHelper.getInt( AvailableSettings.QUERY_PLAN_CACHE_NATIVE_MAX_SIZE, properties, size );
+
+			final String evictionPolicy = ConfigurationHelper.getString(
+					AvailableSettings.QUERY_PLAN_CACHE_EVICTION_POLICY,
+					properties,
+					"lirs"
+			);
+			switch ( evictionPolicy.toLowerCase( Locale.ROOT ) ) {
+				case "lirs":
+					return new QueryInterpretationCacheStandardImpl( size, hqlSize, nativeSize, serviceRegistry );
+				case "tinylfu":
+					return new QueryInterpretationCacheTinyLfuImpl( size, hqlSize, nativeSize, serviceRegistry );
+				default:
+					throw new ConfigurationException( "Unrecognized query plan cache eviction policy '"
+							+ evictionPolicy + "' (should be 'lirs' or 'tinylfu')" );
+			}
 		}
 		else {
 			// disabled
@@ -268,6 +324,10 @@ public void close() {
 		if ( sqmFunctionRegistry != null ) {
 			sqmFunctionRegistry.close();
 		}
+
+		if ( parserWarmup != null ) {
+			parserWarmup.writeCorpus();
+		}
 	}
 
 	private static class FunctionContributionsImpl implements FunctionContributions {
@@ -4,6 +4,7 @@
  */
 package org.hibernate.query.internal;
 
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -37,20 +38,44 @@ public class QueryInterpretationCacheStandardImpl implements QueryInterpretation
 	/**
 	 * the cache of the actual plans...
 	 */
-	private final BoundedConcurrentHashMap<Key, QueryPlan> queryPlanCache;
+	private final ConcurrentMap<Key, QueryPlan> queryPlanCache;
 
 	private final ServiceRegistry serviceRegistry;
-	private final BoundedConcurrentHashMap<Object, HqlInterpretation<?>> hqlInterpretationCache;
-	private final BoundedConcurrentHashMap<String, ParameterInterpretation> nativeQueryParamCache;
+	private final ConcurrentMap<Object, HqlInterpretation<?>> hqlInterpretationCache;
+	private final ConcurrentMap<String, ParameterInterpretation> nativeQueryParamCache;
 
 	private StatisticsImplementor statistics;
 
 	public QueryInterpretationCacheStandardImpl(int maxQueryPlanCount, ServiceRegistry serviceRegistry) {
+		this( maxQueryPlanCount, maxQueryPlanCount, maxQueryPlanCount, serviceRegistry );
+	}
+
+	public QueryInterpretationCacheStandardImpl(
+			int maxQueryPlanCount,
+			int maxHqlInterpretationCount,
+			int maxNativeQueryParameterCount,
+			ServiceRegistry serviceRegistry) {
+		this(
+				new BoundedConcurrentHashMap<>( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS ),
+				new BoundedConcurrentHashMap<>( maxHqlInterpretationCount, 20, BoundedConcurrentHashMap.Eviction.LIRS ),
+				new BoundedConcurrentHashMap<>( maxNativeQueryParameterCount, 20, BoundedConcurrentHashMap.Eviction.LIRS ),
+				serviceRegistry
+		);
 		log.debugf( "Starting QueryInterpretationCache(%s)", maxQueryPlanCount );
+	}
 
-		this.queryPlanCache = new BoundedConcurrentHashMap<>( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS );
-		this.hqlInterpretationCache = new BoundedConcurrentHashMap<>( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS );
-		this.nativeQueryParamCache = new BoundedConcurrentHashMap<>( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS );
+	/**
+	 * Create a cache backed by the given bounded maps, allowing
+	 * subclasses to use an alternative eviction policy.
+	 */
+	protected QueryInterpretationCacheStandardImpl(
+			ConcurrentMap<Key, QueryPlan> queryPlanCache,
+			ConcurrentMap<Object, HqlInterpretation<?>> hqlInterpretationCache,
+			ConcurrentMap<String, ParameterInterpretation> nativeQueryParamCache,
+			ServiceRegistry serviceRegistry) {
+		this.queryPlanCache = queryPlanCache;
+		this.hqlInterpretationCache = hqlInterpretationCache;
+		this.nativeQueryParamCache = nativeQueryParamCache;
 		this.serviceRegistry = serviceRegistry;
 	}
 
@@ -64,7 +89,7 @@ public int getNumberOfCachedQueryPlans() {
 		return queryPlanCache.size();
 	}
 
-	private StatisticsImplementor getStatistics() {
+	protected StatisticsImplementor getStatistics() {
 		if ( statistics == null ) {
 			statistics = serviceRegistry.requireService( StatisticsImplementor.class );
 		}
@@ -200,6 +225,15 @@ public void close() {
 		queryPlanCache.clear();
 	}
 
+	/**
+	 * The HQL query string of a key of the HQL interpretation cache.
+	 */
+	protected static String hqlQueryString(Object hqlInterpretationCacheKey) {
+		return hqlInterpretationCacheKey instanceof HqlInterpretationCacheKey key
+				? key.queryString
+				: (String) hqlInterpretationCacheKey;
+	}
+
 	private static final class HqlInterpretationCacheKey {
 		private final String queryString;
 		private final Class<?> expectedResultType;
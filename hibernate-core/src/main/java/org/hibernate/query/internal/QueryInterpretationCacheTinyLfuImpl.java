@@ -0,0 +1,74 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.query.internal;
+
+import org.hibernate.internal.util.collections.BoundedTinyLfuMap;
+import org.hibernate.query.QueryLogging;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.jboss.logging.Logger;
+
+/**
+ * A {@link org.hibernate.query.spi.QueryInterpretationCache} backed by
+ * {@link BoundedTinyLfuMap}s, which never lock on reads, and admit new
+ * entries according to their frequency of use. This is a better fit than
+ * the {@linkplain QueryInterpretationCacheStandardImpl standard} segmented
+ * LIRS caches for applications executing many distinct dynamically built
+ * queries alongside a smaller set of very frequently executed queries.
+ * <p>
+ * Entries which are evicted, or which are not admitted, are reported to
+ * {@link StatisticsImplementor#queryPlanCacheEviction(String)}.
+ *
+ * @see org.hibernate.cfg.QuerySettings#QUERY_PLAN_CACHE_EVICTION_POLICY
+ */
+public class QueryInterpretationCacheTinyLfuImpl extends QueryInterpretationCacheStandardImpl {
+	private static final Logger log = QueryLogging.subLogger( "plan.cache" );
+
+	public QueryInterpretationCacheTinyLfuImpl(
+			int maxQueryPlanCount,
+			int maxHqlInterpretationCount,
+			int maxNativeQueryParameterCount,
+			ServiceRegistry serviceRegistry) {
+		this( new EvictionRecorder( serviceRegistry ),
+				maxQueryPlanCount, maxHqlInterpretationCount, maxNativeQueryParameterCount, serviceRegistry );
+		log.debugf( "Starting TinyLFU QueryInterpretationCache(%s)", maxQueryPlanCount );
+	}
+
+	private QueryInterpretationCacheTinyLfuImpl(
+			EvictionRecorder evictions,
+			int maxQueryPlanCount,
+			int maxHqlInterpretationCount,
+			int maxNativeQueryParameterCount,
+			ServiceRegistry serviceRegistry) {
+		super(
+				new BoundedTinyLfuMap<>( maxQueryPlanCount,
+						(key, plan) -> evictions.accept( key.getQueryString() ) ),
+				new BoundedTinyLfuMap<>( maxHqlInterpretationCount,
+						(key, interpretation) -> evictions.accept( hqlQueryString( key ) ) ),
+				new BoundedTinyLfuMap<>( maxNativeQueryParameterCount,
+						(queryString, interpretation) -> evictions.accept( queryString ) ),
+				serviceRegistry
+		);
+	}
+
+	private static final class EvictionRecorder {
+		private final ServiceRegistry serviceRegistry;
+		private StatisticsImplementor statistics;
+
+		private EvictionRecorder(ServiceRegistry serviceRegistry) {
+			this.serviceRegistry = serviceRegistry;
+		}
+
+		void accept(String queryString) {
+			if ( statistics == null ) {
+				statistics = serviceRegistry.requireService( StatisticsImplementor.class );
+			}
+			if ( statistics.isStatisticsEnabled() ) {
+				statistics.queryPlanCacheEviction( queryString );
+			}
+		}
+	}
+}
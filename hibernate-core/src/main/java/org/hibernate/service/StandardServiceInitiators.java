@@ -30,6 +30,7 @@
 import org.hibernate.engine.transaction.jta.platform.internal.JtaPlatformResolverInitiator;
 import org.hibernate.event.internal.EntityCopyObserverFactoryInitiator;
 import org.hibernate.loader.ast.internal.BatchLoaderFactoryInitiator;
+import org.hibernate.loader.ast.internal.ParallelFetchExecutorInitiator;
 import org.hibernate.persister.internal.PersisterClassResolverInitiator;
 import org.hibernate.persister.internal.PersisterFactoryInitiator;
 import org.hibernate.property.access.internal.PropertyAccessStrategyResolverInitiator;
@@ -155,6 +156,9 @@ private static List<StandardServiceInitiator<?>> buildStandardServiceInitiatorLi
 		serviceInitiators.add( ParameterMarkerStrategyInitiator.INSTANCE );
 		serviceInitiators.add( BatchLoaderFactoryInitiator.INSTANCE );
 
+		// ParallelFetchExecutor
+		serviceInitiators.add( ParallelFetchExecutorInitiator.INSTANCE );
+
 		serviceInitiators.trimToSize();
 
 		return Collections.unmodifiableList( serviceInitiators );
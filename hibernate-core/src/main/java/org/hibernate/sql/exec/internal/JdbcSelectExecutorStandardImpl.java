@@ -4,9 +4,11 @@
  */
 package org.hibernate.sql.exec.internal;
 
+import java.io.Serializable;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 import org.hibernate.CacheMode;
 import org.hibernate.cache.spi.QueryKey;
@@ -21,14 +23,19 @@
 import org.hibernate.sql.exec.spi.JdbcOperationQuerySelect;
 import org.hibernate.sql.exec.spi.JdbcParameterBindings;
 import org.hibernate.sql.exec.spi.JdbcSelectExecutor;
+import org.hibernate.sql.results.caching.internal.CachedQueryRows;
+import org.hibernate.sql.results.caching.internal.QueryCacheRowsPutManager;
 import org.hibernate.sql.results.graph.DomainResult;
+import org.hibernate.sql.results.graph.basic.BasicResult;
 import org.hibernate.sql.results.internal.ResultsHelper;
 import org.hibernate.sql.results.internal.RowProcessingStateStandardImpl;
+import org.hibernate.sql.results.internal.RowTransformerCachingImpl;
 import org.hibernate.sql.results.internal.RowTransformerStandardImpl;
 import org.hibernate.sql.results.internal.RowTransformerTupleTransformerAdapter;
 import org.hibernate.sql.results.jdbc.internal.CachedJdbcValuesMetadata;
 import org.hibernate.sql.results.jdbc.internal.DeferredResultSetAccess;
 import org.hibernate.sql.results.jdbc.internal.JdbcValuesCacheHit;
+import org.hibernate.sql.results.jdbc.internal.JdbcValuesPrefetched;
 import org.hibernate.sql.results.jdbc.internal.JdbcValuesResultSetImpl;
 import org.hibernate.sql.results.jdbc.internal.JdbcValuesSourceProcessingStateStandardImpl;
 import org.hibernate.sql.results.jdbc.internal.ResultSetAccess;
@@ -37,6 +44,7 @@
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMappingProducer;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMetadata;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesSourceProcessingOptions;
+import org.hibernate.sql.results.spi.ListResultsConsumer;
 import org.hibernate.sql.results.spi.ResultsConsumer;
 import org.hibernate.sql.results.spi.RowReader;
 import org.hibernate.sql.results.spi.RowTransformer;
@@ -132,32 +140,115 @@ private <T, R> T doExecuteQuery(
 				statementCreator,
 				resultCountEstimate
 		);
+		final QueryCacheRows queryCacheRows =
+				resolveQueryCacheRows( executionContext, domainResultType, resultsConsumer );
 		final JdbcValues jdbcValues = resolveJdbcValuesSource(
 				executionContext.getQueryIdentifier( deferredResultSetAccess.getFinalSql() ),
 				jdbcSelect,
 				resultsConsumer.canResultsBeCached(),
 				executionContext,
-				deferredResultSetAccess
+				deferredResultSetAccess,
+				queryCacheRows
 		);
+		if ( jdbcValues == null ) {
+			// the rows were read from the query cache
+			final CachedQueryRows cachedRows = queryCacheRows.cachedRows;
+			//noinspection unchecked
+			return (T) ( (ListResultsConsumer<R>) resultsConsumer ).consumeRows(
+					cachedRows,
+					resolveRowTransformer( rowTransformer, executionContext, cachedRows::getAliases ),
+					executionContext.getQueryOptions()
+			);
+		}
+		final T result = processJdbcValues(
+				jdbcSelect,
+				jdbcValues,
+				executionContext,
+				rowTransformer,
+				domainResultType,
+				resultsConsumer,
+				queryCacheRows == null ? null : queryCacheRows.putManager
+		);
+		if ( queryCacheRows != null && queryCacheRows.putManager != null ) {
+			queryCacheRows.putManager.finishUp( executionContext.getSession() );
+		}
+		return result;
+	}
 
-		if ( rowTransformer == null ) {
-			@SuppressWarnings("unchecked")
-			final TupleTransformer<R> tupleTransformer = (TupleTransformer<R>) executionContext
-					.getQueryOptions()
-					.getTupleTransformer();
+	/**
+	 * If {@value org.hibernate.cfg.CacheSettings#QUERY_CACHE_ROWS} is enabled,
+	 * and the results of the query might be built from the rows passed to the
+	 * row transformer, return a holder for the cached rows, or for the manager
+	 * which will put the rows into the cache.
+	 */
+	private static QueryCacheRows resolveQueryCacheRows(
+			ExecutionContext executionContext,
+			Class<?> domainResultType,
+			ResultsConsumer<?, ?> resultsConsumer) {
+		return executionContext.getQueryOptions().isResultCachingEnabled() == Boolean.TRUE
+				&& executionContext.getSession().getFactory().getSessionFactoryOptions().isQueryCacheRowsEnabled()
+				&& resultsConsumer instanceof ListResultsConsumer<?> listResultsConsumer
+				&& listResultsConsumer.canConsumeRows()
+				// arrays of a specific element type are built by the row reader itself
+				&& ( domainResultType == null || domainResultType == Object[].class || !domainResultType.isArray() )
+				? new QueryCacheRows()
+				: null;
+	}
 
-			if ( tupleTransformer == null ) {
-				rowTransformer = RowTransformerStandardImpl.instance();
-			}
-			else {
-				final List<DomainResult<?>> domainResults = jdbcValues.getValuesMapping().getDomainResults();
-				final String[] aliases = new String[domainResults.size()];
-				for ( int i = 0; i < domainResults.size(); i++ ) {
-					aliases[i] = domainResults.get( i ).getResultVariable();
-				}
-				rowTransformer = new RowTransformerTupleTransformerAdapter<>( aliases, tupleTransformer );
+	/**
+	 * Process rows of the given select which were already read from the database,
+	 * by some other means, exactly as if they had been read from its result set by
+	 * {@link #executeQuery}.
+	 *
+	 * @param jdbcValues the rows, usually a {@link JdbcValuesPrefetched}
+	 */
+	public <T, R> T processResults(
+			JdbcOperationQuerySelect jdbcSelect,
+			JdbcValues jdbcValues,
+			ExecutionContext executionContext,
+			RowTransformer<R> rowTransformer,
+			Class<R> domainResultType,
+			ResultsConsumer<T, R> resultsConsumer) {
+		final PersistenceContext persistenceContext = executionContext.getSession().getPersistenceContext();
+		boolean defaultReadOnlyOrig = persistenceContext.isDefaultReadOnly();
+		Boolean readOnly = executionContext.getQueryOptions().isReadOnly();
+		if ( readOnly != null ) {
+			persistenceContext.setDefaultReadOnly( readOnly );
+		}
+		try {
+			return processJdbcValues(
+					jdbcSelect,
+					jdbcValues,
+					executionContext,
+					rowTransformer,
+					domainResultType,
+					resultsConsumer,
+					null
+			);
+		}
+		finally {
+			if ( readOnly != null ) {
+				persistenceContext.setDefaultReadOnly( defaultReadOnlyOrig );
 			}
 		}
+	}
+
+	private <T, R> T processJdbcValues(
+			JdbcOperationQuerySelect jdbcSelect,
+			JdbcValues jdbcValues,
+			ExecutionContext executionContext,
+			RowTransformer<R> rowTransformer,
+			Class<R> domainResultType,
+			ResultsConsumer<T, R> resultsConsumer,
+			QueryCacheRowsPutManager queryCacheRowsPutManager) {
+		rowTransformer = resolveRowTransformer(
+				rowTransformer,
+				executionContext,
+				() -> aliases( jdbcValues.getValuesMapping() )
+		);
+		if ( queryCacheRowsPutManager != null ) {
+			rowTransformer = new RowTransformerCachingImpl<>( rowTransformer, queryCacheRowsPutManager );
+		}
 
 		final SharedSessionContractImplementor session = executionContext.getSession();
 
@@ -231,16 +322,70 @@ public boolean shouldReturnProxies() {
 		if ( stats ) {
 			final long endTime = System.nanoTime();
 			final long milliseconds = TimeUnit.MILLISECONDS.convert( endTime - startTime, TimeUnit.NANOSECONDS );
+			final String queryIdentifier = executionContext.getQueryIdentifier( jdbcSelect.getSqlString() );
 			statistics.queryExecuted(
-					executionContext.getQueryIdentifier( jdbcSelect.getSqlString() ),
+					queryIdentifier,
 					getResultSize( result ),
 					milliseconds
 			);
+			if ( statistics.isLatencyHistogramsEnabled() ) {
+				statistics.queryExecutionLatency( queryIdentifier, endTime - startTime );
+			}
 		}
 
 		return result;
 	}
 
+	private static <R> RowTransformer<R> resolveRowTransformer(
+			RowTransformer<R> rowTransformer,
+			ExecutionContext executionContext,
+			Supplier<String[]> aliases) {
+		if ( rowTransformer != null ) {
+			return rowTransformer;
+		}
+
+		@SuppressWarnings("unchecked")
+		final TupleTransformer<R> tupleTransformer = (TupleTransformer<R>) executionContext
+				.getQueryOptions()
+				.getTupleTransformer();
+
+		if ( tupleTransformer == null ) {
+			return RowTransformerStandardImpl.instance();
+		}
+		else {
+			return new RowTransformerTupleTransformerAdapter<>( aliases.get(), tupleTransformer );
+		}
+	}
+
+	private static String[] aliases(JdbcValuesMapping jdbcValuesMapping) {
+		final List<DomainResult<?>> domainResults = jdbcValuesMapping.getDomainResults();
+		final String[] aliases = new String[domainResults.size()];
+		for ( int i = 0; i < domainResults.size(); i++ ) {
+			aliases[i] = domainResults.get( i ).getResultVariable();
+		}
+		return aliases;
+	}
+
+	/**
+	 * Whether every result is a basic value which may be shared by the sessions
+	 * which hit the query cache, and stored in a cache which serializes it: that
+	 * is, a value of an immutable and serializable Java type, after conversion.
+	 */
+	private static boolean hasOnlyImmutableBasicResults(JdbcValuesMapping jdbcValuesMapping) {
+		for ( DomainResult<?> domainResult : jdbcValuesMapping.getDomainResults() ) {
+			if ( !( domainResult instanceof BasicResult<?> basicResult ) ) {
+				return false;
+			}
+			final JavaType<?> javaType = basicResult.getResultJavaType();
+			final Class<?> javaTypeClass = javaType.getJavaTypeClass();
+			if ( javaType.getMutabilityPlan().isMutable()
+					|| !javaTypeClass.isPrimitive() && !Serializable.class.isAssignableFrom( javaTypeClass ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 	private <T> int getResultSize(T result) {
 		if ( result instanceof List ) {
 			return ( (List<?>) result ).size();
@@ -253,7 +398,8 @@ private JdbcValues resolveJdbcValuesSource(
 			JdbcOperationQuerySelect jdbcSelect,
 			boolean canBeCached,
 			ExecutionContext executionContext,
-			DeferredResultSetAccess resultSetAccess) {
+			DeferredResultSetAccess resultSetAccess,
+			QueryCacheRows queryCacheRows) {
 		final SharedSessionContractImplementor session = executionContext.getSession();
 		final SessionFactoryImplementor factory = session.getFactory();
 		final boolean queryCacheEnabled = factory.getSessionFactoryOptions().isQueryCacheEnabled();
@@ -286,7 +432,7 @@ private JdbcValues resolveJdbcValuesSource(
 					session
 			);
 
-			cachedResults = queryCache.get(
+			final List<?> results = queryCache.get(
 					// todo (6.0) : QueryCache#get takes the `queryResultsCacheKey` see tat discussion above
 					queryResultsCacheKey,
 					// todo (6.0) : `querySpaces` and `session` make perfect sense as args, but its odd passing those into this method just to pass along
@@ -294,6 +440,7 @@ private JdbcValues resolveJdbcValuesSource(
 					querySpaces,
 					session
 			);
+			cachedResults = resolveCachedRows( results, queryCacheRows );
 
 			// todo (6.0) : `querySpaces` and `session` are used in QueryCache#get to verify "up-to-dateness" via UpdateTimestampsCache
 			//		better imo to move UpdateTimestampsCache handling here and have QueryCache be a simple access to
@@ -343,6 +490,28 @@ private JdbcValues resolveJdbcValuesSource(
 				final CapturingJdbcValuesMetadata capturingMetadata = new CapturingJdbcValuesMetadata( resultSetAccess );
 				jdbcValuesMapping = mappingProducer.resolve( capturingMetadata, session.getLoadQueryInfluencers(), factory );
 				metadataForCache = capturingMetadata.resolveMetadataForCache();
+
+				if ( queryCacheRows != null && hasOnlyImmutableBasicResults( jdbcValuesMapping ) ) {
+					// put the rows passed to the row transformer into the cache,
+					// instead of the JDBC values
+					queryCacheRows.putManager = new QueryCacheRowsPutManager(
+							factory.getCache().getQueryResultsCache( executionContext.getQueryOptions().getResultCacheRegionName() ),
+							factory.getStatistics(),
+							queryResultsCacheKey,
+							queryIdentifier,
+							aliases( jdbcValuesMapping )
+					);
+					return new JdbcValuesResultSetImpl(
+							resultSetAccess,
+							null,
+							queryIdentifier,
+							executionContext.getQueryOptions(),
+							resultSetAccess.usesFollowOnLocking(),
+							jdbcValuesMapping,
+							null,
+							executionContext
+					);
+				}
 			}
 
 			return new JdbcValuesResultSetImpl(
@@ -356,6 +525,9 @@ private JdbcValues resolveJdbcValuesSource(
 					executionContext
 			);
 		}
+		else if ( queryCacheRows != null && queryCacheRows.cachedRows != null ) {
+			return null;
+		}
 		else {
 			final JdbcValuesMapping jdbcValuesMapping;
 			if ( cachedResults.isEmpty() || !( cachedResults.get( 0 ) instanceof JdbcValuesMetadata ) ) {
@@ -368,6 +540,30 @@ private JdbcValues resolveJdbcValuesSource(
 		}
 	}
 
+	/**
+	 * Results read from the query cache may hold the rows passed to the row
+	 * transformer, instead of JDBC values, in which case they may only be used
+	 * if the results of this execution can be built from such rows.
+	 */
+	private static List<?> resolveCachedRows(List<?> cachedResults, QueryCacheRows queryCacheRows) {
+		if ( cachedResults != null && cachedResults.size() == 1
+				&& cachedResults.get( 0 ) instanceof CachedQueryRows cachedRows ) {
+			if ( queryCacheRows == null ) {
+				return null;
+			}
+			queryCacheRows.cachedRows = cachedRows;
+		}
+		return cachedResults;
+	}
+
+	/**
+	 * @see org.hibernate.cfg.CacheSettings#QUERY_CACHE_ROWS
+	 */
+	private static class QueryCacheRows {
+		private CachedQueryRows cachedRows;
+		private QueryCacheRowsPutManager putManager;
+	}
+
 	static class CapturingJdbcValuesMetadata implements JdbcValuesMetadata {
 		private final ResultSetAccess resultSetAccess;
 		private String[] columnNames;
@@ -0,0 +1,54 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.sql.results.caching.internal;
+
+import java.io.Serializable;
+import java.util.List;
+
+import org.hibernate.Incubating;
+
+/**
+ * The rows of a query result, in the form in which they are passed to the
+ * {@link org.hibernate.sql.results.spi.RowTransformer}, as stored in the
+ * query cache in place of the JDBC values of the result set.
+ * <p>
+ * The cached rows are never exposed directly: {@link #getRow(int)} returns
+ * a copy, which the caller may hand to a row transformer. The values in the
+ * rows themselves are shared, so this form is only used when every value is
+ * of an immutable and serializable Java type.
+ *
+ * @see org.hibernate.cfg.CacheSettings#QUERY_CACHE_ROWS
+ *
+ * @since 7.0
+ */
+@Incubating
+public final class CachedQueryRows implements Serializable {
+	private final String[] aliases;
+	private final Object[][] rows;
+
+	public CachedQueryRows(String[] aliases, List<Object[]> rows) {
+		this.aliases = aliases;
+		this.rows = rows.toArray( new Object[0][] );
+	}
+
+	/**
+	 * The aliases of the selection items, for use by a
+	 * {@link org.hibernate.query.TupleTransformer}.
+	 */
+	public String[] getAliases() {
+		return aliases.clone();
+	}
+
+	public int getRowCount() {
+		return rows.length;
+	}
+
+	/**
+	 * A copy of the row at the given position.
+	 */
+	public Object[] getRow(int position) {
+		return rows[position].clone();
+	}
+}
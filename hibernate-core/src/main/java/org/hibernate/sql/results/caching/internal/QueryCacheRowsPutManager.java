@@ -0,0 +1,71 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.sql.results.caching.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.Incubating;
+import org.hibernate.cache.spi.QueryKey;
+import org.hibernate.cache.spi.QueryResultsCache;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.sql.results.caching.QueryCachePutManager;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import static java.util.Collections.singletonList;
+
+/**
+ * QueryCachePutManager implementation which puts the rows passed to the
+ * {@link org.hibernate.sql.results.spi.RowTransformer} into the cache, as
+ * {@link CachedQueryRows}, rather than the JDBC values of the result set.
+ *
+ * @see org.hibernate.cfg.CacheSettings#QUERY_CACHE_ROWS
+ *
+ * @since 7.0
+ */
+@Incubating
+public class QueryCacheRowsPutManager implements QueryCachePutManager {
+	private final QueryResultsCache queryCache;
+	private final StatisticsImplementor statistics;
+	private final QueryKey queryKey;
+	private final String queryIdentifier;
+	private final String[] aliases;
+	private final List<Object[]> rows = new ArrayList<>();
+
+	public QueryCacheRowsPutManager(
+			QueryResultsCache queryCache,
+			StatisticsImplementor statistics,
+			QueryKey queryKey,
+			String queryIdentifier,
+			String[] aliases) {
+		this.queryCache = queryCache;
+		this.statistics = statistics;
+		this.queryKey = queryKey;
+		this.queryIdentifier = queryIdentifier;
+		this.aliases = aliases;
+	}
+
+	@Override
+	public void registerJdbcRow(Object values) {
+		rows.add( ( (Object[]) values ).clone() );
+	}
+
+	@Override
+	public void finishUp(SharedSessionContractImplementor session) {
+		final boolean put = queryCache.put(
+				queryKey,
+				singletonList( new CachedQueryRows( aliases, rows ) ),
+				session
+		);
+		if ( put && statistics.isStatisticsEnabled() ) {
+			statistics.queryCachePut( queryIdentifier, queryCache.getRegion().getName() );
+		}
+	}
+
+	@Override
+	public void finishUp(int resultCount, SharedSessionContractImplementor session) {
+		finishUp( session );
+	}
+}
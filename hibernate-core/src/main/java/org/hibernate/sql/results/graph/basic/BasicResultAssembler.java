@@ -94,6 +94,15 @@ public JavaType<J> getAssembledJavaType() {
 		return assembledJavaType;
 	}
 
+	/**
+	 * The position of the raw value in the array of JDBC values of a row.
+	 *
+	 * @since 7.0
+	 */
+	public int getValuesArrayPosition() {
+		return valuesArrayPosition;
+	}
+
 	/**
 	 * Exposed for testing purposes
 	 */
@@ -20,6 +20,7 @@
 import org.hibernate.annotations.NotFoundAction;
 import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
 import org.hibernate.bytecode.enhance.spi.interceptor.EnhancementAsProxyLazinessInterceptor;
+import org.hibernate.cache.internal.AsyncCachePutQueue;
 import org.hibernate.cache.spi.access.AccessType;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.entry.CacheEntry;
@@ -1541,6 +1542,21 @@ private void putInCache(
 			}
 		}
 		else {
+			final Object structuredCacheEntry = data.concreteDescriptor.getCacheEntryStructure().structure( cacheEntry );
+			final AsyncCachePutQueue asyncPutQueue = factory.getCache().getAsyncPutQueue();
+			if ( asyncPutQueue != null
+					&& asyncPutQueue.putFromLoad(
+							session,
+							cacheAccess,
+							data.concreteDescriptor,
+							cacheKey,
+							structuredCacheEntry,
+							version,
+							false
+					) ) {
+				return;
+			}
+
 			final SessionEventListenerManager eventListenerManager = session.getEventListenerManager();
 			boolean put = false;
 			final HibernateMonitoringEvent cachePutEvent = eventManager.beginCachePutEvent();
@@ -1549,7 +1565,7 @@ private void putInCache(
 				put = cacheAccess.putFromLoad(
 						session,
 						cacheKey,
-						data.concreteDescriptor.getCacheEntryStructure().structure( cacheEntry ),
+						structuredCacheEntry,
 						version,
 						//useMinimalPuts( session, entityEntry )
 						false
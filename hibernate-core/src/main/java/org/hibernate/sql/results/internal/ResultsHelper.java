@@ -6,6 +6,7 @@
 
 
 import org.hibernate.CacheMode;
+import org.hibernate.cache.internal.AsyncCachePutQueue;
 import org.hibernate.cache.spi.access.CollectionDataAccess;
 import org.hibernate.cache.spi.entry.CollectionCacheEntry;
 import org.hibernate.collection.spi.PersistentCollection;
@@ -198,6 +199,23 @@ private static void addCollectionToCache(
 
 		// CollectionRegionAccessStrategy has no update, so avoid putting uncommitted data via putFromLoad
 		if ( isPutFromLoad ) {
+			final Object structuredCacheEntry = collectionDescriptor.getCacheEntryStructure().structure( entry );
+			final boolean minimalPut = factory.getSessionFactoryOptions().isMinimalPutsEnabled()
+					&& session.getCacheMode()!= CacheMode.REFRESH;
+			final AsyncCachePutQueue asyncPutQueue = factory.getCache().getAsyncPutQueue();
+			if ( asyncPutQueue != null
+					&& asyncPutQueue.putFromLoad(
+							session,
+							cacheAccess,
+							collectionDescriptor,
+							cacheKey,
+							structuredCacheEntry,
+							version,
+							minimalPut
+					) ) {
+				return;
+			}
+
 			final SessionEventListenerManager eventListenerManager = session.getEventListenerManager();
 			final EventManager eventManager = session.getEventManager();
 			final HibernateMonitoringEvent cachePutEvent = eventManager.beginCachePutEvent();
@@ -207,10 +225,9 @@ private static void addCollectionToCache(
 				put = cacheAccess.putFromLoad(
 						session,
 						cacheKey,
-						collectionDescriptor.getCacheEntryStructure().structure( entry ),
+						structuredCacheEntry,
 						version,
-						factory.getSessionFactoryOptions().isMinimalPutsEnabled()
-								&& session.getCacheMode()!= CacheMode.REFRESH
+						minimalPut
 				);
 			}
 			finally {
@@ -0,0 +1,39 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.sql.results.internal;
+
+import org.hibernate.Incubating;
+import org.hibernate.sql.results.caching.QueryCachePutManager;
+import org.hibernate.sql.results.spi.RowTransformer;
+
+/**
+ * Registers each row with a {@link QueryCachePutManager} before passing
+ * it along to the wrapped {@link RowTransformer}.
+ *
+ * @see org.hibernate.cfg.CacheSettings#QUERY_CACHE_ROWS
+ *
+ * @since 7.0
+ */
+@Incubating
+public class RowTransformerCachingImpl<T> implements RowTransformer<T> {
+	private final RowTransformer<T> delegate;
+	private final QueryCachePutManager queryCachePutManager;
+
+	public RowTransformerCachingImpl(RowTransformer<T> delegate, QueryCachePutManager queryCachePutManager) {
+		this.delegate = delegate;
+		this.queryCachePutManager = queryCachePutManager;
+	}
+
+	@Override
+	public T transformRow(Object[] row) {
+		queryCachePutManager.registerJdbcRow( row );
+		return delegate.transformRow( row );
+	}
+
+	@Override
+	public int determineNumberOfResultElements(int rawElementCount) {
+		return delegate.determineNumberOfResultElements( rawElementCount );
+	}
+}
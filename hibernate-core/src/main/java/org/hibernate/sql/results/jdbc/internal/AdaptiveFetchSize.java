@@ -0,0 +1,159 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.sql.results.jdbc.internal;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.BitSet;
+
+import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.sql.exec.spi.ExecutionContext;
+
+import static org.hibernate.sql.exec.SqlExecLogger.SQL_EXEC_LOGGER;
+
+/**
+ * Adjusts the {@linkplain ResultSet#setFetchSize fetch size} of scrollable
+ * or streamed results while they are read.
+ * <p>
+ * The rows are read in windows of the current fetch size, so that each window
+ * contains roughly one round trip to the database, which is assumed to be the
+ * slowest call to {@link ResultSet#next} of the window. When the round trip
+ * accounts for more than a tenth of the time spent in the window, the fetch
+ * size is doubled. The fetch size never exceeds the number of rows which, at
+ * the average size of the rows read so far, fit in the memory budget.
+ *
+ * @see org.hibernate.cfg.QuerySettings#SCROLL_FETCH_MEMORY_BUDGET
+ */
+class AdaptiveFetchSize {
+	/**
+	 * The fetch size to start with, when neither the query nor the
+	 * JDBC driver specify one.
+	 */
+	static final int INITIAL_FETCH_SIZE = 100;
+
+	/**
+	 * The estimated size, in bytes, of a value, excluding the contents
+	 * of strings and binary values.
+	 */
+	private static final int VALUE_SIZE = 16;
+
+	private final ResultSet resultSet;
+	private final long memoryBudget;
+	private int fetchSize;
+
+	private long rowCount;
+	private long rowBytes;
+
+	private long windowStart;
+	private int windowRowCount;
+	private long slowestNext;
+
+	private AdaptiveFetchSize(ResultSet resultSet, long memoryBudget, int fetchSize) {
+		this.resultSet = resultSet;
+		this.memoryBudget = memoryBudget;
+		this.fetchSize = fetchSize;
+	}
+
+	/**
+	 * Is the fetch size of the results of the given execution adjusted?
+	 */
+	static boolean isEnabled(QueryOptions queryOptions, ExecutionContext executionContext) {
+		return executionContext.isScrollResult()
+				&& ( queryOptions == null || queryOptions.getFetchSize() == null )
+				&& executionContext.getSession().getFactory().getSessionFactoryOptions()
+						.getScrollFetchMemoryBudget() > 0;
+	}
+
+	/**
+	 * @return an {@code AdaptiveFetchSize} for the given results, or {@code null}
+	 * if their fetch size is not adjusted
+	 */
+	static AdaptiveFetchSize from(ResultSet resultSet, QueryOptions queryOptions, ExecutionContext executionContext)
+			throws SQLException {
+		if ( isEnabled( queryOptions, executionContext ) ) {
+			final int fetchSize = resultSet.getFetchSize();
+			return new AdaptiveFetchSize(
+					resultSet,
+					executionContext.getSession().getFactory().getSessionFactoryOptions().getScrollFetchMemoryBudget(),
+					fetchSize > 0 ? fetchSize : INITIAL_FETCH_SIZE
+			);
+		}
+		else {
+			return null;
+		}
+	}
+
+	/**
+	 * Call {@link ResultSet#next}, measuring the time it takes.
+	 */
+	boolean next() throws SQLException {
+		final long start = System.nanoTime();
+		if ( windowRowCount == 0 ) {
+			windowStart = start;
+		}
+		try {
+			return resultSet.next();
+		}
+		finally {
+			slowestNext = Math.max( slowestNext, System.nanoTime() - start );
+		}
+	}
+
+	/**
+	 * Record the size of the current row, and adjust the fetch size at the end of a window.
+	 *
+	 * @param values the values read from the current row
+	 * @param readIndexes the indexes of the values which were read
+	 */
+	void afterRow(Object[] values, BitSet readIndexes) throws SQLException {
+		long bytes = 0;
+		for ( int i = 0; i < values.length; i++ ) {
+			bytes += VALUE_SIZE;
+			if ( readIndexes.get( i ) ) {
+				bytes += contentSize( values[i] );
+			}
+		}
+		rowBytes += bytes;
+		rowCount++;
+		if ( ++windowRowCount >= fetchSize ) {
+			adjust( System.nanoTime() - windowStart );
+		}
+	}
+
+	private void adjust(long windowTime) throws SQLException {
+		final long averageRowSize = Math.max( 1, rowBytes / rowCount );
+		final int maxFetchSize = (int) Math.max( 1, Math.min( Integer.MAX_VALUE, memoryBudget / averageRowSize ) );
+		final int newFetchSize = slowestNext * 10 > windowTime
+				? (int) Math.min( maxFetchSize, fetchSize * 2L )
+				: Math.min( maxFetchSize, fetchSize );
+		if ( newFetchSize != fetchSize ) {
+			SQL_EXEC_LOGGER.debugf(
+					"Adjusting fetch size from %s to %s (average row size %s bytes)",
+					fetchSize,
+					newFetchSize,
+					averageRowSize
+			);
+			resultSet.setFetchSize( newFetchSize );
+			fetchSize = newFetchSize;
+		}
+		windowRowCount = 0;
+		slowestNext = 0;
+	}
+
+	private static long contentSize(Object value) {
+		if ( value instanceof String string ) {
+			return 2L * string.length();
+		}
+		else if ( value instanceof byte[] bytes ) {
+			return bytes.length;
+		}
+		else if ( value instanceof char[] chars ) {
+			return 2L * chars.length;
+		}
+		else {
+			return 0;
+		}
+	}
+}
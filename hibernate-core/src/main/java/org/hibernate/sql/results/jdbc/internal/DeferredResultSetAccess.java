@@ -191,6 +191,11 @@ protected void bindParameters(PreparedStatement preparedStatement) throws SQLExc
 			if ( queryOptions.getFetchSize() != null ) {
 				preparedStatement.setFetchSize( queryOptions.getFetchSize() );
 			}
+			else if ( preparedStatement.getFetchSize() == 0
+					&& AdaptiveFetchSize.isEnabled( queryOptions, executionContext ) ) {
+				// some drivers only use a cursor when a fetch size is specified
+				preparedStatement.setFetchSize( AdaptiveFetchSize.INITIAL_FETCH_SIZE );
+			}
 			if ( queryOptions.getTimeout() != null ) {
 				preparedStatement.setQueryTimeout( queryOptions.getTimeout() );
 			}
@@ -0,0 +1,156 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.sql.results.jdbc.internal;
+
+import java.util.List;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
+import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
+
+/**
+ * An {@link AbstractJdbcValues} implementation over rows which were already
+ * read from a JDBC result set by some other means, for example, on another
+ * thread. Each row is an array holding the value of every
+ * {@linkplain JdbcValuesMapping#getSqlSelections() SQL selection} at its
+ * {@linkplain org.hibernate.sql.ast.spi.SqlSelection#getValuesArrayPosition()
+ * values array position}.
+ * <p>
+ * Unlike {@link JdbcValuesCacheHit}, the rows are complete, and so they are
+ * processed exactly as if they were being read from the result set.
+ */
+public class JdbcValuesPrefetched extends AbstractJdbcValues {
+	private List<Object[]> rows;
+	private final int numberOfRows;
+	private final JdbcValuesMapping resolvedMapping;
+	private int position = -1;
+
+	public JdbcValuesPrefetched(List<Object[]> rows, JdbcValuesMapping resolvedMapping) {
+		this.rows = rows;
+		this.numberOfRows = rows.size();
+		this.resolvedMapping = resolvedMapping;
+	}
+
+	@Override
+	protected boolean processNext(RowProcessingState rowProcessingState) {
+		position++;
+		if ( position >= numberOfRows ) {
+			position = numberOfRows;
+			return false;
+		}
+		return true;
+	}
+
+	@Override
+	protected boolean processPrevious(RowProcessingState rowProcessingState) {
+		position--;
+		if ( position < 0 ) {
+			position = -1;
+			return false;
+		}
+		return true;
+	}
+
+	@Override
+	protected boolean processScroll(int numberOfRows, RowProcessingState rowProcessingState) {
+		return processPosition( position + numberOfRows, rowProcessingState );
+	}
+
+	@Override
+	public int getPosition() {
+		return position;
+	}
+
+	@Override
+	protected boolean processPosition(int position, RowProcessingState rowProcessingState) {
+		if ( position < 0 ) {
+			this.position = -1;
+			return false;
+		}
+		else if ( position >= numberOfRows ) {
+			this.position = numberOfRows;
+			return false;
+		}
+		else {
+			this.position = position;
+			return true;
+		}
+	}
+
+	@Override
+	public boolean isBeforeFirst(RowProcessingState rowProcessingState) {
+		return position < 0;
+	}
+
+	@Override
+	public void beforeFirst(RowProcessingState rowProcessingState) {
+		position = -1;
+	}
+
+	@Override
+	public boolean isFirst(RowProcessingState rowProcessingState) {
+		return position == 0;
+	}
+
+	@Override
+	public boolean first(RowProcessingState rowProcessingState) {
+		position = 0;
+		return numberOfRows > 0;
+	}
+
+	@Override
+	public boolean isAfterLast(RowProcessingState rowProcessingState) {
+		return position >= numberOfRows;
+	}
+
+	@Override
+	public void afterLast(RowProcessingState rowProcessingState) {
+		position = numberOfRows;
+	}
+
+	@Override
+	public boolean isLast(RowProcessingState rowProcessingState) {
+		return numberOfRows > 0 && position == numberOfRows - 1;
+	}
+
+	@Override
+	public boolean last(RowProcessingState rowProcessingState) {
+		position = numberOfRows - 1;
+		return numberOfRows > 0;
+	}
+
+	@Override
+	public JdbcValuesMapping getValuesMapping() {
+		return resolvedMapping;
+	}
+
+	@Override
+	public boolean usesFollowOnLocking() {
+		return false;
+	}
+
+	@Override
+	public Object getCurrentRowValue(int valueIndex) {
+		return position < 0 || position >= numberOfRows ? null : rows.get( position )[valueIndex];
+	}
+
+	@Override
+	public void finishUp(SharedSessionContractImplementor session) {
+		rows = null;
+	}
+
+	@Override
+	public void finishRowProcessing(RowProcessingState rowProcessingState, boolean wasAdded) {
+		// No-op
+	}
+
+	@Override
+	public void setFetchSize(int fetchSize) {}
+
+	@Override
+	public int getResultCountEstimate() {
+		return numberOfRows;
+	}
+}
@@ -9,6 +9,7 @@
 import java.util.Arrays;
 import java.util.BitSet;
 
+import org.hibernate.Incubating;
 import org.hibernate.JDBCException;
 import org.hibernate.QueryTimeoutException;
 import org.hibernate.cache.spi.QueryKey;
@@ -26,6 +27,7 @@
 import org.hibernate.sql.results.caching.internal.QueryCachePutManagerEnabledImpl;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
 import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
+import org.hibernate.sql.results.spi.ColumnBatch;
 
 /**
  * {@link AbstractJdbcValues} implementation for a JDBC {@link ResultSet} as the source
@@ -51,6 +53,7 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 	// represents the inverted index of the single value to cache
 	private final int rowToCacheSize;
 	private int resultCount;
+	private AdaptiveFetchSize adaptiveFetchSize;
 
 	public JdbcValuesResultSetImpl(
 			ResultSetAccess resultSetAccess,
@@ -74,6 +77,7 @@ public JdbcValuesResultSetImpl(
 		this.executionContext = executionContext;
 		this.usesFollowOnLocking = usesFollowOnLocking;
 		this.resultCountEstimate = determineResultCountEstimate( resultSetAccess, queryOptions, executionContext );
+		this.adaptiveFetchSize = resolveAdaptiveFetchSize( queryOptions, executionContext );
 
 		final int rowSize = valuesMapping.getRowSize();
 		this.sqlSelections = new SqlSelection[rowSize];
@@ -120,6 +124,15 @@ private int determineResultCountEstimate(
 		return -1;
 	}
 
+	private AdaptiveFetchSize resolveAdaptiveFetchSize(QueryOptions queryOptions, ExecutionContext executionContext) {
+		try {
+			return AdaptiveFetchSize.from( resultSet, queryOptions, executionContext );
+		}
+		catch (SQLException e) {
+			throw makeExecutionException( "Error calling ResultSet#getFetchSize()", e );
+		}
+	}
+
 	private static QueryCachePutManager resolveQueryCachePutManager(
 			ExecutionContext executionContext,
 			QueryOptions queryOptions,
@@ -265,7 +278,7 @@ public boolean last(RowProcessingState rowProcessingState) {
 
 	private boolean advanceNext() {
 		try {
-			return resultSet.next();
+			return adaptiveFetchSize == null ? resultSet.next() : adaptiveFetchSize.next();
 		}
 		catch (SQLException e) {
 			throw makeExecutionException( "Error advancing (next) ResultSet position", e );
@@ -347,6 +360,14 @@ public boolean usesFollowOnLocking() {
 
 	@Override
 	public void finishRowProcessing(RowProcessingState rowProcessingState, boolean wasAdded) {
+		if ( adaptiveFetchSize != null ) {
+			try {
+				adaptiveFetchSize.afterRow( currentRowJdbcValues, initializedIndexes );
+			}
+			catch (SQLException e) {
+				throw makeExecutionException( "Error calling ResultSet#setFetchSize()", e );
+			}
+		}
 		if ( queryCachePutManager != null ) {
 			if ( wasAdded ) {
 				resultCount++;
@@ -399,8 +420,67 @@ public Object getCurrentRowValue(int valueIndex) {
 		return currentRowJdbcValues[valueIndex];
 	}
 
+	/**
+	 * Read the next rows into the given batch, until it is full or there
+	 * are no more rows, reading the values of its {@link ColumnBatch.ColumnKind#LONG}
+	 * and {@link ColumnBatch.ColumnKind#DOUBLE} columns directly as primitive
+	 * values.
+	 *
+	 * @param valueIndexes the position, in the JDBC values of a row, of each column of the batch
+	 *
+	 * @return the number of rows read
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	public int readColumnBatch(ColumnBatch batch, int[] valueIndexes) {
+		batch.clear();
+		final SharedSessionContractImplementor session = executionContext.getSession();
+		int row = 0;
+		while ( row < batch.getCapacity() && advanceNext() ) {
+			for ( int column = 0; column < valueIndexes.length; column++ ) {
+				final SqlSelection sqlSelection = sqlSelections[valueIndexes[column]];
+				final int position = sqlSelection.getJdbcResultSetIndex();
+				try {
+					switch ( batch.getColumnKind( column ) ) {
+						case LONG -> {
+							batch.getLongs( column )[row] = resultSet.getLong( position );
+							if ( resultSet.wasNull() ) {
+								batch.getNulls( column ).set( row );
+							}
+						}
+						case DOUBLE -> {
+							batch.getDoubles( column )[row] = resultSet.getDouble( position );
+							if ( resultSet.wasNull() ) {
+								batch.getNulls( column ).set( row );
+							}
+						}
+						case OBJECT -> {
+							final Object value = sqlSelection.getJdbcValueExtractor().extract( resultSet, position, session );
+							if ( value == null ) {
+								batch.getNulls( column ).set( row );
+							}
+							batch.getObjects( column )[row] = value;
+						}
+					}
+				}
+				catch ( SQLException e ) {
+					throw session.getJdbcServices().getSqlExceptionHelper().convert(
+							e,
+							"Could not extract column [" + position + "] from JDBC ResultSet"
+					);
+				}
+			}
+			row++;
+		}
+		batch.setRowCount( row );
+		return row;
+	}
+
 	@Override
 	public void setFetchSize(int fetchSize) {
+		// an explicit fetch size overrides the adaptive one
+		adaptiveFetchSize = null;
 		try {
 			resultSet.setFetchSize( fetchSize );
 		}
@@ -0,0 +1,174 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.sql.results.spi;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+import org.hibernate.Incubating;
+
+/**
+ * A batch of rows of a query returning scalar values, stored column by
+ * column. The values of integral and floating point columns are held in
+ * arrays of primitive values, which may be accessed directly via
+ * {@link #getLongs} and {@link #getDoubles}, and whose first
+ * {@linkplain #getRowCount row count} elements are meaningful.
+ * <p>
+ * A batch is reused for every batch of rows of a query, and so its
+ * contents must not be retained once it has been consumed.
+ *
+ * @see ColumnBatchConsumer
+ *
+ * @since 7.0
+ */
+@Incubating
+public final class ColumnBatch {
+
+	/**
+	 * How the values of a column are stored.
+	 */
+	public enum ColumnKind {
+		/**
+		 * Integral values, stored as {@code long}s.
+		 */
+		LONG,
+		/**
+		 * Floating point values, stored as {@code double}s.
+		 */
+		DOUBLE,
+		/**
+		 * Any other value, stored as an object.
+		 */
+		OBJECT
+	}
+
+	private final ColumnKind[] kinds;
+	private final int capacity;
+	private final long[][] longs;
+	private final double[][] doubles;
+	private final Object[][] objects;
+	private final BitSet[] nulls;
+	private int rowCount;
+
+	public ColumnBatch(ColumnKind[] kinds, int capacity) {
+		if ( capacity < 1 ) {
+			throw new IllegalArgumentException( "Batch capacity must be positive" );
+		}
+		this.kinds = kinds;
+		this.capacity = capacity;
+		this.longs = new long[kinds.length][];
+		this.doubles = new double[kinds.length][];
+		this.objects = new Object[kinds.length][];
+		this.nulls = new BitSet[kinds.length];
+		for ( int column = 0; column < kinds.length; column++ ) {
+			switch ( kinds[column] ) {
+				case LONG -> longs[column] = new long[capacity];
+				case DOUBLE -> doubles[column] = new double[capacity];
+				case OBJECT -> objects[column] = new Object[capacity];
+			}
+			nulls[column] = new BitSet( capacity );
+		}
+	}
+
+	/**
+	 * The maximum number of rows in the batch.
+	 */
+	public int getCapacity() {
+		return capacity;
+	}
+
+	/**
+	 * The number of rows in the batch.
+	 */
+	public int getRowCount() {
+		return rowCount;
+	}
+
+	public int getColumnCount() {
+		return kinds.length;
+	}
+
+	public ColumnKind getColumnKind(int column) {
+		return kinds[column];
+	}
+
+	/**
+	 * The values of a {@link ColumnKind#LONG} column, where a null value is represented by {@code 0}.
+	 */
+	public long[] getLongs(int column) {
+		return longs[column];
+	}
+
+	/**
+	 * The values of a {@link ColumnKind#DOUBLE} column, where a null value is represented by {@code 0}.
+	 */
+	public double[] getDoubles(int column) {
+		return doubles[column];
+	}
+
+	/**
+	 * The values of an {@link ColumnKind#OBJECT} column.
+	 */
+	public Object[] getObjects(int column) {
+		return objects[column];
+	}
+
+	/**
+	 * The rows for which the given column is null.
+	 */
+	public BitSet getNulls(int column) {
+		return nulls[column];
+	}
+
+	public boolean isNull(int column, int row) {
+		return nulls[column].get( row );
+	}
+
+	public long getLong(int column, int row) {
+		return longs[column][row];
+	}
+
+	public double getDouble(int column, int row) {
+		return doubles[column][row];
+	}
+
+	/**
+	 * The value of the given column and row, boxed as a {@link Long} or a
+	 * {@link Double} if the column holds primitive values.
+	 */
+	public Object getObject(int column, int row) {
+		if ( nulls[column].get( row ) ) {
+			return null;
+		}
+		return switch ( kinds[column] ) {
+			case LONG -> longs[column][row];
+			case DOUBLE -> doubles[column][row];
+			case OBJECT -> objects[column][row];
+		};
+	}
+
+	/**
+	 * Empty the batch, before it is filled with the next rows.
+	 */
+	public void clear() {
+		for ( int column = 0; column < kinds.length; column++ ) {
+			nulls[column].clear();
+			if ( objects[column] != null ) {
+				Arrays.fill( objects[column], 0, rowCount, null );
+			}
+		}
+		rowCount = 0;
+	}
+
+	/**
+	 * Set the number of rows in the batch, once it has been filled.
+	 */
+	public void setRowCount(int rowCount) {
+		if ( rowCount < 0 || rowCount > capacity ) {
+			throw new IllegalArgumentException( "Row count must be between 0 and the batch capacity" );
+		}
+		this.rowCount = rowCount;
+	}
+}
@@ -0,0 +1,175 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.sql.results.spi;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.hibernate.Incubating;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.sql.ast.spi.SqlSelection;
+import org.hibernate.sql.results.graph.DomainResult;
+import org.hibernate.sql.results.graph.DomainResultAssembler;
+import org.hibernate.sql.results.graph.basic.BasicResult;
+import org.hibernate.sql.results.graph.basic.BasicResultAssembler;
+import org.hibernate.sql.results.internal.RowProcessingStateStandardImpl;
+import org.hibernate.sql.results.jdbc.internal.JdbcValuesResultSetImpl;
+import org.hibernate.sql.results.jdbc.internal.JdbcValuesSourceProcessingStateStandardImpl;
+import org.hibernate.sql.results.jdbc.spi.JdbcValues;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesSourceProcessingOptions;
+import org.hibernate.type.descriptor.jdbc.JdbcType;
+
+/**
+ * Reads the rows of a query returning scalar values in {@linkplain ColumnBatch batches}
+ * of columns, without assembling the rows, and passes each batch to a consumer. The
+ * integral and floating point values are read from the JDBC {@link java.sql.ResultSet}
+ * as primitive values, and are never boxed.
+ * <p>
+ * Each item of the select list must be a basic value to which no
+ * {@linkplain org.hibernate.type.descriptor.converter.spi.BasicValueConverter converter}
+ * applies, and neither the {@linkplain org.hibernate.query.TupleTransformer tuple transformer}
+ * nor the {@linkplain org.hibernate.query.ResultListTransformer result list transformer}
+ * of the query is applied.
+ *
+ * @see org.hibernate.query.sqm.spi.SqmSelectionQueryImplementor#executeQuery
+ *
+ * @since 7.0
+ */
+@Incubating
+public class ColumnBatchConsumer<R> implements ResultsConsumer<Long, R> {
+	private final int batchSize;
+	private final Consumer<ColumnBatch> batchConsumer;
+
+	/**
+	 * @param batchSize the maximum number of rows of a batch
+	 * @param batchConsumer the consumer of the batches, which must not retain them
+	 */
+	public ColumnBatchConsumer(int batchSize, Consumer<ColumnBatch> batchConsumer) {
+		this.batchSize = batchSize;
+		this.batchConsumer = batchConsumer;
+	}
+
+	/**
+	 * @return the number of rows read
+	 */
+	@Override
+	public Long consume(
+			JdbcValues jdbcValues,
+			SharedSessionContractImplementor session,
+			JdbcValuesSourceProcessingOptions processingOptions,
+			JdbcValuesSourceProcessingStateStandardImpl jdbcValuesSourceProcessingState,
+			RowProcessingStateStandardImpl rowProcessingState,
+			RowReader<R> rowReader) {
+		try {
+			final JdbcValuesMapping valuesMapping = jdbcValues.getValuesMapping();
+			final List<DomainResult<?>> domainResults = valuesMapping.getDomainResults();
+			final int[] valueIndexes = new int[domainResults.size()];
+			final ColumnBatch.ColumnKind[] kinds = new ColumnBatch.ColumnKind[domainResults.size()];
+			for ( int column = 0; column < valueIndexes.length; column++ ) {
+				final DomainResult<?> domainResult = domainResults.get( column );
+				valueIndexes[column] = valueIndex( domainResult );
+				kinds[column] = columnKind( domainResult, valuesMapping.getSqlSelections(), valueIndexes[column] );
+			}
+			final ColumnBatch batch = new ColumnBatch( kinds, batchSize );
+			return jdbcValues instanceof JdbcValuesResultSetImpl resultSetValues
+					? readBatches( resultSetValues, batch, valueIndexes )
+					: readRows( rowProcessingState, batch, valueIndexes );
+		}
+		finally {
+			jdbcValues.finishUp( session );
+		}
+	}
+
+	private long readBatches(JdbcValuesResultSetImpl jdbcValues, ColumnBatch batch, int[] valueIndexes) {
+		long rowCount = 0;
+		int batchRowCount;
+		do {
+			batchRowCount = jdbcValues.readColumnBatch( batch, valueIndexes );
+			if ( batchRowCount > 0 ) {
+				batchConsumer.accept( batch );
+				rowCount += batchRowCount;
+			}
+		}
+		while ( batchRowCount == batch.getCapacity() );
+		return rowCount;
+	}
+
+	private long readRows(RowProcessingStateStandardImpl rowProcessingState, ColumnBatch batch, int[] valueIndexes) {
+		// the values do not come from a ResultSet, and are already boxed
+		long rowCount = 0;
+		int row = 0;
+		batch.clear();
+		while ( rowProcessingState.next() ) {
+			for ( int column = 0; column < valueIndexes.length; column++ ) {
+				final Object value = rowProcessingState.getJdbcValue( valueIndexes[column] );
+				if ( value == null ) {
+					batch.getNulls( column ).set( row );
+				}
+				else {
+					switch ( batch.getColumnKind( column ) ) {
+						case LONG -> batch.getLongs( column )[row] = ( (Number) value ).longValue();
+						case DOUBLE -> batch.getDoubles( column )[row] = ( (Number) value ).doubleValue();
+						case OBJECT -> batch.getObjects( column )[row] = value;
+					}
+				}
+			}
+			rowProcessingState.finishRowProcessing( true );
+			if ( ++row == batch.getCapacity() ) {
+				batch.setRowCount( row );
+				batchConsumer.accept( batch );
+				batch.clear();
+				rowCount += row;
+				row = 0;
+			}
+		}
+		if ( row > 0 ) {
+			batch.setRowCount( row );
+			batchConsumer.accept( batch );
+			rowCount += row;
+		}
+		return rowCount;
+	}
+
+	private static int valueIndex(DomainResult<?> domainResult) {
+		if ( domainResult instanceof BasicResult<?> basicResult ) {
+			final DomainResultAssembler<?> assembler = basicResult.getAssembler();
+			if ( assembler instanceof BasicResultAssembler<?> basicResultAssembler
+					&& basicResultAssembler.getValueConverter() == null ) {
+				return basicResultAssembler.getValuesArrayPosition();
+			}
+		}
+		throw new IllegalArgumentException(
+				"Query result cannot be read in column batches, since it is not a basic value without a converter: "
+						+ domainResult.getResultJavaType().getTypeName()
+		);
+	}
+
+	private static ColumnBatch.ColumnKind columnKind(
+			DomainResult<?> domainResult,
+			List<SqlSelection> sqlSelections,
+			int valueIndex) {
+		final Class<?> javaType = domainResult.getResultJavaType().getJavaTypeClass();
+		for ( SqlSelection sqlSelection : sqlSelections ) {
+			if ( sqlSelection.getValuesArrayPosition() == valueIndex && sqlSelection.getExpressionType() != null ) {
+				final JdbcType jdbcType = sqlSelection.getExpressionType().getSingleJdbcMapping().getJdbcType();
+				if ( jdbcType.isInteger() && ( javaType == Long.class || javaType == Integer.class
+						|| javaType == Short.class || javaType == Byte.class ) ) {
+					return ColumnBatch.ColumnKind.LONG;
+				}
+				else if ( jdbcType.isFloat() && ( javaType == Double.class || javaType == Float.class ) ) {
+					return ColumnBatch.ColumnKind.DOUBLE;
+				}
+				break;
+			}
+		}
+		return ColumnBatch.ColumnKind.OBJECT;
+	}
+
+	@Override
+	public boolean canResultsBeCached() {
+		return false;
+	}
+}
@@ -10,10 +10,12 @@
 import java.util.Locale;
 
 import org.hibernate.HibernateException;
+import org.hibernate.Incubating;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.query.ResultListTransformer;
 import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.sql.results.caching.internal.CachedQueryRows;
 import org.hibernate.sql.results.internal.RowProcessingStateStandardImpl;
 import org.hibernate.sql.results.jdbc.internal.JdbcValuesSourceProcessingStateStandardImpl;
 import org.hibernate.sql.results.jdbc.spi.JdbcValues;
@@ -238,6 +240,46 @@ else if ( uniqueSemantic == UniqueSemantic.ASSERT ) {
 		throw new IllegalStateException( "Should not reach this" );
 	}
 
+	/**
+	 * Whether {@link #consumeRows} builds the same list as {@link #consume}
+	 * would, given the rows which were passed to the row transformer. This
+	 * is not the case when duplicate results are filtered, or rejected.
+	 *
+	 * @see org.hibernate.cfg.CacheSettings#QUERY_CACHE_ROWS
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	public boolean canConsumeRows() {
+		return uniqueSemantic != UniqueSemantic.FILTER
+			&& uniqueSemantic != UniqueSemantic.ASSERT;
+	}
+
+	/**
+	 * Build the result list from rows read from the query cache, without
+	 * going back through the row reader.
+	 *
+	 * @see org.hibernate.cfg.CacheSettings#QUERY_CACHE_ROWS
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	public List<R> consumeRows(CachedQueryRows rows, RowTransformer<R> rowTransformer, QueryOptions queryOptions) {
+		final List<R> results = new ArrayList<>( rows.getRowCount() );
+		for ( int i = 0; i < rows.getRowCount(); i++ ) {
+			results.add( rowTransformer.transformRow( rows.getRow( i ) ) );
+		}
+
+		//noinspection unchecked
+		final ResultListTransformer<R> resultListTransformer =
+				(ResultListTransformer<R>) queryOptions.getResultListTransformer();
+		if ( resultListTransformer != null ) {
+			return resultListTransformer.transformList( results );
+		}
+
+		return results;
+	}
+
 	private static <R> int read(
 			RowProcessingStateStandardImpl rowProcessingState,
 			RowReader<R> rowReader,
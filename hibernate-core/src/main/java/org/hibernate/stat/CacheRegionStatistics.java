@@ -6,6 +6,8 @@
 
 import java.io.Serializable;
 
+import org.hibernate.Incubating;
+
 /**
  * Second-level cache statistics of a specific region.
  *
@@ -71,4 +73,42 @@ public interface CacheRegionStatistics extends Serializable {
 	 * is returned instead.
 	 */
 	long getSizeInMemory();
+
+	/**
+	 * The {@linkplain LatencyHistogram latencies} of reads from the region,
+	 * including misses, or {@code null} if
+	 * {@linkplain Statistics#isLatencyHistogramsEnabled() latency histograms}
+	 * are disabled, or no read was recorded since the last Statistics clearing.
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default LatencyHistogram getReadLatencyHistogram() {
+		return null;
+	}
+
+	/**
+	 * The number of look-ups against the region which were satisfied by the
+	 * {@linkplain org.hibernate.cfg.CacheSettings#NEAR_CACHE_MAX_ENTRIES near cache}
+	 * since the last Statistics clearing. Such look-ups are also counted by
+	 * {@link #getHitCount()} when they hit.
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default long getNearCacheHitCount() {
+		return 0;
+	}
+
+	/**
+	 * The number of look-ups against the region which missed the
+	 * {@linkplain org.hibernate.cfg.CacheSettings#NEAR_CACHE_MAX_ENTRIES near cache}
+	 * and went to the region itself since the last Statistics clearing.
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default long getNearCacheMissCount() {
+		return 0;
+	}
 }
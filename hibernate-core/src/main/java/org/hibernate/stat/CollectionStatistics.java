@@ -6,6 +6,8 @@
 
 import java.io.Serializable;
 
+import org.hibernate.Incubating;
+
 /**
  * Collection-related statistics.
  *
@@ -42,4 +44,17 @@ public interface CollectionStatistics extends CacheableDataStatistics, Serializa
 	 * has been updated
 	 */
 	long getUpdateCount();
+
+	/**
+	 * The {@linkplain LatencyHistogram latencies} of fetches of this collection
+	 * from the database, or {@code null} if
+	 * {@linkplain Statistics#isLatencyHistogramsEnabled() latency histograms}
+	 * are disabled, or no fetch was recorded since the last Statistics clearing.
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default LatencyHistogram getFetchLatencyHistogram() {
+		return null;
+	}
 }
@@ -6,6 +6,8 @@
 
 import java.io.Serializable;
 
+import org.hibernate.Incubating;
+
 /**
  * Entity-related statistics.
  *
@@ -48,4 +50,17 @@ public interface EntityStatistics extends CacheableDataStatistics, Serializable
 	 * has experienced an optimistic lock failure.
 	 */
 	long getOptimisticFailureCount();
+
+	/**
+	 * The {@linkplain LatencyHistogram latencies} of loads of this entity
+	 * from the database, or {@code null} if
+	 * {@linkplain Statistics#isLatencyHistogramsEnabled() latency histograms}
+	 * are disabled, or no load was recorded since the last Statistics clearing.
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default LatencyHistogram getLoadLatencyHistogram() {
+		return null;
+	}
 }
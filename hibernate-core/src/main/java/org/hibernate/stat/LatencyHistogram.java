@@ -0,0 +1,49 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.stat;
+
+import java.io.Serializable;
+
+import org.hibernate.Incubating;
+
+/**
+ * A histogram of the latencies of some operation, recorded when
+ * {@linkplain Statistics#isLatencyHistogramsEnabled() latency histograms}
+ * are enabled. All times are in nanoseconds.
+ * <p>
+ * Latencies are counted in buckets whose width is proportional to their
+ * magnitude, so that a reported percentile is an upper bound which is
+ * within about 6% of the true value, whatever the scale of the latency.
+ *
+ * @see org.hibernate.cfg.StatisticsSettings#STATISTICS_LATENCY_HISTOGRAMS
+ *
+ * @since 7.0
+ */
+@Incubating
+public interface LatencyHistogram extends Serializable {
+	/**
+	 * The number of latencies recorded.
+	 */
+	long getCount();
+
+	/**
+	 * The sum of all latencies recorded, in nanoseconds.
+	 */
+	long getTotalTime();
+
+	/**
+	 * The largest latency recorded, in nanoseconds.
+	 */
+	long getMaxTime();
+
+	/**
+	 * The latency, in nanoseconds, below which the given fraction of all
+	 * recorded latencies fall. For example, {@code getTimeAtQuantile(0.99)}
+	 * is the 99th percentile.
+	 *
+	 * @param quantile a number between 0 and 1
+	 */
+	long getTimeAtQuantile(double quantile);
+}
@@ -6,6 +6,8 @@
 
 import java.io.Serializable;
 
+import org.hibernate.Incubating;
+
 /**
  * Statistics relating to a particular query written in HQL or SQL.
  * <p>
@@ -103,4 +105,33 @@ default long getPlanCompilationTotalMicroseconds() {
 		//For backward compatibility
 		return 0;
 	}
+
+	/**
+	 * The number of times parsing this query with the faster SLL
+	 * prediction mode of the HQL parser failed, and the query had
+	 * to be reparsed using full LL prediction.
+	 *
+	 * @see Statistics#getHqlParserFallbackCount()
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default long getParserFallbackCount() {
+		//For backward compatibility
+		return 0;
+	}
+
+	/**
+	 * The {@linkplain LatencyHistogram latencies} of executions of this query,
+	 * or {@code null} if
+	 * {@linkplain Statistics#isLatencyHistogramsEnabled() latency histograms}
+	 * are disabled, or no execution was recorded since the last Statistics
+	 * clearing.
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default LatencyHistogram getExecutionLatencyHistogram() {
+		return null;
+	}
 }
@@ -7,6 +7,8 @@
 import java.time.Instant;
 import java.util.Map;
 
+import org.hibernate.Incubating;
+
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
@@ -38,6 +40,24 @@ public interface Statistics {
 	 */
 	void setStatisticsEnabled(boolean enabled);
 
+	/**
+	 * Are {@linkplain LatencyHistogram latency histograms} recorded for
+	 * queries, entity loads, collection fetches, and second-level cache
+	 * reads? Always {@code false} if collection of statistics is disabled.
+	 *
+	 * @see org.hibernate.cfg.StatisticsSettings#STATISTICS_LATENCY_HISTOGRAMS
+	 * @see QueryStatistics#getExecutionLatencyHistogram()
+	 * @see EntityStatistics#getLoadLatencyHistogram()
+	 * @see CollectionStatistics#getFetchLatencyHistogram()
+	 * @see CacheRegionStatistics#getReadLatencyHistogram()
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default boolean isLatencyHistogramsEnabled() {
+		return false;
+	}
+
 	/**
 	 * Reset all statistics.
 	 */
@@ -143,6 +163,19 @@ public interface Statistics {
 	 */
 	long getEntityFetchCount();
 
+	/**
+	 * The global number of entities detached from the persistence context
+	 * after being loaded by a row of scrollable or streamed results.
+	 *
+	 * @see org.hibernate.cfg.QuerySettings#SCROLL_DETACH_ENTITIES
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default long getScrollDetachedEntityCount() {
+		return 0;
+	}
+
 	/**
 	 * The global number of entity updates.
 	 */
@@ -393,4 +426,30 @@ public interface Statistics {
 	 * The global number of query plans lookups <em>not</em> found in cache.
 	 */
 	long getQueryPlanCacheMissCount();
+
+	/**
+	 * The global number of query plans evicted from the cache, or not admitted
+	 * to it. Only reported by query plan caches which support it.
+	 *
+	 * @see org.hibernate.cfg.QuerySettings#QUERY_PLAN_CACHE_EVICTION_POLICY
+	 *
+	 * @since 7.0
+	 */
+	default long getQueryPlanCacheEvictionCount() {
+		return 0;
+	}
+
+	/**
+	 * The global number of HQL queries which could not be parsed using the
+	 * faster SLL prediction mode of the HQL parser, and had to be reparsed
+	 * using full LL prediction.
+	 *
+	 * @see QueryStatistics#getParserFallbackCount()
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default long getHqlParserFallbackCount() {
+		return 0;
+	}
 }
@@ -5,11 +5,13 @@
 package org.hibernate.stat.internal;
 
 import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.atomic.LongAdder;
 
 import org.hibernate.cache.spi.ExtendedStatisticsSupport;
 import org.hibernate.cache.spi.Region;
 import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.LatencyHistogram;
 
 /**
  * Second level cache statistics of a specific region
@@ -22,6 +24,9 @@ public class CacheRegionStatisticsImpl implements CacheRegionStatistics, Seriali
 	private final LongAdder hitCount = new LongAdder();
 	private final LongAdder missCount = new LongAdder();
 	private final LongAdder putCount = new LongAdder();
+	private final LongAdder nearCacheHitCount = new LongAdder();
+	private final LongAdder nearCacheMissCount = new LongAdder();
+	private final AtomicReference<LatencyHistogramImpl> readLatencyHistogram = new AtomicReference<>();
 
 	CacheRegionStatisticsImpl(Region region) {
 		this.region = region;
@@ -47,6 +52,21 @@ public long getPutCount() {
 		return putCount.sum();
 	}
 
+	@Override
+	public long getNearCacheHitCount() {
+		return nearCacheHitCount.sum();
+	}
+
+	@Override
+	public long getNearCacheMissCount() {
+		return nearCacheMissCount.sum();
+	}
+
+	@Override
+	public LatencyHistogram getReadLatencyHistogram() {
+		return readLatencyHistogram.get();
+	}
+
 	@Override
 	public long getElementCountInMemory() {
 		if ( region instanceof ExtendedStatisticsSupport ) {
@@ -83,6 +103,18 @@ void incrementPutCount() {
 		putCount.increment();
 	}
 
+	void incrementNearCacheHitCount() {
+		nearCacheHitCount.increment();
+	}
+
+	void incrementNearCacheMissCount() {
+		nearCacheMissCount.increment();
+	}
+
+	void recordReadLatency(long nanos) {
+		LatencyHistogramImpl.record( readLatencyHistogram, nanos );
+	}
+
 	@Override
 	public String toString() {
 		String buf = "CacheRegionStatistics" +
@@ -90,6 +122,8 @@ public String toString() {
 				",hitCount=" + this.hitCount +
 				",missCount=" + this.missCount +
 				",putCount=" + this.putCount +
+				",nearCacheHitCount=" + this.nearCacheHitCount +
+				",nearCacheMissCount=" + this.nearCacheMissCount +
 				",elementCountInMemory=" + this.getElementCountInMemory() +
 				",elementCountOnDisk=" + this.getElementCountOnDisk() +
 				",sizeInMemory=" + this.getSizeInMemory() +
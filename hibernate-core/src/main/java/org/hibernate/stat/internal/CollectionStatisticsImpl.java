@@ -5,10 +5,12 @@
 package org.hibernate.stat.internal;
 
 import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.atomic.LongAdder;
 
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.stat.CollectionStatistics;
+import org.hibernate.stat.LatencyHistogram;
 
 /**
  * Collection related statistics
@@ -23,6 +25,7 @@ public class CollectionStatisticsImpl extends AbstractCacheableDataStatistics im
 	private final LongAdder updateCount = new LongAdder();
 	private final LongAdder removeCount = new LongAdder();
 	private final LongAdder recreateCount = new LongAdder();
+	private final AtomicReference<LatencyHistogramImpl> fetchLatencyHistogram = new AtomicReference<>();
 
 	CollectionStatisticsImpl(CollectionPersister persister) {
 		super(
@@ -54,6 +57,11 @@ public long getUpdateCount() {
 		return updateCount.sum();
 	}
 
+	@Override
+	public LatencyHistogram getFetchLatencyHistogram() {
+		return fetchLatencyHistogram.get();
+	}
+
 	void incrementLoadCount() {
 		loadCount.increment();
 	}
@@ -74,6 +82,10 @@ void incrementRemoveCount() {
 		removeCount.increment();
 	}
 
+	void recordFetchLatency(long nanos) {
+		LatencyHistogramImpl.record( fetchLatencyHistogram, nanos );
+	}
+
 	public String toString() {
 		final StringBuilder buffer = new StringBuilder()
 				.append( "CollectionStatistics" )
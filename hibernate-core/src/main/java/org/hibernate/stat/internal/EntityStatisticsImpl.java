@@ -5,10 +5,12 @@
 package org.hibernate.stat.internal;
 
 import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.atomic.LongAdder;
 
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.stat.EntityStatistics;
+import org.hibernate.stat.LatencyHistogram;
 
 /**
  * Entity related statistics
@@ -24,6 +26,7 @@ public class EntityStatisticsImpl extends AbstractCacheableDataStatistics implem
 	private final LongAdder deleteCount = new LongAdder();
 	private final LongAdder fetchCount = new LongAdder();
 	private final LongAdder optimisticFailureCount = new LongAdder();
+	private final AtomicReference<LatencyHistogramImpl> loadLatencyHistogram = new AtomicReference<>();
 
 	EntityStatisticsImpl(EntityPersister rootEntityDescriptor) {
 		super(
@@ -58,6 +61,11 @@ public long getOptimisticFailureCount() {
 		return optimisticFailureCount.sum();
 	}
 
+	@Override
+	public LatencyHistogram getLoadLatencyHistogram() {
+		return loadLatencyHistogram.get();
+	}
+
 	void incrementLoadCount() {
 		loadCount.increment();
 	}
@@ -82,6 +90,10 @@ void incrementOptimisticFailureCount() {
 		optimisticFailureCount.increment();
 	}
 
+	void recordLoadLatency(long nanos) {
+		LatencyHistogramImpl.record( loadLatencyHistogram, nanos );
+	}
+
 	public String toString() {
 		final StringBuilder buffer = new StringBuilder()
 				.append( "EntityStatistics" )
@@ -0,0 +1,132 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.stat.internal;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.stat.LatencyHistogram;
+
+/**
+ * A lock-free {@link LatencyHistogram} with log-linear buckets, in the
+ * style of an HDR histogram.
+ * <p>
+ * Values below {@value #SUB_BUCKETS} nanoseconds each have a bucket of their
+ * own. Above that, each power of two is divided into {@value #SUB_BUCKETS}
+ * buckets of equal width. Latencies longer than about 18 minutes all land in
+ * the last bucket.
+ *
+ * @see org.hibernate.cfg.StatisticsSettings#STATISTICS_LATENCY_HISTOGRAMS
+ */
+public class LatencyHistogramImpl implements LatencyHistogram {
+	private static final int SUB_BUCKET_BITS = 4;
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+	private static final int MAX_VALUE_BITS = 40;
+	private static final long MAX_VALUE = ( 1L << MAX_VALUE_BITS ) - 1;
+	private static final int BUCKETS = ( MAX_VALUE_BITS - SUB_BUCKET_BITS + 1 ) * SUB_BUCKETS;
+
+	private final AtomicLongArray counts = new AtomicLongArray( BUCKETS );
+	private final LongAdder count = new LongAdder();
+	private final LongAdder totalTime = new LongAdder();
+	private final AtomicLong maxTime = new AtomicLong();
+
+	/**
+	 * Record a latency.
+	 *
+	 * @param nanos the latency in nanoseconds
+	 */
+	public void record(long nanos) {
+		final long value = Math.max( nanos, 0 );
+		counts.incrementAndGet( bucketIndex( Math.min( value, MAX_VALUE ) ) );
+		count.increment();
+		totalTime.add( value );
+		for ( long old = maxTime.get(); value > old && !maxTime.compareAndSet( old, value ); old = maxTime.get() ) {}
+	}
+
+	/**
+	 * Record a latency in the histogram held by the given reference,
+	 * creating the histogram if necessary.
+	 */
+	static void record(AtomicReference<LatencyHistogramImpl> holder, long nanos) {
+		LatencyHistogramImpl histogram = holder.get();
+		if ( histogram == null ) {
+			holder.compareAndSet( null, new LatencyHistogramImpl() );
+			histogram = holder.get();
+		}
+		histogram.record( nanos );
+	}
+
+	@Override
+	public long getCount() {
+		return count.sum();
+	}
+
+	@Override
+	public long getTotalTime() {
+		return totalTime.sum();
+	}
+
+	@Override
+	public long getMaxTime() {
+		return maxTime.get();
+	}
+
+	@Override
+	public long getTimeAtQuantile(double quantile) {
+		if ( quantile < 0 || quantile > 1 ) {
+			throw new IllegalArgumentException( "Quantile must be between 0 and 1: " + quantile );
+		}
+		long total = 0;
+		for ( int i = 0; i < BUCKETS; i++ ) {
+			total += counts.get( i );
+		}
+		if ( total == 0 ) {
+			return 0;
+		}
+		final long rank = Math.max( 1, (long) Math.ceil( quantile * total ) );
+		final long max = maxTime.get();
+		long seen = 0;
+		for ( int i = 0; i < BUCKETS; i++ ) {
+			seen += counts.get( i );
+			if ( seen >= rank ) {
+				return Math.min( bucketUpperBound( i ), max );
+			}
+		}
+		return max;
+	}
+
+	static int bucketIndex(long value) {
+		if ( value < SUB_BUCKETS ) {
+			return (int) value;
+		}
+		else {
+			final int shift = Long.SIZE - Long.numberOfLeadingZeros( value ) - 1 - SUB_BUCKET_BITS;
+			return ( shift + 1 ) * SUB_BUCKETS + (int) ( ( value >>> shift ) - SUB_BUCKETS );
+		}
+	}
+
+	static long bucketUpperBound(int index) {
+		if ( index < SUB_BUCKETS ) {
+			return index;
+		}
+		else {
+			final int shift = index / SUB_BUCKETS - 1;
+			final int subBucket = index % SUB_BUCKETS;
+			return ( (long) ( SUB_BUCKETS + subBucket + 1 ) << shift ) - 1;
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "LatencyHistogram"
+				+ "[count=" + getCount()
+				+ ",p50=" + getTimeAtQuantile( 0.5 )
+				+ ",p99=" + getTimeAtQuantile( 0.99 )
+				+ ",max=" + getMaxTime()
+				+ ']';
+	}
+}
@@ -5,12 +5,14 @@
 package org.hibernate.stat.internal;
 
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import org.hibernate.query.Query;
+import org.hibernate.stat.LatencyHistogram;
 import org.hibernate.stat.QueryStatistics;
 
 /**
@@ -35,6 +37,9 @@ public class QueryStatisticsImpl implements QueryStatistics {
 	private final LongAdder planCacheHitCount = new LongAdder();
 	private final LongAdder planCacheMissCount = new LongAdder();
 	private final AtomicLong planCompilationTotalMicroseconds = new AtomicLong();
+	private final LongAdder parserFallbackCount = new LongAdder();
+
+	private final AtomicReference<LatencyHistogramImpl> executionLatencyHistogram = new AtomicReference<>();
 
 
 	private final Lock readLock;
@@ -131,6 +136,11 @@ public long getExecutionTotalTime() {
 		return totalExecutionTime.get();
 	}
 
+	@Override
+	public LatencyHistogram getExecutionLatencyHistogram() {
+		return executionLatencyHistogram.get();
+	}
+
 	/**
 	 * Query plan successfully fetched from the cache
 	 */
@@ -152,6 +162,14 @@ public long getPlanCompilationTotalMicroseconds() {
 		return planCompilationTotalMicroseconds.get();
 	}
 
+	/**
+	 * Query reparsed using LL prediction after SLL prediction failed
+	 */
+	@Override
+	public long getParserFallbackCount() {
+		return parserFallbackCount.sum();
+	}
+
 	/**
 	 * add statistics report of a DB query
 	 *
@@ -175,6 +193,10 @@ public void executed(long rows, long time) {
 		}
 	}
 
+	void recordExecutionLatency(long nanos) {
+		LatencyHistogramImpl.record( executionLatencyHistogram, nanos );
+	}
+
 	/**
 	 * add plan statistics report of a DB query
 	 *
@@ -205,6 +227,10 @@ void incrementPlanCacheMissCount() {
 		planCacheMissCount.increment();
 	}
 
+	void incrementParserFallbackCount() {
+		parserFallbackCount.increment();
+	}
+
 	public String toString() {
 		return "QueryStatistics"
 				+ "[query=" + query
@@ -213,6 +239,7 @@ public String toString() {
 				+ ",cachePutCount=" + this.cachePutCount
 				+ ",planCacheHitCount=" + this.planCacheHitCount
 				+ ",planCacheMissCount=" + this.planCacheMissCount
+				+ ",parserFallbackCount=" + this.parserFallbackCount
 				+ ",executionCount=" + this.executionCount
 				+ ",executionRowCount=" + this.executionRowCount
 				+ ",executionAvgTime=" + this.getExecutionAvgTime()
@@ -52,6 +52,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 
 	private final boolean secondLevelCacheEnabled;
 	private final boolean queryCacheEnabled;
+	private final boolean latencyHistogramsEnabled;
 
 	private volatile boolean isStatisticsEnabled;
 	private volatile Instant startTime;
@@ -69,6 +70,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 	private final LongAdder entityInsertCount = new LongAdder();
 	private final LongAdder entityDeleteCount = new LongAdder();
 	private final LongAdder entityFetchCount = new LongAdder();
+	private final LongAdder scrollDetachedEntityCount = new LongAdder();
 	private final LongAdder collectionLoadCount = new LongAdder();
 	private final LongAdder collectionUpdateCount = new LongAdder();
 	private final LongAdder collectionRemoveCount = new LongAdder();
@@ -96,6 +98,9 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 
 	private final LongAdder queryPlanCacheHitCount = new LongAdder();
 	private final LongAdder queryPlanCacheMissCount = new LongAdder();
+	private final LongAdder queryPlanCacheEvictionCount = new LongAdder();
+
+	private final LongAdder hqlParserFallbackCount = new LongAdder();
 
 	private final LongAdder updateTimestampsCacheHitCount = new LongAdder();
 	private final LongAdder updateTimestampsCacheMissCount = new LongAdder();
@@ -137,6 +142,7 @@ public StatisticsImpl(SessionFactoryImplementor sessionFactory) {
 		cache = sessionFactory.getCache();
 		secondLevelCacheEnabled = sessionFactoryOptions.isSecondLevelCacheEnabled();
 		queryCacheEnabled = sessionFactoryOptions.isQueryCacheEnabled();
+		latencyHistogramsEnabled = sessionFactoryOptions.isStatisticsLatencyHistogramsEnabled();
 
 		final List<String> entityNames = new ArrayList<>();
 		metamodel.forEachEntityDescriptor( (entityDescriptor) -> entityNames.add( entityDescriptor.getEntityName() ) );
@@ -176,6 +182,7 @@ public void clear() {
 		entityUpdateCount.reset();
 		entityLoadCount.reset();
 		entityFetchCount.reset();
+		scrollDetachedEntityCount.reset();
 
 		collectionRemoveCount.reset();
 		collectionUpdateCount.reset();
@@ -207,6 +214,9 @@ public void clear() {
 
 		queryPlanCacheHitCount.reset();
 		queryPlanCacheMissCount.reset();
+		queryPlanCacheEvictionCount.reset();
+
+		hqlParserFallbackCount.reset();
 
 		resetStart();
 	}
@@ -235,6 +245,11 @@ public void setStatisticsEnabled(boolean enabled) {
 		isStatisticsEnabled = enabled;
 	}
 
+	@Override
+	public boolean isLatencyHistogramsEnabled() {
+		return isStatisticsEnabled && latencyHistogramsEnabled;
+	}
+
 
 
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
@@ -265,6 +280,16 @@ public long getEntityFetchCount() {
 		return entityFetchCount.sum();
 	}
 
+	@Override
+	public long getScrollDetachedEntityCount() {
+		return scrollDetachedEntityCount.sum();
+	}
+
+	@Override
+	public void scrollEntitiesDetached(int count) {
+		scrollDetachedEntityCount.add( count );
+	}
+
 	@Override
 	public long getEntityDeleteCount() {
 		return entityDeleteCount.sum();
@@ -297,6 +322,11 @@ public void fetchEntity(String entityName) {
 		getEntityStatistics( entityName ).incrementFetchCount();
 	}
 
+	@Override
+	public void entityLoadLatency(String entityName, long nanos) {
+		getEntityStatistics( entityName ).recordLoadLatency( nanos );
+	}
+
 	@Override
 	public void updateEntity(String entityName) {
 		entityUpdateCount.increment();
@@ -398,6 +428,11 @@ public void fetchCollection(String role) {
 		getCollectionStatistics( role ).incrementFetchCount();
 	}
 
+	@Override
+	public void collectionFetchLatency(String role, long nanos) {
+		getCollectionStatistics( role ).recordFetchLatency( nanos );
+	}
+
 	@Override
 	public void updateCollection(String role) {
 		collectionUpdateCount.increment();
@@ -554,6 +589,21 @@ public String[] getSecondLevelCacheRegionNames() {
 		return cache.getCacheRegionNames().toArray( new String[0] );
 	}
 
+	@Override
+	public void cacheReadLatency(String regionName, long nanos) {
+		getDomainDataRegionStatistics( regionName ).recordReadLatency( nanos );
+	}
+
+	@Override
+	public void nearCacheHit(String regionName) {
+		getDomainDataRegionStatistics( regionName ).incrementNearCacheHitCount();
+	}
+
+	@Override
+	public void nearCacheMiss(String regionName) {
+		getDomainDataRegionStatistics( regionName ).incrementNearCacheMissCount();
+	}
+
 	@Override
 	public CacheRegionStatisticsImpl getDomainDataRegionStatistics(String regionName) {
 		return NullnessUtil.castNonNull(
@@ -722,6 +772,13 @@ public void queryExecuted(String hql, int rows, long time) {
 		}
 	}
 
+	@Override
+	public void queryExecutionLatency(String hql, long nanos) {
+		if ( hql != null ) {
+			getQueryStatistics( hql ).recordExecutionLatency( nanos );
+		}
+	}
+
 	@Override
 	public void queryCacheHit(String hql, String regionName) {
 		LOG.tracef( "Statistics#queryCacheHit( `%s`, `%s` )", hql, regionName );
@@ -771,6 +828,11 @@ public long getQueryPlanCacheMissCount() {
 		return queryPlanCacheMissCount.sum();
 	}
 
+	@Override
+	public long getQueryPlanCacheEvictionCount() {
+		return queryPlanCacheEvictionCount.sum();
+	}
+
 	@Override
 	public void queryCompiled(String hql, long microseconds) {
 		queryPlanCacheMissCount.increment();
@@ -798,6 +860,25 @@ public void queryPlanCacheMiss(String query) {
 		}
 	}
 
+	@Override
+	public void queryPlanCacheEviction(String query) {
+		queryPlanCacheEvictionCount.increment();
+	}
+
+	@Override
+	public long getHqlParserFallbackCount() {
+		return hqlParserFallbackCount.sum();
+	}
+
+	@Override
+	public void hqlParserFallback(String hql) {
+		hqlParserFallbackCount.increment();
+
+		if ( hql != null ) {
+			getQueryStatistics( hql ).incrementParserFallbackCount();
+		}
+	}
+
 	private CacheRegionStatisticsImpl getQueryRegionStats(String regionName) {
 		return NullnessUtil.castNonNull(
 					l2CacheStatsMap.getOrCompute(
@@ -952,6 +1033,7 @@ public String toString() {
 				",entities inserted=" + entityInsertCount +
 				",entities deleted=" + entityDeleteCount +
 				",entities fetched=" + entityFetchCount +
+				",entities detached by scroll=" + scrollDetachedEntityCount +
 				",collections loaded=" + collectionLoadCount +
 				",collections updated=" + collectionUpdateCount +
 				",collections removed=" + collectionRemoveCount +
@@ -972,6 +1054,8 @@ public String toString() {
 				",max query time=" + queryExecutionMaxTime +
 				",query plan cache hits=" + queryPlanCacheHitCount +
 				",query plan cache misses=" + queryPlanCacheMissCount +
+				",query plan cache evictions=" + queryPlanCacheEvictionCount +
+				",HQL parser fallbacks=" + hqlParserFallbackCount +
 				']';
 	}
 
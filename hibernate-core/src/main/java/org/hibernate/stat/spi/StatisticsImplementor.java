@@ -4,6 +4,7 @@
  */
 package org.hibernate.stat.spi;
 
+import org.hibernate.Incubating;
 import org.hibernate.metamodel.model.domain.NavigableRole;
 import org.hibernate.service.Service;
 import org.hibernate.stat.Statistics;
@@ -267,6 +268,32 @@ default void queryPlanCacheMiss(String query) {
 		//For backward compatibility
 	}
 
+	/**
+	 * Callback indicating that an entry was evicted from the query plan cache,
+	 * or was not admitted to it.
+	 *
+	 * @param query The query
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default void queryPlanCacheEviction(String query) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating that entities loaded by a row of scrollable or
+	 * streamed results were detached from the persistence context.
+	 *
+	 * @param count The number of entities detached
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default void scrollEntitiesDetached(int count) {
+		//For backward compatibility
+	}
+
 	/**
 	 * Callback indicating compilation of a sql/hql query
 	 *
@@ -277,6 +304,105 @@ default void queryCompiled(String hql, long microseconds) {
 		//For backward compatibility
 	}
 
+	/**
+	 * Callback indicating that an HQL query could not be parsed using SLL
+	 * prediction, and was reparsed using full LL prediction.
+	 *
+	 * @param hql The query
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default void hqlParserFallback(String hql) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating the latency of an execution of a query, when
+	 * {@linkplain #isLatencyHistogramsEnabled() latency histograms} are
+	 * enabled.
+	 *
+	 * @param hql The query
+	 * @param nanos The execution time in nanoseconds
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default void queryExecutionLatency(String hql, long nanos) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating the latency of a load of an entity from the
+	 * database, when {@linkplain #isLatencyHistogramsEnabled() latency
+	 * histograms} are enabled.
+	 *
+	 * @param entityName The name of the entity
+	 * @param nanos The load time in nanoseconds
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default void entityLoadLatency(String entityName, long nanos) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating the latency of a fetch of a collection from the
+	 * database, when {@linkplain #isLatencyHistogramsEnabled() latency
+	 * histograms} are enabled.
+	 *
+	 * @param role The collection role
+	 * @param nanos The fetch time in nanoseconds
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default void collectionFetchLatency(String role, long nanos) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating the latency of a read from a second-level cache
+	 * region, when {@linkplain #isLatencyHistogramsEnabled() latency
+	 * histograms} are enabled.
+	 *
+	 * @param regionName The name of the cache region
+	 * @param nanos The read time in nanoseconds
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default void cacheReadLatency(String regionName, long nanos) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating a look-up against a second-level cache region which
+	 * was satisfied by its near cache.
+	 *
+	 * @param regionName The name of the cache region
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default void nearCacheHit(String regionName) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating a look-up against a second-level cache region which
+	 * missed its near cache.
+	 *
+	 * @param regionName The name of the cache region
+	 *
+	 * @since 7.0
+	 */
+	@Incubating
+	default void nearCacheMiss(String regionName) {
+		//For backward compatibility
+	}
+
 	/**
 	 * Register the execution of a slow SQL query.
 	 */
@@ -0,0 +1,56 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.internal.util.collections;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link BoundedTinyLfuMap}.
+ */
+public class BoundedTinyLfuMapTest {
+
+	@Test
+	public void testQueueStaysBoundedWhenKeysAreRemovedAndAddedAgain() {
+		final BoundedTinyLfuMap<Integer, String> map = new BoundedTinyLfuMap<>( 100 );
+		for ( int i = 0; i < 100_000; i++ ) {
+			final int key = i % 10;
+			map.remove( key );
+			map.put( key, "value " + i );
+			map.remove( key, "no such value" );
+		}
+		assertThat( map ).hasSize( 10 );
+		assertThat( map.getInsertionQueueSize() ).isLessThanOrEqualTo( 2 * 10 + 17 );
+
+		// the entries are all still tracked once the map fills up
+		for ( int i = 10; i < 100; i++ ) {
+			map.put( i, "value " + i );
+		}
+		assertThat( map ).hasSize( 100 );
+		assertThat( map.getInsertionQueueSize() ).isLessThanOrEqualTo( 2 * 100 + 17 );
+	}
+
+	@Test
+	public void testQueueStaysBoundedWhenCandidatesAreRejected() {
+		final BoundedTinyLfuMap<String, String> map = new BoundedTinyLfuMap<>( 8 );
+		for ( int i = 0; i < 8; i++ ) {
+			final String key = "hot " + i;
+			map.put( key, key );
+			for ( int j = 0; j < 10; j++ ) {
+				map.get( key );
+			}
+		}
+		// keys used only once are mostly not admitted, and leave
+		// the node of the rejected candidate behind
+		for ( int i = 0; i < 100_000; i++ ) {
+			map.get( "hot " + i % 8 );
+			map.computeIfAbsent( "cold " + i, key -> key );
+		}
+		assertThat( map ).hasSize( 8 );
+		// the candidate is counted when the queue is compacted
+		assertThat( map.getInsertionQueueSize() ).isLessThanOrEqualTo( 2 * 9 + 17 );
+	}
+}
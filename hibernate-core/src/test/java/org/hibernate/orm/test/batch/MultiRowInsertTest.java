@@ -0,0 +1,230 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.batch;
+
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.exception.ConstraintViolationException;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.hibernate.testing.util.ExceptionUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.DiscriminatorValue;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Inheritance;
+import jakarta.persistence.InheritanceType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@value AvailableSettings#MULTI_ROW_INSERTS}.
+ */
+@DomainModel(
+		annotatedClasses = {
+				MultiRowInsertTest.Person.class,
+				MultiRowInsertTest.Animal.class,
+				MultiRowInsertTest.Dog.class,
+				MultiRowInsertTest.Vehicle.class,
+				MultiRowInsertTest.Car.class
+		}
+)
+@SessionFactory(useCollectingStatementInspector = true)
+@ServiceRegistry(
+		settings = {
+				@Setting(name = AvailableSettings.STATEMENT_BATCH_SIZE, value = "10"),
+				@Setting(name = AvailableSettings.MULTI_ROW_INSERTS, value = "true")
+		}
+)
+@RequiresDialect(H2Dialect.class)
+public class MultiRowInsertTest {
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testMultiRowInsert(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 25; i++ ) {
+				session.persist( new Person( i, i % 2 == 0 ? "person " + i : null ) );
+			}
+		} );
+
+		// two statements of ten rows, and one of five
+		final List<String> sqlQueries = statementInspector.getSqlQueries();
+		assertThat( sqlQueries ).hasSize( 3 );
+		assertThat( sqlQueries.get( 0 ).split( "\\),\\(" ) ).hasSize( 10 );
+		assertThat( sqlQueries.get( 1 ).split( "\\),\\(" ) ).hasSize( 10 );
+		assertThat( sqlQueries.get( 2 ).split( "\\),\\(" ) ).hasSize( 5 );
+
+		scope.inTransaction( session -> {
+			final List<Person> people =
+					session.createSelectionQuery( "from Person order by id", Person.class ).list();
+			assertThat( people ).hasSize( 25 );
+			assertThat( people.get( 4 ).name ).isEqualTo( "person 4" );
+			assertThat( people.get( 5 ).name ).isNull();
+		} );
+	}
+
+	@Test
+	public void testMultiRowInsertJoinedInheritance(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 12; i++ ) {
+				session.persist( new Dog( i, "dog " + i, "breed " + i ) );
+			}
+		} );
+
+		// one statement per table, of ten rows, then of two
+		assertThat( statementInspector.getSqlQueries() ).hasSize( 4 );
+
+		scope.inTransaction( session -> {
+			final Dog dog = session.find( Dog.class, 11 );
+			assertThat( dog.name ).isEqualTo( "dog 11" );
+			assertThat( dog.breed ).isEqualTo( "breed 11" );
+			assertThat( session.createSelectionQuery( "select count(*) from Dog", Long.class ).getSingleResult() )
+					.isEqualTo( 12L );
+		} );
+	}
+
+	@Test
+	public void testFailedMultiRowInsertAbortsBatch(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.persist( new Dog( 5, "dog 5", "breed 5" ) ) );
+
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+		assertThatThrownBy( () -> scope.inTransaction( session -> {
+			for ( int i = 0; i < 12; i++ ) {
+				session.persist( new Dog( i, "dog " + i, "breed " + i ) );
+			}
+		} ) ).satisfies( e -> assertThat( ExceptionUtil.findCause( e, ConstraintViolationException.class ) )
+				.isNotNull() );
+		// the rows of the subclass table are not written
+		assertThat( statementInspector.getSqlQueries() ).noneMatch( sql -> sql.startsWith( "insert into Dog" ) );
+
+		// the failed batch does not affect the next one
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 12; i++ ) {
+				if ( i != 5 ) {
+					session.persist( new Dog( i, "dog " + i, "breed " + i ) );
+				}
+			}
+		} );
+		scope.inTransaction( session -> assertThat(
+				session.createSelectionQuery( "select count(*) from Dog", Long.class ).getSingleResult()
+		).isEqualTo( 12L ) );
+	}
+
+	@Test
+	public void testMultiRowInsertWithLiteral(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 12; i++ ) {
+				session.persist( new Car( i, "car? " + i ) );
+			}
+		} );
+
+		// the discriminator value is written as a literal in every row
+		final List<String> sqlQueries = statementInspector.getSqlQueries();
+		assertThat( sqlQueries ).hasSize( 2 );
+		assertThat( sqlQueries.get( 0 ) ).contains( "'it''s a car?'" );
+		assertThat( sqlQueries.get( 0 ).split( "\\),\\(" ) ).hasSize( 10 );
+		assertThat( sqlQueries.get( 1 ).split( "\\),\\(" ) ).hasSize( 2 );
+
+		scope.inTransaction( session -> {
+			final List<Vehicle> vehicles =
+					session.createSelectionQuery( "from Vehicle order by id", Vehicle.class ).list();
+			assertThat( vehicles ).hasSize( 12 ).allMatch( vehicle -> vehicle instanceof Car );
+			assertThat( vehicles.get( 11 ).name ).isEqualTo( "car? 11" );
+		} );
+	}
+
+	@Entity(name = "Person")
+	public static class Person {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Person() {
+		}
+
+		public Person(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Animal")
+	@Inheritance(strategy = InheritanceType.JOINED)
+	public static class Animal {
+		@Id
+		Integer id;
+		String name;
+
+		public Animal() {
+		}
+
+		public Animal(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Dog")
+	public static class Dog extends Animal {
+		String breed;
+
+		public Dog() {
+		}
+
+		public Dog(Integer id, String name, String breed) {
+			super( id, name );
+			this.breed = breed;
+		}
+	}
+
+	@Entity(name = "Vehicle")
+	public static class Vehicle {
+		@Id
+		Integer id;
+		String name;
+
+		public Vehicle() {
+		}
+
+		public Vehicle(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Car")
+	@DiscriminatorValue("it's a car?")
+	public static class Car extends Vehicle {
+		public Car() {
+		}
+
+		public Car(Integer id, String name) {
+			super( id, name );
+		}
+	}
+}
@@ -0,0 +1,117 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.batchfetch;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.dialect.H2Dialect;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.hibernate.cfg.FetchSettings.BATCH_FETCH_ADAPTIVE;
+import static org.hibernate.cfg.FetchSettings.BATCH_FETCH_ADAPTIVE_MAX_SIZE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@value org.hibernate.cfg.FetchSettings#BATCH_FETCH_ADAPTIVE}.
+ */
+@DomainModel(annotatedClasses = AdaptiveBatchFetchTest.Customer.class)
+@ServiceRegistry(settings = {
+		@Setting(name = BATCH_FETCH_ADAPTIVE, value = "true"),
+		@Setting(name = BATCH_FETCH_ADAPTIVE_MAX_SIZE, value = "32")
+})
+@SessionFactory(useCollectingStatementInspector = true)
+@RequiresDialect(H2Dialect.class)
+public class AdaptiveBatchFetchTest {
+	private static final int COUNT = 60;
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < COUNT; i++ ) {
+				final Customer customer = new Customer( i, "customer " + i );
+				customer.phones.add( "555-" + i );
+				session.persist( customer );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testEntityBatchSizeGrows(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			final List<Customer> customers = new ArrayList<>();
+			for ( int i = 0; i < COUNT; i++ ) {
+				customers.add( session.getReference( Customer.class, i ) );
+			}
+			statementInspector.clear();
+			for ( int i = 0; i < COUNT; i++ ) {
+				assertThat( customers.get( i ).getName() ).isEqualTo( "customer " + i );
+			}
+			// a fixed batch size of 2 would need 30 queries
+			assertThat( statementInspector.getSqlQueries().size() ).isLessThan( COUNT / 4 );
+		} );
+	}
+
+	@Test
+	public void testCollectionBatchSizeGrows(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			final List<Customer> customers =
+					session.createSelectionQuery( "from Customer order by id", Customer.class ).list();
+			statementInspector.clear();
+			for ( int i = 0; i < COUNT; i++ ) {
+				final Customer customer = customers.get( i );
+				Hibernate.initialize( customer.phones );
+				assertThat( customer.phones ).containsExactly( "555-" + i );
+			}
+			assertThat( statementInspector.getSqlQueries().size() ).isLessThan( COUNT / 4 );
+		} );
+	}
+
+	@Entity(name = "Customer")
+	@BatchSize(size = 2)
+	public static class Customer {
+		@Id
+		Integer id;
+		String name;
+		@ElementCollection
+		@BatchSize(size = 2)
+		List<String> phones = new ArrayList<>();
+
+		public Customer() {
+		}
+
+		public Customer(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+}
@@ -0,0 +1,168 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.batchfetch;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.hibernate.JDBCException;
+import org.hibernate.Session;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.OrderColumn;
+
+import static org.hibernate.cfg.FetchSettings.SUBSELECT_FETCH_PARALLELISM;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@value org.hibernate.cfg.FetchSettings#SUBSELECT_FETCH_PARALLELISM}.
+ */
+@DomainModel(annotatedClasses = ParallelSubselectFetchTest.Author.class)
+@ServiceRegistry(settings = @Setting(name = SUBSELECT_FETCH_PARALLELISM, value = "2"))
+@SessionFactory(useCollectingStatementInspector = true)
+public class ParallelSubselectFetchTest {
+	private static final int COUNT = 10;
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < COUNT; i++ ) {
+				final Author author = new Author( i );
+				author.books.add( "book " + i );
+				author.awards.add( "award " + i );
+				author.awards.add( "prize " + i );
+				author.aliases.add( "alias " + i );
+				session.persist( author );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testSiblingCollectionsFetchedTogether(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		// outside a transaction
+		scope.inSession( session -> {
+			final List<Author> authors =
+					session.createSelectionQuery( "from Author order by id", Author.class ).list();
+			statementInspector.clear();
+
+			Hibernate.initialize( authors.get( 0 ).books );
+			assertThat( statementInspector.getSqlQueries() ).hasSize( 3 );
+			for ( Author author : authors ) {
+				assertThat( Hibernate.isInitialized( author.books ) ).isTrue();
+				assertThat( Hibernate.isInitialized( author.awards ) ).isTrue();
+				assertThat( Hibernate.isInitialized( author.aliases ) ).isTrue();
+			}
+
+			for ( int i = 0; i < COUNT; i++ ) {
+				final Author author = authors.get( i );
+				assertThat( author.books ).containsExactly( "book " + i );
+				assertThat( author.awards ).containsExactly( "award " + i, "prize " + i );
+				assertThat( author.aliases ).containsExactly( "alias " + i );
+			}
+			assertThat( statementInspector.getSqlQueries() ).hasSize( 3 );
+		} );
+	}
+
+	@Test
+	public void testSequentialInTransaction(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			// other connections would not share the isolation of the transaction
+			session.setDefaultReadOnly( true );
+			final List<Author> authors =
+					session.createSelectionQuery( "from Author order by id", Author.class ).list();
+			Hibernate.initialize( authors.get( 0 ).books );
+			assertThat( Hibernate.isInitialized( authors.get( 0 ).books ) ).isTrue();
+			assertThat( Hibernate.isInitialized( authors.get( 0 ).awards ) ).isFalse();
+			assertThat( Hibernate.isInitialized( authors.get( 0 ).aliases ) ).isFalse();
+		} );
+	}
+
+	@Test
+	public void testSequentialWithPendingChanges(SessionFactoryScope scope) {
+		scope.inSession( session -> {
+			final List<Author> authors =
+					session.createSelectionQuery( "from Author order by id", Author.class ).list();
+			session.persist( new Author( COUNT ) );
+			Hibernate.initialize( authors.get( 0 ).books );
+			assertThat( Hibernate.isInitialized( authors.get( 0 ).books ) ).isTrue();
+			assertThat( Hibernate.isInitialized( authors.get( 0 ).awards ) ).isFalse();
+			assertThat( Hibernate.isInitialized( authors.get( 0 ).aliases ) ).isFalse();
+		} );
+	}
+
+	@Test
+	public void testFailedFetchLeavesCollectionsUninitialized(SessionFactoryScope scope) {
+		final boolean[] failing = { true };
+		try ( Session session = scope.getSessionFactory().withOptions()
+				.statementInspector( sql -> failing[0] && sql.contains( "Author_books" ) ? "select * from Missing" : sql )
+				.openSession() ) {
+			final List<Author> authors =
+					session.createSelectionQuery( "from Author order by id", Author.class ).list();
+
+			// the background fetches of the sibling collections are cancelled
+			assertThatThrownBy( () -> Hibernate.initialize( authors.get( 0 ).books ) )
+					.isInstanceOf( JDBCException.class );
+			for ( Author author : authors ) {
+				assertThat( Hibernate.isInitialized( author.books ) ).isFalse();
+				assertThat( Hibernate.isInitialized( author.awards ) ).isFalse();
+				assertThat( Hibernate.isInitialized( author.aliases ) ).isFalse();
+			}
+
+			failing[0] = false;
+			Hibernate.initialize( authors.get( 0 ).awards );
+			for ( int i = 0; i < COUNT; i++ ) {
+				final Author author = authors.get( i );
+				assertThat( author.books ).containsExactly( "book " + i );
+				assertThat( author.awards ).containsExactly( "award " + i, "prize " + i );
+				assertThat( author.aliases ).containsExactly( "alias " + i );
+			}
+		}
+	}
+
+	@Entity(name = "Author")
+	public static class Author {
+		@Id
+		Integer id;
+		@ElementCollection
+		@Fetch(FetchMode.SUBSELECT)
+		List<String> books = new ArrayList<>();
+		@ElementCollection
+		@OrderColumn
+		@Fetch(FetchMode.SUBSELECT)
+		List<String> awards = new ArrayList<>();
+		@ElementCollection
+		@Fetch(FetchMode.SUBSELECT)
+		List<String> aliases = new ArrayList<>();
+
+		public Author() {
+		}
+
+		public Author(Integer id) {
+			this.id = id;
+		}
+	}
+}
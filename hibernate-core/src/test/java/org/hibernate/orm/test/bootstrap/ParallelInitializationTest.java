@@ -0,0 +1,193 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.bootstrap;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Inheritance;
+import jakarta.persistence.InheritanceType;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import static org.hibernate.cfg.MappingSettings.PARALLEL_INITIALIZATION;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@value org.hibernate.cfg.MappingSettings#PARALLEL_INITIALIZATION}.
+ */
+@DomainModel(annotatedClasses = {
+		ParallelInitializationTest.Party.class,
+		ParallelInitializationTest.Person.class,
+		ParallelInitializationTest.Employee.class,
+		ParallelInitializationTest.Organization.class,
+		ParallelInitializationTest.Vehicle.class,
+		ParallelInitializationTest.Car.class
+})
+@ServiceRegistry(settings = @Setting(name = PARALLEL_INITIALIZATION, value = "true"))
+@SessionFactory
+public class ParallelInitializationTest {
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testPersistersAreInitialized(SessionFactoryScope scope) {
+		for ( Class<?> entityClass : List.of( Party.class, Person.class, Employee.class, Organization.class, Vehicle.class, Car.class ) ) {
+			final EntityPersister persister = scope.getSessionFactory().getMappingMetamodel()
+					.getEntityDescriptor( entityClass );
+			assertThat( persister.getInsertCoordinator() ).isNotNull();
+			assertThat( persister.getDeleteCoordinator() ).isNotNull();
+		}
+		assertThat( scope.getSessionFactory().getMappingMetamodel()
+				.getEntityDescriptor( Employee.class ).getSuperMappingType().getEntityName() )
+				.isEqualTo( Person.class.getSimpleName() );
+	}
+
+	@Test
+	public void testInheritanceHierarchiesAndEmbeddables(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Organization organization = new Organization( 1L, "Hibernate", new Address( "Main Street", "Paris" ) );
+			session.persist( organization );
+			final Employee employee = new Employee( 2L, "Gavin", new Address( "Side Street", "Atlanta" ), organization );
+			organization.employees.add( employee );
+			session.persist( employee );
+			session.persist( new Car( 3L, "Wheeler", 4 ) );
+		} );
+
+		scope.inTransaction( session -> {
+			final Employee employee = session.find( Employee.class, 2L );
+			assertThat( employee.name ).isEqualTo( "Gavin" );
+			assertThat( employee.address.city ).isEqualTo( "Atlanta" );
+			assertThat( employee.employer.address.city ).isEqualTo( "Paris" );
+			assertThat( employee.employer.employees ).containsExactly( employee );
+
+			assertThat( session.createSelectionQuery( "from Party", Party.class ).getResultList() ).hasSize( 2 );
+			assertThat( session.createSelectionQuery( "from Vehicle", Vehicle.class ).getSingleResult() )
+					.isInstanceOf( Car.class );
+
+			employee.address.city = "Antwerp";
+		} );
+
+		scope.inTransaction( session -> {
+			assertThat( session.find( Person.class, 2L ).address.city ).isEqualTo( "Antwerp" );
+			session.remove( session.find( Car.class, 3L ) );
+		} );
+	}
+
+	@Entity(name = "Party")
+	@Inheritance(strategy = InheritanceType.JOINED)
+	public static abstract class Party {
+		@Id
+		Long id;
+		String name;
+		@Embedded
+		Address address;
+
+		public Party() {
+		}
+
+		public Party(Long id, String name, Address address) {
+			this.id = id;
+			this.name = name;
+			this.address = address;
+		}
+	}
+
+	@Entity(name = "Person")
+	public static class Person extends Party {
+		public Person() {
+		}
+
+		public Person(Long id, String name, Address address) {
+			super( id, name, address );
+		}
+	}
+
+	@Entity(name = "Employee")
+	public static class Employee extends Person {
+		@ManyToOne
+		Organization employer;
+
+		public Employee() {
+		}
+
+		public Employee(Long id, String name, Address address, Organization employer) {
+			super( id, name, address );
+			this.employer = employer;
+		}
+	}
+
+	@Entity(name = "Organization")
+	public static class Organization extends Party {
+		@OneToMany(mappedBy = "employer")
+		List<Employee> employees = new ArrayList<>();
+
+		public Organization() {
+		}
+
+		public Organization(Long id, String name, Address address) {
+			super( id, name, address );
+		}
+	}
+
+	@Entity(name = "Vehicle")
+	public static class Vehicle {
+		@Id
+		Long id;
+		String model;
+
+		public Vehicle() {
+		}
+
+		public Vehicle(Long id, String model) {
+			this.id = id;
+			this.model = model;
+		}
+	}
+
+	@Entity(name = "Car")
+	public static class Car extends Vehicle {
+		int wheels;
+
+		public Car() {
+		}
+
+		public Car(Long id, String model, int wheels) {
+			super( id, model );
+			this.wheels = wheels;
+		}
+	}
+
+	@Embeddable
+	public static class Address {
+		String street;
+		String city;
+
+		public Address() {
+		}
+
+		public Address(String street, String city) {
+			this.street = street;
+			this.city = city;
+		}
+	}
+}
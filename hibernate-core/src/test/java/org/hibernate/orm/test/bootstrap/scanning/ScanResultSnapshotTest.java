@@ -0,0 +1,116 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.bootstrap.scanning;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.archive.scan.internal.ClassDescriptorImpl;
+import org.hibernate.archive.scan.internal.MappingFileDescriptorImpl;
+import org.hibernate.archive.scan.internal.PackageDescriptorImpl;
+import org.hibernate.archive.scan.internal.ScanResultImpl;
+import org.hibernate.boot.archive.internal.ByteArrayInputStreamAccess;
+import org.hibernate.boot.archive.scan.internal.DisabledScanner;
+import org.hibernate.boot.archive.scan.internal.ScanResultSnapshot;
+import org.hibernate.boot.archive.scan.internal.StandardScanOptions;
+import org.hibernate.boot.archive.scan.spi.ClassDescriptor;
+import org.hibernate.boot.archive.scan.spi.MappingFileDescriptor;
+import org.hibernate.boot.archive.scan.spi.ScanEnvironment;
+import org.hibernate.boot.archive.scan.spi.ScanResult;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.mockito.Mockito;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for {@link ScanResultSnapshot}.
+ */
+public class ScanResultSnapshotTest {
+	@TempDir
+	Path directory;
+
+	private Path archive;
+	private Path snapshotFile;
+	private final ScanEnvironment scanEnvironment = Mockito.mock( ScanEnvironment.class );
+
+	@BeforeEach
+	public void init() throws IOException {
+		archive = Files.createDirectory( directory.resolve( "classes" ) );
+		Files.writeString( archive.resolve( "Book.class" ), "not really bytecode" );
+		snapshotFile = directory.resolve( "snapshot" ).resolve( "scan.bin" );
+		when( scanEnvironment.getRootUrl() ).thenReturn( archive.toUri().toURL() );
+		when( scanEnvironment.getNonRootUrls() ).thenReturn( Collections.emptyList() );
+	}
+
+	@Test
+	public void testSnapshotIsReadBack() throws IOException {
+		final List<String> fingerprint = fingerprint();
+		assertThat( fingerprint ).isNotNull();
+		ScanResultSnapshot.write( snapshotFile, fingerprint, scanResult() );
+
+		final ScanResult snapshot = ScanResultSnapshot.read( snapshotFile, fingerprint(), name -> null );
+		assertThat( snapshot ).isNotNull();
+		assertThat( snapshot.getLocatedClasses() )
+				.extracting( ClassDescriptor::getName, ClassDescriptor::getCategorization )
+				.containsExactlyInAnyOrder(
+						tuple( "org.example.Book", ClassDescriptor.Categorization.MODEL ),
+						tuple( "org.example.IsbnConverter", ClassDescriptor.Categorization.CONVERTER )
+				);
+		assertThat( snapshot.getLocatedPackages() ).singleElement()
+				.extracting( descriptor -> descriptor.getName() ).isEqualTo( "org.example" );
+		final MappingFileDescriptor mappingFile = snapshot.getLocatedMappingFiles().iterator().next();
+		assertThat( mappingFile.getName() ).isEqualTo( "META-INF/orm.xml" );
+		try ( InputStream input = mappingFile.getStreamAccess().accessInputStream() ) {
+			assertThat( new String( input.readAllBytes(), StandardCharsets.UTF_8 ) ).isEqualTo( "<entity-mappings/>" );
+		}
+	}
+
+	@Test
+	public void testSnapshotIsDiscardedWhenArchiveIsModified() throws IOException {
+		ScanResultSnapshot.write( snapshotFile, fingerprint(), scanResult() );
+
+		Files.writeString( archive.resolve( "Author.class" ), "not really bytecode either" );
+
+		assertThat( ScanResultSnapshot.read( snapshotFile, fingerprint(), name -> null ) ).isNull();
+	}
+
+	@Test
+	public void testArchiveOutsideFileSystemIsNotFingerprinted() throws IOException {
+		when( scanEnvironment.getRootUrl() ).thenReturn( new URL( "http://hibernate.org/classes/" ) );
+
+		assertThat( fingerprint() ).isNull();
+	}
+
+	private List<String> fingerprint() {
+		return ScanResultSnapshot.fingerprint( scanEnvironment, new StandardScanOptions(), new DisabledScanner() );
+	}
+
+	private static ScanResult scanResult() {
+		return new ScanResultImpl(
+				Set.of( new PackageDescriptorImpl( "org.example", null ) ),
+				Set.of(
+						new ClassDescriptorImpl( "org.example.Book", ClassDescriptor.Categorization.MODEL, null ),
+						new ClassDescriptorImpl( "org.example.IsbnConverter", ClassDescriptor.Categorization.CONVERTER, null )
+				),
+				Set.of( new MappingFileDescriptorImpl(
+						"META-INF/orm.xml",
+						new ByteArrayInputStreamAccess( "orm.xml", "<entity-mappings/>".getBytes( StandardCharsets.UTF_8 ) )
+				) )
+		);
+	}
+}
@@ -0,0 +1,146 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.cache;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cache.internal.AsyncCachePutQueue;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.hibernate.cfg.CacheSettings.ASYNC_PUT_QUEUE_SIZE;
+import static org.hibernate.cfg.CacheSettings.USE_SECOND_LEVEL_CACHE;
+import static org.hibernate.cfg.StatisticsSettings.GENERATE_STATISTICS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@value org.hibernate.cfg.CacheSettings#ASYNC_PUT_QUEUE_SIZE}.
+ */
+@DomainModel(annotatedClasses = AsyncCachePutTest.Author.class)
+@ServiceRegistry(settings = {
+		@Setting(name = USE_SECOND_LEVEL_CACHE, value = "true"),
+		@Setting(name = ASYNC_PUT_QUEUE_SIZE, value = "100"),
+		@Setting(name = GENERATE_STATISTICS, value = "true")
+})
+@SessionFactory
+public class AsyncCachePutTest {
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Author author = new Author( 1, "Frank Herbert" );
+			author.titles.add( "Dune" );
+			author.titles.add( "Dune Messiah" );
+			session.persist( author );
+		} );
+		asyncPutQueue( scope ).flush();
+		scope.getSessionFactory().getCache().evictAllRegions();
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@Test
+	public void testLoadedEntityIsPutAsynchronously(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+
+		scope.inTransaction( session -> {
+			final Author author = session.find( Author.class, 1 );
+			Hibernate.initialize( author.titles );
+		} );
+		asyncPutQueue( scope ).flush();
+
+		assertThat( scope.getSessionFactory().getCache().containsEntity( Author.class, 1 ) ).isTrue();
+		assertThat( scope.getSessionFactory().getCache()
+				.containsCollection( Author.class.getName() + ".titles", 1 ) ).isTrue();
+		assertThat( statistics.getSecondLevelCachePutCount() ).isEqualTo( 2 );
+
+		scope.inTransaction( session -> {
+			final Author author = session.find( Author.class, 1 );
+			assertThat( author.name ).isEqualTo( "Frank Herbert" );
+			assertThat( author.titles ).containsExactlyInAnyOrder( "Dune", "Dune Messiah" );
+		} );
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 2 );
+		assertThat( statistics.getEntityLoadCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testEvictionIsNotOverwrittenByQueuedPut(SessionFactoryScope scope) {
+		scope.inTransaction( session -> Hibernate.initialize( session.find( Author.class, 1 ).titles ) );
+		scope.getSessionFactory().getCache().evictEntityData( Author.class, 1 );
+		scope.getSessionFactory().getCache().evictCollectionData( Author.class.getName() + ".titles", 1 );
+		asyncPutQueue( scope ).flush();
+
+		assertThat( asyncPutQueue( scope ).getPendingPutCount() ).isZero();
+		assertThat( scope.getSessionFactory().getCache().containsEntity( Author.class, 1 ) ).isFalse();
+		assertThat( scope.getSessionFactory().getCache()
+				.containsCollection( Author.class.getName() + ".titles", 1 ) ).isFalse();
+	}
+
+	@Test
+	public void testBulkUpdateIsNotOverwrittenByQueuedPut(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.find( Author.class, 1 );
+			session.createMutationQuery( "update Author set name = 'F. Herbert'" ).executeUpdate();
+		} );
+		asyncPutQueue( scope ).flush();
+
+		scope.inTransaction( session -> assertThat( session.find( Author.class, 1 ).name ).isEqualTo( "F. Herbert" ) );
+	}
+
+	@Test
+	public void testQueuedPutDoesNotRetainSession(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.find( Author.class, 1 ) );
+		// the session is closed before the put is made
+		asyncPutQueue( scope ).flush();
+
+		assertThat( scope.getSessionFactory().getCache().containsEntity( Author.class, 1 ) ).isTrue();
+	}
+
+	private static AsyncCachePutQueue asyncPutQueue(SessionFactoryScope scope) {
+		return scope.getSessionFactory().getCache().getAsyncPutQueue();
+	}
+
+	@Entity(name = "Author")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class Author {
+		@Id
+		Integer id;
+		String name;
+		@ElementCollection
+		@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+		Set<String> titles = new HashSet<>();
+
+		public Author() {
+		}
+
+		public Author(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
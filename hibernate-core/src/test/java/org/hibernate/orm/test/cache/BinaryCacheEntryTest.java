@@ -0,0 +1,215 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.cache;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.cache.spi.entry.BinaryCacheEntry;
+import org.hibernate.cache.spi.entry.CacheEntry;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Version;
+
+import static org.hibernate.cfg.CacheSettings.USE_BINARY_CACHE_ENTRIES;
+import static org.hibernate.cfg.CacheSettings.USE_SECOND_LEVEL_CACHE;
+import static org.hibernate.cfg.StatisticsSettings.GENERATE_STATISTICS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@value org.hibernate.cfg.CacheSettings#USE_BINARY_CACHE_ENTRIES}.
+ */
+@DomainModel(annotatedClasses = { BinaryCacheEntryTest.Product.class, BinaryCacheEntryTest.Category.class })
+@ServiceRegistry(settings = {
+		@Setting(name = USE_SECOND_LEVEL_CACHE, value = "true"),
+		@Setting(name = USE_BINARY_CACHE_ENTRIES, value = "true"),
+		@Setting(name = GENERATE_STATISTICS, value = "true")
+})
+@SessionFactory
+public class BinaryCacheEntryTest {
+	private static final UUID CODE = UUID.randomUUID();
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Category category = new Category( 1L, "Books" );
+			session.persist( category );
+			final Product product = new Product();
+			product.id = 1L;
+			product.name = "Dune";
+			product.price = new BigDecimal( "19.99" );
+			product.released = LocalDate.of( 1965, 8, 1 );
+			product.code = CODE;
+			product.data = new byte[] { 1, 2, 3 };
+			product.status = Status.AVAILABLE;
+			product.stock = 300_000;
+			product.dimensions = new Dimensions( 13.5, 21.0 );
+			product.category = category;
+			session.persist( product );
+		} );
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@Test
+	public void testEntriesAreStoredInBinaryFormat(SessionFactoryScope scope) {
+		final SessionFactoryImplementor factory = scope.getSessionFactory();
+		final EntityPersister persister = factory.getMappingMetamodel().getEntityDescriptor( Product.class );
+		assertThat( persister.getCacheEntryStructure() ).isInstanceOf( BinaryCacheEntry.class );
+
+		scope.inTransaction( session -> {
+			final EntityDataAccess cacheAccess = persister.getCacheAccessStrategy();
+			final Object cacheKey = cacheAccess.generateCacheKey( 1L, persister, factory, null );
+			final Object cached = cacheAccess.get( session, cacheKey );
+			assertThat( cached ).isInstanceOf( byte[].class );
+
+			final CacheEntry entry = (CacheEntry) persister.getCacheEntryStructure().destructure( cached, factory );
+			assertThat( entry.getSubclass() ).isEqualTo( Product.class.getName() );
+			assertThat( entry.getVersion() ).isEqualTo( 0 );
+		} );
+	}
+
+	@Test
+	public void testEntityIsAssembledFromBinaryEntry(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Product product = session.find( Product.class, 1L );
+			assertThat( product.name ).isEqualTo( "Dune" );
+			assertThat( product.price ).isEqualTo( new BigDecimal( "19.99" ) );
+			assertThat( product.released ).isEqualTo( LocalDate.of( 1965, 8, 1 ) );
+			assertThat( product.code ).isEqualTo( CODE );
+			assertThat( product.data ).containsExactly( 1, 2, 3 );
+			assertThat( product.status ).isEqualTo( Status.AVAILABLE );
+			assertThat( product.stock ).isEqualTo( 300_000 );
+			assertThat( product.dimensions.width ).isEqualTo( 13.5 );
+			assertThat( product.dimensions.height ).isEqualTo( 21.0 );
+			assertThat( product.category.name ).isEqualTo( "Books" );
+		} );
+		assertThat( scope.getSessionFactory().getStatistics().getSecondLevelCacheHitCount() ).isPositive();
+		assertThat( scope.getSessionFactory().getStatistics().getSecondLevelCacheMissCount() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void testUpdatedEntryIsReadBack(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.find( Product.class, 1L ).name = "Dune Messiah" );
+		scope.inTransaction( session -> {
+			final Product product = session.find( Product.class, 1L );
+			assertThat( product.name ).isEqualTo( "Dune Messiah" );
+			assertThat( product.version ).isEqualTo( 1 );
+		} );
+	}
+
+	@Test
+	public void testIncompatibleEntryIsTreatedAsMiss(SessionFactoryScope scope) {
+		final SessionFactoryImplementor factory = scope.getSessionFactory();
+		final EntityPersister persister = factory.getMappingMetamodel().getEntityDescriptor( Product.class );
+		final EntityDataAccess cacheAccess = persister.getCacheAccessStrategy();
+		final Object cacheKey = cacheAccess.generateCacheKey( 1L, persister, factory, null );
+
+		scope.inTransaction( session -> {
+			final byte[] cached = (byte[]) cacheAccess.get( session, cacheKey );
+			// a different layout hash, as written by another mapping of the entity
+			final byte[] incompatible = cached.clone();
+			incompatible[2]++;
+			assertThat( persister.getCacheEntryStructure().destructure( incompatible, factory ) ).isNull();
+			// another format version
+			final byte[] otherFormat = cached.clone();
+			otherFormat[0]++;
+			assertThat( persister.getCacheEntryStructure().destructure( otherFormat, factory ) ).isNull();
+
+			cacheAccess.evict( cacheKey );
+			cacheAccess.putFromLoad( session, cacheKey, incompatible, 0, false );
+		} );
+
+		scope.inTransaction( session -> assertThat( session.find( Product.class, 1L ).name ).isEqualTo( "Dune" ) );
+		// the entry was replaced by the entity loaded from the database
+		scope.inTransaction( session -> assertThat( persister.getCacheEntryStructure()
+				.destructure( cacheAccess.get( session, cacheKey ), factory ) ).isNotNull() );
+	}
+
+	public enum Status {
+		AVAILABLE,
+		DISCONTINUED
+	}
+
+	@Embeddable
+	public static class Dimensions {
+		double width;
+		double height;
+
+		public Dimensions() {
+		}
+
+		public Dimensions(double width, double height) {
+			this.width = width;
+			this.height = height;
+		}
+	}
+
+	@Entity(name = "Category")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class Category {
+		@Id
+		Long id;
+		String name;
+
+		public Category() {
+		}
+
+		public Category(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Product")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class Product {
+		@Id
+		Long id;
+		@Version
+		int version;
+		String name;
+		BigDecimal price;
+		LocalDate released;
+		UUID code;
+		byte[] data;
+		@Enumerated(EnumType.STRING)
+		Status status;
+		int stock;
+		@Embedded
+		Dimensions dimensions;
+		@ManyToOne
+		Category category;
+	}
+}
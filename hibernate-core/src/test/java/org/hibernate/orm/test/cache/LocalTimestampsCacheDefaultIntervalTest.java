@@ -0,0 +1,84 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.cache;
+
+import org.hibernate.SessionEventListener;
+import org.hibernate.cache.spi.TimestampsCache;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hibernate.cfg.CacheSettings.QUERY_CACHE_FACTORY;
+import static org.hibernate.cfg.CacheSettings.USE_QUERY_CACHE;
+import static org.hibernate.cfg.CacheSettings.USE_SECOND_LEVEL_CACHE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link org.hibernate.cache.internal.LocalTimestampsCacheFactory}
+ * without a refresh interval.
+ */
+@DomainModel(annotatedClasses = LocalTimestampsCacheTest.Book.class)
+@ServiceRegistry(settings = {
+		@Setting(name = USE_SECOND_LEVEL_CACHE, value = "true"),
+		@Setting(name = USE_QUERY_CACHE, value = "true"),
+		@Setting(name = QUERY_CACHE_FACTORY, value = "org.hibernate.cache.internal.LocalTimestampsCacheFactory")
+})
+@SessionFactory
+public class LocalTimestampsCacheDefaultIntervalTest {
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@Test
+	public void testUpToDateCheckReadsRegion(SessionFactoryScope scope) {
+		final TimestampsCache timestampsCache = scope.getSessionFactory().getCache().getTimestampsCache();
+		final String[] spaces = { "Books" };
+
+		scope.inTransaction( session -> timestampsCache.invalidate( spaces, session ) );
+		final long timestamp = scope.getSessionFactory().getCache().getRegionFactory().nextTimestamp();
+
+		final RegionReadCounter counter = new RegionReadCounter();
+		scope.inSession( session -> {
+			session.getEventListenerManager().addListener( counter );
+			for ( int i = 0; i < 3; i++ ) {
+				assertThat( timestampsCache.isUpToDate( spaces, timestamp, session ) ).isTrue();
+			}
+		} );
+		// another node may have invalidated the space in the meantime
+		assertThat( counter.reads ).isEqualTo( 3 );
+	}
+
+	@Test
+	public void testStaleSpaceIsRecognizedLocally(SessionFactoryScope scope) {
+		final TimestampsCache timestampsCache = scope.getSessionFactory().getCache().getTimestampsCache();
+		final String[] spaces = { "Books" };
+
+		final long timestamp = scope.getSessionFactory().getCache().getRegionFactory().nextTimestamp();
+		scope.inTransaction( session -> timestampsCache.invalidate( spaces, session ) );
+
+		final RegionReadCounter counter = new RegionReadCounter();
+		scope.inSession( session -> {
+			session.getEventListenerManager().addListener( counter );
+			assertThat( timestampsCache.isUpToDate( spaces, timestamp, session ) ).isFalse();
+		} );
+		assertThat( counter.reads ).isEqualTo( 0 );
+	}
+
+	private static class RegionReadCounter implements SessionEventListener {
+		private int reads;
+
+		@Override
+		public void cacheGetStart() {
+			reads++;
+		}
+	}
+}
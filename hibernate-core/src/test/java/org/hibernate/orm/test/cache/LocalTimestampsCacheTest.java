@@ -0,0 +1,136 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.cache;
+
+import java.util.List;
+
+import org.hibernate.SessionEventListener;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cache.internal.LocalTimestampsCacheImpl;
+import org.hibernate.cache.spi.TimestampsCache;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static org.hibernate.cfg.CacheSettings.QUERY_CACHE_FACTORY;
+import static org.hibernate.cfg.CacheSettings.TIMESTAMPS_LOCAL_REFRESH_INTERVAL;
+import static org.hibernate.cfg.CacheSettings.USE_QUERY_CACHE;
+import static org.hibernate.cfg.CacheSettings.USE_SECOND_LEVEL_CACHE;
+import static org.hibernate.cfg.StatisticsSettings.GENERATE_STATISTICS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link org.hibernate.cache.internal.LocalTimestampsCacheFactory}.
+ */
+@DomainModel(annotatedClasses = LocalTimestampsCacheTest.Book.class)
+@ServiceRegistry(settings = {
+		@Setting(name = USE_SECOND_LEVEL_CACHE, value = "true"),
+		@Setting(name = USE_QUERY_CACHE, value = "true"),
+		@Setting(name = GENERATE_STATISTICS, value = "true"),
+		@Setting(name = QUERY_CACHE_FACTORY, value = "org.hibernate.cache.internal.LocalTimestampsCacheFactory"),
+		@Setting(name = TIMESTAMPS_LOCAL_REFRESH_INTERVAL, value = "60000")
+})
+@SessionFactory
+public class LocalTimestampsCacheTest {
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.persist( new Book( 1, "Dune" ) ) );
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@Test
+	public void testLocalTimestampsCacheIsUsed(SessionFactoryScope scope) {
+		assertThat( scope.getSessionFactory().getCache().getTimestampsCache() )
+				.isInstanceOf( LocalTimestampsCacheImpl.class );
+	}
+
+	@Test
+	public void testInvalidationIsSeenImmediately(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+
+		assertThat( titles( scope ) ).containsExactly( "Dune" );
+		assertThat( titles( scope ) ).containsExactly( "Dune" );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+
+		scope.inTransaction( session -> session.persist( new Book( 2, "Dune Messiah" ) ) );
+
+		assertThat( titles( scope ) ).containsExactly( "Dune", "Dune Messiah" );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+		assertThat( statistics.getQueryCacheMissCount() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testUpToDateCheckIsAnsweredLocally(SessionFactoryScope scope) {
+		final TimestampsCache timestampsCache = scope.getSessionFactory().getCache().getTimestampsCache();
+		final String[] spaces = { "Books" };
+
+		scope.inTransaction( session -> timestampsCache.invalidate( spaces, session ) );
+		final long timestamp = scope.getSessionFactory().getCache().getRegionFactory().nextTimestamp();
+
+		final RegionReadCounter counter = new RegionReadCounter();
+		scope.inSession( session -> {
+			session.getEventListenerManager().addListener( counter );
+			for ( int i = 0; i < 3; i++ ) {
+				assertThat( timestampsCache.isUpToDate( spaces, timestamp, session ) ).isTrue();
+			}
+			timestampsCache.invalidate( spaces, session );
+			assertThat( timestampsCache.isUpToDate( spaces, timestamp, session ) ).isFalse();
+		} );
+		assertThat( counter.reads ).isEqualTo( 0 );
+	}
+
+	private static List<String> titles(SessionFactoryScope scope) {
+		return scope.fromSession( session -> session.createQuery( "select title from Book order by id", String.class )
+				.setCacheable( true )
+				.getResultList() );
+	}
+
+	private static class RegionReadCounter implements SessionEventListener {
+		private int reads;
+
+		@Override
+		public void cacheGetStart() {
+			reads++;
+		}
+	}
+
+	@Entity(name = "Book")
+	@Table(name = "Books")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class Book {
+		@Id
+		Integer id;
+		String title;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+}
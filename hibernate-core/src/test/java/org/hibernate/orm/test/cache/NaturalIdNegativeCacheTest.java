@@ -0,0 +1,206 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.cache;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.hibernate.cfg.CacheSettings.NATURAL_ID_NEGATIVE_CACHE_TTL;
+import static org.hibernate.cfg.CacheSettings.USE_SECOND_LEVEL_CACHE;
+import static org.hibernate.cfg.StatisticsSettings.GENERATE_STATISTICS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@value org.hibernate.cfg.CacheSettings#NATURAL_ID_NEGATIVE_CACHE_TTL},
+ * and for the bulk resolution of natural ids from the second-level cache.
+ */
+@DomainModel(annotatedClasses = {
+		NaturalIdNegativeCacheTest.Book.class,
+		NaturalIdNegativeCacheTest.Magazine.class
+})
+@ServiceRegistry(settings = {
+		@Setting(name = USE_SECOND_LEVEL_CACHE, value = "true"),
+		@Setting(name = NATURAL_ID_NEGATIVE_CACHE_TTL, value = "60000"),
+		@Setting(name = GENERATE_STATISTICS, value = "true")
+})
+@SessionFactory
+public class NaturalIdNegativeCacheTest {
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Book( 1, "978-0441013593", "Dune" ) );
+			session.persist( new Book( 2, "978-0593098233", "Dune Messiah" ) );
+		} );
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@Test
+	public void testAbsentNaturalIdIsCached(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+
+		for ( int i = 0; i < 3; i++ ) {
+			scope.inSession( session -> assertThat( session.bySimpleNaturalId( Book.class )
+					.load( "978-0399128967" ) ).isNull() );
+		}
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testInsertInvalidatesAbsentNaturalIds(SessionFactoryScope scope) {
+		scope.inSession( session -> assertThat( session.bySimpleNaturalId( Book.class )
+				.load( "978-0399128967" ) ).isNull() );
+
+		scope.inTransaction( session -> session.persist( new Book( 3, "978-0399128967", "Children of Dune" ) ) );
+
+		scope.inSession( session -> {
+			final Book book = session.bySimpleNaturalId( Book.class ).load( "978-0399128967" );
+			assertThat( book ).isNotNull();
+			assertThat( book.title ).isEqualTo( "Children of Dune" );
+		} );
+	}
+
+	@Test
+	public void testBulkInsertInvalidatesAbsentNaturalIds(SessionFactoryScope scope) {
+		scope.inSession( session -> {
+			assertThat( session.bySimpleNaturalId( Book.class ).load( "978-0399128967" ) ).isNull();
+			assertThat( session.bySimpleNaturalId( Magazine.class ).load( "0036-8733" ) ).isNull();
+		} );
+
+		// Magazine has no natural id cache region
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "insert into Book (id, isbn, title) values (3, '978-0399128967', 'Children of Dune')" )
+					.executeUpdate();
+			session.createMutationQuery( "insert into Magazine (id, issn, title) values (1, '0036-8733', 'Scientific American')" )
+					.executeUpdate();
+		} );
+
+		scope.inSession( session -> {
+			assertThat( session.bySimpleNaturalId( Book.class ).load( "978-0399128967" ) ).isNotNull();
+			assertThat( session.bySimpleNaturalId( Magazine.class ).load( "0036-8733" ) ).isNotNull();
+		} );
+	}
+
+	@Test
+	public void testStatelessInsertInvalidatesAbsentNaturalIds(SessionFactoryScope scope) {
+		scope.inSession( session -> {
+			assertThat( session.bySimpleNaturalId( Book.class ).load( "978-0399128967" ) ).isNull();
+			assertThat( session.bySimpleNaturalId( Magazine.class ).load( "0036-8733" ) ).isNull();
+		} );
+
+		scope.inStatelessTransaction( session -> {
+			session.insert( new Book( 3, "978-0399128967", "Children of Dune" ) );
+			session.insert( new Magazine( 1, "0036-8733", "Scientific American" ) );
+		} );
+
+		scope.inSession( session -> {
+			assertThat( session.bySimpleNaturalId( Book.class ).load( "978-0399128967" ) ).isNotNull();
+			assertThat( session.bySimpleNaturalId( Magazine.class ).load( "0036-8733" ) ).isNotNull();
+		} );
+	}
+
+	@Test
+	public void testStatelessBulkInsertInvalidatesAbsentNaturalIds(SessionFactoryScope scope) {
+		scope.inSession( session -> {
+			assertThat( session.bySimpleNaturalId( Book.class ).load( "978-0399128967" ) ).isNull();
+			assertThat( session.bySimpleNaturalId( Magazine.class ).load( "0036-8733" ) ).isNull();
+		} );
+
+		scope.inStatelessTransaction( session -> session.insertMultiple( Stream.of(
+				new Book( 3, "978-0399128967", "Children of Dune" ),
+				new Magazine( 1, "0036-8733", "Scientific American" )
+		) ) );
+
+		scope.inSession( session -> {
+			assertThat( session.bySimpleNaturalId( Book.class ).load( "978-0399128967" ) ).isNotNull();
+			assertThat( session.bySimpleNaturalId( Magazine.class ).load( "0036-8733" ) ).isNotNull();
+		} );
+	}
+
+	@Test
+	public void testMultiLoadResolvesNaturalIdsInBulk(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+
+		final List<Book> books = scope.fromSession( session -> session.byMultipleNaturalId( Book.class )
+				.enableOrderedReturn( false )
+				.multiLoad( "978-0441013593", "978-0593098233", "978-0399128967" ) );
+		assertThat( books ).extracting( book -> book.title ).containsExactlyInAnyOrder( "Dune", "Dune Messiah" );
+		assertThat( statistics.getNaturalIdCacheHitCount() ).isEqualTo( 2 );
+		assertThat( statistics.getNaturalIdCacheMissCount() ).isEqualTo( 1 );
+		// only the natural id which was not cached is looked up in the database
+		final long statements = statistics.getPrepareStatementCount();
+		assertThat( statements ).isEqualTo( 1 );
+
+		final List<Book> again = scope.fromSession( session -> session.byMultipleNaturalId( Book.class )
+				.enableOrderedReturn( false )
+				.multiLoad( "978-0441013593", "978-0593098233", "978-0399128967" ) );
+		assertThat( again ).hasSize( 2 );
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( statements );
+	}
+
+	@Entity(name = "Book")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	@NaturalIdCache
+	public static class Book {
+		@Id
+		Integer id;
+		@NaturalId
+		String isbn;
+		String title;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String isbn, String title) {
+			this.id = id;
+			this.isbn = isbn;
+			this.title = title;
+		}
+	}
+
+	@Entity(name = "Magazine")
+	public static class Magazine {
+		@Id
+		Integer id;
+		@NaturalId
+		String issn;
+		String title;
+
+		public Magazine() {
+		}
+
+		public Magazine(Integer id, String issn, String title) {
+			this.id = id;
+			this.issn = issn;
+			this.title = title;
+		}
+	}
+}
@@ -0,0 +1,165 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.cache;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cache.spi.DomainDataRegion;
+import org.hibernate.cache.spi.support.DomainDataRegionTemplate;
+import org.hibernate.cache.spi.support.NearCacheStorageAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.CacheRegionStatistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static org.hibernate.cfg.CacheSettings.NEAR_CACHE_MAX_ENTRIES;
+import static org.hibernate.cfg.CacheSettings.USE_QUERY_CACHE;
+import static org.hibernate.cfg.CacheSettings.USE_SECOND_LEVEL_CACHE;
+import static org.hibernate.cfg.StatisticsSettings.GENERATE_STATISTICS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@value org.hibernate.cfg.CacheSettings#NEAR_CACHE_MAX_ENTRIES}.
+ */
+@DomainModel(annotatedClasses = { NearCacheTest.Book.class, NearCacheTest.Author.class })
+@ServiceRegistry(settings = {
+		@Setting(name = USE_SECOND_LEVEL_CACHE, value = "true"),
+		@Setting(name = USE_QUERY_CACHE, value = "true"),
+		@Setting(name = GENERATE_STATISTICS, value = "true"),
+		@Setting(name = NEAR_CACHE_MAX_ENTRIES, value = "100")
+})
+@SessionFactory
+public class NearCacheTest {
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Book( 1, "Dune" ) );
+			session.persist( new Author( 1, "Frank Herbert" ) );
+		} );
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@Test
+	public void testReadsAreServedFromNearCache(SessionFactoryScope scope) {
+		final SessionFactoryImplementor factory = scope.getSessionFactory();
+		final DomainDataRegion region = region( factory );
+		assertThat( ( (DomainDataRegionTemplate) region ).getCacheStorageAccess() )
+				.isInstanceOf( NearCacheStorageAccess.class );
+
+		scope.inTransaction( session -> assertThat( session.find( Book.class, 1 ).title ).isEqualTo( "Dune" ) );
+		scope.inTransaction( session -> assertThat( session.find( Book.class, 1 ).title ).isEqualTo( "Dune" ) );
+		scope.inTransaction( session -> assertThat( session.find( Book.class, 1 ).title ).isEqualTo( "Dune" ) );
+
+		final CacheRegionStatistics statistics =
+				factory.getStatistics().getDomainDataRegionStatistics( region.getName() );
+		assertThat( statistics.getHitCount() ).isEqualTo( 3 );
+		assertThat( statistics.getNearCacheMissCount() ).isEqualTo( 1 );
+		assertThat( statistics.getNearCacheHitCount() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testUpdateInvalidatesNearCache(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.find( Book.class, 1 ) );
+		scope.inTransaction( session -> session.find( Book.class, 1 ).title = "Dune Messiah" );
+		scope.inTransaction( session -> assertThat( session.find( Book.class, 1 ).title ).isEqualTo( "Dune Messiah" ) );
+	}
+
+	@Test
+	public void testTimestampsInvalidationDiscardsNearCache(SessionFactoryScope scope) {
+		final SessionFactoryImplementor factory = scope.getSessionFactory();
+		final NearCacheStorageAccess nearCache =
+				(NearCacheStorageAccess) ( (DomainDataRegionTemplate) region( factory ) ).getCacheStorageAccess();
+
+		scope.inTransaction( session -> session.find( Book.class, 1 ) );
+		assertThat( nearCache.getNearCacheSize() ).isEqualTo( 1 );
+
+		scope.inTransaction( session -> factory.getCache().getTimestampsCache()
+				.invalidate( new String[] { "Books" }, session ) );
+		assertThat( nearCache.getNearCacheSize() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void testTimestampsInvalidationOnlyDiscardsAffectedEntries(SessionFactoryScope scope) {
+		final SessionFactoryImplementor factory = scope.getSessionFactory();
+		final NearCacheStorageAccess nearCache =
+				(NearCacheStorageAccess) ( (DomainDataRegionTemplate) region( factory ) ).getCacheStorageAccess();
+
+		// both entities are held in the same region
+		scope.inTransaction( session -> {
+			session.find( Book.class, 1 );
+			session.find( Author.class, 1 );
+		} );
+		assertThat( nearCache.getNearCacheSize() ).isEqualTo( 2 );
+
+		scope.inTransaction( session -> factory.getCache().getTimestampsCache()
+				.invalidate( new String[] { "Books" }, session ) );
+		assertThat( nearCache.getNearCacheSize() ).isEqualTo( 1 );
+
+		factory.getStatistics().clear();
+		scope.inTransaction( session -> assertThat( session.find( Author.class, 1 ).name ).isEqualTo( "Frank Herbert" ) );
+		assertThat( factory.getStatistics().getDomainDataRegionStatistics( region( factory ).getName() )
+				.getNearCacheHitCount() ).isEqualTo( 1 );
+	}
+
+	private static DomainDataRegion region(SessionFactoryImplementor factory) {
+		return factory.getMappingMetamodel().getEntityDescriptor( Book.class )
+				.getCacheAccessStrategy().getRegion();
+	}
+
+	@Entity(name = "Book")
+	@Table(name = "Books")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "library")
+	public static class Book {
+		@Id
+		Integer id;
+		String title;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+
+	@Entity(name = "Author")
+	@Table(name = "Authors")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "library")
+	public static class Author {
+		@Id
+		Integer id;
+		String name;
+
+		public Author() {
+		}
+
+		public Author(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,155 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.cache;
+
+import java.util.List;
+
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.hibernate.cfg.CacheSettings.QUERY_CACHE_ROWS;
+import static org.hibernate.cfg.CacheSettings.USE_QUERY_CACHE;
+import static org.hibernate.cfg.CacheSettings.USE_SECOND_LEVEL_CACHE;
+import static org.hibernate.cfg.StatisticsSettings.GENERATE_STATISTICS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@value org.hibernate.cfg.CacheSettings#QUERY_CACHE_ROWS}.
+ */
+@DomainModel(annotatedClasses = QueryCacheRowsTest.Book.class)
+@ServiceRegistry(settings = {
+		@Setting(name = USE_SECOND_LEVEL_CACHE, value = "true"),
+		@Setting(name = USE_QUERY_CACHE, value = "true"),
+		@Setting(name = QUERY_CACHE_ROWS, value = "true"),
+		@Setting(name = GENERATE_STATISTICS, value = "true")
+})
+@SessionFactory
+public class QueryCacheRowsTest {
+	private static final String QUERY = "select id, title from Book order by id";
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Book( 1, "Dune" ) );
+			session.persist( new Book( 2, "Dune Messiah" ) );
+			session.find( Book.class, 1 ).cover = new byte[] { 1, 2, 3 };
+		} );
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@Test
+	public void testTupleRowsAreReadFromCache(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+
+		final List<Object[]> first = tuples( scope );
+		assertThat( first ).hasSize( 2 );
+		assertThat( first.get( 0 ) ).containsExactly( 1, "Dune" );
+		// changes to the returned rows must not leak into the cache
+		first.get( 0 )[1] = "Children of Dune";
+
+		final List<Object[]> second = tuples( scope );
+		assertThat( second.get( 0 ) ).containsExactly( 1, "Dune" );
+		assertThat( second.get( 1 ) ).containsExactly( 2, "Dune Messiah" );
+
+		assertThat( statistics.getQueryCacheMissCount() ).isEqualTo( 1 );
+		assertThat( statistics.getQueryCachePutCount() ).isEqualTo( 1 );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testCachedRowsAreSharedByResultTypes(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+
+		assertThat( tuples( scope ) ).hasSize( 2 );
+
+		final List<BookSummary> summaries = scope.fromSession( session -> session.createQuery( QUERY, BookSummary.class )
+				.setCacheable( true )
+				.getResultList() );
+		assertThat( summaries ).containsExactly( new BookSummary( 1, "Dune" ), new BookSummary( 2, "Dune Messiah" ) );
+
+		final List<String> titles = scope.fromSession( session -> session.createQuery( QUERY, Object[].class )
+				.setCacheable( true )
+				.setTupleTransformer( (tuple, aliases) -> (String) tuple[1] )
+				.getResultList() );
+		assertThat( titles ).containsExactly( "Dune", "Dune Messiah" );
+
+		assertThat( statistics.getQueryCacheMissCount() ).isEqualTo( 1 );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testEntityQueryIsStillCached(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+
+		for ( int i = 0; i < 2; i++ ) {
+			final List<Book> books = scope.fromSession( session -> session.createQuery( "from Book order by id", Book.class )
+					.setCacheable( true )
+					.getResultList() );
+			assertThat( books ).extracting( book -> book.title ).containsExactly( "Dune", "Dune Messiah" );
+		}
+
+		assertThat( statistics.getQueryCacheMissCount() ).isEqualTo( 1 );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testRowsWithMutableValuesAreStillCached(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+
+		// a byte array can't be shared between cache hits
+		for ( int i = 0; i < 2; i++ ) {
+			final Object[] row = scope.fromSession( session -> session.createQuery( "select id, cover from Book where id = 1", Object[].class )
+					.setCacheable( true )
+					.getSingleResult() );
+			assertThat( row[0] ).isEqualTo( 1 );
+			assertThat( (byte[]) row[1] ).containsExactly( 1, 2, 3 );
+		}
+
+		assertThat( statistics.getQueryCacheMissCount() ).isEqualTo( 1 );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+	}
+
+	private static List<Object[]> tuples(SessionFactoryScope scope) {
+		return scope.fromSession( session -> session.createQuery( QUERY, Object[].class )
+				.setCacheable( true )
+				.getResultList() );
+	}
+
+	public record BookSummary(Integer id, String title) {
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		Integer id;
+		String title;
+		byte[] cover;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+}
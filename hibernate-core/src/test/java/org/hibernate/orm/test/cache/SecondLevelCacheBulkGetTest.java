@@ -0,0 +1,162 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.CacheMode;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionEventListener;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.hibernate.cfg.CacheSettings.USE_SECOND_LEVEL_CACHE;
+import static org.hibernate.cfg.StatisticsSettings.GENERATE_STATISTICS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that multi-load and batch fetching retrieve entries from the
+ * second-level cache in bulk, rather than one at a time.
+ */
+@DomainModel(annotatedClasses = SecondLevelCacheBulkGetTest.Item.class)
+@ServiceRegistry(settings = {
+		@Setting(name = USE_SECOND_LEVEL_CACHE, value = "true"),
+		@Setting(name = GENERATE_STATISTICS, value = "true")
+})
+@SessionFactory
+public class SecondLevelCacheBulkGetTest {
+	private static final int COUNT = 10;
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= COUNT; i++ ) {
+				session.persist( new Item( i, "item " + i ) );
+			}
+		} );
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@Test
+	public void testMultiLoadUsesSingleCacheGet(SessionFactoryScope scope) {
+		final CacheGetCounter counter = new CacheGetCounter();
+		scope.inTransaction( session -> {
+			session.getEventListenerManager().addListener( counter );
+			final List<Item> items = session.byMultipleIds( Item.class )
+					.with( CacheMode.NORMAL )
+					.multiLoad( ids() );
+			assertThat( items ).hasSize( COUNT ).doesNotContainNull();
+		} );
+
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		assertThat( counter.cacheGets ).isEqualTo( 1 );
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( COUNT );
+		assertThat( statistics.getEntityLoadCount() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void testUnorderedMultiLoadWithPartialHits(SessionFactoryScope scope) {
+		for ( int i = 1; i <= COUNT; i += 2 ) {
+			scope.getSessionFactory().getCache().evictEntityData( Item.class, i );
+		}
+
+		final CacheGetCounter counter = new CacheGetCounter();
+		scope.inTransaction( session -> {
+			session.getEventListenerManager().addListener( counter );
+			final List<Item> items = session.byMultipleIds( Item.class )
+					.with( CacheMode.NORMAL )
+					.enableOrderedReturn( false )
+					.multiLoad( ids() );
+			assertThat( items ).hasSize( COUNT ).doesNotContainNull();
+		} );
+
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		assertThat( counter.cacheGets ).isEqualTo( 1 );
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( COUNT / 2 );
+		assertThat( statistics.getSecondLevelCacheMissCount() ).isEqualTo( COUNT / 2 );
+		assertThat( statistics.getEntityLoadCount() ).isEqualTo( COUNT / 2 );
+	}
+
+	@Test
+	public void testBatchFetchSkipsCachedEntities(SessionFactoryScope scope) {
+		for ( int i = 1; i <= COUNT; i += 2 ) {
+			scope.getSessionFactory().getCache().evictEntityData( Item.class, i );
+		}
+
+		final CacheGetCounter counter = new CacheGetCounter();
+		scope.inTransaction( session -> {
+			final List<Item> items = new ArrayList<>();
+			for ( int i = 1; i <= COUNT; i++ ) {
+				items.add( session.getReference( Item.class, i ) );
+			}
+			session.getEventListenerManager().addListener( counter );
+			Hibernate.initialize( items.get( 0 ) );
+			for ( int i = 0; i < COUNT; i++ ) {
+				assertThat( Hibernate.isInitialized( items.get( i ) ) ).isEqualTo( i % 2 == 0 );
+			}
+		} );
+
+		// one get for the requested entity, and one bulk get for the rest of the batch
+		assertThat( counter.cacheGets ).isLessThanOrEqualTo( 2 );
+		assertThat( scope.getSessionFactory().getStatistics().getEntityLoadCount() ).isEqualTo( COUNT / 2 );
+	}
+
+	private static Integer[] ids() {
+		final Integer[] ids = new Integer[COUNT];
+		for ( int i = 0; i < COUNT; i++ ) {
+			ids[i] = i + 1;
+		}
+		return ids;
+	}
+
+	private static class CacheGetCounter implements SessionEventListener {
+		private int cacheGets;
+
+		@Override
+		public void cacheGetStart() {
+			cacheGets++;
+		}
+	}
+
+	@Entity(name = "Item")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	@BatchSize(size = COUNT)
+	public static class Item {
+		@Id
+		Integer id;
+		String name;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,178 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.dirtiness;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PersistenceException;
+
+import static org.hibernate.cfg.PersistenceSettings.PERSISTENCE_CONTEXT_INCREMENTAL_DIRTY_CHECKING;
+import static org.hibernate.cfg.StatisticsSettings.GENERATE_STATISTICS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@value org.hibernate.cfg.PersistenceSettings#PERSISTENCE_CONTEXT_INCREMENTAL_DIRTY_CHECKING}.
+ */
+@DomainModel(annotatedClasses = {
+		IncrementalDirtyCheckingTest.Item.class,
+		IncrementalDirtyCheckingTest.Product.class
+})
+@ServiceRegistry(settings = {
+		@Setting(name = PERSISTENCE_CONTEXT_INCREMENTAL_DIRTY_CHECKING, value = "true"),
+		@Setting(name = GENERATE_STATISTICS, value = "true")
+})
+@SessionFactory
+public class IncrementalDirtyCheckingTest {
+	private static final int COUNT = 50;
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < COUNT; i++ ) {
+				final Item item = new Item( i, "item " + i, new Dimensions( i, i ) );
+				item.tags.add( "tag " + i );
+				session.persist( item );
+			}
+			session.persist( new Product( 1, "HIB-001", "Hibernate in Action" ) );
+		} );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testOnlyModifiedEntitiesAreUpdated(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inTransaction( session -> {
+			final List<Item> items = session.createSelectionQuery( "from Item order by id", Item.class ).list();
+			// equal, but not identical, values are not modifications
+			items.get( 1 ).name = new String( "item 1" );
+			items.get( 2 ).dimensions = new Dimensions( 2, 2 );
+			items.get( 3 ).name = "changed";
+			items.get( 4 ).dimensions = new Dimensions( 4, 40 );
+			session.flush();
+			assertThat( statistics.getEntityUpdateCount() ).isEqualTo( 2 );
+			// nothing left to update
+			session.flush();
+			assertThat( statistics.getEntityUpdateCount() ).isEqualTo( 2 );
+		} );
+		scope.inTransaction( session -> {
+			assertThat( session.find( Item.class, 3 ).name ).isEqualTo( "changed" );
+			assertThat( session.find( Item.class, 4 ).dimensions.height ).isEqualTo( 40 );
+		} );
+	}
+
+	@Test
+	public void testReplacedCollectionIsWrapped(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Item item = session.find( Item.class, 5 );
+			item.tags = new ArrayList<>( List.of( "replaced" ) );
+			session.flush();
+			assertThat( item.tags ).isInstanceOf( PersistentCollection.class );
+		} );
+		scope.inTransaction( session -> {
+			assertThat( session.find( Item.class, 5 ).tags ).containsExactly( "replaced" );
+		} );
+	}
+
+	@Test
+	public void testModifiedCollectionIsFlushed(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Item item = session.find( Item.class, 6 );
+			item.tags.add( "added" );
+		} );
+		scope.inTransaction( session -> {
+			assertThat( session.find( Item.class, 6 ).tags ).containsExactlyInAnyOrder( "tag 6", "added" );
+		} );
+	}
+
+	@Test
+	public void testAlteredImmutableNaturalIdIsDetected(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Product product = session.find( Product.class, 1 );
+			product.sku = "HIB-002";
+			assertThatThrownBy( session::flush )
+					.isInstanceOf( PersistenceException.class )
+					.hasStackTraceContaining( "An immutable natural identifier of entity" );
+			session.getTransaction().setRollbackOnly();
+		} );
+		scope.inTransaction( session -> {
+			assertThat( session.find( Product.class, 1 ).sku ).isEqualTo( "HIB-001" );
+		} );
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		Integer id;
+		String name;
+		Dimensions dimensions;
+		@ElementCollection
+		List<String> tags = new ArrayList<>();
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name, Dimensions dimensions) {
+			this.id = id;
+			this.name = name;
+			this.dimensions = dimensions;
+		}
+	}
+
+	@Entity(name = "Product")
+	public static class Product {
+		@Id
+		Integer id;
+		@NaturalId
+		String sku;
+		String name;
+
+		public Product() {
+		}
+
+		public Product(Integer id, String sku, String name) {
+			this.id = id;
+			this.sku = sku;
+			this.name = name;
+		}
+	}
+
+	@Embeddable
+	public static class Dimensions {
+		int width;
+		int height;
+
+		public Dimensions() {
+		}
+
+		public Dimensions(int width, int height) {
+			this.width = width;
+			this.height = height;
+		}
+	}
+}
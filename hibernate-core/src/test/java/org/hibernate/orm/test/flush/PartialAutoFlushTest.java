@@ -0,0 +1,215 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.flush;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.hibernate.FlushMode;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import static org.hibernate.cfg.PersistenceSettings.PARTIAL_AUTO_FLUSH;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@value org.hibernate.cfg.PersistenceSettings#PARTIAL_AUTO_FLUSH}.
+ */
+@DomainModel(annotatedClasses = {
+		PartialAutoFlushTest.Novel.class,
+		PartialAutoFlushTest.Writer.class,
+		PartialAutoFlushTest.Department.class,
+		PartialAutoFlushTest.Employee.class
+})
+@ServiceRegistry(settings = @Setting(name = PARTIAL_AUTO_FLUSH, value = "true"))
+@SessionFactory(useCollectingStatementInspector = true)
+public class PartialAutoFlushTest {
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Novel( 1, "Dune" ) );
+			session.persist( new Writer( 1, "Frank Herbert" ) );
+			final Department department = new Department( 1, "Research" );
+			session.persist( department );
+			session.persist( new Employee( 1, "Gavin", department ) );
+		} );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testUnrelatedEntityIsNotFlushed(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			session.find( Novel.class, 1 ).title = "Dune Messiah";
+			session.find( Writer.class, 1 ).name = "F. Herbert";
+			statementInspector.clear();
+
+			assertThat( session.createSelectionQuery( "select title from Novel", String.class ).getSingleResult() )
+					.isEqualTo( "Dune Messiah" );
+			assertThat( statementInspector.getSqlQueries() )
+					.anyMatch( sql -> sql.startsWith( "update Novel" ) )
+					.noneMatch( sql -> sql.startsWith( "update Writer" ) );
+
+			statementInspector.clear();
+			assertThat( session.createSelectionQuery( "select name from Writer", String.class ).getSingleResult() )
+					.isEqualTo( "F. Herbert" );
+			assertThat( statementInspector.getSqlQueries() )
+					.anyMatch( sql -> sql.startsWith( "update Writer" ) );
+		} );
+	}
+
+	@Test
+	public void testUnrelatedCollectionIsNotFlushed(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			session.find( Writer.class, 1 ).nicknames.add( "Frank" );
+			statementInspector.clear();
+
+			session.createSelectionQuery( "from Novel", Novel.class ).getResultList();
+			assertThat( statementInspector.getSqlQueries() ).noneMatch( sql -> sql.startsWith( "insert" ) );
+
+			// the collection table is one of the query spaces
+			statementInspector.clear();
+			assertThat( session.createSelectionQuery( "select n from Writer w join w.nicknames n", String.class )
+								.getResultList() ).containsExactly( "Frank" );
+			assertThat( statementInspector.getSqlQueries() ).anyMatch( sql -> sql.startsWith( "insert" ) );
+		} );
+	}
+
+	@Test
+	public void testPendingChangesAreFlushedOnCommit(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Writer writer = session.find( Writer.class, 1 );
+			writer.name = "F. Herbert";
+			writer.nicknames.add( "Frank" );
+			session.createSelectionQuery( "from Novel", Novel.class ).getResultList();
+		} );
+		scope.inTransaction( session -> {
+			final Writer writer = session.find( Writer.class, 1 );
+			assertThat( writer.name ).isEqualTo( "F. Herbert" );
+			assertThat( writer.nicknames ).containsExactly( "Frank" );
+		} );
+	}
+
+	@Test
+	public void testFlushModeAlwaysFlushesEverything(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			session.setHibernateFlushMode( FlushMode.ALWAYS );
+			session.find( Writer.class, 1 ).name = "F. Herbert";
+			statementInspector.clear();
+			session.createSelectionQuery( "from Novel", Novel.class ).getResultList();
+			assertThat( statementInspector.getSqlQueries() )
+					.anyMatch( sql -> sql.startsWith( "update Writer" ) );
+		} );
+	}
+
+	@Test
+	public void testDeletedEntityAndReferencingEntitiesAreFlushed(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			session.find( Novel.class, 1 ).title = "Dune Messiah";
+			final Employee employee = session.find( Employee.class, 1 );
+			session.remove( employee.department );
+			employee.department = null;
+			statementInspector.clear();
+
+			// the delete is executed along with the update of Novel, so the
+			// foreign key referencing the department must be nulled out first
+			assertThat( session.createSelectionQuery( "select title from Novel", String.class ).getSingleResult() )
+					.isEqualTo( "Dune Messiah" );
+			assertThat( statementInspector.getSqlQueries() )
+					.anyMatch( sql -> sql.startsWith( "update Employee" ) )
+					.anyMatch( sql -> sql.startsWith( "delete from Department" ) );
+		} );
+		scope.inTransaction( session -> {
+			assertThat( session.find( Department.class, 1 ) ).isNull();
+			assertThat( session.find( Employee.class, 1 ).department ).isNull();
+		} );
+	}
+
+	@Entity(name = "Novel")
+	public static class Novel {
+		@Id
+		Integer id;
+		String title;
+
+		public Novel() {
+		}
+
+		public Novel(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+
+	@Entity(name = "Writer")
+	public static class Writer {
+		@Id
+		Integer id;
+		String name;
+		@ElementCollection
+		Set<String> nicknames = new HashSet<>();
+
+		public Writer() {
+		}
+
+		public Writer(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Department")
+	public static class Department {
+		@Id
+		Integer id;
+		String name;
+
+		public Department() {
+		}
+
+		public Department(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Employee")
+	public static class Employee {
+		@Id
+		Integer id;
+		String name;
+		@ManyToOne
+		Department department;
+
+		public Employee() {
+		}
+
+		public Employee(Integer id, String name, Department department) {
+			this.id = id;
+			this.name = name;
+			this.department = department;
+		}
+	}
+}
@@ -0,0 +1,164 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.pc;
+
+import java.util.List;
+
+import org.hibernate.cfg.PersistenceSettings;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the persistence context with
+ * {@value PersistenceSettings#PERSISTENCE_CONTEXT_COMPACT_ENTITY_STORAGE} enabled.
+ */
+@ServiceRegistry(
+		settings = @Setting(name = PersistenceSettings.PERSISTENCE_CONTEXT_COMPACT_ENTITY_STORAGE, value = "true")
+)
+@DomainModel(annotatedClasses = {
+		CompactEntityStorageTest.Parent.class,
+		CompactEntityStorageTest.Child.class
+})
+@SessionFactory
+public class CompactEntityStorageTest {
+	private static final int COUNT = 500;
+
+	@BeforeAll
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < COUNT; i++ ) {
+				final Parent parent = new Parent( i, "parent " + i );
+				session.persist( parent );
+				session.persist( new Child( i, parent ) );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testLoadEvictAndReload(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<Child> children = session.createSelectionQuery( "from Child", Child.class ).list();
+			assertThat( children ).hasSize( COUNT );
+
+			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+			// every Child, plus a proxy holder for each Parent
+			assertThat( persistenceContext.getEntityHoldersByKey() ).hasSizeGreaterThanOrEqualTo( COUNT );
+			assertThat( persistenceContext.getNumberOfManagedEntities() ).isEqualTo( COUNT );
+
+			// evict every other child, forcing backward shifts in the table
+			for ( int i = 0; i < COUNT; i += 2 ) {
+				session.evict( session.getReference( Child.class, i ) );
+			}
+			assertThat( persistenceContext.getNumberOfManagedEntities() ).isEqualTo( COUNT / 2 );
+			final EntityPersister persister =
+					session.getFactory().getMappingMetamodel().getEntityDescriptor( Child.class );
+			for ( int i = 0; i < COUNT; i++ ) {
+				final EntityKey key = session.generateEntityKey( i, persister );
+				assertThat( persistenceContext.containsEntity( key ) ).isEqualTo( i % 2 == 1 );
+			}
+
+			// reload the evicted ones
+			for ( int i = 0; i < COUNT; i += 2 ) {
+				final Child child = session.find( Child.class, i );
+				assertThat( child.getParent().getId() ).isEqualTo( i );
+			}
+			assertThat( persistenceContext.getNumberOfManagedEntities() ).isEqualTo( COUNT );
+		} );
+	}
+
+	@Test
+	public void testUpdateAndRemove(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < COUNT; i++ ) {
+				session.find( Parent.class, i ).setName( "updated " + i );
+			}
+		} );
+		scope.inTransaction( session -> {
+			final List<Parent> parents = session.createSelectionQuery( "from Parent where name like 'updated%'", Parent.class )
+					.list();
+			assertThat( parents ).hasSize( COUNT );
+		} );
+		scope.inTransaction( session -> {
+			final Child child = session.find( Child.class, 0 );
+			session.remove( child );
+			session.flush();
+			assertThat( session.find( Child.class, 0 ) ).isNull();
+			session.persist( new Child( 0, session.getReference( Parent.class, 0 ) ) );
+		} );
+	}
+
+	@Entity(name = "Parent")
+	public static class Parent {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Parent() {
+		}
+
+		public Parent(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Child")
+	public static class Child {
+		@Id
+		private Integer id;
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Parent parent;
+
+		public Child() {
+		}
+
+		public Child(Integer id, Parent parent) {
+			this.id = id;
+			this.parent = parent;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public Parent getParent() {
+			return parent;
+		}
+	}
+}
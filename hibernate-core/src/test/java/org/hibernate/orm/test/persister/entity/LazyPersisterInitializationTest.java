@@ -0,0 +1,180 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.persister.entity;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.hibernate.persister.entity.mutation.InsertCoordinator;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Version;
+
+import static org.hibernate.cfg.MappingSettings.LAZY_PERSISTER_INITIALIZATION;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@value org.hibernate.cfg.MappingSettings#LAZY_PERSISTER_INITIALIZATION}.
+ */
+@DomainModel(annotatedClasses = {
+		LazyPersisterInitializationTest.Author.class,
+		LazyPersisterInitializationTest.Book.class,
+		LazyPersisterInitializationTest.Unused.class,
+		LazyPersisterInitializationTest.Report.class
+})
+@ServiceRegistry(settings = @Setting(name = LAZY_PERSISTER_INITIALIZATION, value = "true"))
+@SessionFactory
+public class LazyPersisterInitializationTest {
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testPersisterIsInitializedOnFirstUse(SessionFactoryScope scope) throws Exception {
+		assertThat( builtInsertCoordinator( scope, Unused.class ) ).isNull();
+		// the mapping model is built at startup
+		assertThat( persister( scope, Unused.class ).findAttributeMapping( "name" ) ).isNotNull();
+
+		scope.inTransaction( session -> {
+			final Author author = new Author( 1L, "Gavin" );
+			session.persist( author );
+			session.persist( new Book( 1L, "Hibernate in Action", author ) );
+		} );
+
+		assertThat( builtInsertCoordinator( scope, Book.class ) ).isNotNull();
+		assertThat( builtInsertCoordinator( scope, Unused.class ) ).isNull();
+
+		scope.inTransaction( session -> {
+			final Book book = session.find( Book.class, 1L );
+			assertThat( book.author.name ).isEqualTo( "Gavin" );
+			book.title = "Java Persistence with Hibernate";
+		} );
+		scope.inTransaction( session -> {
+			final Book book = session.find( Book.class, 1L );
+			assertThat( book.title ).isEqualTo( "Java Persistence with Hibernate" );
+			assertThat( book.version ).isEqualTo( 1 );
+			session.remove( book );
+		} );
+		assertThat( builtInsertCoordinator( scope, Unused.class ) ).isNull();
+	}
+
+	@Test
+	public void testPersisterIsInitializedConcurrently(SessionFactoryScope scope) throws Exception {
+		final AbstractEntityPersister persister = persister( scope, Report.class );
+		final ExecutorService executor = Executors.newFixedThreadPool( 4 );
+		try {
+			final List<Callable<InsertCoordinator>> tasks = new ArrayList<>();
+			for ( int i = 0; i < 8; i++ ) {
+				tasks.add( persister::getInsertCoordinator );
+			}
+			final List<InsertCoordinator> coordinators = new ArrayList<>();
+			for ( Future<InsertCoordinator> future : executor.invokeAll( tasks ) ) {
+				coordinators.add( future.get() );
+			}
+			assertThat( coordinators ).doesNotContainNull().containsOnly( coordinators.get( 0 ) );
+			assertThat( persister.getSingleIdLoader() ).isNotNull();
+		}
+		finally {
+			executor.shutdownNow();
+		}
+
+		scope.inTransaction( session -> session.persist( new Report( 1L, "Sales" ) ) );
+		scope.inTransaction( session -> assertThat( session.find( Report.class, 1L ).name ).isEqualTo( "Sales" ) );
+	}
+
+	private static AbstractEntityPersister persister(SessionFactoryScope scope, Class<?> entityClass) {
+		return (AbstractEntityPersister) scope.getSessionFactory().getMappingMetamodel()
+				.getEntityDescriptor( entityClass );
+	}
+
+	private static Object builtInsertCoordinator(SessionFactoryScope scope, Class<?> entityClass) throws Exception {
+		final Field field = AbstractEntityPersister.class.getDeclaredField( "insertCoordinator" );
+		field.setAccessible( true );
+		return field.get( persister( scope, entityClass ) );
+	}
+
+	@Entity(name = "Author")
+	public static class Author {
+		@Id
+		Long id;
+		String name;
+
+		public Author() {
+		}
+
+		public Author(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		Long id;
+		String title;
+		@ManyToOne
+		Author author;
+		@Version
+		int version;
+
+		public Book() {
+		}
+
+		public Book(Long id, String title, Author author) {
+			this.id = id;
+			this.title = title;
+			this.author = author;
+		}
+	}
+
+	@Entity(name = "Unused")
+	public static class Unused {
+		@Id
+		Long id;
+		String name;
+
+		public Unused() {
+		}
+
+		public Unused(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Report")
+	public static class Report {
+		@Id
+		Long id;
+		String name;
+
+		public Report() {
+		}
+
+		public Report(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,118 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.query.sqm.spi.SqmSelectionQueryImplementor;
+import org.hibernate.sql.results.spi.ColumnBatch;
+import org.hibernate.sql.results.spi.ColumnBatchConsumer;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link ColumnBatchConsumer}.
+ */
+@DomainModel(annotatedClasses = ColumnBatchConsumerTest.Measurement.class)
+@SessionFactory
+public class ColumnBatchConsumerTest {
+	private static final int ROWS = 25;
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= ROWS; i++ ) {
+				session.persist( new Measurement( (long) i, i * 0.5, "m" + i, i % 5 == 0 ? null : i ) );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testScalarColumnsAreReadInBatches(SessionFactoryScope scope) {
+		scope.inSession( session -> {
+			final List<Integer> batchSizes = new ArrayList<>();
+			final long[] idSum = new long[1];
+			final double[] valueSum = new double[1];
+			final int[] nullCounts = new int[1];
+			final List<Object> labels = new ArrayList<>();
+
+			final SqmSelectionQueryImplementor<Object[]> query = (SqmSelectionQueryImplementor<Object[]>)
+					session.createSelectionQuery(
+							"select m.id, m.amount, m.label, m.readings from Measurement m order by m.id",
+							Object[].class
+					);
+			final long rowCount = query.executeQuery( new ColumnBatchConsumer<>( 10, batch -> {
+				assertThat( batch.getColumnKind( 0 ) ).isEqualTo( ColumnBatch.ColumnKind.LONG );
+				assertThat( batch.getColumnKind( 1 ) ).isEqualTo( ColumnBatch.ColumnKind.DOUBLE );
+				assertThat( batch.getColumnKind( 2 ) ).isEqualTo( ColumnBatch.ColumnKind.OBJECT );
+				assertThat( batch.getColumnKind( 3 ) ).isEqualTo( ColumnBatch.ColumnKind.LONG );
+				batchSizes.add( batch.getRowCount() );
+				final long[] ids = batch.getLongs( 0 );
+				final double[] values = batch.getDoubles( 1 );
+				for ( int row = 0; row < batch.getRowCount(); row++ ) {
+					idSum[0] += ids[row];
+					valueSum[0] += values[row];
+					labels.add( batch.getObject( 2, row ) );
+					if ( batch.isNull( 3, row ) ) {
+						nullCounts[0]++;
+					}
+				}
+			} ) );
+
+			assertThat( rowCount ).isEqualTo( ROWS );
+			assertThat( batchSizes ).containsExactly( 10, 10, 5 );
+			assertThat( idSum[0] ).isEqualTo( ROWS * ( ROWS + 1 ) / 2 );
+			assertThat( valueSum[0] ).isEqualTo( ROWS * ( ROWS + 1 ) / 4.0 );
+			assertThat( nullCounts[0] ).isEqualTo( 5 );
+			assertThat( labels ).hasSize( ROWS ).startsWith( "m1", "m2" );
+		} );
+	}
+
+	@Test
+	public void testEntityResultIsRejected(SessionFactoryScope scope) {
+		scope.inSession( session -> {
+			final SqmSelectionQueryImplementor<Measurement> query = (SqmSelectionQueryImplementor<Measurement>)
+					session.createSelectionQuery( "from Measurement", Measurement.class );
+			assertThatThrownBy( () -> query.executeQuery( new ColumnBatchConsumer<>( 10, batch -> {} ) ) )
+					.isInstanceOf( IllegalArgumentException.class );
+		} );
+	}
+
+	@Entity(name = "Measurement")
+	public static class Measurement {
+		@Id
+		Long id;
+		Double amount;
+		String label;
+		Integer readings;
+
+		public Measurement() {
+		}
+
+		public Measurement(Long id, Double amount, String label, Integer readings) {
+			this.id = id;
+			this.amount = amount;
+			this.label = label;
+			this.readings = readings;
+		}
+	}
+}
@@ -0,0 +1,77 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query;
+
+import org.hibernate.query.spi.QueryInterpretationCache;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.NamedQuery;
+
+import static org.hibernate.cfg.QuerySettings.QUERY_PRELOADING;
+import static org.hibernate.cfg.QuerySettings.QUERY_STARTUP_CHECKING;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@value org.hibernate.cfg.QuerySettings#QUERY_PRELOADING}.
+ */
+@DomainModel(annotatedClasses = NamedQueryPreloadingTest.Book.class)
+@ServiceRegistry(settings = {
+		@Setting(name = QUERY_STARTUP_CHECKING, value = "false"),
+		@Setting(name = QUERY_PRELOADING, value = "true")
+})
+@SessionFactory
+public class NamedQueryPreloadingTest {
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testNamedQueriesArePreloaded(SessionFactoryScope scope) throws InterruptedException {
+		final QueryInterpretationCache interpretationCache =
+				scope.getSessionFactory().getQueryEngine().getInterpretationCache();
+		final long deadline = System.currentTimeMillis() + 10_000;
+		while ( interpretationCache.getNumberOfCachedHqlInterpretations() < 2
+				&& System.currentTimeMillis() < deadline ) {
+			Thread.sleep( 10 );
+		}
+		assertThat( interpretationCache.getNumberOfCachedHqlInterpretations() ).isEqualTo( 2 );
+
+		scope.inTransaction( session -> session.persist( new Book( 1L, "Hibernate in Action" ) ) );
+		scope.inSession( session -> assertThat(
+				session.createNamedQuery( "Book.byTitle", Book.class )
+						.setParameter( "title", "Hibernate in Action" )
+						.getSingleResult().id
+		).isEqualTo( 1L ) );
+		assertThat( interpretationCache.getNumberOfCachedHqlInterpretations() ).isEqualTo( 2 );
+	}
+
+	@Entity(name = "Book")
+	@NamedQuery(name = "Book.byTitle", query = "from Book where title = :title")
+	@NamedQuery(name = "Book.titles", query = "select title from Book order by title")
+	public static class Book {
+		@Id
+		Long id;
+		String title;
+
+		public Book() {
+		}
+
+		public Book(Long id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+}
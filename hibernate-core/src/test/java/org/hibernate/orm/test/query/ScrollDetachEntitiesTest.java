@@ -0,0 +1,152 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import static org.hibernate.cfg.QuerySettings.SCROLL_DETACH_ENTITIES;
+import static org.hibernate.cfg.StatisticsSettings.GENERATE_STATISTICS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@value org.hibernate.cfg.QuerySettings#SCROLL_DETACH_ENTITIES}.
+ */
+@DomainModel(annotatedClasses = { ScrollDetachEntitiesTest.Publisher.class, ScrollDetachEntitiesTest.Book.class })
+@ServiceRegistry(settings = {
+		@Setting(name = SCROLL_DETACH_ENTITIES, value = "true"),
+		@Setting(name = GENERATE_STATISTICS, value = "true")
+})
+@SessionFactory
+public class ScrollDetachEntitiesTest {
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Publisher publisher = new Publisher( 1, "Chilton" );
+			session.persist( publisher );
+			for ( int i = 1; i <= 10; i++ ) {
+				session.persist( new Book( i, "Volume " + i, publisher ) );
+			}
+		} );
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testScrolledEntitiesAreDetached(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+
+		scope.inTransaction( session -> {
+			try ( ScrollableResults<Book> results = session.createSelectionQuery( "from Book order by id", Book.class )
+					.scroll( ScrollMode.FORWARD_ONLY ) ) {
+				int count = 0;
+				while ( results.next() ) {
+					final Book book = results.get();
+					assertThat( session.contains( book ) ).isTrue();
+					assertThat( session.getPersistenceContextInternal().getNumberOfManagedEntities() )
+							.isLessThanOrEqualTo( 2 );
+					count++;
+				}
+				assertThat( count ).isEqualTo( 10 );
+			}
+		} );
+		assertThat( statistics.getScrollDetachedEntityCount() ).isGreaterThanOrEqualTo( 10 );
+	}
+
+	@Test
+	public void testStreamedEntitiesAreDetached(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+
+		scope.inTransaction( session -> {
+			final List<Book> books = new ArrayList<>();
+			session.createSelectionQuery( "from Book b join fetch b.publisher order by b.id", Book.class )
+					.stream()
+					.forEach( book -> {
+						assertThat( session.contains( book ) ).isTrue();
+						books.add( book );
+					} );
+			assertThat( books ).hasSize( 10 );
+			assertThat( books.get( 0 ).publisher.name ).isEqualTo( "Chilton" );
+			assertThat( session.contains( books.get( 0 ) ) ).isFalse();
+		} );
+		assertThat( statistics.getScrollDetachedEntityCount() ).isPositive();
+	}
+
+	@Test
+	public void testModifiedEntitiesAreNotDetached(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			try ( ScrollableResults<Book> results = session.createSelectionQuery( "from Book order by id", Book.class )
+					.scroll( ScrollMode.FORWARD_ONLY ) ) {
+				while ( results.next() ) {
+					final Book book = results.get();
+					if ( book.id % 2 == 0 ) {
+						book.title = book.title.toUpperCase();
+					}
+				}
+			}
+		} );
+
+		scope.inSession( session -> {
+			for ( Book book : session.createSelectionQuery( "from Book", Book.class ).getResultList() ) {
+				assertThat( book.title ).isEqualTo( book.id % 2 == 0 ? "VOLUME " + book.id : "Volume " + book.id );
+			}
+		} );
+	}
+
+	@Entity(name = "Publisher")
+	public static class Publisher {
+		@Id
+		Integer id;
+		String name;
+
+		public Publisher() {
+		}
+
+		public Publisher(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		Integer id;
+		String title;
+		@ManyToOne
+		Publisher publisher;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title, Publisher publisher) {
+			this.id = id;
+			this.title = title;
+			this.publisher = publisher;
+		}
+	}
+}
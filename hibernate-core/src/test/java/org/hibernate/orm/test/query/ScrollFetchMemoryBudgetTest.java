@@ -0,0 +1,113 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query;
+
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.H2Dialect;
+
+import org.hibernate.testing.orm.jdbc.PreparedStatementSpyConnectionProvider;
+import org.hibernate.testing.orm.jdbc.PreparedStatementSpyConnectionProviderSettingProvider;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.hibernate.testing.orm.junit.SettingProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.hibernate.cfg.QuerySettings.SCROLL_FETCH_MEMORY_BUDGET;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@value org.hibernate.cfg.QuerySettings#SCROLL_FETCH_MEMORY_BUDGET}.
+ */
+@DomainModel(annotatedClasses = ScrollFetchMemoryBudgetTest.Document.class)
+@ServiceRegistry(
+		settings = @Setting(name = SCROLL_FETCH_MEMORY_BUDGET, value = "20000"),
+		settingProviders = @SettingProvider(
+				settingName = AvailableSettings.CONNECTION_PROVIDER,
+				provider = PreparedStatementSpyConnectionProviderSettingProvider.class
+		)
+)
+@SessionFactory
+@RequiresDialect(H2Dialect.class)
+public class ScrollFetchMemoryBudgetTest {
+	private static final int ROWS = 300;
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= ROWS; i++ ) {
+				session.persist( new Document( i, "x".repeat( 1000 ) ) );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testFetchSizeIsBoundedByMemoryBudget(SessionFactoryScope scope) {
+		final List<Integer> fetchSizes = new ArrayList<>();
+		connectionProvider( scope ).spyContext.registerCallback( (spy, method, args, result) -> {
+			if ( spy instanceof ResultSet && method.getName().equals( "setFetchSize" ) ) {
+				fetchSizes.add( (Integer) args[0] );
+			}
+		} );
+
+		scope.inTransaction( session -> {
+			try ( ScrollableResults<Document> results = session.createSelectionQuery( "from Document", Document.class )
+					.scroll( ScrollMode.FORWARD_ONLY ) ) {
+				int count = 0;
+				while ( results.next() ) {
+					assertThat( results.get().content ).hasSize( 1000 );
+					count++;
+				}
+				assertThat( count ).isEqualTo( ROWS );
+			}
+		} );
+
+		// a row takes about 2000 bytes, so no more than 10 rows fit in the budget
+		assertThat( fetchSizes ).isNotEmpty();
+		assertThat( fetchSizes ).allSatisfy( fetchSize -> assertThat( fetchSize ).isBetween( 1, 10 ) );
+	}
+
+	private static PreparedStatementSpyConnectionProvider connectionProvider(SessionFactoryScope scope) {
+		final Map<String, Object> properties = scope.getSessionFactory().getProperties();
+		return (PreparedStatementSpyConnectionProvider) properties.get( AvailableSettings.CONNECTION_PROVIDER );
+	}
+
+	@Entity(name = "Document")
+	public static class Document {
+		@Id
+		Integer id;
+		@Column(length = 1000)
+		String content;
+
+		public Document() {
+		}
+
+		public Document(Integer id, String content) {
+			this.id = id;
+			this.content = content;
+		}
+	}
+}
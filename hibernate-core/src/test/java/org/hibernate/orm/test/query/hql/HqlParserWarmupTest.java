@@ -0,0 +1,143 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.query.hql;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import org.hibernate.query.hql.internal.HqlParserWarmup;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.NamedQuery;
+
+import static org.hibernate.cfg.QuerySettings.QUERY_PARSER_WARMUP;
+import static org.hibernate.cfg.StatisticsSettings.GENERATE_STATISTICS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@value org.hibernate.cfg.QuerySettings#QUERY_PARSER_WARMUP}
+ * and {@link org.hibernate.stat.Statistics#getHqlParserFallbackCount()}.
+ */
+@DomainModel(annotatedClasses = HqlParserWarmupTest.Book.class)
+@ServiceRegistry(settings = {
+		@Setting(name = GENERATE_STATISTICS, value = "true"),
+		@Setting(name = QUERY_PARSER_WARMUP, value = "true")
+})
+@SessionFactory
+public class HqlParserWarmupTest {
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testQueriesAreInterpretedAfterWarmup(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		scope.inTransaction( session -> session.persist( new Book( 1L, "Hibernate in Action" ) ) );
+		final List<String> queries = List.of(
+				"from Book where title = :title",
+				"select b.title from Book b where b.title like :title order by b.title",
+				"select count(*) from Book where title = :title group by title having count(*) > 0"
+		);
+		scope.inSession( session -> {
+			for ( String hql : queries ) {
+				assertThat( session.createSelectionQuery( hql ).setParameter( "title", "Hibernate in Action" ).list() )
+						.hasSize( 1 );
+			}
+			assertThat( session.createNamedQuery( "Book.byTitle", Book.class )
+					.setParameter( "title", "Hibernate in Action" ).getSingleResult().id ).isEqualTo( 1L );
+		} );
+
+		// each fallback is counted both globally and for the query
+		long fallbacks = 0;
+		for ( String hql : queries ) {
+			fallbacks += statistics.getQueryStatistics( hql ).getParserFallbackCount();
+		}
+		assertThat( statistics.getHqlParserFallbackCount() ).isEqualTo( fallbacks );
+
+		final long queryFallbacks = statistics.getQueryStatistics( queries.get( 0 ) ).getParserFallbackCount();
+		statistics.hqlParserFallback( queries.get( 0 ) );
+		assertThat( statistics.getHqlParserFallbackCount() ).isEqualTo( fallbacks + 1 );
+		assertThat( statistics.getQueryStatistics( queries.get( 0 ) ).getParserFallbackCount() )
+				.isEqualTo( queryFallbacks + 1 );
+
+		statistics.clear();
+		assertThat( statistics.getHqlParserFallbackCount() ).isZero();
+	}
+
+	@Test
+	public void testCorpusIsWrittenAndReadBack(@TempDir Path directory) {
+		final Path corpusFile = directory.resolve( "warmup" ).resolve( "hql.bin" );
+		final HqlParserWarmup warmup = new HqlParserWarmup( corpusFile );
+		warmup.queryParsed( "from Book" );
+		warmup.queryParsed( "select b.title\nfrom Book b\nwhere b.title = :title" );
+		warmup.queryParsed( "from Book where" );
+		warmup.writeCorpus();
+		assertThat( corpusFile ).isRegularFile();
+
+		// the named query is parsed once, and the syntax error is ignored
+		assertThat( new HqlParserWarmup( corpusFile ).warmUp( List.of( "from Book", "from Book where id = :id" ) ) )
+				.isEqualTo( 3 );
+		// without a corpus file only the given queries are parsed
+		assertThat( new HqlParserWarmup( null ).warmUp( List.of( "from Book" ) ) ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testQueriesWithLiteralsAreNotWritten(@TempDir Path directory) {
+		final Path corpusFile = directory.resolve( "hql.bin" );
+		final HqlParserWarmup warmup = new HqlParserWarmup( corpusFile );
+		warmup.queryParsed( "from Book where title = :title and id in :ids" );
+		warmup.queryParsed( "from Book where title = 'The Hobbit'" );
+		warmup.queryParsed( "from Book where id in (1, 2, 3)" );
+		warmup.queryParsed( "from Book where title is not null and true" );
+		warmup.writeCorpus();
+
+		// only the queries without string or numeric literals are written
+		assertThat( new HqlParserWarmup( corpusFile ).warmUp( List.of() ) ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testCorpusIsBounded(@TempDir Path directory) {
+		final Path corpusFile = directory.resolve( "hql.bin" );
+		final HqlParserWarmup warmup = new HqlParserWarmup( corpusFile );
+		for ( int i = 0; i < HqlParserWarmup.MAX_CORPUS_SIZE + 100; i++ ) {
+			warmup.queryParsed( "from Book b" + i + " where b" + i + ".id = :id" );
+		}
+		warmup.writeCorpus();
+
+		assertThat( new HqlParserWarmup( corpusFile ).warmUp( List.of() ) )
+				.isEqualTo( HqlParserWarmup.MAX_CORPUS_SIZE );
+	}
+
+	@Entity(name = "Book")
+	@NamedQuery(name = "Book.byTitle", query = "from Book where title = :title")
+	public static class Book {
+		@Id
+		Long id;
+		String title;
+
+		public Book() {
+		}
+
+		public Book(Long id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+}
@@ -0,0 +1,84 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.stat.internal;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.internal.QueryInterpretationCacheTinyLfuImpl;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests the query interpretation cache with the {@code tinylfu} eviction policy.
+ */
+@DomainModel(annotatedClasses = QueryPlanCacheTinyLfuStatisticsTest.Employee.class)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true"),
+		@Setting(name = AvailableSettings.QUERY_PLAN_CACHE_EVICTION_POLICY, value = "tinylfu"),
+		@Setting(name = AvailableSettings.QUERY_PLAN_CACHE_MAX_SIZE, value = "16"),
+		@Setting(name = AvailableSettings.QUERY_PLAN_CACHE_HQL_MAX_SIZE, value = "8")
+})
+@SessionFactory
+public class QueryPlanCacheTinyLfuStatisticsTest {
+	private static final String HOT_QUERY = "select e from Employee e where e.name = :name";
+
+	private Statistics statistics;
+
+	@BeforeEach
+	protected void cleanup(SessionFactoryScope scope) {
+		final SessionFactoryImplementor sessionFactory = scope.getSessionFactory();
+		statistics = sessionFactory.getStatistics();
+		statistics.clear();
+		sessionFactory.getQueryEngine().getInterpretationCache().close();
+	}
+
+	@Test
+	public void testImplementation(SessionFactoryScope scope) {
+		assertThat( scope.getSessionFactory().getQueryEngine().getInterpretationCache() )
+				.isInstanceOf( QueryInterpretationCacheTinyLfuImpl.class );
+	}
+
+	@Test
+	public void testFrequentQuerySurvivesOneOffQueries(SessionFactoryScope scope) {
+		scope.inSession( session -> {
+			for ( int i = 0; i < 10; i++ ) {
+				session.createQuery( HOT_QUERY, Employee.class );
+			}
+			assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 1 );
+			assertThat( statistics.getQueryPlanCacheHitCount() ).isEqualTo( 9 );
+
+			// flood the cache with queries which are used only once
+			for ( int i = 0; i < 100; i++ ) {
+				session.createQuery( "select e from Employee e where e.id = " + i, Employee.class );
+			}
+			assertThat( statistics.getQueryPlanCacheEvictionCount() ).isGreaterThan( 0 );
+			assertThat( scope.getSessionFactory().getQueryEngine().getInterpretationCache()
+					.getNumberOfCachedHqlInterpretations() ).isLessThanOrEqualTo( 8 );
+
+			final long hits = statistics.getQueryPlanCacheHitCount();
+			session.createQuery( HOT_QUERY, Employee.class );
+			assertThat( statistics.getQueryPlanCacheHitCount() ).isEqualTo( hits + 1 );
+		} );
+	}
+
+	@Entity(name = "Employee")
+	public static class Employee {
+		@Id
+		private Long id;
+		private String name;
+	}
+}
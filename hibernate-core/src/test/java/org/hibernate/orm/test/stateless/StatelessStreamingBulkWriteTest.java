@@ -0,0 +1,160 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.stateless;
+
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import org.hibernate.stat.spi.StatisticsImplementor;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hibernate.cfg.BatchSettings.STATELESS_BULK_WRITE_BATCH_SIZE;
+import static org.hibernate.cfg.StatisticsSettings.GENERATE_STATISTICS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SessionFactory
+@DomainModel(annotatedClasses = {
+		StatelessStreamingBulkWriteTest.Author.class,
+		StatelessStreamingBulkWriteTest.Book.class,
+		StatelessStreamingBulkWriteTest.Tag.class
+})
+@ServiceRegistry(settings = {
+		@Setting(name = GENERATE_STATISTICS, value = "true"),
+		@Setting(name = STATELESS_BULK_WRITE_BATCH_SIZE, value = "200")
+})
+public class StatelessStreamingBulkWriteTest {
+	private static final int COUNT = 100;
+
+	@AfterEach
+	void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	void testInterleavedTypesAreCoalesced(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inStatelessTransaction( s -> s.insertMultiple(
+				IntStream.range( 0, COUNT )
+						.boxed()
+						.flatMap( i -> Stream.of( new Author( i, "author " + i ), new Tag( i, "tag " + i ) ) )
+		) );
+		assertEquals( 2 * COUNT, statistics.getEntityInsertCount() );
+		// one batch per table, rather than one per entity
+		assertEquals( 2, statistics.getPrepareStatementCount() );
+		scope.inStatelessSession( s -> {
+			assertEquals( COUNT, s.createSelectionQuery( "select count(*) from Author", Long.class ).getSingleResult() );
+			assertEquals( COUNT, s.createSelectionQuery( "select count(*) from Tag", Long.class ).getSingleResult() );
+		} );
+
+		statistics.clear();
+		scope.inStatelessTransaction( s -> s.updateMultiple(
+				IntStream.range( 0, COUNT )
+						.boxed()
+						.flatMap( i -> Stream.of( new Tag( i, "updated " + i ), new Author( i, "updated " + i ) ) )
+		) );
+		assertEquals( 2 * COUNT, statistics.getEntityUpdateCount() );
+		assertEquals( 2, statistics.getPrepareStatementCount() );
+		scope.inStatelessSession( s -> assertEquals( 2 * COUNT,
+				s.createSelectionQuery( "select count(*) from Author where name like 'updated%'", Long.class )
+						.getSingleResult()
+				+ s.createSelectionQuery( "select count(*) from Tag where name like 'updated%'", Long.class )
+						.getSingleResult() ) );
+	}
+
+	@Test
+	void testForeignKeyOrderIsRespected(SessionFactoryScope scope) {
+		scope.inStatelessTransaction( s -> s.insert( new Author( -1, "existing" ) ) );
+		scope.inStatelessTransaction( s -> s.insertMultiple(
+				// a book of the existing author starts the book group before
+				// the author group, so the other books must not be moved ahead
+				// of the authors they belong to
+				Stream.concat(
+						Stream.of( new Book( -1, new Author( -1, null ) ) ),
+						IntStream.range( 0, COUNT )
+								.boxed()
+								.flatMap( i -> {
+									final Author author = new Author( i, "author " + i );
+									return Stream.of( author, new Book( i, author ) );
+								} )
+				)
+		) );
+		scope.inStatelessSession( s -> assertEquals( COUNT + 1,
+				s.createSelectionQuery( "select count(*) from Book b join b.author", Long.class )
+						.getSingleResult() ) );
+	}
+
+	@Test
+	void testExplicitBatchSize(SessionFactoryScope scope) {
+		scope.inStatelessTransaction( s -> {
+			s.setJdbcBatchSize( 10 );
+			s.upsertMultiple(
+					IntStream.range( 0, COUNT )
+							.boxed()
+							.flatMap( i -> Stream.of( new Author( i, "author " + i ), new Tag( i, "tag " + i ) ) )
+			);
+			assertEquals( 10, s.getJdbcBatchSize() );
+		} );
+		scope.inStatelessSession( s -> {
+			assertEquals( COUNT, s.createSelectionQuery( "select count(*) from Author", Long.class ).getSingleResult() );
+			assertEquals( COUNT, s.createSelectionQuery( "select count(*) from Tag", Long.class ).getSingleResult() );
+		} );
+	}
+
+	@Entity(name = "Author")
+	static class Author {
+		@Id
+		Integer id;
+		String name;
+
+		Author(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		Author() {
+		}
+	}
+
+	@Entity(name = "Book")
+	static class Book {
+		@Id
+		Integer id;
+		@ManyToOne
+		Author author;
+
+		Book(Integer id, Author author) {
+			this.id = id;
+			this.author = author;
+		}
+
+		Book() {
+		}
+	}
+
+	@Entity(name = "Tag")
+	static class Tag {
+		@Id
+		Integer id;
+		String name;
+
+		Tag(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		Tag() {
+		}
+	}
+}
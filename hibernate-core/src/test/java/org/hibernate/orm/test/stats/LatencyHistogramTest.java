@@ -0,0 +1,142 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.stats;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.hibernate.Hibernate;
+import org.hibernate.stat.LatencyHistogram;
+import org.hibernate.stat.QueryStatistics;
+import org.hibernate.stat.internal.LatencyHistogramImpl;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.hibernate.cfg.StatisticsSettings.GENERATE_STATISTICS;
+import static org.hibernate.cfg.StatisticsSettings.STATISTICS_LATENCY_HISTOGRAMS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Tests for {@value org.hibernate.cfg.StatisticsSettings#STATISTICS_LATENCY_HISTOGRAMS}.
+ */
+@DomainModel(annotatedClasses = LatencyHistogramTest.Planet.class)
+@ServiceRegistry(settings = {
+		@Setting(name = GENERATE_STATISTICS, value = "true"),
+		@Setting(name = STATISTICS_LATENCY_HISTOGRAMS, value = "true")
+})
+@SessionFactory
+public class LatencyHistogramTest {
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Planet planet = new Planet( 1, "Arrakis" );
+			planet.moons.add( "Krelln" );
+			session.persist( planet );
+		} );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testLatenciesAreRecorded(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		assertThat( statistics.isLatencyHistogramsEnabled() ).isTrue();
+
+		final String hql = "from Planet where name = :name";
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 3; i++ ) {
+				session.createSelectionQuery( hql, Planet.class ).setParameter( "name", "Arrakis" ).list();
+			}
+		} );
+		scope.inTransaction( session -> {
+			final Planet planet = session.find( Planet.class, 1 );
+			Hibernate.initialize( planet.moons );
+		} );
+
+		final QueryStatistics queryStatistics = statistics.getQueryStatistics( hql );
+		final LatencyHistogram queryLatencies = queryStatistics.getExecutionLatencyHistogram();
+		assertThat( queryLatencies.getCount() ).isEqualTo( 3 );
+		assertThat( queryLatencies.getMaxTime() ).isPositive();
+		assertThat( queryLatencies.getTimeAtQuantile( 0.99 ) ).isLessThanOrEqualTo( queryLatencies.getMaxTime() );
+
+		final LatencyHistogram loadLatencies =
+				statistics.getEntityStatistics( Planet.class.getName() ).getLoadLatencyHistogram();
+		assertThat( loadLatencies.getCount() ).isEqualTo( 1 );
+
+		final LatencyHistogram fetchLatencies =
+				statistics.getCollectionStatistics( Planet.class.getName() + ".moons" ).getFetchLatencyHistogram();
+		assertThat( fetchLatencies.getCount() ).isEqualTo( 1 );
+
+		statistics.clear();
+		assertThat( statistics.getQueryStatistics( hql ).getExecutionLatencyHistogram() ).isNull();
+	}
+
+	@Test
+	public void testNoLatenciesWhenStatisticsDisabled(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		statistics.setStatisticsEnabled( false );
+		try {
+			assertThat( statistics.isLatencyHistogramsEnabled() ).isFalse();
+			scope.inTransaction( session -> session.find( Planet.class, 1 ) );
+			assertThat( statistics.getEntityStatistics( Planet.class.getName() ).getLoadLatencyHistogram() )
+					.isNull();
+		}
+		finally {
+			statistics.setStatisticsEnabled( true );
+		}
+	}
+
+	@Test
+	public void testQuantiles() {
+		final LatencyHistogramImpl histogram = new LatencyHistogramImpl();
+		for ( long micros = 1; micros <= 1000; micros++ ) {
+			histogram.record( micros * 1000 );
+		}
+		assertThat( histogram.getCount() ).isEqualTo( 1000 );
+		assertThat( histogram.getMaxTime() ).isEqualTo( 1_000_000 );
+		assertThat( histogram.getTotalTime() ).isEqualTo( 500_500_000 );
+		// reported percentiles are upper bounds within 1/16 of the true value
+		assertThat( histogram.getTimeAtQuantile( 0.5 ) ).isCloseTo( 500_000, within( 500_000 / 16L ) );
+		assertThat( histogram.getTimeAtQuantile( 0.99 ) ).isCloseTo( 990_000, within( 990_000 / 16L ) );
+		assertThat( histogram.getTimeAtQuantile( 1 ) ).isEqualTo( 1_000_000 );
+		assertThat( histogram.getTimeAtQuantile( 0.5 ) ).isGreaterThanOrEqualTo( 500_000 );
+	}
+
+	@Entity(name = "Planet")
+	public static class Planet {
+		@Id
+		Integer id;
+		String name;
+		@ElementCollection
+		Set<String> moons = new HashSet<>();
+
+		public Planet() {
+		}
+
+		public Planet(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
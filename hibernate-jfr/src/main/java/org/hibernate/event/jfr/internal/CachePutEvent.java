@@ -13,6 +13,7 @@
 import jdk.jfr.Label;
 import jdk.jfr.Name;
 import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
 
 @Name( CachePutEvent.NAME )
 @Label( "Cache Put Executed" )
@@ -44,6 +45,11 @@ public class CachePutEvent extends Event implements HibernateMonitoringEvent {
 	@Label( "Cache Content Has Changed" )
 	public boolean cacheChanged;
 
+	@Label( "Queue Lag" )
+	@Description( "Time spent waiting in the asynchronous put queue" )
+	@Timespan( Timespan.NANOSECONDS )
+	public long queueLag;
+
 	@Override
 	public String toString() {
 		return NAME ;
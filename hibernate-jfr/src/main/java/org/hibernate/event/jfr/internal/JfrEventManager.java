@@ -327,6 +327,50 @@ public void completeCachePutEvent(
 		}
 	}
 
+	@Override
+	public void completeAsyncCachePutEvent(
+			HibernateMonitoringEvent monitoringEvent,
+			SharedSessionContractImplementor session,
+			CachedDomainDataAccess cachedDomainDataAccess,
+			EntityPersister persister,
+			boolean cacheContentChanged,
+			CacheActionDescription description,
+			long queueLag) {
+		if ( monitoringEvent != null ) {
+			( (CachePutEvent) monitoringEvent ).queueLag = queueLag;
+		}
+		completeCachePutEvent(
+				monitoringEvent,
+				session,
+				cachedDomainDataAccess,
+				persister,
+				cacheContentChanged,
+				description
+		);
+	}
+
+	@Override
+	public void completeAsyncCachePutEvent(
+			HibernateMonitoringEvent monitoringEvent,
+			SharedSessionContractImplementor session,
+			CachedDomainDataAccess cachedDomainDataAccess,
+			CollectionPersister persister,
+			boolean cacheContentChanged,
+			CacheActionDescription description,
+			long queueLag) {
+		if ( monitoringEvent != null ) {
+			( (CachePutEvent) monitoringEvent ).queueLag = queueLag;
+		}
+		completeCachePutEvent(
+				monitoringEvent,
+				session,
+				cachedDomainDataAccess,
+				persister,
+				cacheContentChanged,
+				description
+		);
+	}
+
 	@Override
 	public HibernateMonitoringEvent beginCacheGetEvent() {
 		if ( cacheGetEventType.isEnabled() ) {
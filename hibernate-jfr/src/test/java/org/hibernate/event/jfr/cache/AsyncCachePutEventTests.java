@@ -0,0 +1,82 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.event.jfr.cache;
+
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.event.jfr.internal.CachePutEvent;
+import org.hibernate.event.jfr.internal.JfrEventManager;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jdk.jfr.consumer.RecordedEvent;
+import org.moditect.jfrunit.EnableEvent;
+import org.moditect.jfrunit.JfrEventTest;
+import org.moditect.jfrunit.JfrEvents;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@JfrEventTest
+@DomainModel(annotatedClasses = AsyncCachePutEventTests.TestEntity.class)
+@SessionFactory
+@ServiceRegistry(
+		settings = {
+				@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+				@Setting(name = AvailableSettings.ASYNC_PUT_QUEUE_SIZE, value = "10"),
+		}
+)
+public class AsyncCachePutEventTests {
+	public JfrEvents jfrEvents = new JfrEvents();
+
+	@Test
+	@EnableEvent(CachePutEvent.NAME)
+	public void testCachePutEventHasQueueLag(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.persist( new TestEntity( 1, "name_1" ) ) );
+		scope.getSessionFactory().getCache().getAsyncPutQueue().flush();
+		scope.getSessionFactory().getCache().evictAllRegions();
+
+		jfrEvents.reset();
+		scope.inTransaction( session -> session.find( TestEntity.class, 1 ) );
+		scope.getSessionFactory().getCache().getAsyncPutQueue().flush();
+
+		final List<RecordedEvent> events = jfrEvents.events()
+				.filter( recordedEvent -> recordedEvent.getEventType().getName().equals( CachePutEvent.NAME ) )
+				.toList();
+		assertThat( events ).hasSize( 1 );
+
+		final RecordedEvent event = events.get( 0 );
+		assertThat( event.getString( "entityName" ) ).isEqualTo( TestEntity.class.getName() );
+		assertThat( event.getBoolean( "cacheChanged" ) ).isTrue();
+		assertThat( event.getString( "description" ) )
+				.isEqualTo( JfrEventManager.CacheActionDescription.ENTITY_LOAD.getText() );
+		assertThat( event.getDuration( "queueLag" ) ).isPositive();
+	}
+
+	@Entity(name = "TestEntity")
+	@Cacheable
+	public static class TestEntity {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public TestEntity() {
+		}
+
+		public TestEntity(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
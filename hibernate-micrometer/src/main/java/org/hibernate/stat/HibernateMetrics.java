@@ -19,6 +19,7 @@
 
 import java.util.Arrays;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.function.ToDoubleFunction;
 
 /**
@@ -99,6 +100,26 @@ private void counter(
 				.register( registry );
 	}
 
+	private void latencyTimer(
+			MeterRegistry registry,
+			String name,
+			String description,
+			Function<Statistics, @Nullable LatencyHistogram> histogram,
+			String... extraTags) {
+		if ( this.statistics == null || !statistics.isLatencyHistogramsEnabled() ) {
+			return;
+		}
+
+		LatencyHistogramMeters.register(
+				registry,
+				name,
+				description,
+				statistics,
+				histogram,
+				Tags.concat( tags, extraTags )
+		);
+	}
+
 	@Override
 	public void bindTo(MeterRegistry registry) {
 		if ( this.statistics == null ) {
@@ -175,6 +196,24 @@ public void bindTo(MeterRegistry registry) {
 							"result",
 							"miss"
 					);
+					counter(registry,
+							"hibernate.second.level.cache.near.requests",
+							"The number of cache look-ups satisfied by the near cache",
+							stats -> stats.getDomainDataRegionStatistics( regionName ).getNearCacheHitCount(),
+							"region",
+							regionName,
+							"result",
+							"hit"
+					);
+					counter(registry,
+							"hibernate.second.level.cache.near.requests",
+							"The number of cache look-ups which missed the near cache",
+							stats -> stats.getDomainDataRegionStatistics( regionName ).getNearCacheMissCount(),
+							"region",
+							regionName,
+							"result",
+							"miss"
+					);
 					counter(
 							registry,
 							"hibernate.second.level.cache.puts",
@@ -183,6 +222,14 @@ public void bindTo(MeterRegistry registry) {
 							"region",
 							regionName
 					);
+					latencyTimer(
+							registry,
+							"hibernate.second.level.cache.reads",
+							"The latency of reads from the cache",
+							stats -> stats.getDomainDataRegionStatistics( regionName ).getReadLatencyHistogram(),
+							"region",
+							regionName
+					);
 				} );
 
 		// Entity information
@@ -202,6 +249,15 @@ public void bindTo(MeterRegistry registry) {
 				Statistics::getEntityInsertCount
 		);
 		counter(registry, "hibernate.entities.loads", "The number of entity loads", Statistics::getEntityLoadCount );
+		for ( String entityName : statistics.getEntityNames() ) {
+			latencyTimer(registry,
+					"hibernate.entities.loads.latency",
+					"The latency of loads of the entity from the database",
+					stats -> stats.getEntityStatistics( entityName ).getLoadLatencyHistogram(),
+					"entity",
+					entityName
+			);
+		}
 		counter(registry,
 				"hibernate.entities.updates",
 				"The number of entity updates",
@@ -219,6 +275,15 @@ public void bindTo(MeterRegistry registry) {
 				"The number of collection fetches",
 				Statistics::getCollectionFetchCount
 		);
+		for ( String role : statistics.getCollectionRoleNames() ) {
+			latencyTimer(registry,
+					"hibernate.collections.fetches.latency",
+					"The latency of fetches of the collection from the database",
+					stats -> stats.getCollectionStatistics( role ).getFetchLatencyHistogram(),
+					"collection",
+					role
+			);
+		}
 		counter(registry,
 				"hibernate.collections.loads",
 				"The number of collection loads",
@@ -330,6 +395,10 @@ public void bindTo(MeterRegistry registry) {
 		counter(registry, "hibernate.cache.query.plan", "The global number of query plans lookups not found in cache",
 				Statistics::getQueryPlanCacheMissCount, "result", "miss"
 		);
+		counter(registry, "hibernate.cache.query.plan.evictions",
+				"The global number of query plans evicted from cache or not admitted to it",
+				Statistics::getQueryPlanCacheEvictionCount
+		);
 	}
 
 	private boolean hasDomainDataRegionStatistics(String regionName) {
@@ -179,6 +179,17 @@ void registerQueryMetric(Statistics statistics) {
 						.tags( "query", query )
 						.description( "Number of rows processed for a query" )
 						.register( meterRegistry );
+
+				if ( statistics.isLatencyHistogramsEnabled() ) {
+					LatencyHistogramMeters.register(
+							meterRegistry,
+							"hibernate.query.execution.latency",
+							"Query execution latency",
+							queryStatistics,
+							QueryStatistics::getExecutionLatencyHistogram,
+							Tags.concat( tags, "query", query )
+					);
+				}
 			}
 		}
 	}
@@ -0,0 +1,81 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.stat;
+
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.TimeGauge;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * Binds a {@link LatencyHistogram} as a {@link FunctionTimer}, together with
+ * gauges for its maximum and its percentiles, named and tagged following the
+ * conventions Micrometer uses for a {@link io.micrometer.core.instrument.Timer}
+ * which publishes percentiles.
+ */
+final class LatencyHistogramMeters {
+
+	private static final double[] PERCENTILES = { 0.5, 0.75, 0.95, 0.99, 0.999 };
+
+	private LatencyHistogramMeters() {
+	}
+
+	/**
+	 * Register meters for the histogram returned by the given function, which
+	 * is looked up again each time the meters are read, since statistics are
+	 * recreated when they are cleared.
+	 */
+	static <T> void register(
+			MeterRegistry registry,
+			String name,
+			String description,
+			T source,
+			Function<T, @Nullable LatencyHistogram> histogram,
+			Iterable<Tag> tags) {
+		FunctionTimer.builder(
+				name,
+				source,
+				s -> value( histogram.apply( s ), LatencyHistogram::getCount ),
+				s -> value( histogram.apply( s ), LatencyHistogram::getTotalTime ),
+				TimeUnit.NANOSECONDS
+		)
+				.tags( tags )
+				.description( description )
+				.register( registry );
+
+		TimeGauge.builder(
+				name + ".max",
+				source,
+				TimeUnit.NANOSECONDS,
+				s -> value( histogram.apply( s ), LatencyHistogram::getMaxTime )
+		)
+				.tags( tags )
+				.description( description )
+				.register( registry );
+
+		for ( double percentile : PERCENTILES ) {
+			TimeGauge.builder(
+					name + ".percentile",
+					source,
+					TimeUnit.NANOSECONDS,
+					s -> value( histogram.apply( s ), h -> h.getTimeAtQuantile( percentile ) )
+			)
+					.tags( tags )
+					.tag( "phi", String.valueOf( percentile ) )
+					.description( description )
+					.register( registry );
+		}
+	}
+
+	private static long value(@Nullable LatencyHistogram histogram, ToLongFunction<LatencyHistogram> f) {
+		return histogram == null ? 0 : f.applyAsLong( histogram );
+	}
+}
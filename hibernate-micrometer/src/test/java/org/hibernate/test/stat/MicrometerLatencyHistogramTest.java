@@ -0,0 +1,76 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.test.stat;
+
+import org.hibernate.Session;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.cfg.Environment;
+import org.hibernate.cfg.StatisticsSettings;
+import org.hibernate.stat.HibernateMetrics;
+
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Tests for {@value org.hibernate.cfg.StatisticsSettings#STATISTICS_LATENCY_HISTOGRAMS}.
+ */
+public class MicrometerLatencyHistogramTest extends BaseCoreFunctionalTestCase {
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Account.class, AccountId.class };
+	}
+
+	private SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+	@Override
+	protected void configure(Configuration configuration) {
+		super.configure( configuration );
+
+		configuration.setProperty( Environment.USE_SECOND_LEVEL_CACHE, "false" );
+		configuration.setProperty( Environment.USE_QUERY_CACHE, "false" );
+		configuration.setProperty( Environment.GENERATE_STATISTICS, "true" );
+		configuration.setProperty( StatisticsSettings.STATISTICS_LATENCY_HISTOGRAMS, "true" );
+	}
+
+	@Before
+	public void setUpMetrics() {
+		new HibernateMetrics( sessionFactory(), "something", Tags.empty() ).bindTo( registry );
+	}
+
+	@After
+	public void cleanUpMetrics() {
+		registry.clear();
+	}
+
+	@Test
+	public void testLoadLatencyTimer() {
+		final AccountId id = new AccountId( 1 );
+		inTransaction( session -> session.persist( new Account( id, "testAcct" ) ) );
+
+		final FunctionTimer timer = registry.get( "hibernate.entities.loads.latency" )
+				.tags( "entity", Account.class.getName() )
+				.functionTimer();
+		Assert.assertEquals( 0, timer.count(), 0 );
+
+		try ( Session session = openSession() ) {
+			Assert.assertNotNull( session.find( Account.class, id ) );
+		}
+		Assert.assertEquals( 1, timer.count(), 0 );
+		Assert.assertNotNull( registry.get( "hibernate.entities.loads.latency.max" ).timeGauge() );
+		Assert.assertNotNull( registry.get( "hibernate.entities.loads.latency.percentile" )
+				.tags( "entity", Account.class.getName(), "phi", "0.99" )
+				.timeGauge() );
+
+		inTransaction( session -> session.remove( session.find( Account.class, id ) ) );
+	}
+}
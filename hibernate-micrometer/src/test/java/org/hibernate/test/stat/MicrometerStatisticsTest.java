@@ -107,6 +107,7 @@ public void testMicrometerMetrics() {
 		Assert.assertNotNull(registry.get("hibernate.cache.query.puts").functionCounter());
 		Assert.assertNotNull(registry.get("hibernate.cache.query.plan").tags("result", "hit").functionCounter());
 		Assert.assertNotNull(registry.get("hibernate.cache.query.plan").tags("result", "miss").functionCounter());
+		Assert.assertNotNull(registry.get("hibernate.cache.query.plan.evictions").functionCounter());
 
 		// prepare some test data...
 		Session session = openSession();